@@ -4,9 +4,7 @@ set -e
 source "$(dirname "${BASH_SOURCE[0]}")/common.sh"
 
 readonly OPENAPI_FILE="$SERVER_DIR/openapi.json"
-readonly DOCS_URL="http://localhost:8080/api/v1/public/docs"
-
-setup_backend_trap
+readonly GENERATED_FILE="$SERVER_DIR/build/generated/openapi/openapi.json"
 
 section "Stopping Gradle daemons"
 stop_gradle_daemons
@@ -16,12 +14,11 @@ if [ -f "$OPENAPI_FILE" ]; then
     step "Removing old openapi.json"; rm "$OPENAPI_FILE"; ok
 fi
 
-section "Backend Server"
-start_backend
-
-section "Downloading OpenAPI Spec"
-step "Fetching from API"
-curl -sf "$DOCS_URL" -o "$OPENAPI_FILE" && ok
+section "Generating OpenAPI Spec"
+cd "$SERVER_DIR"
+step "Running generateOpenApiDocs"
+./gradlew generateOpenApiDocs --console=plain > /dev/null 2>&1 && ok
+cp "$GENERATED_FILE" "$OPENAPI_FILE"
 info "Saved to $OPENAPI_FILE"
 
 section "Generating TypeScript Types"
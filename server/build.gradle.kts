@@ -1,7 +1,9 @@
 import com.diffplug.gradle.spotless.SpotlessExtension
+import me.champeau.jmh.JmhParameters
 import org.gradle.api.file.DuplicatesStrategy.INCLUDE
 import org.gradle.api.tasks.testing.logging.TestLogEvent
 import org.gradle.plugins.ide.idea.model.IdeaModel
+import org.springframework.boot.gradle.tasks.aot.ProcessAot
 import org.springframework.boot.gradle.tasks.bundling.BootJar
 import org.springframework.boot.gradle.tasks.run.BootRun
 import ru.vyarus.gradle.plugin.quality.QualityExtension
@@ -34,6 +36,9 @@ plugins {
     id("org.springframework.boot")
     id("io.spring.dependency-management")
 
+    // Spring AOT processing, used by the fast-startup profile.
+    id("org.springframework.boot.aot")
+
     // Quality plugin for Checkstyle, PMD and Spotbugs.
     id("ru.vyarus.quality")
 
@@ -51,8 +56,31 @@ plugins {
 
     // Automatic lombok and delombok configuration.
     id("io.freefair.lombok")
+
+    // JMH micro benchmarks in the jmh source set.
+    id("me.champeau.jmh")
+}
+
+/**
+ * The load test harness, which boots the application and drives traffic against it, and the OpenAPI document
+ * generator, which boots the application during the build.
+ */
+sourceSets {
+    create("loadTest") {
+        compileClasspath += sourceSets["main"].output
+        runtimeClasspath += sourceSets["main"].output
+    }
+    create("openapi") {
+        compileClasspath += sourceSets["main"].output
+        runtimeClasspath += sourceSets["main"].output
+    }
 }
 
+configurations["loadTestImplementation"].extendsFrom(configurations["implementation"])
+configurations["loadTestRuntimeOnly"].extendsFrom(configurations["runtimeOnly"])
+configurations["openapiImplementation"].extendsFrom(configurations["implementation"])
+configurations["openapiRuntimeOnly"].extendsFrom(configurations["runtimeOnly"])
+
 /** Configure the dependencies required within the project. */
 dependencies {
     // ======= ANNOTATION PROCESSORS =======
@@ -92,10 +120,28 @@ dependencies {
     // LogstashEncoder is used to encode log messages in logstash format
     implementation("net.logstash.logback", "logstash-logback-encoder", retrieve("logstashEncoderVersion"))
 
+    // The LMAX Disruptor is the ring buffer behind the asynchronous logstash appender
+    implementation("com.lmax", "disruptor", retrieve("disruptorVersion"))
+
+    // Caffeine provides the bounded in-process entity caches
+    implementation("com.github.ben-manes.caffeine", "caffeine", retrieve("caffeineVersion"))
+
+    // datasource-proxy intercepts the JDBC calls to record the statements and rows of every request
+    implementation("net.ttddyy", "datasource-proxy", retrieve("datasourceProxyVersion"))
+
+    // Micrometer Tracing on the OpenTelemetry SDK creates the spans of the requests and their components
+    implementation("org.springframework.boot", "spring-boot-micrometer-tracing-opentelemetry")
+    implementation("io.micrometer", "micrometer-tracing-bridge-otel")
+
+    // ======= LOAD TEST DEPENDENCIES =======
+    // HdrHistogram records the latencies of the load test without losing the tail.
+    "loadTestImplementation"("org.hdrhistogram", "HdrHistogram", retrieve("hdrHistogramVersion"))
+
     // ======= TEST DEPENDENCIES =======
     testImplementation("org.springframework.boot", "spring-boot-test")
     testImplementation("org.springframework.security", "spring-security-test", retrieve("springSecurityTestVersion"))
     testImplementation("org.springframework.boot", "spring-boot-testcontainers")
+    testImplementation("com.h2database", "h2", retrieve("h2Version"))
     testImplementation("org.springframework.boot", "spring-boot-starter-test") {
         exclude("com.vaadin.external.google", module = "android-json")
     }
@@ -120,7 +166,13 @@ configure<SpotlessExtension> {
         java {
             cleanthat()
             toggleOffOn()
-            target("src/main/java/**/*.java", "src/test/java/**/*.java")
+            target(
+                "src/main/java/**/*.java",
+                "src/test/java/**/*.java",
+                "src/jmh/java/**/*.java",
+                "src/loadTest/java/**/*.java",
+                "src/openapi/java/**/*.java"
+            )
             eclipse().configFile("src/quality/config/spotless/styling.xml")
 
             endWithNewline()
@@ -149,6 +201,23 @@ configure<QualityExtension> {
     codenarc = true
 }
 
+/**
+ * Configuration of the JMH benchmarks, run with `./gradlew jmh`.
+ *
+ * The GC profiler reports the allocation rate per operation next to the timings. A subset of the benchmarks can be
+ * selected with a regular expression, e.g. `./gradlew jmh -PjmhIncludes=MapperBenchmark`. The persistence benchmarks
+ * provision an H2 database per scale factor under build/benchmark and need no network access, so they can be run with
+ * `./gradlew jmh --offline -PjmhIncludes=PersistenceBenchmark -PjmhScale=0.1`.
+ */
+configure<JmhParameters> {
+    jmhVersion = retrieve("jmhVersion")
+    profilers.add("gc")
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+    findProperty("jmhIncludes")?.let { includes.add(it.toString()) }
+    findProperty("jmhScale")?.let { benchmarkParameters.put("scale", objects.listProperty<String>().value(listOf(it.toString()))) }
+    jvmArgsAppend.addAll("-Xms1g", "-Xmx1g", "-Dbenchmark.data-dir=${layout.buildDirectory.dir("benchmark").get().asFile}")
+}
 
 // ============== STATIC FUNCTIONS ================
 fun retrieve(property: String): String {
@@ -172,8 +241,27 @@ val sharedJvmArgs = listOf(
 )
 
 // ============== TASK CONFIGURATION ================
+/**
+ * Generates the OpenAPI document by booting the application, e.g. for `scripts/openapi-sync.sh`. The compressed copy
+ * is packaged into the boot jar, where the production profile serves it instead of generating it at runtime.
+ */
+val openApiDocs = tasks.register<JavaExec>("generateOpenApiDocs") {
+    description = "Generates the OpenAPI document and a gzip compressed copy into build/generated/openapi."
+    group = "documentation"
+    classpath = sourceSets["openapi"].runtimeClasspath
+    mainClass = "dev.ilionx.workshop.openapi.OpenApiDocumentGenerator"
+    jvmArgs(sharedJvmArgs)
+    val outputDir = layout.buildDirectory.dir("generated/openapi")
+    args(outputDir.get().asFile.path)
+    outputs.dir(outputDir)
+}
+
 tasks.getByName<BootJar>("bootJar") {
     duplicatesStrategy = INCLUDE
+    from(openApiDocs) {
+        include("*.gz")
+        into("BOOT-INF/classes/openapi")
+    }
     archiveVersion.set(project.version.toString())
     archiveBaseName.set(retrieve("artifactName"))
 
@@ -234,6 +322,116 @@ tasks.withType<JavaCompile> {
     )
 }
 
+/** The code generated by JMH does not compile without warnings. */
+tasks.named<JavaCompile>("jmhCompileGeneratedClasses") {
+    options.compilerArgs.removeAll(listOf("-Xlint:all", "-Werror"))
+}
+
+/**
+ * Boots the application on an embedded port and drives the clinic traffic mix against it, e.g.
+ * `./gradlew loadTest -Ploadtest.rate=200 -Ploadtest.duration=120`. Every `loadtest.*` project property is passed on.
+ */
+tasks.register<JavaExec>("loadTest") {
+    description = "Runs the load test against an embedded instance of the application."
+    group = "verification"
+    classpath = sourceSets["loadTest"].runtimeClasspath
+    mainClass = "dev.ilionx.workshop.loadtest.LoadTest"
+    jvmArgs(sharedJvmArgs)
+    systemProperty("loadtest.report-dir", layout.buildDirectory.dir("reports/load-test").get().asFile.path)
+    project.properties.filterKeys { it.startsWith("loadtest.") }.forEach { (key, value) -> systemProperty(key, value.toString()) }
+}
+
+/**
+ * Replays the traffic captured by an instance with `traffic-capture.enabled=true` against a running instance, e.g.
+ * `./gradlew replayTraffic -Preplay.captures=captures -Preplay.target=http://localhost:8080/api -Preplay.speed=10`.
+ * Every `replay.*` project property is passed on.
+ */
+tasks.register<JavaExec>("replayTraffic") {
+    description = "Replays captured traffic against a running instance and compares the responses."
+    group = "verification"
+    classpath = sourceSets["loadTest"].runtimeClasspath
+    mainClass = "dev.ilionx.workshop.loadtest.replay.TrafficReplay"
+    workingDir = projectDir
+    systemProperty("replay.report-dir", layout.buildDirectory.dir("reports/replay").get().asFile.path)
+    project.properties.filterKeys { it.startsWith("replay.") }.forEach { (key, value) -> systemProperty(key, value.toString()) }
+}
+
+/**
+ * Spring AOT evaluates the bean conditions at build time, so the AOT classes are generated for the fast-startup
+ * profile they are used with; properties that switch beans on or off are fixed to their defaults in that mode.
+ */
+tasks.named<ProcessAot>("processAot") {
+    args("--spring.profiles.active=fast-startup")
+}
+
+/** The code generated by Spring AOT does not compile without warnings. */
+tasks.named<JavaCompile>("compileAotJava") {
+    options.compilerArgs.removeAll(listOf("-Xlint:all", "-Werror"))
+}
+
+/** The JDK AOT cache is trained on, and only valid for, the extracted boot jar under build/aot/app. */
+val aotAppDir = layout.buildDirectory.dir("aot/app")
+val aotCache = layout.buildDirectory.file("aot/app.aot")
+val javaExecutable = javaToolchains.launcherFor(java.toolchain).map { it.executablePath.asFile.absolutePath }
+
+tasks.register<Exec>("extractBootJar") {
+    description = "Extracts the boot jar into build/aot/app, the layout the JDK AOT cache is trained with."
+    group = "build"
+    val bootJar = tasks.named<BootJar>("bootJar")
+    inputs.file(bootJar.flatMap { it.archiveFile })
+    outputs.dir(aotAppDir)
+    doFirst {
+        executable = javaExecutable.get()
+        args(
+            "-Djarmode=tools", "-jar", bootJar.get().archiveFile.get().asFile.path,
+            "extract", "--force", "--application-filename", "app.jar", "--destination", aotAppDir.get().asFile.path
+        )
+    }
+}
+
+/**
+ * Trains the JDK AOT cache with a startup of the extracted application in the fast-startup profile. Start it with the
+ * cache from build/aot/app:
+ * `java -XX:AOTCache=../app.aot -Dspring.aot.enabled=true -Dspring.profiles.active=fast-startup -jar app.jar`.
+ */
+tasks.register<Exec>("trainAotCache") {
+    description = "Trains the JDK AOT cache for the fast-startup profile."
+    group = "build"
+    dependsOn("extractBootJar")
+    inputs.dir(aotAppDir)
+    outputs.file(aotCache)
+    workingDir = aotAppDir.get().asFile
+    doFirst {
+        executable = javaExecutable.get()
+        args(
+            "-XX:AOTCacheOutput=${aotCache.get().asFile.path}",
+            "-Dspring.aot.enabled=true",
+            "-Dspring.profiles.active=fast-startup",
+            "-Dspring.context.exit=onRefresh",
+            "-jar", "app.jar"
+        )
+    }
+}
+
+/**
+ * Compares the startup time and the time to first request of the default and the fast-startup mode, e.g.
+ * `./gradlew measureStartup -Pstartup.runs=10`. Every `startup.*` project property is passed on.
+ */
+tasks.register<JavaExec>("measureStartup") {
+    description = "Measures the startup of the application with and without the fast-startup mode."
+    group = "verification"
+    dependsOn("trainAotCache")
+    classpath = sourceSets["loadTest"].runtimeClasspath
+    mainClass = "dev.ilionx.workshop.loadtest.startup.StartupBenchmark"
+    systemProperty("startup.app-dir", aotAppDir.get().asFile.path)
+    systemProperty("startup.aot-cache", aotCache.get().asFile.path)
+    systemProperty("startup.report-dir", layout.buildDirectory.dir("reports/startup").get().asFile.path)
+    project.properties.filterKeys { it.startsWith("startup.") }.forEach { (key, value) -> systemProperty(key, value.toString()) }
+    doFirst {
+        systemProperty("startup.java", javaExecutable.get())
+    }
+}
+
 tasks.named<BootRun>("bootRun") {
     systemProperty("jframe.application.name", retrieve("artifactName"))
     systemProperty("jframe.application.group", retrieve("group"))
@@ -7,13 +7,16 @@ pluginManagement {
     val lombokPluginVersion: String by settings
     val spotlessPluginVersion: String by settings
     val dependencyUpdatesPluginVersion: String by settings
+    val jmhPluginVersion: String by settings
     plugins {
         id("org.springframework.boot") version springBootPluginVersion
+        id("org.springframework.boot.aot") version springBootPluginVersion
         id("io.spring.dependency-management") version springDependencyPluginVersion
         id("ru.vyarus.quality") version qualityPluginVersion
         id("com.github.spotbugs") version spotbugsPluginVersion
         id("io.freefair.lombok") version lombokPluginVersion
         id("com.diffplug.spotless") version spotlessPluginVersion
         id("com.github.ben-manes.versions") version dependencyUpdatesPluginVersion
+        id("me.champeau.jmh") version jmhPluginVersion
     }
 }
@@ -0,0 +1,139 @@
+package dev.ilionx.workshop.benchmark;
+
+import dev.ilionx.workshop.api.appointment.model.Appointment;
+import dev.ilionx.workshop.api.owner.model.Owner;
+import dev.ilionx.workshop.api.pet.model.Pet;
+import dev.ilionx.workshop.api.pet.model.PetType;
+import dev.ilionx.workshop.api.vet.model.Specialty;
+import dev.ilionx.workshop.api.vet.model.Vet;
+import dev.ilionx.workshop.api.visit.model.Visit;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the entity graphs used by the benchmarks.
+ *
+ * <p>The graphs are shaped like the sample data: an owner has a few pets and every pet has a short visit history. The
+ * values vary per record, so string deduplication and constant folding do not flatter the results.
+ */
+final class BenchmarkData {
+
+    static final int PETS_PER_OWNER = 3;
+    static final int VISITS_PER_PET = 4;
+    static final int SPECIALTIES_PER_VET = 2;
+
+    private static final String[] PET_TYPES = {"cat", "dog", "lizard", "snake", "bird", "hamster"};
+    private static final String[] SPECIALTIES = {"radiology", "surgery", "dentistry"};
+
+    private BenchmarkData() {
+        // Utility class
+    }
+
+    /**
+     * Creates owners with their pets and visits.
+     *
+     * @param count the number of owners
+     * @return the owners
+     */
+    static List<Owner> owners(final int count) {
+        final List<Owner> owners = new ArrayList<>(count);
+        for (int index = 1; index <= count; index++) {
+            owners.add(owner(index));
+        }
+        return owners;
+    }
+
+    /**
+     * Creates an owner with its pets and visits.
+     *
+     * @param id the ID of the owner
+     * @return the owner
+     */
+    static Owner owner(final int id) {
+        final Owner owner = new Owner();
+        owner.setId(id);
+        owner.setFirstName("George" + id);
+        owner.setLastName("Franklin" + id);
+        owner.setAddress(id + " W. Liberty St.");
+        owner.setCity("Madison");
+        owner.setTelephone(String.valueOf(6_085_551_000L + id));
+        owner.setEmail("george.franklin" + id + "@example.com");
+        for (int index = 0; index < PETS_PER_OWNER; index++) {
+            owner.getPets().add(pet(owner, id * PETS_PER_OWNER + index));
+        }
+        return owner;
+    }
+
+    /**
+     * Creates vets with their specialties.
+     *
+     * @param count the number of vets
+     * @return the vets
+     */
+    static List<Vet> vets(final int count) {
+        final List<Vet> vets = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            final Vet vet = new Vet();
+            vet.setId(id);
+            vet.setFirstName("James" + id);
+            vet.setLastName("Carter" + id);
+            for (int index = 0; index < SPECIALTIES_PER_VET; index++) {
+                final Specialty specialty = new Specialty();
+                specialty.setId((id + index) % SPECIALTIES.length + 1);
+                specialty.setName(SPECIALTIES[(id + index) % SPECIALTIES.length]);
+                vet.getSpecialties().add(specialty);
+            }
+            vets.add(vet);
+        }
+        return vets;
+    }
+
+    /**
+     * Creates appointments between the pets of the owners and the vets.
+     *
+     * @param owners the owners
+     * @param vets   the vets
+     * @return one appointment per pet
+     */
+    static List<Appointment> appointments(final List<Owner> owners, final List<Vet> vets) {
+        final List<Appointment> appointments = new ArrayList<>();
+        final LocalDateTime start = LocalDateTime.of(2025, 1, 6, 9, 0);
+        for (final Owner owner : owners) {
+            for (final Pet pet : owner.getPets()) {
+                final Appointment appointment = new Appointment();
+                appointment.setId(pet.getId());
+                appointment.setScheduledDateTime(start.plusMinutes(30L * pet.getId()));
+                appointment.setReason("Annual checkup for " + pet.getName());
+                appointment.setPet(pet);
+                appointment.setVet(vets.get(pet.getId() % vets.size()));
+                appointments.add(appointment);
+            }
+        }
+        return appointments;
+    }
+
+    private static Pet pet(final Owner owner, final int id) {
+        final PetType type = new PetType();
+        type.setId(id % PET_TYPES.length + 1);
+        type.setName(PET_TYPES[id % PET_TYPES.length]);
+
+        final Pet pet = new Pet();
+        pet.setId(id);
+        pet.setName("Leo" + id);
+        pet.setBirthDate(LocalDate.of(2015, 1, 1).plusDays(id % 3_000));
+        pet.setType(type);
+        pet.setOwner(owner);
+        for (int index = 0; index < VISITS_PER_PET; index++) {
+            final Visit visit = new Visit();
+            visit.setId(id * VISITS_PER_PET + index);
+            visit.setDate(LocalDate.of(2023, 1, 1).plusDays(index * 90L));
+            visit.setDescription("Visit " + index + " of " + pet.getName());
+            visit.setPet(pet);
+            pet.getVisits().add(visit);
+        }
+        return pet;
+    }
+}
@@ -0,0 +1,92 @@
+package dev.ilionx.workshop.benchmark;
+
+import dev.ilionx.workshop.api.appointment.model.Appointment;
+import dev.ilionx.workshop.api.appointment.model.mapper.AppointmentMapper;
+import dev.ilionx.workshop.api.appointment.model.response.AppointmentResponse;
+import dev.ilionx.workshop.api.owner.model.Owner;
+import dev.ilionx.workshop.api.owner.model.mapper.OwnerMapper;
+import dev.ilionx.workshop.api.owner.model.response.OwnerResponse;
+import dev.ilionx.workshop.api.pet.model.Pet;
+import dev.ilionx.workshop.api.pet.model.mapper.PetMapper;
+import dev.ilionx.workshop.api.pet.model.response.PetResponse;
+import dev.ilionx.workshop.api.vet.model.Vet;
+import dev.ilionx.workshop.api.vet.model.mapper.VetMapper;
+import dev.ilionx.workshop.api.vet.model.response.VetResponse;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the MapStruct mappers that turn the entities into response DTOs.
+ *
+ * <p>The list benchmarks map the size of a typical page; the single entity benchmarks show the cost per request of a
+ * by-ID read.
+ */
+@Fork(1)
+@Warmup(
+    iterations = 3,
+    time = 2
+)
+@Measurement(
+    iterations = 5,
+    time = 2
+)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapperBenchmark {
+
+    @Param({"1", "20", "100"})
+    private int size;
+
+    private final OwnerMapper ownerMapper = Mappers.getMapper(OwnerMapper.class);
+    private final PetMapper petMapper = Mappers.getMapper(PetMapper.class);
+    private final VetMapper vetMapper = Mappers.getMapper(VetMapper.class);
+    private final AppointmentMapper appointmentMapper = Mappers.getMapper(AppointmentMapper.class);
+
+    private List<Owner> owners;
+    private List<Pet> pets;
+    private List<Vet> vets;
+    private List<Appointment> appointments;
+
+    @Setup
+    public void setUp() {
+        owners = BenchmarkData.owners(size);
+        pets = owners.stream().flatMap(owner -> owner.getPets().stream()).limit(size).toList();
+        vets = BenchmarkData.vets(size);
+        appointments = BenchmarkData.appointments(owners, vets).subList(0, size);
+    }
+
+    @Benchmark
+    public List<OwnerResponse> mapOwners() {
+        return ownerMapper.toResponseList(owners);
+    }
+
+    @Benchmark
+    public List<PetResponse> mapPets() {
+        return petMapper.toResponseList(pets);
+    }
+
+    @Benchmark
+    public List<VetResponse> mapVets() {
+        return vetMapper.toResponseList(vets);
+    }
+
+    @Benchmark
+    public List<AppointmentResponse> mapAppointments() {
+        return appointmentMapper.toResponseList(appointments);
+    }
+}
@@ -0,0 +1,105 @@
+package dev.ilionx.workshop.benchmark;
+
+import dev.ilionx.workshop.api.appointment.model.mapper.AppointmentMapper;
+import dev.ilionx.workshop.api.appointment.model.response.AppointmentResponse;
+import dev.ilionx.workshop.api.owner.model.Owner;
+import dev.ilionx.workshop.api.owner.model.mapper.OwnerMapper;
+import dev.ilionx.workshop.api.owner.model.response.OwnerResponse;
+import dev.ilionx.workshop.api.pet.model.mapper.PetMapper;
+import dev.ilionx.workshop.api.pet.model.response.PetResponse;
+import dev.ilionx.workshop.api.vet.model.Vet;
+import dev.ilionx.workshop.api.vet.model.mapper.VetMapper;
+import dev.ilionx.workshop.api.vet.model.response.VetResponse;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the Jackson serialization of the response graphs the API returns.
+ *
+ * <p>The owner graph nests pets, the pet graph nests types and visits, and the appointment graph carries the date-time
+ * values, so together they cover the shapes that dominate the response bodies.
+ */
+@Fork(1)
+@Warmup(
+    iterations = 3,
+    time = 2
+)
+@Measurement(
+    iterations = 5,
+    time = 2
+)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    private static final TypeReference<List<OwnerResponse>> OWNER_LIST = new TypeReference<>() {
+    };
+
+    @Param({"1", "20", "100"})
+    private int size;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private List<OwnerResponse> owners;
+    private List<PetResponse> pets;
+    private List<VetResponse> vets;
+    private List<AppointmentResponse> appointments;
+    private byte[] ownersJson;
+
+    @Setup
+    public void setUp() {
+        final List<Owner> ownerEntities = BenchmarkData.owners(size);
+        final List<Vet> vetEntities = BenchmarkData.vets(size);
+        owners = Mappers.getMapper(OwnerMapper.class).toResponseList(ownerEntities);
+        pets = Mappers.getMapper(PetMapper.class).toResponseList(
+            ownerEntities.stream().flatMap(owner -> owner.getPets().stream()).limit(size).toList()
+        );
+        vets = Mappers.getMapper(VetMapper.class).toResponseList(vetEntities);
+        appointments = Mappers.getMapper(AppointmentMapper.class).toResponseList(
+            BenchmarkData.appointments(ownerEntities, vetEntities).subList(0, size)
+        );
+        ownersJson = jsonMapper.writeValueAsBytes(owners);
+    }
+
+    @Benchmark
+    public byte[] writeOwners() {
+        return jsonMapper.writeValueAsBytes(owners);
+    }
+
+    @Benchmark
+    public byte[] writePets() {
+        return jsonMapper.writeValueAsBytes(pets);
+    }
+
+    @Benchmark
+    public byte[] writeVets() {
+        return jsonMapper.writeValueAsBytes(vets);
+    }
+
+    @Benchmark
+    public byte[] writeAppointments() {
+        return jsonMapper.writeValueAsBytes(appointments);
+    }
+
+    @Benchmark
+    public List<OwnerResponse> readOwners() {
+        return jsonMapper.readValue(ownersJson, OWNER_LIST);
+    }
+}
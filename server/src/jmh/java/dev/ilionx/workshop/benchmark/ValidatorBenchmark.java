@@ -0,0 +1,83 @@
+package dev.ilionx.workshop.benchmark;
+
+import dev.ilionx.workshop.api.owner.model.request.CreateOwnerRequest;
+import dev.ilionx.workshop.api.owner.model.request.UpdateOwnerRequest;
+import dev.ilionx.workshop.api.owner.model.validator.OwnerValidator;
+import io.github.jframe.exception.core.ValidationException;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the owner validator.
+ *
+ * <p>A rejected request builds and throws a validation exception, so it is measured separately from a valid one.
+ */
+@Fork(1)
+@Warmup(
+    iterations = 3,
+    time = 2
+)
+@Measurement(
+    iterations = 5,
+    time = 2
+)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidatorBenchmark {
+
+    private final OwnerValidator ownerValidator = new OwnerValidator();
+
+    private final CreateOwnerRequest validCreateRequest = new CreateOwnerRequest()
+        .setFirstName("George")
+        .setLastName("Franklin")
+        .setAddress("110 W. Liberty St.")
+        .setCity("Madison")
+        .setTelephone("6085551023")
+        .setEmail("george.franklin@example.com");
+
+    private final UpdateOwnerRequest validUpdateRequest = new UpdateOwnerRequest()
+        .setFirstName("George")
+        .setLastName("Franklin")
+        .setAddress("110 W. Liberty St.")
+        .setCity("Madison")
+        .setTelephone("6085551023")
+        .setEmail("george.franklin@example.com");
+
+    private final CreateOwnerRequest invalidCreateRequest = new CreateOwnerRequest()
+        .setFirstName(" ")
+        .setLastName("Franklin")
+        .setTelephone("608-555-1023");
+
+    @Benchmark
+    public CreateOwnerRequest validateCreateRequest() {
+        ownerValidator.validateAndThrow(validCreateRequest);
+        return validCreateRequest;
+    }
+
+    @Benchmark
+    public UpdateOwnerRequest validateUpdateRequest() {
+        ownerValidator.validateAndThrow(validUpdateRequest);
+        return validUpdateRequest;
+    }
+
+    @Benchmark
+    public ValidationException rejectCreateRequest() {
+        try {
+            ownerValidator.validateAndThrow(invalidCreateRequest);
+            throw new IllegalStateException("The invalid request was accepted");
+        } catch (final ValidationException exception) {
+            return exception;
+        }
+    }
+}
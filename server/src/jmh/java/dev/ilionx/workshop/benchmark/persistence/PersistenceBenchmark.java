@@ -0,0 +1,230 @@
+package dev.ilionx.workshop.benchmark.persistence;
+
+import dev.ilionx.workshop.Application;
+import dev.ilionx.workshop.api.appointment.model.Appointment;
+import dev.ilionx.workshop.api.appointment.repository.AppointmentRepository;
+import dev.ilionx.workshop.api.appointment.service.AppointmentService;
+import dev.ilionx.workshop.api.owner.model.Owner;
+import dev.ilionx.workshop.api.owner.repository.OwnerRepository;
+import dev.ilionx.workshop.api.owner.service.OwnerService;
+import dev.ilionx.workshop.api.pet.model.Pet;
+import dev.ilionx.workshop.api.pet.repository.PetRepository;
+import dev.ilionx.workshop.api.pet.service.PetService;
+import dev.ilionx.workshop.api.visit.model.Visit;
+import dev.ilionx.workshop.api.visit.repository.VisitRepository;
+import dev.ilionx.workshop.api.visit.service.VisitService;
+import dev.ilionx.workshop.common.persistence.sql.SqlBudget;
+import dev.ilionx.workshop.common.persistence.sql.SqlStatistics;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Benchmarks of the repository and service reads against a database at production scale.
+ *
+ * <p>The application context is started against a file-based H2 database per scale factor, which is provisioned on the
+ * first run and reused afterwards. Every operation reads a random record, so the results reflect the access paths and
+ * not a warm row. The entity caches are disabled to measure the database reads they would otherwise hide.
+ *
+ * <p>Next to the throughput and the latency percentiles, the number of SQL statements and rows per operation are
+ * reported as secondary results.
+ */
+@Fork(1)
+@Warmup(
+    iterations = 2,
+    time = 5
+)
+@Measurement(
+    iterations = 5,
+    time = 5
+)
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PersistenceBenchmark {
+
+    private static final SqlBudget UNLIMITED = new SqlBudget(
+        "benchmark",
+        Integer.MAX_VALUE,
+        Integer.MAX_VALUE,
+        Duration.ofDays(1),
+        false
+    );
+
+    /** The size of the data set; scale factor 1 holds a million owners. */
+    @Param("0.01")
+    private double scale;
+
+    private ConfigurableApplicationContext context;
+    private ScaleDataset dataset;
+
+    private OwnerRepository ownerRepository;
+    private PetRepository petRepository;
+    private VisitRepository visitRepository;
+    private AppointmentRepository appointmentRepository;
+    private OwnerService ownerService;
+    private PetService petService;
+    private VisitService visitService;
+    private AppointmentService appointmentService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Path dataDirectory = Path.of(System.getProperty("benchmark.data-dir", "build/benchmark"));
+        final String url = "jdbc:h2:file:" + dataDirectory.toAbsolutePath().resolve("scale-" + scale) + ";DB_CLOSE_ON_EXIT=FALSE";
+        // Command line arguments, since they take precedence over application.yml.
+        context = new SpringApplicationBuilder(Application.class).run(
+            "--spring.profiles.active=benchmark",
+            "--server.port=0",
+            "--spring.datasource.url=" + url,
+            "--spring.jmx.enabled=false",
+            "--spring.datasource.hikari.register-mbeans=false",
+            "--logging.level.root=WARN",
+            "--logging.level.dev.ilionx.workshop.benchmark=INFO",
+            "--jframe.logging.disabled=true",
+            "--entity-cache.maximum-size=0B",
+            "--rate-limit.enabled=false",
+            "--reminders.enabled=false",
+            "--cache-sync.enabled=false"
+        );
+
+        dataset = new ScaleDataset(context.getBean(DataSource.class), scale);
+        dataset.provision();
+
+        ownerRepository = context.getBean(OwnerRepository.class);
+        petRepository = context.getBean(PetRepository.class);
+        visitRepository = context.getBean(VisitRepository.class);
+        appointmentRepository = context.getBean(AppointmentRepository.class);
+        ownerService = context.getBean(OwnerService.class);
+        petService = context.getBean(PetService.class);
+        visitService = context.getBean(VisitService.class);
+        appointmentService = context.getBean(AppointmentService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Owner ownerFindById(final SqlCounters counters) {
+        return counters.record(() -> ownerService.findById(counters.nextId(dataset.getOwners())));
+    }
+
+    @Benchmark
+    public List<Owner> ownerFindByLastName(final SqlCounters counters) {
+        return counters.record(() -> ownerRepository.findByLastName("Family" + (counters.nextId(dataset.getLastNames()) - 1)));
+    }
+
+    @Benchmark
+    public List<Pet> petFindByOwnerId(final SqlCounters counters) {
+        return counters.record(() -> petService.findByOwnerId(counters.nextId(dataset.getOwners())));
+    }
+
+    @Benchmark
+    public Optional<Pet> petRepositoryFindById(final SqlCounters counters) {
+        return counters.record(() -> petRepository.findById(counters.nextId(dataset.getPets())));
+    }
+
+    @Benchmark
+    public List<Visit> visitFindByPetId(final SqlCounters counters) {
+        return counters.record(() -> visitService.findByPetId(counters.nextId(dataset.getPets())));
+    }
+
+    @Benchmark
+    public List<Visit> visitRepositoryFindByPetId(final SqlCounters counters) {
+        return counters.record(() -> visitRepository.findByPetId(counters.nextId(dataset.getPets())));
+    }
+
+    @Benchmark
+    public Appointment appointmentFindById(final SqlCounters counters) {
+        return counters.record(() -> appointmentService.findById(counters.nextId(dataset.getAppointments())));
+    }
+
+    @Benchmark
+    public List<Appointment> appointmentFindByPetId(final SqlCounters counters) {
+        return counters.record(() -> appointmentRepository.findByPetId(counters.nextId(dataset.getPets())));
+    }
+
+    @Benchmark
+    public List<Appointment> appointmentFindByVetId(final SqlCounters counters) {
+        return counters.record(() -> appointmentService.findByVetId(counters.nextId(dataset.getVets())));
+    }
+
+    /**
+     * Records the SQL executed by the operations of one benchmark thread, reported per operation.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SqlCounters {
+
+        private final SplittableRandom random = new SplittableRandom(42);
+
+        private long operations;
+        private long statements;
+        private long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            operations = 0;
+            statements = 0;
+            rows = 0;
+        }
+
+        /**
+         * Returns the average number of statements per operation in the iteration.
+         *
+         * @return the statements per operation
+         */
+        public double sqlStatementsPerOp() {
+            return operations == 0 ? 0 : (double) statements / operations;
+        }
+
+        /**
+         * Returns the average number of rows read per operation in the iteration.
+         *
+         * @return the rows per operation
+         */
+        public double sqlRowsPerOp() {
+            return operations == 0 ? 0 : (double) rows / operations;
+        }
+
+        int nextId(final int max) {
+            return random.nextInt(max) + 1;
+        }
+
+        <T> T record(final Supplier<T> operation) {
+            SqlStatistics.start(UNLIMITED);
+            try {
+                return operation.get();
+            } finally {
+                final SqlStatistics statistics = SqlStatistics.stop();
+                operations++;
+                statements += statistics.getStatements();
+                rows += statistics.getRows();
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package dev.ilionx.workshop.benchmark.persistence;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Provisions the benchmark database with a data set proportional to a scale factor.
+ *
+ * <p>At scale factor 1 the data set holds a million owners, two million pets, five million visits and a million
+ * appointments. The rows are generated by H2 itself with set-based inserts, so provisioning is bound by the database
+ * and not by the round trips. A database that already holds the expected number of rows is reused as is.
+ */
+@Slf4j
+@Getter
+final class ScaleDataset {
+
+    private static final int CHUNK_SIZE = 250_000;
+    private static final int OWNERS_AT_SCALE_ONE = 1_000_000;
+
+    private static final List<String> TABLES = List.of(
+        "vet_specialties", "appointments", "vaccinations", "visits", "pets", "owners", "vets", "specialties", "pet_types"
+    );
+
+    private final int owners;
+    private final int pets;
+    private final int visits;
+    private final int appointments;
+    private final int vets;
+    private final int lastNames;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ScaleDataset(final DataSource dataSource, final double scale) {
+        this.owners = Math.max(1, (int) Math.round(OWNERS_AT_SCALE_ONE * scale));
+        this.pets = owners * 2;
+        this.visits = owners * 5;
+        this.appointments = owners;
+        this.vets = Math.max(6, owners / 1_000);
+        this.lastNames = Math.max(1, owners / 100);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Load the data set, unless the database already holds it.
+     */
+    void provision() {
+        if (isProvisioned()) {
+            log.info("Reusing the provisioned data set of '{}' owners", owners);
+            return;
+        }
+
+        final long start = System.nanoTime();
+        clear();
+        jdbcTemplate.execute("INSERT INTO pet_types (id, name) VALUES (1, 'Cat'), (2, 'Dog'), (3, 'Lizard'), "
+            + "(4, 'Snake'), (5, 'Bird'), (6, 'Hamster')");
+        jdbcTemplate.execute("INSERT INTO specialties (id, name) VALUES (1, 'Radiology'), (2, 'Surgery'), (3, 'Dentistry')");
+        insert("vets", vets, """
+            INSERT INTO vets (id, first_name, last_name)
+            SELECT X, 'James' || X, 'Carter' || X FROM SYSTEM_RANGE(?, ?)
+            """);
+        insert("vet_specialties", vets, """
+            INSERT INTO vet_specialties (vet_id, specialty_id)
+            SELECT X, MOD(X, 3) + 1 FROM SYSTEM_RANGE(?, ?)
+            """);
+        insert("owners", owners, """
+            INSERT INTO owners (id, first_name, last_name, address, city, telephone, email)
+            SELECT X, 'George' || X, 'Family' || MOD(X, %d), X || ' W. Liberty St.', 'City' || MOD(X, 500),
+                   CAST(6085550000 + X AS VARCHAR), 'owner' || X || '@example.com'
+            FROM SYSTEM_RANGE(?, ?)
+            """.formatted(lastNames));
+        insert("pets", pets, """
+            INSERT INTO pets (id, name, birth_date, type_id, owner_id)
+            SELECT X, 'Pet' || X, DATEADD('DAY', -MOD(X, 5000), DATE '2025-01-01'), MOD(X, 6) + 1, (X - 1) / 2 + 1
+            FROM SYSTEM_RANGE(?, ?)
+            """);
+        insert("visits", visits, """
+            INSERT INTO visits (id, pet_id, date, description)
+            SELECT X, MOD(X - 1, %d) + 1, DATEADD('DAY', -MOD(X, 1500), DATE '2025-01-01'), 'Visit ' || X
+            FROM SYSTEM_RANGE(?, ?)
+            """.formatted(pets));
+        insert("appointments", appointments, """
+            INSERT INTO appointments (id, pet_id, vet_id, scheduled_date_time, reason, status)
+            SELECT X, MOD((X - 1) * 2, %d) + 1, MOD(X - 1, %d) + 1,
+                   DATEADD('MINUTE', X * 10, TIMESTAMP '2025-01-06 09:00:00'), 'Checkup ' || X, 'SCHEDULED'
+            FROM SYSTEM_RANGE(?, ?)
+            """.formatted(pets, vets));
+        jdbcTemplate.execute("ANALYZE");
+        log.info("Provisioned the data set of '{}' owners in '{}' s", owners, (System.nanoTime() - start) / 1_000_000_000);
+    }
+
+    private boolean isProvisioned() {
+        return count("owners") == owners
+            && count("pets") == pets
+            && count("visits") == visits
+            && count("appointments") == appointments;
+    }
+
+    private long count(final String table) {
+        final Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    private void clear() {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        try {
+            TABLES.forEach(table -> jdbcTemplate.execute("TRUNCATE TABLE " + table));
+        } finally {
+            jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+        }
+    }
+
+    private void insert(final String table, final int rows, final String sql) {
+        for (int from = 1; from <= rows; from += CHUNK_SIZE) {
+            jdbcTemplate.update(sql, from, Math.min(rows, from + CHUNK_SIZE - 1));
+        }
+        if (!"vet_specialties".equals(table)) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (rows + 1));
+        }
+        log.info("Inserted '{}' rows into '{}'", rows, table);
+    }
+}
@@ -0,0 +1,45 @@
+package dev.ilionx.workshop.loadtest;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * The records the scenarios pick their requests from.
+ *
+ * @param ownerIds    the IDs of the owners
+ * @param lastNames   the distinct last names of the owners
+ * @param petIds      the IDs of the pets
+ * @param petOwnerIds the IDs of the owners of the pets, at the same index as the pet
+ * @param vetIds      the IDs of the vets
+ */
+record ClinicData(int[] ownerIds, List<String> lastNames, int[] petIds, int[] petOwnerIds, int[] vetIds) {
+
+    /**
+     * Read the records from the database.
+     *
+     * @param jdbcTemplate the template on the application database
+     * @return the records
+     */
+    static ClinicData load(final JdbcTemplate jdbcTemplate) {
+        final List<int[]> pets = jdbcTemplate.query(
+            "SELECT id, owner_id FROM pets ORDER BY id",
+            (resultSet, row) -> new int[] {resultSet.getInt("id"), resultSet.getInt("owner_id")}
+        );
+        final ClinicData data = new ClinicData(
+            ids(jdbcTemplate, "SELECT id FROM owners ORDER BY id"),
+            jdbcTemplate.queryForList("SELECT DISTINCT last_name FROM owners ORDER BY last_name", String.class),
+            pets.stream().mapToInt(pet -> pet[0]).toArray(),
+            pets.stream().mapToInt(pet -> pet[1]).toArray(),
+            ids(jdbcTemplate, "SELECT id FROM vets ORDER BY id")
+        );
+        if (data.ownerIds().length == 0 || data.petIds().length == 0 || data.vetIds().length == 0) {
+            throw new IllegalStateException("The load test needs owners, pets and vets; enable the data generator");
+        }
+        return data;
+    }
+
+    private static int[] ids(final JdbcTemplate jdbcTemplate, final String sql) {
+        return jdbcTemplate.queryForList(sql, Integer.class).stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,48 @@
+package dev.ilionx.workshop.loadtest;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Records the latencies and failures of the requests of one scenario.
+ *
+ * <p>Latencies are measured from the moment a request was scheduled to be sent, not from the moment it was sent, so a
+ * stalled server shows up in the latencies of every request that had to wait for it.
+ */
+final class LatencyRecorder {
+
+    private final Scenario scenario;
+    private final Histogram histogram = new ConcurrentHistogram(3);
+    private final LongAdder failures = new LongAdder();
+
+    LatencyRecorder(final Scenario scenario) {
+        this.scenario = scenario;
+    }
+
+    /**
+     * Record a completed request.
+     *
+     * @param latencyNanos the time from the scheduled start until the response was received
+     * @param successful   whether the request succeeded
+     */
+    void record(final long latencyNanos, final boolean successful) {
+        histogram.recordValue(Math.max(1, latencyNanos));
+        if (!successful) {
+            failures.increment();
+        }
+    }
+
+    Scenario getScenario() {
+        return scenario;
+    }
+
+    Histogram getHistogram() {
+        return histogram;
+    }
+
+    long getFailures() {
+        return failures.sum();
+    }
+}
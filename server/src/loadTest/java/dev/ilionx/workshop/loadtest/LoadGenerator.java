@@ -0,0 +1,113 @@
+package dev.ilionx.workshop.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Starts requests at a fixed rate, each on its own virtual thread, in an open model.
+ *
+ * <p>The next request is started when it is due, whether or not the earlier ones have completed, like independent
+ * clients would. Every latency is measured from the moment its request was due, so a server that falls behind cannot
+ * hide its queueing delay by slowing the load generator down, which is known as coordinated omission.
+ */
+@Slf4j
+final class LoadGenerator {
+
+    private final LoadTestSettings settings;
+    private final ClinicData data;
+    private final String baseUrl;
+    private final SplittableRandom random;
+    private final Map<Scenario, LatencyRecorder> recorders = new EnumMap<>(Scenario.class);
+    private final List<Scenario> weightedScenarios = new ArrayList<>();
+
+    LoadGenerator(final LoadTestSettings settings, final ClinicData data, final String baseUrl) {
+        this.settings = settings;
+        this.data = data;
+        this.baseUrl = baseUrl;
+        this.random = new SplittableRandom(settings.seed());
+        settings.mix().forEach((scenario, weight) -> {
+            recorders.put(scenario, new LatencyRecorder(scenario));
+            for (int index = 0; index < weight; index++) {
+                weightedScenarios.add(scenario);
+            }
+        });
+        if (weightedScenarios.isEmpty()) {
+            throw new IllegalArgumentException("The traffic mix has no scenario with a weight");
+        }
+    }
+
+    /**
+     * Run the warmup and the measurement, and wait for the requests in flight.
+     *
+     * @return the recorders of the measured requests per scenario
+     */
+    Map<Scenario, LatencyRecorder> run() {
+        final long intervalNanos = Math.max(1, (long) (1_000_000_000 / settings.rate()));
+        final long start = System.nanoTime();
+        final long measurementStart = start + settings.warmup().toNanos();
+        final long end = measurementStart + settings.duration().toNanos();
+        log.info(
+            "Running '{}' requests per second for a '{}' s warmup and a '{}' s measurement",
+            settings.rate(),
+            settings.warmup().toSeconds(),
+            settings.duration().toSeconds()
+        );
+
+        // The executor is closed first, which waits for the requests in flight, and the client after it.
+        try (HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+            ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long due = start; due < end; due += intervalNanos) {
+                final Scenario scenario = weightedScenarios.get(random.nextInt(weightedScenarios.size()));
+                final HttpRequest request = scenario.request(data, random, baseUrl);
+                final long scheduledAt = due;
+                final boolean measured = due >= measurementStart;
+                awaitNanoTime(due);
+                executor.execute(() -> send(client, request, recorders.get(scenario), scheduledAt, measured));
+            }
+        }
+        return recorders;
+    }
+
+    private static void send(final HttpClient client,
+        final HttpRequest request,
+        final LatencyRecorder recorder,
+        final long scheduledAt,
+        final boolean measured) {
+        boolean successful;
+        try {
+            successful = client.send(request, BodyHandlers.discarding()).statusCode() < 400;
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            successful = false;
+        } catch (final IOException exception) {
+            successful = false;
+        }
+        if (measured) {
+            recorder.record(System.nanoTime() - scheduledAt, successful);
+        }
+    }
+
+    private static void awaitNanoTime(final long due) {
+        long remaining = due - System.nanoTime();
+        while (remaining > 0) {
+            LockSupport.parkNanos(remaining);
+            remaining = due - System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package dev.ilionx.workshop.loadtest;
+
+import dev.ilionx.workshop.Application;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Boots the application on an embedded port, fills it with generated data and drives the clinic traffic mix against
+ * it, run with {@code ./gradlew loadTest}.
+ *
+ * <p>The rate limits are disabled, since all traffic comes from one client. The run fails when a scenario exceeds the
+ * failure rate or the 99th percentile latency that is allowed by the settings.
+ */
+@Slf4j
+public final class LoadTest {
+
+    private LoadTest() {
+        // Main class
+    }
+
+    /**
+     * Run the load test.
+     *
+     * @param args the command line arguments, passed on to the application
+     * @throws Exception if the application or the reports fail
+     */
+    public static void main(final String[] args) throws Exception {
+        final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        final Map<Scenario, LatencyRecorder> recorders;
+        // Command line arguments, since they take precedence over application.yml.
+        final String[] applicationArgs = Stream.concat(
+            Stream.of(
+                "--spring.profiles.active=loadtest",
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                "--logging.level.root=WARN",
+                "--logging.level.dev.ilionx.workshop.loadtest=INFO",
+                "--jframe.logging.disabled=true",
+                "--rate-limit.enabled=false",
+                "--data-generator.enabled=true",
+                "--data-generator.owners=" + settings.owners(),
+                "--data-generator.seed=" + settings.seed(),
+                "--data-generator.reference-date=" + LocalDate.now()
+            ),
+            Arrays.stream(args)
+        ).toArray(String[]::new);
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class).run(applicationArgs)) {
+            final String baseUrl = "http://localhost:"
+                + context.getEnvironment().getRequiredProperty("local.server.port")
+                + context.getEnvironment().getProperty("server.servlet.context-path", "");
+            final ClinicData data = ClinicData.load(new JdbcTemplate(context.getBean(DataSource.class)));
+            recorders = new LoadGenerator(settings, data, baseUrl).run();
+        }
+
+        final LoadTestReport report = new LoadTestReport(settings, recorders);
+        log.info("Load test results, written to '{}':{}{}", settings.reportDir(), System.lineSeparator(), report.write());
+        final List<String> violations = report.violations();
+        if (!violations.isEmpty()) {
+            log.error("The load test exceeded its limits: {}", violations);
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package dev.ilionx.workshop.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Summarises the latencies per scenario and checks them against the limits of the run.
+ *
+ * <p>The summary is written to {@code summary.txt}, and the full percentile distribution of every scenario to a
+ * {@code .hgrm} file that can be plotted with the HdrHistogram plotter.
+ */
+final class LoadTestReport {
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final LoadTestSettings settings;
+    private final Map<Scenario, LatencyRecorder> recorders;
+
+    LoadTestReport(final LoadTestSettings settings, final Map<Scenario, LatencyRecorder> recorders) {
+        this.settings = settings;
+        this.recorders = recorders;
+    }
+
+    /**
+     * Write the reports.
+     *
+     * @return the summary
+     * @throws IOException if a report cannot be written
+     */
+    String write() throws IOException {
+        Files.createDirectories(settings.reportDir());
+        for (final LatencyRecorder recorder : recorders.values()) {
+            try (PrintStream out = new PrintStream(
+                Files.newOutputStream(settings.reportDir().resolve(recorder.getScenario().key() + ".hgrm")),
+                false,
+                StandardCharsets.UTF_8
+            )) {
+                recorder.getHistogram().outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+        final String summary = summary();
+        Files.writeString(settings.reportDir().resolve("summary.txt"), summary);
+        return summary;
+    }
+
+    /**
+     * Returns the limits of the run that were exceeded.
+     *
+     * @return a description of every exceeded limit; empty when the run passed
+     */
+    List<String> violations() {
+        final List<String> violations = new ArrayList<>();
+        for (final LatencyRecorder recorder : recorders.values()) {
+            final Histogram histogram = recorder.getHistogram();
+            final String key = recorder.getScenario().key();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            final double failureRate = (double) recorder.getFailures() / histogram.getTotalCount();
+            if (failureRate > settings.maxFailureRate()) {
+                violations.add(String.format(Locale.ROOT, "%s failed %.2f%% of the requests", key, failureRate * 100));
+            }
+            final long p99 = histogram.getValueAtPercentile(99.0);
+            if (!settings.maxP99().isZero() && p99 > settings.maxP99().toNanos()) {
+                violations.add(String.format(Locale.ROOT, "%s has a p99 latency of %.1f ms", key, p99 / NANOS_PER_MILLI));
+            }
+        }
+        return violations;
+    }
+
+    private String summary() {
+        final StringBuilder summary = new StringBuilder(512);
+        summary.append(String.format(
+            Locale.ROOT,
+            "Load test at %.1f requests per second for %d s%n%n%-20s %9s %9s %9s %9s %9s %9s %9s %9s%n",
+            settings.rate(),
+            settings.duration().toSeconds(),
+            "scenario", "requests", "failed", "rps", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"
+        ));
+        for (final LatencyRecorder recorder : recorders.values()) {
+            final Histogram histogram = recorder.getHistogram();
+            summary.append(String.format(
+                Locale.ROOT,
+                "%-20s %9d %9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                recorder.getScenario().key(),
+                histogram.getTotalCount(),
+                recorder.getFailures(),
+                (double) histogram.getTotalCount() / settings.duration().toSeconds(),
+                millis(histogram, 50.0),
+                millis(histogram, 90.0),
+                millis(histogram, 99.0),
+                millis(histogram, 99.9),
+                histogram.getMaxValue() / NANOS_PER_MILLI
+            ));
+        }
+        return summary.toString();
+    }
+
+    private static double millis(final Histogram histogram, final double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+}
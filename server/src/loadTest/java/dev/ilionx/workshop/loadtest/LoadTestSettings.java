@@ -0,0 +1,78 @@
+package dev.ilionx.workshop.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The settings of a load test run, read from the {@code loadtest.*} system properties.
+ *
+ * @param rate           the number of requests started per second, regardless of how fast the responses come back
+ * @param warmup         how long traffic runs before the latencies are recorded
+ * @param duration       how long the latencies are recorded
+ * @param owners         the number of owners the data generator creates before the run
+ * @param seed           the seed of the data generator and of the request choices
+ * @param mix            the relative weight of every scenario
+ * @param maxFailureRate the share of failed requests above which the run fails
+ * @param maxP99         the 99th percentile latency of a scenario above which the run fails, or zero for no limit
+ * @param reportDir      the directory the reports are written to
+ */
+record LoadTestSettings(
+    double rate,
+    Duration warmup,
+    Duration duration,
+    int owners,
+    long seed,
+    Map<Scenario, Integer> mix,
+    double maxFailureRate,
+    Duration maxP99,
+    Path reportDir
+) {
+
+    /**
+     * Read the settings from the system properties, falling back to the defaults.
+     *
+     * <p>The mix is given as comma separated weights, e.g. {@code owner-search=30,owner-detail=30,vet-calendar=40};
+     * scenarios that are left out do not run.
+     *
+     * @return the settings
+     */
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+            Double.parseDouble(System.getProperty("loadtest.rate", "100")),
+            Duration.ofSeconds(Long.parseLong(System.getProperty("loadtest.warmup", "15"))),
+            Duration.ofSeconds(Long.parseLong(System.getProperty("loadtest.duration", "60"))),
+            Integer.parseInt(System.getProperty("loadtest.owners", "5000")),
+            Long.parseLong(System.getProperty("loadtest.seed", "42")),
+            mix(System.getProperty("loadtest.mix")),
+            Double.parseDouble(System.getProperty("loadtest.max-failure-rate", "0.01")),
+            Duration.ofMillis(Long.parseLong(System.getProperty("loadtest.max-p99-millis", "0"))),
+            Path.of(System.getProperty("loadtest.report-dir", "build/reports/load-test"))
+        );
+    }
+
+    private static Map<Scenario, Integer> mix(final String value) {
+        final Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        if (value == null || value.isBlank()) {
+            for (final Scenario scenario : Scenario.values()) {
+                mix.put(scenario, scenario.defaultWeight());
+            }
+            return mix;
+        }
+        for (final String entry : value.split(",")) {
+            final String[] parts = entry.trim().split("=");
+            mix.put(scenario(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+
+    private static Scenario scenario(final String key) {
+        for (final Scenario scenario : Scenario.values()) {
+            if (scenario.key().equals(key)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown load test scenario '" + key + "'");
+    }
+}
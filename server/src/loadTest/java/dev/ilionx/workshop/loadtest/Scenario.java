@@ -0,0 +1,127 @@
+package dev.ilionx.workshop.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+import static dev.ilionx.workshop.api.Paths.APPOINTMENTS;
+import static dev.ilionx.workshop.api.Paths.OWNERS;
+import static dev.ilionx.workshop.api.Paths.OWNER_BY_ID;
+import static dev.ilionx.workshop.api.Paths.PET_VISITS;
+
+/**
+ * The requests that make up the front desk traffic of a clinic.
+ */
+enum Scenario {
+
+    /**
+     * Look up owners by last name.
+     */
+    OWNER_SEARCH("owner-search", 30) {
+        @Override
+        HttpRequest.Builder requestBuilder(final ClinicData data, final SplittableRandom random, final String baseUrl) {
+            final String lastName = data.lastNames().get(random.nextInt(data.lastNames().size()));
+            return HttpRequest.newBuilder(URI.create(baseUrl + OWNERS + "?lastName=" + URLEncoder.encode(lastName, StandardCharsets.UTF_8)))
+                .GET();
+        }
+    },
+
+    /**
+     * Open the details of an owner with their pets.
+     */
+    OWNER_DETAIL("owner-detail", 30) {
+        @Override
+        HttpRequest.Builder requestBuilder(final ClinicData data, final SplittableRandom random, final String baseUrl) {
+            final int ownerId = data.ownerIds()[random.nextInt(data.ownerIds().length)];
+            return HttpRequest.newBuilder(URI.create(baseUrl + OWNER_BY_ID.replace("{id}", String.valueOf(ownerId)))).GET();
+        }
+    },
+
+    /**
+     * Record a visit of a pet.
+     */
+    VISIT_CREATE("visit-create", 10) {
+        @Override
+        HttpRequest.Builder requestBuilder(final ClinicData data, final SplittableRandom random, final String baseUrl) {
+            final int pet = random.nextInt(data.petIds().length);
+            final String path = PET_VISITS
+                .replace("{ownerId}", String.valueOf(data.petOwnerIds()[pet]))
+                .replace("{petId}", String.valueOf(data.petIds()[pet]));
+            final String body = """
+                {"date": "%s", "description": "Load test visit"}
+                """.formatted(LocalDate.now());
+            return json(HttpRequest.newBuilder(URI.create(baseUrl + path)).POST(BodyPublishers.ofString(body)));
+        }
+    },
+
+    /**
+     * Book an appointment for a pet with a vet.
+     */
+    APPOINTMENT_BOOKING("appointment-booking", 10) {
+        @Override
+        HttpRequest.Builder requestBuilder(final ClinicData data, final SplittableRandom random, final String baseUrl) {
+            final LocalDateTime scheduledAt = LocalDate.now().plusDays(1 + random.nextInt(30)).atTime(9 + random.nextInt(8), 0);
+            final String body = """
+                {"petId": %d, "vetId": %d, "scheduledDateTime": "%s", "reason": "Load test appointment"}
+                """.formatted(
+                data.petIds()[random.nextInt(data.petIds().length)],
+                data.vetIds()[random.nextInt(data.vetIds().length)],
+                scheduledAt
+            );
+            return json(HttpRequest.newBuilder(URI.create(baseUrl + APPOINTMENTS)).POST(BodyPublishers.ofString(body)));
+        }
+    },
+
+    /**
+     * Open the calendar of a vet.
+     */
+    VET_CALENDAR("vet-calendar", 20) {
+        @Override
+        HttpRequest.Builder requestBuilder(final ClinicData data, final SplittableRandom random, final String baseUrl) {
+            final int vetId = data.vetIds()[random.nextInt(data.vetIds().length)];
+            return HttpRequest.newBuilder(URI.create(baseUrl + APPOINTMENTS + "?vetId=" + vetId)).GET();
+        }
+    };
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final String key;
+    private final int defaultWeight;
+
+    Scenario(final String key, final int defaultWeight) {
+        this.key = key;
+        this.defaultWeight = defaultWeight;
+    }
+
+    /**
+     * Create a request of this scenario.
+     *
+     * @param data    the records to pick from
+     * @param random  the random generator of the load generator
+     * @param baseUrl the URL the application is served on
+     * @return the request
+     */
+    HttpRequest request(final ClinicData data, final SplittableRandom random, final String baseUrl) {
+        return requestBuilder(data, random, baseUrl).timeout(TIMEOUT).build();
+    }
+
+    abstract HttpRequest.Builder requestBuilder(ClinicData data, SplittableRandom random, String baseUrl);
+
+    String key() {
+        return key;
+    }
+
+    int defaultWeight() {
+        return defaultWeight;
+    }
+
+    private static HttpRequest.Builder json(final HttpRequest.Builder builder) {
+        return builder.header("Content-Type", "application/json");
+    }
+}
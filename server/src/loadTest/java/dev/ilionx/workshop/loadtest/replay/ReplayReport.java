@@ -0,0 +1,114 @@
+package dev.ilionx.workshop.loadtest.replay;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Compares the captured and the replayed status codes and latencies per route, and checks them against the limits of
+ * the replay.
+ */
+final class ReplayReport {
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final ReplaySettings settings;
+    private final List<RouteStatistics> routes;
+
+    ReplayReport(final ReplaySettings settings, final Map<String, RouteStatistics> routes) {
+        this.settings = settings;
+        this.routes = routes.values().stream()
+            .sorted(Comparator.comparing(RouteStatistics::getRoute))
+            .toList();
+    }
+
+    /**
+     * Write the report to {@code summary.txt}.
+     *
+     * @return the summary
+     * @throws IOException if the report cannot be written
+     */
+    String write() throws IOException {
+        Files.createDirectories(settings.reportDir());
+        final String summary = summary();
+        Files.writeString(settings.reportDir().resolve("summary.txt"), summary);
+        return summary;
+    }
+
+    /**
+     * Returns the limits of the replay that were exceeded.
+     *
+     * @return a description of every exceeded limit; empty when the replay passed
+     */
+    List<String> violations() {
+        final List<String> violations = new ArrayList<>();
+        final long requests = routes.stream().mapToLong(RouteStatistics::getRequests).sum();
+        final long mismatches = routes.stream().mapToLong(RouteStatistics::getMismatches).sum();
+        final double mismatchRate = requests == 0 ? 0 : (double) mismatches / requests;
+        if (mismatchRate > settings.maxMismatchRate()) {
+            violations.add(String.format(Locale.ROOT, "%.2f%% of the requests returned a different status", mismatchRate * 100));
+        }
+        if (settings.maxP99Ratio() > 0) {
+            for (final RouteStatistics route : routes) {
+                final double ratio = p99Ratio(route);
+                if (ratio > settings.maxP99Ratio()) {
+                    violations.add(String.format(Locale.ROOT, "%s has a replayed p99 latency %.1f times the captured one",
+                        route.getRoute(), ratio));
+                }
+            }
+        }
+        return violations;
+    }
+
+    private String summary() {
+        final StringBuilder summary = new StringBuilder(512);
+        summary.append(String.format(
+            Locale.ROOT,
+            "Replay of %s against %s at %.1fx speed%n%n%-50s %9s %9s %9s %13s %13s %13s %13s %13s%n",
+            settings.captures(),
+            settings.target(),
+            settings.speed(),
+            "route", "requests", "mismatch", "failed", "p50 ms capt.", "p50 ms repl.", "p99 ms capt.", "p99 ms repl.", "p99 ms lag"
+        ));
+        for (final RouteStatistics route : routes) {
+            summary.append(String.format(
+                Locale.ROOT,
+                "%-50s %9d %9d %9d %13.2f %13.2f %13.2f %13.2f %13.2f%n",
+                route.getRoute(),
+                route.getRequests(),
+                route.getMismatches(),
+                route.getFailures(),
+                millis(route.getCaptured(), 50.0),
+                millis(route.getReplayed(), 50.0),
+                millis(route.getCaptured(), 99.0),
+                millis(route.getReplayed(), 99.0),
+                millis(route.getLag(), 99.0)
+            ));
+        }
+
+        summary.append(System.lineSeparator()).append("Status changes (captured -> replayed)").append(System.lineSeparator());
+        for (final RouteStatistics route : routes) {
+            route.getStatusChanges().forEach((change, count) -> summary.append(String.format(
+                Locale.ROOT, "%-50s %-12s %9d%n", route.getRoute(), change, count.sum())));
+        }
+        return summary.toString();
+    }
+
+    private static double p99Ratio(final RouteStatistics route) {
+        if (route.getCaptured().getTotalCount() == 0) {
+            return 0;
+        }
+        return (double) route.getReplayed().getValueAtPercentile(99.0) / route.getCaptured().getValueAtPercentile(99.0);
+    }
+
+    private static double millis(final Histogram histogram, final double percentile) {
+        return histogram.getTotalCount() == 0 ? 0 : histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,52 @@
+package dev.ilionx.workshop.loadtest.replay;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * The settings of a replay, read from the {@code replay.*} system properties.
+ *
+ * @param captures        the capture file, or the directory whose capture files are replayed in name order
+ * @param target          the base URL of the instance the requests are replayed against, including the context path
+ * @param speed           how much faster than captured the requests are sent; {@code 1} keeps the captured timing
+ * @param reorderWindow   how long a request may take at most to be sent in the order it arrived; requests are
+ *                        captured once they complete, so slower requests appear later in the capture files
+ * @param authorization   the {@code Authorization} header sent with every request, or {@code null} for none
+ * @param maxMismatchRate the share of requests with a different status above which the replay fails
+ * @param maxP99Ratio     the ratio of the replayed to the captured 99th percentile latency of a route above which the
+ *                        replay fails, or zero for no limit
+ * @param reportDir       the directory the report is written to
+ */
+record ReplaySettings(
+    Path captures,
+    String target,
+    double speed,
+    Duration reorderWindow,
+    String authorization,
+    double maxMismatchRate,
+    double maxP99Ratio,
+    Path reportDir
+) {
+
+    /**
+     * Read the settings from the system properties, falling back to the defaults.
+     *
+     * @return the settings
+     */
+    static ReplaySettings fromSystemProperties() {
+        final double speed = Double.parseDouble(System.getProperty("replay.speed", "1"));
+        if (speed <= 0) {
+            throw new IllegalArgumentException("The replay speed must be positive");
+        }
+        return new ReplaySettings(
+            Path.of(System.getProperty("replay.captures", "captures")),
+            System.getProperty("replay.target", "http://localhost:8080/api"),
+            speed,
+            Duration.ofSeconds(Long.parseLong(System.getProperty("replay.reorder-window", "30"))),
+            System.getProperty("replay.authorization"),
+            Double.parseDouble(System.getProperty("replay.max-mismatch-rate", "1")),
+            Double.parseDouble(System.getProperty("replay.max-p99-ratio", "0")),
+            Path.of(System.getProperty("replay.report-dir", "build/reports/replay"))
+        );
+    }
+}
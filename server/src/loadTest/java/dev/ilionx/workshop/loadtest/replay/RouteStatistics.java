@@ -0,0 +1,95 @@
+package dev.ilionx.workshop.loadtest.replay;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Compares the captured and the replayed outcome of the requests to one route.
+ *
+ * <p>The captured latency was measured by the server, from the start to the end of the filter chain; the replayed
+ * latency is measured by the client from the moment the request was sent, so it also includes the network and any
+ * queueing in front of the server. The lag is how much later than due a request was sent, caused by the replay itself.
+ */
+final class RouteStatistics {
+
+    private final String route;
+    private final Histogram captured = new ConcurrentHistogram(3);
+    private final Histogram replayed = new ConcurrentHistogram(3);
+    private final Histogram lag = new ConcurrentHistogram(3);
+    private final LongAdder mismatches = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final Map<String, LongAdder> statusChanges = new ConcurrentSkipListMap<>();
+
+    RouteStatistics(final String route) {
+        this.route = route;
+    }
+
+    /**
+     * Record a replayed request.
+     *
+     * @param capturedNanos  the captured latency
+     * @param replayedNanos  the replayed latency
+     * @param lagNanos       how much later than due the request was sent
+     * @param capturedStatus the captured status
+     * @param replayedStatus the replayed status
+     */
+    void record(
+        final long capturedNanos,
+        final long replayedNanos,
+        final long lagNanos,
+        final int capturedStatus,
+        final int replayedStatus
+    ) {
+        captured.recordValue(Math.max(1, capturedNanos));
+        replayed.recordValue(Math.max(1, replayedNanos));
+        lag.recordValue(Math.max(1, lagNanos));
+        if (capturedStatus != replayedStatus) {
+            mismatches.increment();
+            statusChanges.computeIfAbsent(capturedStatus + " -> " + replayedStatus, ignored -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Record a request that could not be sent or received no response.
+     */
+    void recordFailure() {
+        failures.increment();
+        mismatches.increment();
+    }
+
+    String getRoute() {
+        return route;
+    }
+
+    Histogram getCaptured() {
+        return captured;
+    }
+
+    Histogram getReplayed() {
+        return replayed;
+    }
+
+    Histogram getLag() {
+        return lag;
+    }
+
+    long getRequests() {
+        return replayed.getTotalCount() + failures.sum();
+    }
+
+    long getMismatches() {
+        return mismatches.sum();
+    }
+
+    long getFailures() {
+        return failures.sum();
+    }
+
+    Map<String, LongAdder> getStatusChanges() {
+        return statusChanges;
+    }
+}
@@ -0,0 +1,42 @@
+package dev.ilionx.workshop.loadtest.replay;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replays captured traffic against a running instance and compares the outcome with the capture, run with
+ * {@code ./gradlew replayTraffic}.
+ *
+ * <p>Traffic is captured by an instance with {@code traffic-capture.enabled=true}. The replay fails when more requests
+ * return a different status than allowed, or when the 99th percentile latency of a route grows beyond the allowed
+ * ratio. Data-dependent requests only return the captured status when the target holds the same data as the captured
+ * instance, e.g. when both were filled by the data generator with the same seed.
+ */
+@Slf4j
+public final class TrafficReplay {
+
+    private TrafficReplay() {
+        // Main class
+    }
+
+    /**
+     * Run the replay.
+     *
+     * @param args the command line arguments, not used
+     * @throws Exception if the captures cannot be read or the report cannot be written
+     */
+    public static void main(final String[] args) throws Exception {
+        final ReplaySettings settings = ReplaySettings.fromSystemProperties();
+        final Map<String, RouteStatistics> routes = new TrafficReplayer(settings).run();
+
+        final ReplayReport report = new ReplayReport(settings, routes);
+        log.info("Replay results, written to '{}':{}{}", settings.reportDir(), System.lineSeparator(), report.write());
+        final List<String> violations = report.violations();
+        if (!violations.isEmpty()) {
+            log.error("The replay exceeded its limits: {}", violations);
+            System.exit(1);
+        }
+    }
+}
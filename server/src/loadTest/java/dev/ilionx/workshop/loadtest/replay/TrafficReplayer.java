@@ -0,0 +1,168 @@
+package dev.ilionx.workshop.loadtest.replay;
+
+import dev.ilionx.workshop.common.capture.CapturedRequest;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Sends captured requests to a target instance with their captured timing, each on its own virtual thread.
+ *
+ * <p>Every request is sent at its captured offset from the first request, divided by the speed, whether or not the
+ * earlier ones have completed. Its latency is measured from the moment it is actually sent, and how much later than due
+ * that was is recorded separately as the scheduling lag, so a replay that falls behind is told apart from a slow target.
+ *
+ * <p>Requests are captured once they complete, so a slow request appears after the faster ones that arrived later. The
+ * replay holds the requests of the reorder window in a buffer and sends them in the order they arrived; a request that
+ * took longer than the window is sent late. Capture files are read line by line, so a replay of many files only holds
+ * the reorder window in memory.
+ */
+@Slf4j
+final class TrafficReplayer {
+
+    private static final String CAPTURE_FILE_SUFFIX = ".ndjson";
+    private static final String UNMATCHED_ROUTE = "unmatched";
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final ReplaySettings settings;
+    private final Map<String, RouteStatistics> routes = new ConcurrentHashMap<>();
+    private long start;
+    private long firstTimestamp = -1;
+
+    TrafficReplayer(final ReplaySettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Replay the captured requests and wait for the requests in flight.
+     *
+     * @return the statistics per route
+     * @throws IOException if the capture files cannot be read
+     */
+    Map<String, RouteStatistics> run() throws IOException {
+        final List<Path> files = captureFiles();
+        log.info("Replaying '{}' capture files against '{}' at '{}'x speed", files.size(), settings.target(), settings.speed());
+
+        // The executor is closed first, which waits for the requests in flight, and the client after it.
+        try (HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+            ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            start = System.nanoTime();
+            final long reorderWindowMillis = settings.reorderWindow().toMillis();
+            final PriorityQueue<CapturedRequest> reorderBuffer = new PriorityQueue<>(Comparator.comparingLong(CapturedRequest::timestamp));
+            long latestEnd = Long.MIN_VALUE;
+            for (final Path file : files) {
+                try (Stream<String> lines = Files.lines(file)) {
+                    final Iterator<String> iterator = lines.iterator();
+                    while (iterator.hasNext()) {
+                        final String line = iterator.next();
+                        if (line.isBlank()) {
+                            continue;
+                        }
+                        final CapturedRequest captured = objectMapper.readValue(line, CapturedRequest.class);
+                        reorderBuffer.add(captured);
+                        latestEnd = Math.max(latestEnd, captured.timestamp() + TimeUnit.MICROSECONDS.toMillis(captured.durationMicros()));
+                        // Requests still to be read completed later, so they arrived after the end of the window.
+                        while (reorderBuffer.peek().timestamp() + reorderWindowMillis <= latestEnd) {
+                            dispatch(client, executor, reorderBuffer.poll());
+                        }
+                    }
+                }
+            }
+            while (!reorderBuffer.isEmpty()) {
+                dispatch(client, executor, reorderBuffer.poll());
+            }
+        }
+        return routes;
+    }
+
+    private void dispatch(final HttpClient client, final ExecutorService executor, final CapturedRequest captured) {
+        if (firstTimestamp < 0) {
+            firstTimestamp = captured.timestamp();
+        }
+        final long offsetNanos = TimeUnit.MILLISECONDS.toNanos(captured.timestamp() - firstTimestamp);
+        final long due = start + (long) (offsetNanos / settings.speed());
+        final HttpRequest request = request(captured);
+        awaitNanoTime(due);
+        executor.execute(() -> send(client, request, captured, due));
+    }
+
+    private List<Path> captureFiles() throws IOException {
+        if (!Files.isDirectory(settings.captures())) {
+            return List.of(settings.captures());
+        }
+        try (Stream<Path> files = Files.list(settings.captures())) {
+            return files
+                .filter(file -> file.getFileName().toString().endsWith(CAPTURE_FILE_SUFFIX))
+                .sorted()
+                .toList();
+        }
+    }
+
+    private HttpRequest request(final CapturedRequest captured) {
+        final String query = captured.query() == null ? "" : "?" + captured.query();
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(settings.target() + captured.path() + query))
+            .timeout(Duration.ofSeconds(30))
+            .method(
+                captured.method(),
+                captured.body() == null ? BodyPublishers.noBody() : BodyPublishers.ofString(captured.body())
+            );
+        captured.headers().forEach(builder::header);
+        if (settings.authorization() != null) {
+            builder.header("Authorization", settings.authorization());
+        }
+        return builder.build();
+    }
+
+    private void send(final HttpClient client, final HttpRequest request, final CapturedRequest captured, final long due) {
+        final String route = captured.method() + " " + (captured.route() == null ? UNMATCHED_ROUTE : captured.route());
+        final RouteStatistics statistics = routes.computeIfAbsent(route, RouteStatistics::new);
+        final long sent = System.nanoTime();
+        try {
+            final int status = client.send(request, BodyHandlers.discarding()).statusCode();
+            statistics.record(
+                TimeUnit.MICROSECONDS.toNanos(captured.durationMicros()),
+                System.nanoTime() - sent,
+                sent - due,
+                captured.status(),
+                status
+            );
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            statistics.recordFailure();
+        } catch (final IOException exception) {
+            statistics.recordFailure();
+        }
+    }
+
+    private static void awaitNanoTime(final long due) {
+        long remaining = due - System.nanoTime();
+        while (remaining > 0) {
+            LockSupport.parkNanos(remaining);
+            remaining = due - System.nanoTime();
+        }
+    }
+}
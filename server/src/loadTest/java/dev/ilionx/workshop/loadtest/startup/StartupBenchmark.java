@@ -0,0 +1,184 @@
+package dev.ilionx.workshop.loadtest.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the extracted application repeatedly in the default and in the fast-startup mode and reports the startup
+ * time and the time to first request of both, run with {@code ./gradlew measureStartup}.
+ *
+ * <p>The time to first request is measured from launching the JVM until the health endpoint first answers, and the
+ * startup time is the {@code application.ready.time} the application reports. Every mode keeps its own file database
+ * and starts once unmeasured to migrate it, so the measured starts find a migrated database, like a restart in
+ * production does.
+ */
+@Slf4j
+public final class StartupBenchmark {
+
+    private static final String HEALTH_PATH = "/api/v1/public/actuator/health";
+    private static final String READY_TIME_PATH = "/api/v1/public/actuator/metrics/application.ready.time";
+    private static final long POLL_INTERVAL_MILLIS = 10;
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+
+    private StartupBenchmark() {
+        // Main class
+    }
+
+    /**
+     * Run the measurement.
+     *
+     * @param args the command line arguments, not used
+     * @throws Exception if the application fails to start or the report cannot be written
+     */
+    public static void main(final String[] args) throws Exception {
+        final StartupSettings settings = StartupSettings.fromSystemProperties();
+        final Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("default", List.of("-Dspring.profiles.active=default"));
+        modes.put("fast-startup", List.of(
+            "-XX:AOTCache=" + settings.aotCache(),
+            "-Dspring.aot.enabled=true",
+            "-Dspring.profiles.active=fast-startup"
+        ));
+
+        final Map<String, List<StartupSample>> samples = new LinkedHashMap<>();
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build()) {
+            for (final Map.Entry<String, List<String>> mode : modes.entrySet()) {
+                log.info("Measuring '{}' starts in the '{}' mode", settings.runs(), mode.getKey());
+                start(client, settings, mode.getKey(), mode.getValue());
+                final List<StartupSample> modeSamples = new ArrayList<>();
+                for (int run = 0; run < settings.runs(); run++) {
+                    modeSamples.add(start(client, settings, mode.getKey(), mode.getValue()));
+                }
+                samples.put(mode.getKey(), modeSamples);
+            }
+        }
+
+        final String summary = summary(settings, samples);
+        Files.createDirectories(settings.reportDir());
+        Files.writeString(settings.reportDir().resolve("summary.txt"), summary);
+        log.info("Startup results, written to '{}':{}{}", settings.reportDir(), System.lineSeparator(), summary);
+    }
+
+    private static StartupSample start(final HttpClient client,
+        final StartupSettings settings,
+        final String mode,
+        final List<String> jvmArgs) throws IOException, InterruptedException {
+        final int port = freePort();
+        final List<String> command = new ArrayList<>();
+        command.add(settings.java());
+        command.addAll(jvmArgs);
+        command.add("-jar");
+        command.add("app.jar");
+        command.add("--server.port=" + port);
+        command.add("--spring.datasource.url=jdbc:h2:file:" + settings.reportDir().resolve("db").resolve(mode) + ";DB_CLOSE_ON_EXIT=FALSE");
+        command.add("--jframe.logging.disabled=true");
+
+        final long launchedAt = System.nanoTime();
+        final Process process = new ProcessBuilder(command)
+            .directory(settings.appDir().toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        try {
+            final String baseUrl = "http://localhost:" + port;
+            awaitHealthy(client, baseUrl, process, launchedAt + settings.timeout().toNanos());
+            final long firstRequestNanos = System.nanoTime() - launchedAt;
+            return new StartupSample(
+                TimeUnit.NANOSECONDS.toMillis(firstRequestNanos),
+                readyTimeMillis(client, baseUrl)
+            );
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static void awaitHealthy(final HttpClient client,
+        final String baseUrl,
+        final Process process,
+        final long deadline) throws InterruptedException {
+        final HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + HEALTH_PATH)).build();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("The application exited with code " + process.exitValue() + " while starting");
+            }
+            try {
+                if (client.send(request, BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (final IOException exception) {
+                // Not listening yet.
+            }
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+        throw new IllegalStateException("The application did not become healthy in time");
+    }
+
+    private static long readyTimeMillis(final HttpClient client, final String baseUrl) throws IOException, InterruptedException {
+        final HttpResponse<String> response = client.send(
+            HttpRequest.newBuilder(URI.create(baseUrl + READY_TIME_PATH)).build(),
+            BodyHandlers.ofString()
+        );
+        final JsonNode value = OBJECT_MAPPER.readTree(response.body()).path("measurements").path(0).path("value");
+        return value.isNumber() ? Math.round(value.asDouble() * 1000) : -1;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String summary(final StartupSettings settings, final Map<String, List<StartupSample>> samples) {
+        final StringBuilder summary = new StringBuilder(512);
+        summary.append(String.format(
+            Locale.ROOT,
+            "Startup of %s, %d runs per mode%n%n%-15s %12s %12s %12s %12s %12s %12s%n",
+            settings.appDir(),
+            settings.runs(),
+            "mode", "ready p50", "ready min", "ready max", "first p50", "first min", "first max"
+        ));
+        samples.forEach((mode, modeSamples) -> {
+            final long[] ready = modeSamples.stream().mapToLong(StartupSample::readyMillis).sorted().toArray();
+            final long[] first = modeSamples.stream().mapToLong(StartupSample::firstRequestMillis).sorted().toArray();
+            summary.append(String.format(
+                Locale.ROOT,
+                "%-15s %9d ms %9d ms %9d ms %9d ms %9d ms %9d ms%n",
+                mode,
+                ready[ready.length / 2], ready[0], ready[ready.length - 1],
+                first[first.length / 2], first[0], first[first.length - 1]
+            ));
+        });
+        return summary.toString();
+    }
+
+    /**
+     * A measured start.
+     *
+     * @param firstRequestMillis the time from launching the JVM until the first request was answered
+     * @param readyMillis        the time until the application was ready, as reported by the application
+     */
+    private record StartupSample(long firstRequestMillis, long readyMillis) {
+    }
+}
@@ -0,0 +1,40 @@
+package dev.ilionx.workshop.loadtest.startup;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * The settings of a startup measurement, read from the {@code startup.*} system properties.
+ *
+ * @param java      the Java executable the application is started with
+ * @param appDir    the directory holding the extracted application
+ * @param aotCache  the JDK AOT cache trained for the fast-startup profile
+ * @param runs      the number of measured starts per mode
+ * @param timeout   how long a start may take before the measurement fails
+ * @param reportDir the directory the report and the databases are written to
+ */
+record StartupSettings(
+    String java,
+    Path appDir,
+    Path aotCache,
+    int runs,
+    Duration timeout,
+    Path reportDir
+) {
+
+    /**
+     * Read the settings from the system properties, falling back to the defaults.
+     *
+     * @return the settings
+     */
+    static StartupSettings fromSystemProperties() {
+        return new StartupSettings(
+            System.getProperty("startup.java", "java"),
+            Path.of(System.getProperty("startup.app-dir", "build/aot/app")).toAbsolutePath(),
+            Path.of(System.getProperty("startup.aot-cache", "build/aot/app.aot")).toAbsolutePath(),
+            Integer.parseInt(System.getProperty("startup.runs", "5")),
+            Duration.ofSeconds(Long.parseLong(System.getProperty("startup.timeout", "120"))),
+            Path.of(System.getProperty("startup.report-dir", "build/reports/startup")).toAbsolutePath()
+        );
+    }
+}
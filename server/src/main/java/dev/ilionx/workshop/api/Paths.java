@@ -34,6 +34,8 @@ public final class Paths {
 
     public static final String PUBLIC_HEALTH_PATH = PUBLIC_ACTUATOR_PATH + "/health";
 
+    public static final String PUBLIC_FLIGHT_RECORDER_PATH = PUBLIC_ACTUATOR_PATH + "/flightrecorder";
+
     /* ------------------------------- APPLICATION ENDPOINTS ------------------------------- */
 
     // Owner
@@ -72,10 +74,20 @@ public final class Paths {
     public static final String PET_VACCINATIONS = OWNER_PET_BY_ID + "/vaccinations";
     public static final String PET_VACCINATION_BY_ID = PET_VACCINATIONS + "/{vaccinationId}";
 
+    // Vaccination (global)
+    public static final String VACCINATIONS = BASE_PATH + "/vaccinations";
+    public static final String VACCINATIONS_DUE = VACCINATIONS + "/due";
+
     // Appointment
     public static final String APPOINTMENTS = BASE_PATH + "/appointments";
     public static final String APPOINTMENT_BY_ID = APPOINTMENTS + "/{appointmentId}";
 
+    // Change events (server-sent events)
+    public static final String EVENTS = BASE_PATH + "/events";
+
+    // Delta sync
+    public static final String CHANGES = BASE_PATH + "/changes";
+
     /* ------------------------------- END ------------------------------- */
 
     private Paths() {
@@ -6,6 +6,7 @@ import dev.ilionx.workshop.api.appointment.model.request.CreateAppointmentReques
 import dev.ilionx.workshop.api.appointment.model.request.UpdateAppointmentRequest;
 import dev.ilionx.workshop.api.appointment.model.response.AppointmentResponse;
 import dev.ilionx.workshop.api.appointment.service.AppointmentService;
+import dev.ilionx.workshop.common.persistence.sql.QueryBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -40,14 +41,15 @@ public class AppointmentController {
     @ResponseStatus(OK)
     @Operation(
         summary = "Get all appointments",
-        description = "Returns all appointments in the system"
+        description = "Returns all appointments in the system, optionally filtered by vet"
     )
     @GetMapping(
         path = APPOINTMENTS,
         produces = APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<List<AppointmentResponse>> getAllAppointments() {
-        final List<Appointment> appointments = appointmentService.findAll();
+    @QueryBudget(maxStatements = 12)
+    public ResponseEntity<List<AppointmentResponse>> getAllAppointments(@RequestParam(required = false) final Integer vetId) {
+        final List<Appointment> appointments = vetId == null ? appointmentService.findAll() : appointmentService.findByVetId(vetId);
         return ResponseEntity.status(OK).body(appointmentMapper.toResponseList(appointments));
     }
 
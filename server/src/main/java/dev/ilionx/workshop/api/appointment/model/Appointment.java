@@ -2,6 +2,7 @@ package dev.ilionx.workshop.api.appointment.model;
 
 import dev.ilionx.workshop.api.pet.model.Pet;
 import dev.ilionx.workshop.api.vet.model.Vet;
+import dev.ilionx.workshop.common.persistence.Auditable;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -29,7 +30,7 @@ import jakarta.validation.constraints.NotNull;
 @Getter
 @Setter
 @NoArgsConstructor
-public class Appointment {
+public class Appointment extends Auditable {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -58,6 +59,16 @@ public class Appointment {
     )
     private AppointmentStatus status = AppointmentStatus.SCHEDULED;
 
+    /**
+     * The scheduled date and time the reminder was sent for; only written by the reminder scheduler.
+     */
+    @Column(
+        name = "reminder_sent_for",
+        insertable = false,
+        updatable = false
+    )
+    private LocalDateTime reminderSentFor;
+
     @ManyToOne
     @JoinColumn(
         name = "pet_id",
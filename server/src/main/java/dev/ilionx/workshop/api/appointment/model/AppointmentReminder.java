@@ -0,0 +1,23 @@
+package dev.ilionx.workshop.api.appointment.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of an appointment that needs a reminder, flattened with the details the reminder mentions.
+ *
+ * @param appointmentId     the appointment ID
+ * @param scheduledDateTime the scheduled date and time of the appointment
+ * @param petName           the pet name
+ * @param ownerName         the owner's full name
+ * @param telephone         the owner's telephone number
+ * @param vetName           the vet's full name
+ */
+public record AppointmentReminder(
+    Integer appointmentId,
+    LocalDateTime scheduledDateTime,
+    String petName,
+    String ownerName,
+    String telephone,
+    String vetName
+) {
+}
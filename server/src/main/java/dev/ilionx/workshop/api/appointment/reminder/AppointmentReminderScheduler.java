@@ -0,0 +1,198 @@
+package dev.ilionx.workshop.api.appointment.reminder;
+
+import dev.ilionx.workshop.api.appointment.model.AppointmentReminder;
+import dev.ilionx.workshop.api.appointment.model.AppointmentStatus;
+import dev.ilionx.workshop.api.appointment.repository.AppointmentRepository;
+import dev.ilionx.workshop.common.config.properties.ReminderProperties;
+import dev.ilionx.workshop.common.event.ChangeType;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+import dev.ilionx.workshop.common.event.EntityType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Schedules a reminder for every upcoming appointment and hands it to the {@link ReminderSink} once it is due.
+ *
+ * <p>Pending reminders live in a {@link HierarchicalTimingWheel}, so scheduling, rescheduling and cancelling are O(1)
+ * regardless of how many appointments are booked. The wheel is filled from the database once the application is ready
+ * and kept in sync with committed appointment changes; an appointment is only rescheduled when its date and time
+ * change. An upcoming appointment whose reminder moment has already passed, because it was booked inside the lead time
+ * or the application was down, gets its reminder right away.
+ *
+ * <p>Right before a reminder is delivered it is claimed in the database, which records the date and time it is sent
+ * for. Only the first claim succeeds, so a reminder is sent once even though every node schedules it and a restart
+ * loads it again. A claim also fails when the appointment was deleted along with its pet, owner or vet, or was changed
+ * on another node, so the timeouts left behind by changes this node never saw fire without effect.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+    prefix = "reminders",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class AppointmentReminderScheduler {
+
+    private static final Set<AppointmentStatus> ACTIVE_STATUSES =
+        EnumSet.of(AppointmentStatus.SCHEDULED, AppointmentStatus.CONFIRMED);
+
+    private final AppointmentRepository appointmentRepository;
+    private final ReminderSink reminderSink;
+    private final ReminderProperties reminderProperties;
+    private final HierarchicalTimingWheel<AppointmentReminder> wheel;
+    private final Map<Integer, HierarchicalTimingWheel.Timeout<AppointmentReminder>> pending = new ConcurrentHashMap<>();
+    private final ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Constructor.
+     *
+     * @param appointmentRepository the appointment repository
+     * @param reminderSink          the sink reminders are delivered to
+     * @param reminderProperties    the reminder properties
+     */
+    public AppointmentReminderScheduler(
+        final AppointmentRepository appointmentRepository,
+        final ReminderSink reminderSink,
+        final ReminderProperties reminderProperties
+    ) {
+        this.appointmentRepository = appointmentRepository;
+        this.reminderSink = reminderSink;
+        this.reminderProperties = reminderProperties;
+        this.wheel = new HierarchicalTimingWheel<>(
+            reminderProperties.getTickDuration().toMillis(),
+            reminderProperties.getWheelSize(),
+            System.currentTimeMillis()
+        );
+    }
+
+    /**
+     * Load the reminders of all upcoming appointments, scheduling those whose reminder moment has passed right away.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadUpcomingReminders() {
+        final long now = System.currentTimeMillis();
+        final List<AppointmentReminder> reminders =
+            appointmentRepository.findUpcomingReminders(ACTIVE_STATUSES, LocalDateTime.now());
+
+        for (final AppointmentReminder reminder : reminders) {
+            schedule(reminder, now);
+        }
+        log.info("Scheduled '{}' appointment reminders", reminders.size());
+    }
+
+    /**
+     * Keep the scheduled reminder of an appointment in sync once a change to it has been committed. A reminder that was
+     * already sent is not scheduled again, unless the appointment moved to another date and time.
+     *
+     * @param event the change event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAppointmentChanged(final EntityChangedEvent event) {
+        if (!event.concerns(EntityType.APPOINTMENT)) {
+            return;
+        }
+
+        final Optional<AppointmentReminder> reminder = event.changeType() == ChangeType.DELETED
+            ? Optional.empty()
+            : appointmentRepository.findReminder(event.entityId(), ACTIVE_STATUSES)
+                .filter(upcoming -> upcoming.scheduledDateTime().isAfter(LocalDateTime.now()));
+        if (reminder.isPresent()) {
+            schedule(reminder.get(), System.currentTimeMillis());
+        } else {
+            pending.computeIfPresent(event.entityId(), (id, previous) -> {
+                wheel.cancel(previous);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Advance the timing wheel and deliver every reminder that has become due.
+     */
+    @Scheduled(fixedRateString = "${reminders.tick-duration:1s}")
+    public void tick() {
+        for (final AppointmentReminder reminder : wheel.advanceTo(System.currentTimeMillis())) {
+            // Only forget the timeout that fired, a rescheduled appointment may already have a new one.
+            pending.computeIfPresent(reminder.appointmentId(), (id, timeout) -> timeout.payload() == reminder ? null : timeout);
+            deliveryExecutor.execute(() -> deliver(reminder));
+        }
+    }
+
+    /**
+     * Returns the number of reminders waiting to be delivered.
+     *
+     * @return the number of pending reminders
+     */
+    public int pendingReminders() {
+        return wheel.size();
+    }
+
+    /**
+     * Stop delivering reminders, waiting for the deliveries that are in progress.
+     */
+    @PreDestroy
+    public void shutdown() {
+        deliveryExecutor.close();
+    }
+
+    /**
+     * Schedules the reminder of an appointment, replacing the pending one unless that is for the same date and time.
+     */
+    private void schedule(final AppointmentReminder reminder, final long now) {
+        pending.compute(reminder.appointmentId(), (id, previous) -> {
+            if (previous != null && previous.payload().scheduledDateTime().equals(reminder.scheduledDateTime())) {
+                return previous;
+            }
+            if (previous != null) {
+                wheel.cancel(previous);
+            }
+            return wheel.schedule(reminder, Math.max(remindAt(reminder), now));
+        });
+    }
+
+    private void deliver(final AppointmentReminder reminder) {
+        try {
+            final Optional<AppointmentReminder> claimed = appointmentRepository.findReminder(reminder.appointmentId(), ACTIVE_STATUSES)
+                .filter(current -> current.scheduledDateTime().equals(reminder.scheduledDateTime()))
+                .filter(current -> appointmentRepository.claimReminder(
+                    current.appointmentId(),
+                    current.scheduledDateTime(),
+                    ACTIVE_STATUSES
+                ) == 1);
+            claimed.ifPresentOrElse(
+                reminderSink::deliver,
+                () -> log.debug("Dropped reminder for appointment '{}', it was sent, moved or cancelled", reminder.appointmentId())
+            );
+        } catch (final RuntimeException exception) {
+            log.warn("Unable to deliver reminder for appointment '{}'", reminder.appointmentId(), exception);
+        }
+    }
+
+    private long remindAt(final AppointmentReminder reminder) {
+        return reminder.scheduledDateTime()
+            .atZone(ZoneId.systemDefault())
+            .minus(reminderProperties.getLeadTime())
+            .toInstant()
+            .toEpochMilli();
+    }
+}
@@ -0,0 +1,60 @@
+package dev.ilionx.workshop.api.appointment.reminder;
+
+import dev.ilionx.workshop.api.appointment.model.AppointmentReminder;
+import dev.ilionx.workshop.common.config.properties.ReminderProperties;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reminder sink that appends one line per reminder to a file.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "reminders",
+    name = "sink",
+    havingValue = "file"
+)
+public class FileReminderSink implements ReminderSink {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReminderProperties reminderProperties;
+
+    @Override
+    public void deliver(final AppointmentReminder reminder) {
+        final String line = String.join(
+            "\t",
+            String.valueOf(reminder.appointmentId()),
+            String.valueOf(reminder.scheduledDateTime()),
+            reminder.petName(),
+            reminder.ownerName(),
+            String.valueOf(reminder.telephone()),
+            reminder.vetName()
+        ) + System.lineSeparator();
+
+        lock.lock();
+        try {
+            Files.writeString(
+                reminderProperties.getFile(),
+                line,
+                StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND
+            );
+        } catch (final IOException exception) {
+            throw new UncheckedIOException("Unable to write reminder to " + reminderProperties.getFile(), exception);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
@@ -0,0 +1,271 @@
+package dev.ilionx.workshop.api.appointment.reminder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A hierarchical timing wheel for scheduling large numbers of timeouts with O(1) insertion and cancellation.
+ *
+ * <p>Level 0 has {@code wheelSize} buckets of {@code tickMillis} each. Deadlines beyond its range go to an overflow
+ * level whose tick equals the full range of the level below, created on demand. When the clock reaches the start of an
+ * overflow bucket, its timeouts cascade down to a finer level. Deadlines are rounded up to the next tick, so a
+ * timeout never fires early and at most one tick late.
+ *
+ * <p>The wheel does not own a thread; the caller advances it with {@link #advanceTo(long)} and dispatches the
+ * returned payloads. All operations are guarded by a single lock, which keeps it safe for virtual threads.
+ *
+ * @param <T> the type of the scheduled payload
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Level<T> root;
+    private final Bucket<T> overdue = new Bucket<>();
+    private int size;
+
+    /**
+     * Creates a timing wheel.
+     *
+     * @param tickMillis  the resolution of the finest level in milliseconds
+     * @param wheelSize   the number of buckets per level
+     * @param startMillis the current time in milliseconds
+     */
+    public HierarchicalTimingWheel(final long tickMillis, final int wheelSize, final long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("A timing wheel needs a positive tick and at least two buckets");
+        }
+        this.root = new Level<>(tickMillis, wheelSize, startMillis);
+    }
+
+    /**
+     * Schedules a payload to fire at the given deadline. A deadline that has already passed fires on the next advance.
+     *
+     * @param payload        the payload
+     * @param deadlineMillis the deadline in milliseconds
+     * @return a handle that can be used to cancel the timeout
+     */
+    public Timeout<T> schedule(final T payload, final long deadlineMillis) {
+        final long expiration = Math.ceilDiv(deadlineMillis, root.tick) * root.tick;
+        final Timeout<T> timeout = new Timeout<>(payload, deadlineMillis, expiration);
+        lock.lock();
+        try {
+            if (!root.add(timeout)) {
+                overdue.add(timeout);
+            }
+            size++;
+            return timeout;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Cancels a previously scheduled timeout.
+     *
+     * @param timeout the timeout to cancel
+     * @return {@code true} if the timeout was still pending
+     */
+    public boolean cancel(final Timeout<T> timeout) {
+        lock.lock();
+        try {
+            if (timeout.bucket == null) {
+                return false;
+            }
+            timeout.bucket.remove(timeout);
+            size--;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Advances the clock and collects every payload whose deadline has been reached.
+     *
+     * @param nowMillis the current time in milliseconds
+     * @return the expired payloads in deadline order per tick
+     */
+    public List<T> advanceTo(final long nowMillis) {
+        lock.lock();
+        try {
+            final List<T> expired = new ArrayList<>();
+            collect(overdue, expired);
+            if (size == 0) {
+                for (Level<T> level = root; level != null; level = level.overflow) {
+                    level.currentTime = nowMillis - nowMillis % level.tick;
+                }
+                return expired;
+            }
+            while (root.currentTime + root.tick <= nowMillis) {
+                final long time = root.currentTime + root.tick;
+                for (Level<T> level = root; level != null; level = level.overflow) {
+                    level.currentTime = time - time % level.tick;
+                }
+                cascade(root.overflow, time, expired);
+                collect(root.bucketAt(time), expired);
+            }
+            return expired;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of pending timeouts.
+     *
+     * @return the number of pending timeouts
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void cascade(final Level<T> level, final long time, final List<T> expired) {
+        if (level == null || time % level.tick != 0) {
+            return;
+        }
+        cascade(level.overflow, time, expired);
+        for (final Timeout<T> timeout : level.bucketAt(time).drain()) {
+            if (!root.add(timeout)) {
+                expired.add(timeout.payload);
+                size--;
+            }
+        }
+    }
+
+    private void collect(final Bucket<T> bucket, final List<T> expired) {
+        for (final Timeout<T> timeout : bucket.drain()) {
+            expired.add(timeout.payload);
+            size--;
+        }
+    }
+
+    /**
+     * A handle to a scheduled payload.
+     *
+     * @param <T> the type of the payload
+     */
+    public static final class Timeout<T> {
+
+        private final T payload;
+        private final long deadline;
+        private final long expiration;
+        private Bucket<T> bucket;
+        private Timeout<T> previous;
+        private Timeout<T> next;
+
+        private Timeout(final T payload, final long deadline, final long expiration) {
+            this.payload = payload;
+            this.deadline = deadline;
+            this.expiration = expiration;
+        }
+
+        /**
+         * Returns the scheduled payload.
+         *
+         * @return the payload
+         */
+        public T payload() {
+            return payload;
+        }
+
+        /**
+         * Returns the deadline in milliseconds.
+         *
+         * @return the deadline
+         */
+        public long deadline() {
+            return deadline;
+        }
+    }
+
+    /** One level of the hierarchy; its overflow level is created lazily. */
+    private static final class Level<T> {
+
+        private final long tick;
+        private final long interval;
+        private final int wheelSize;
+        private final List<Bucket<T>> buckets;
+        private long currentTime;
+        private Level<T> overflow;
+
+        private Level(final long tick, final int wheelSize, final long startMillis) {
+            this.tick = tick;
+            this.interval = tick * wheelSize;
+            this.wheelSize = wheelSize;
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new Bucket<>());
+            }
+            this.currentTime = startMillis - startMillis % tick;
+        }
+
+        private boolean add(final Timeout<T> timeout) {
+            if (timeout.expiration < currentTime + tick) {
+                return false;
+            }
+            if (timeout.expiration < currentTime + interval) {
+                bucketAt(timeout.expiration).add(timeout);
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level<>(interval, wheelSize, currentTime);
+            }
+            return overflow.add(timeout);
+        }
+
+        private Bucket<T> bucketAt(final long time) {
+            return buckets.get((int) (time / tick % wheelSize));
+        }
+    }
+
+    /** An intrusive doubly linked list of timeouts, giving O(1) insertion and removal. */
+    private static final class Bucket<T> {
+
+        private Timeout<T> head;
+
+        private void add(final Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.previous = null;
+            timeout.next = head;
+            if (head != null) {
+                head.previous = timeout;
+            }
+            head = timeout;
+        }
+
+        private void remove(final Timeout<T> timeout) {
+            if (timeout.previous == null) {
+                head = timeout.next;
+            } else {
+                timeout.previous.next = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.previous = timeout.previous;
+            }
+            timeout.bucket = null;
+            timeout.previous = null;
+            timeout.next = null;
+        }
+
+        private List<Timeout<T>> drain() {
+            final List<Timeout<T>> drained = new ArrayList<>();
+            Timeout<T> current = head;
+            while (current != null) {
+                final Timeout<T> next = current.next;
+                current.bucket = null;
+                current.previous = null;
+                current.next = null;
+                drained.add(current);
+                current = next;
+            }
+            head = null;
+            return drained;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package dev.ilionx.workshop.api.appointment.reminder;
+
+import dev.ilionx.workshop.api.appointment.model.AppointmentReminder;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reminder sink that writes reminders to the application log.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+    prefix = "reminders",
+    name = "sink",
+    havingValue = "log",
+    matchIfMissing = true
+)
+public class LoggingReminderSink implements ReminderSink {
+
+    @Override
+    public void deliver(final AppointmentReminder reminder) {
+        log.info(
+            "Reminder: appointment '{}' for '{}' of '{}' ({}) with '{}' at '{}'",
+            reminder.appointmentId(),
+            reminder.petName(),
+            reminder.ownerName(),
+            reminder.telephone(),
+            reminder.vetName(),
+            reminder.scheduledDateTime()
+        );
+    }
+
+}
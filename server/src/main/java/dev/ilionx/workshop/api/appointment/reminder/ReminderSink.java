@@ -0,0 +1,17 @@
+package dev.ilionx.workshop.api.appointment.reminder;
+
+import dev.ilionx.workshop.api.appointment.model.AppointmentReminder;
+
+/**
+ * Destination for appointment reminders that have become due.
+ */
+public interface ReminderSink {
+
+    /**
+     * Deliver a reminder. Implementations may block; deliveries run on virtual threads.
+     *
+     * @param reminder the reminder to deliver
+     */
+    void deliver(AppointmentReminder reminder);
+
+}
@@ -1,18 +1,41 @@
 package dev.ilionx.workshop.api.appointment.repository;
 
 import dev.ilionx.workshop.api.appointment.model.Appointment;
+import dev.ilionx.workshop.api.appointment.model.AppointmentReminder;
+import dev.ilionx.workshop.api.appointment.model.AppointmentStatus;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Repository for Appointment entity.
+ *
+ * <p>The reminder of an appointment counts as sent when it was sent for the current scheduled date and time, so moving
+ * an appointment makes its reminder due again.
  */
 @Repository
 public interface AppointmentRepository extends JpaRepository<Appointment, Integer> {
 
+    String REMINDER_PROJECTION = """
+        SELECT new dev.ilionx.workshop.api.appointment.model.AppointmentReminder(
+            a.id, a.scheduledDateTime, p.name, CONCAT(o.firstName, ' ', o.lastName), o.telephone,
+            CONCAT(v.firstName, ' ', v.lastName))
+        FROM Appointment a
+        JOIN a.pet p
+        JOIN p.owner o
+        JOIN a.vet v
+        """;
+
     /**
      * Find all appointments for a specific pet.
      */
@@ -23,4 +46,62 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Intege
      */
     List<Appointment> findByVetId(Integer vetId);
 
+    /**
+     * Find the reminder projections of all appointments in the given statuses that are scheduled after the given time,
+     * and whose reminder has not been sent yet.
+     */
+    @Query(REMINDER_PROJECTION + """
+        WHERE a.status IN :statuses
+          AND a.scheduledDateTime > :from
+          AND (a.reminderSentFor IS NULL OR a.reminderSentFor <> a.scheduledDateTime)
+        ORDER BY a.scheduledDateTime
+        """)
+    List<AppointmentReminder> findUpcomingReminders(
+        @Param("statuses") Collection<AppointmentStatus> statuses,
+        @Param("from") LocalDateTime from
+    );
+
+    /**
+     * Find the reminder projection of a single appointment, if it is in one of the given statuses and its reminder has
+     * not been sent yet.
+     */
+    @Query(REMINDER_PROJECTION + """
+        WHERE a.id = :id
+          AND a.status IN :statuses
+          AND (a.reminderSentFor IS NULL OR a.reminderSentFor <> a.scheduledDateTime)
+        """)
+    Optional<AppointmentReminder> findReminder(
+        @Param("id") Integer id,
+        @Param("statuses") Collection<AppointmentStatus> statuses
+    );
+
+    /**
+     * Mark the reminder of an appointment as sent, if it is still scheduled at the given date and time, in one of the
+     * given statuses and not sent yet. Only the caller that gets {@code 1} back may send the reminder, so a reminder is
+     * sent once regardless of restarts and the number of nodes.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE Appointment a
+        SET a.reminderSentFor = a.scheduledDateTime
+        WHERE a.id = :id
+          AND a.scheduledDateTime = :scheduledDateTime
+          AND a.status IN :statuses
+          AND (a.reminderSentFor IS NULL OR a.reminderSentFor <> a.scheduledDateTime)
+        """)
+    int claimReminder(
+        @Param("id") Integer id,
+        @Param("scheduledDateTime") LocalDateTime scheduledDateTime,
+        @Param("statuses") Collection<AppointmentStatus> statuses
+    );
+
+    /**
+     * Finds all appointments created or modified after the given moment.
+     *
+     * @param since the moment to compare the last modification with
+     * @return a list of appointments modified after the moment
+     */
+    List<Appointment> findByUpdatedAtAfter(Instant since);
+
 }
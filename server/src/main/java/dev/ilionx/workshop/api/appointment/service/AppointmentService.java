@@ -9,11 +9,14 @@ import dev.ilionx.workshop.api.pet.model.Pet;
 import dev.ilionx.workshop.api.pet.repository.PetRepository;
 import dev.ilionx.workshop.api.vet.model.Vet;
 import dev.ilionx.workshop.api.vet.repository.VetRepository;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+import dev.ilionx.workshop.common.event.EntityType;
 import io.github.jframe.exception.core.DataNotFoundException;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +35,7 @@ public class AppointmentService {
     private final AppointmentRepository appointmentRepository;
     private final PetRepository petRepository;
     private final VetRepository vetRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Find all appointments.
@@ -97,7 +101,9 @@ public class AppointmentService {
         appointment.setPet(pet);
         appointment.setVet(vet);
 
-        return appointmentRepository.save(appointment);
+        final Appointment saved = appointmentRepository.save(appointment);
+        eventPublisher.publishEvent(scoped(EntityChangedEvent.created(EntityType.APPOINTMENT, saved.getId()), saved));
+        return saved;
     }
 
     /**
@@ -115,7 +121,7 @@ public class AppointmentService {
         appointment.setReason(request.getReason());
         appointment.setStatus(request.getStatus());
 
-        return appointmentRepository.save(appointment);
+        return saveUpdated(appointment);
     }
 
     /**
@@ -128,7 +134,7 @@ public class AppointmentService {
     public Appointment cancel(final Integer id) {
         final Appointment appointment = findById(id);
         appointment.setStatus(AppointmentStatus.CANCELLED);
-        return appointmentRepository.save(appointment);
+        return saveUpdated(appointment);
     }
 
     /**
@@ -141,7 +147,7 @@ public class AppointmentService {
     public Appointment complete(final Integer id) {
         final Appointment appointment = findById(id);
         appointment.setStatus(AppointmentStatus.COMPLETED);
-        return appointmentRepository.save(appointment);
+        return saveUpdated(appointment);
     }
 
     /**
@@ -152,7 +158,20 @@ public class AppointmentService {
      */
     public void delete(final Integer id) {
         final Appointment appointment = findById(id);
+        eventPublisher.publishEvent(scoped(EntityChangedEvent.deleted(EntityType.APPOINTMENT, id), appointment));
         appointmentRepository.delete(appointment);
     }
 
+    private Appointment saveUpdated(final Appointment appointment) {
+        final Appointment saved = appointmentRepository.save(appointment);
+        eventPublisher.publishEvent(scoped(EntityChangedEvent.updated(EntityType.APPOINTMENT, saved.getId()), saved));
+        return saved;
+    }
+
+    private static EntityChangedEvent scoped(final EntityChangedEvent event, final Appointment appointment) {
+        return event
+            .withOwner(appointment.getPet().getOwner().getId())
+            .withVet(appointment.getVet().getId());
+    }
+
 }
@@ -0,0 +1,44 @@
+package dev.ilionx.workshop.api.event.controller;
+
+import dev.ilionx.workshop.api.event.model.SubscriptionFilter;
+import dev.ilionx.workshop.api.event.service.ChangeEventBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static dev.ilionx.workshop.api.Paths.EVENTS;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
+
+/**
+ * REST controller streaming appointment, visit and pet changes as server-sent events.
+ */
+@Tag(
+    name = "Events",
+    description = "Change event stream"
+)
+@RestController
+@RequiredArgsConstructor
+public class EventStreamController {
+
+    private final ChangeEventBroadcaster changeEventBroadcaster;
+
+    @Operation(
+        summary = "Subscribe to changes",
+        description = "Streams appointment, visit and pet changes as server-sent events, optionally filtered by owner or vet"
+    )
+    @GetMapping(
+        path = EVENTS,
+        produces = TEXT_EVENT_STREAM_VALUE
+    )
+    public SseEmitter streamEvents(
+        @RequestParam(required = false) final Integer ownerId,
+        @RequestParam(required = false) final Integer vetId
+    ) {
+        return changeEventBroadcaster.subscribe(new SubscriptionFilter(ownerId, vetId));
+    }
+}
@@ -0,0 +1,23 @@
+package dev.ilionx.workshop.api.event.model;
+
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+
+/**
+ * The changes a subscriber of the change event stream is interested in.
+ *
+ * @param ownerId only changes for this owner, or all owners when {@code null}
+ * @param vetId   only changes for this vet, or all vets when {@code null}
+ */
+public record SubscriptionFilter(Integer ownerId, Integer vetId) {
+
+    /**
+     * Whether the given event passes this filter.
+     *
+     * @param event the change event
+     * @return {@code true} when the subscriber should receive the event
+     */
+    public boolean matches(final EntityChangedEvent event) {
+        return (ownerId == null || ownerId.equals(event.ownerId()))
+            && (vetId == null || vetId.equals(event.vetId()));
+    }
+}
@@ -0,0 +1,16 @@
+package dev.ilionx.workshop.api.event.model.mapper;
+
+import dev.ilionx.workshop.api.event.model.response.ChangeEventResponse;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+
+import org.mapstruct.Mapper;
+
+/**
+ * Mapper for change events to response DTOs.
+ */
+@Mapper(componentModel = "spring")
+public interface ChangeEventMapper {
+
+    ChangeEventResponse toResponse(EntityChangedEvent event);
+
+}
@@ -0,0 +1,49 @@
+package dev.ilionx.workshop.api.event.model.response;
+
+import dev.ilionx.workshop.common.event.ChangeType;
+import dev.ilionx.workshop.common.event.EntityType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * Response DTO for a change pushed over the change event stream.
+ */
+@Data
+@NoArgsConstructor
+@Accessors(chain = true)
+@Schema(description = "Change event response")
+public class ChangeEventResponse {
+
+    @Schema(
+        description = "Type of the changed entity",
+        example = "APPOINTMENT"
+    )
+    private EntityType entityType;
+
+    @Schema(
+        description = "ID of the changed entity",
+        example = "1"
+    )
+    private Integer entityId;
+
+    @Schema(
+        description = "Kind of change",
+        example = "UPDATED"
+    )
+    private ChangeType changeType;
+
+    @Schema(
+        description = "ID of the owner the change concerns",
+        example = "1"
+    )
+    private Integer ownerId;
+
+    @Schema(
+        description = "ID of the vet the change concerns",
+        example = "1"
+    )
+    private Integer vetId;
+
+}
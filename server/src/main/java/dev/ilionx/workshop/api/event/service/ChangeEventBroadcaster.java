@@ -0,0 +1,204 @@
+package dev.ilionx.workshop.api.event.service;
+
+import dev.ilionx.workshop.api.event.model.SubscriptionFilter;
+import dev.ilionx.workshop.api.event.model.mapper.ChangeEventMapper;
+import dev.ilionx.workshop.api.event.model.response.ChangeEventResponse;
+import dev.ilionx.workshop.common.config.properties.EventStreamProperties;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+import dev.ilionx.workshop.common.event.EntityType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes committed appointment, visit and pet changes to server-sent event subscribers.
+ *
+ * <p>Every subscriber gets a bounded buffer and its own virtual thread that drains the buffer into the connection, so a
+ * slow client never blocks the transaction that published the change nor any other subscriber. When a buffer is full
+ * the new event is dropped for that subscriber; after too many consecutive drops the subscriber is disconnected and is
+ * expected to reconnect and reload its view. Idle connections receive a heartbeat comment.
+ */
+@Slf4j
+@Service
+public class ChangeEventBroadcaster {
+
+    private static final Set<EntityType> STREAMED_TYPES =
+        EnumSet.of(EntityType.APPOINTMENT, EntityType.VISIT, EntityType.PET);
+    private static final String EVENT_NAME = "change";
+    private static final String HEARTBEAT = "heartbeat";
+
+    private final ChangeEventMapper changeEventMapper;
+    private final EventStreamProperties eventStreamProperties;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Counter deliveredCounter;
+    private final Counter droppedCounter;
+    private final Counter disconnectedCounter;
+
+    /**
+     * Constructor.
+     *
+     * @param changeEventMapper     the change event mapper
+     * @param eventStreamProperties the event stream properties
+     * @param meterRegistry         the meter registry
+     */
+    public ChangeEventBroadcaster(
+        final ChangeEventMapper changeEventMapper,
+        final EventStreamProperties eventStreamProperties,
+        final MeterRegistry meterRegistry
+    ) {
+        this.changeEventMapper = changeEventMapper;
+        this.eventStreamProperties = eventStreamProperties;
+        this.deliveredCounter = meterRegistry.counter("events.stream.delivered");
+        this.droppedCounter = meterRegistry.counter("events.stream.dropped");
+        this.disconnectedCounter = meterRegistry.counter("events.stream.slow.consumers.disconnected");
+        meterRegistry.gauge("events.stream.subscribers", subscribers, Set::size);
+    }
+
+    /**
+     * Open a new subscription.
+     *
+     * @param filter the changes the subscriber is interested in
+     * @return the emitter streaming the changes
+     */
+    public SseEmitter subscribe(final SubscriptionFilter filter) {
+        return subscribe(filter, new SseEmitter(eventStreamProperties.getConnectionTimeout().toMillis()));
+    }
+
+    /**
+     * Forward a committed change to every subscriber whose filter matches.
+     *
+     * @param event the change event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        if (!STREAMED_TYPES.contains(event.entityType()) || subscribers.isEmpty()) {
+            return;
+        }
+
+        final Message message = new Message(sequence.incrementAndGet(), changeEventMapper.toResponse(event));
+        for (final Subscriber subscriber : subscribers) {
+            if (subscriber.filter.matches(event)) {
+                subscriber.offer(message);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of open subscriptions.
+     *
+     * @return the number of subscribers
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Close all subscriptions.
+     */
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.close(true));
+    }
+
+    SseEmitter subscribe(final SubscriptionFilter filter, final SseEmitter emitter) {
+        final Subscriber subscriber = new Subscriber(filter, emitter);
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscriber.close(false));
+        emitter.onTimeout(() -> subscriber.close(true));
+        emitter.onError(error -> subscriber.close(false));
+        subscriber.worker = Thread.ofVirtual()
+            .name("sse-subscriber")
+            .start(subscriber::drain);
+        return emitter;
+    }
+
+    private record Message(long id, ChangeEventResponse payload) {
+    }
+
+    /** A single connection with its own buffer, drained by a dedicated virtual thread. */
+    private final class Subscriber {
+
+        private final SubscriptionFilter filter;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Message> buffer;
+        private final AtomicInteger consecutiveDrops = new AtomicInteger();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile Thread worker;
+
+        private Subscriber(final SubscriptionFilter filter, final SseEmitter emitter) {
+            this.filter = filter;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(eventStreamProperties.getBufferSize());
+        }
+
+        private void offer(final Message message) {
+            if (buffer.offer(message)) {
+                return;
+            }
+            droppedCounter.increment();
+            if (consecutiveDrops.incrementAndGet() > eventStreamProperties.getMaxDroppedEvents()) {
+                log.debug("Disconnecting slow change event subscriber after '{}' dropped events", consecutiveDrops.get());
+                disconnectedCounter.increment();
+                close(true);
+            }
+        }
+
+        private void drain() {
+            final long heartbeatMillis = eventStreamProperties.getHeartbeatInterval().toMillis();
+            try {
+                while (!closed.get()) {
+                    final Message message = buffer.poll(heartbeatMillis, TimeUnit.MILLISECONDS);
+                    if (message == null) {
+                        emitter.send(SseEmitter.event().comment(HEARTBEAT));
+                        continue;
+                    }
+                    emitter.send(
+                        SseEmitter.event()
+                            .id(String.valueOf(message.id()))
+                            .name(EVENT_NAME)
+                            .data(message.payload(), MediaType.APPLICATION_JSON)
+                    );
+                    consecutiveDrops.set(0);
+                    deliveredCounter.increment();
+                }
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } catch (final IOException | IllegalStateException exception) {
+                log.debug("Change event subscriber went away: {}", exception.getMessage());
+                close(false);
+            }
+        }
+
+        private void close(final boolean completeEmitter) {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            subscribers.remove(this);
+            if (completeEmitter) {
+                emitter.complete();
+            }
+            if (worker != null && worker != Thread.currentThread()) {
+                worker.interrupt();
+            }
+        }
+    }
+}
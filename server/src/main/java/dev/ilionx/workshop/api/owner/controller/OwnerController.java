@@ -7,6 +7,7 @@ import dev.ilionx.workshop.api.owner.model.request.UpdateOwnerRequest;
 import dev.ilionx.workshop.api.owner.model.response.OwnerResponse;
 import dev.ilionx.workshop.api.owner.model.validator.OwnerValidator;
 import dev.ilionx.workshop.api.owner.service.OwnerService;
+import dev.ilionx.workshop.common.persistence.sql.QueryBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -47,6 +48,7 @@ public class OwnerController {
         path = OWNERS,
         produces = APPLICATION_JSON_VALUE
     )
+    @QueryBudget(maxStatements = 6)
     public ResponseEntity<List<OwnerResponse>> getAllOwners(@RequestParam(required = false) final String lastName) {
         final List<Owner> owners = ownerService.findByLastName(lastName);
         return ResponseEntity.status(OK).body(ownerMapper.toResponseList(owners));
@@ -1,6 +1,7 @@
 package dev.ilionx.workshop.api.owner.model;
 
 import dev.ilionx.workshop.api.pet.model.Pet;
+import dev.ilionx.workshop.common.persistence.Auditable;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -27,7 +28,7 @@ import jakarta.validation.constraints.NotBlank;
 @Getter
 @Setter
 @NoArgsConstructor
-public class Owner {
+public class Owner extends Auditable {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -2,6 +2,7 @@ package dev.ilionx.workshop.api.owner.repository;
 
 import dev.ilionx.workshop.api.owner.model.Owner;
 
+import java.time.Instant;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -20,4 +21,12 @@ public interface OwnerRepository extends JpaRepository<Owner, Integer> {
      * @return a list of owners matching the last name
      */
     List<Owner> findByLastName(String lastName);
+
+    /**
+     * Finds all owners created or modified after the given moment.
+     *
+     * @param since the moment to compare the last modification with
+     * @return a list of owners modified after the moment
+     */
+    List<Owner> findByUpdatedAtAfter(Instant since);
 }
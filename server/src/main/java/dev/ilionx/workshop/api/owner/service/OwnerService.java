@@ -4,11 +4,16 @@ import dev.ilionx.workshop.api.owner.model.Owner;
 import dev.ilionx.workshop.api.owner.model.request.CreateOwnerRequest;
 import dev.ilionx.workshop.api.owner.model.request.UpdateOwnerRequest;
 import dev.ilionx.workshop.api.owner.repository.OwnerRepository;
+import dev.ilionx.workshop.common.cache.EntityCache;
+import dev.ilionx.workshop.common.concurrency.RequestCoalescer;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+import dev.ilionx.workshop.common.event.EntityType;
 import io.github.jframe.exception.core.DataNotFoundException;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +27,9 @@ import static dev.ilionx.workshop.common.exception.ApiErrorCode.OWNER_NOT_FOUND;
 public class OwnerService {
 
     private final OwnerRepository ownerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RequestCoalescer requestCoalescer;
+    private final EntityCache<Integer, Owner> ownerCache;
 
     /**
      * Retrieves all owners.
@@ -55,8 +63,8 @@ public class OwnerService {
      */
     @Transactional(readOnly = true)
     public Owner findById(final Integer id) {
-        return ownerRepository.findById(id)
-            .orElseThrow(() -> new DataNotFoundException(OWNER_NOT_FOUND));
+        return ownerCache.get(id, () -> requestCoalescer.execute("owner.findById", id, () -> ownerRepository.findById(id)
+            .orElseThrow(() -> new DataNotFoundException(OWNER_NOT_FOUND))));
     }
 
     /**
@@ -74,7 +82,10 @@ public class OwnerService {
         owner.setCity(request.getCity());
         owner.setTelephone(request.getTelephone());
         owner.setEmail(request.getEmail());
-        return ownerRepository.save(owner);
+
+        final Owner saved = ownerRepository.save(owner);
+        eventPublisher.publishEvent(EntityChangedEvent.created(EntityType.OWNER, saved.getId()).withOwner(saved.getId()));
+        return saved;
     }
 
     /**
@@ -93,7 +104,10 @@ public class OwnerService {
         owner.setCity(request.getCity());
         owner.setTelephone(request.getTelephone());
         owner.setEmail(request.getEmail());
-        return ownerRepository.save(owner);
+
+        final Owner saved = ownerRepository.save(owner);
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.OWNER, saved.getId()).withOwner(saved.getId()));
+        return saved;
     }
 
     /**
@@ -104,6 +118,7 @@ public class OwnerService {
     @Transactional
     public void delete(final Integer id) {
         findById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(EntityType.OWNER, id).withOwner(id));
         ownerRepository.deleteById(id);
     }
 }
@@ -6,6 +6,7 @@ import dev.ilionx.workshop.api.pet.model.request.CreatePetRequest;
 import dev.ilionx.workshop.api.pet.model.request.UpdatePetRequest;
 import dev.ilionx.workshop.api.pet.model.response.PetResponse;
 import dev.ilionx.workshop.api.pet.service.PetService;
+import dev.ilionx.workshop.common.persistence.sql.QueryBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -46,6 +47,7 @@ public class PetController {
         path = OWNER_PETS,
         produces = APPLICATION_JSON_VALUE
     )
+    @QueryBudget(maxStatements = 5)
     public ResponseEntity<List<PetResponse>> getPetsByOwner(@PathVariable final Integer ownerId) {
         final List<Pet> pets = petService.findByOwnerId(ownerId);
         return ResponseEntity.status(OK).body(petMapper.toResponseList(pets));
@@ -6,6 +6,7 @@ import dev.ilionx.workshop.api.pet.model.request.CreatePetRequest;
 import dev.ilionx.workshop.api.pet.model.request.UpdatePetRequest;
 import dev.ilionx.workshop.api.pet.model.response.PetResponse;
 import dev.ilionx.workshop.api.pet.service.PetService;
+import dev.ilionx.workshop.common.persistence.sql.QueryBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -45,6 +46,7 @@ public class PetGlobalController {
         path = PETS,
         produces = APPLICATION_JSON_VALUE
     )
+    @QueryBudget(maxStatements = 8)
     public ResponseEntity<List<PetResponse>> getAllPets() {
         final List<Pet> pets = petService.findAll();
         return ResponseEntity.status(OK).body(petMapper.toResponseList(pets));
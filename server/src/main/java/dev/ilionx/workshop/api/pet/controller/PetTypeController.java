@@ -6,6 +6,7 @@ import dev.ilionx.workshop.api.pet.model.request.CreatePetTypeRequest;
 import dev.ilionx.workshop.api.pet.model.request.UpdatePetTypeRequest;
 import dev.ilionx.workshop.api.pet.model.response.PetTypeResponse;
 import dev.ilionx.workshop.api.pet.service.PetTypeService;
+import dev.ilionx.workshop.common.persistence.sql.QueryBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -45,6 +46,7 @@ public class PetTypeController {
         path = PET_TYPES,
         produces = APPLICATION_JSON_VALUE
     )
+    @QueryBudget(maxStatements = 1)
     public ResponseEntity<List<PetTypeResponse>> getAllPetTypes() {
         final List<PetType> petTypes = petTypeService.findAll();
         return ResponseEntity.status(OK).body(petTypeMapper.toResponseList(petTypes));
@@ -2,6 +2,7 @@ package dev.ilionx.workshop.api.pet.model;
 
 import dev.ilionx.workshop.api.owner.model.Owner;
 import dev.ilionx.workshop.api.visit.model.Visit;
+import dev.ilionx.workshop.common.persistence.Auditable;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -31,7 +32,7 @@ import jakarta.validation.constraints.Past;
 @Getter
 @Setter
 @NoArgsConstructor
-public class Pet {
+public class Pet extends Auditable {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,5 +1,6 @@
 package dev.ilionx.workshop.api.pet.model;
 
+import dev.ilionx.workshop.common.persistence.Auditable;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -19,7 +20,7 @@ import jakarta.persistence.Table;
 @Getter
 @Setter
 @NoArgsConstructor
-public class PetType {
+public class PetType extends Auditable {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
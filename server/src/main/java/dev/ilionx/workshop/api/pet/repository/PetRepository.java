@@ -2,6 +2,7 @@ package dev.ilionx.workshop.api.pet.repository;
 
 import dev.ilionx.workshop.api.pet.model.Pet;
 
+import java.time.Instant;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -20,4 +21,12 @@ public interface PetRepository extends JpaRepository<Pet, Integer> {
      * @return list of pets for the given owner
      */
     List<Pet> findByOwnerId(Integer ownerId);
+
+    /**
+     * Finds all pets created or modified after the given moment.
+     *
+     * @param since the moment to compare the last modification with
+     * @return a list of pets modified after the moment
+     */
+    List<Pet> findByUpdatedAtAfter(Instant since);
 }
@@ -8,11 +8,16 @@ import dev.ilionx.workshop.api.pet.model.request.CreatePetRequest;
 import dev.ilionx.workshop.api.pet.model.request.UpdatePetRequest;
 import dev.ilionx.workshop.api.pet.repository.PetRepository;
 import dev.ilionx.workshop.api.pet.repository.PetTypeRepository;
+import dev.ilionx.workshop.common.cache.EntityCache;
+import dev.ilionx.workshop.common.concurrency.RequestCoalescer;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+import dev.ilionx.workshop.common.event.EntityType;
 import io.github.jframe.exception.core.DataNotFoundException;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +35,9 @@ public class PetService {
     private final PetRepository petRepository;
     private final PetTypeRepository petTypeRepository;
     private final OwnerRepository ownerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RequestCoalescer requestCoalescer;
+    private final EntityCache<Integer, Pet> petCache;
 
     /**
      * Finds all pets belonging to a specific owner.
@@ -52,8 +60,8 @@ public class PetService {
      */
     @Transactional(readOnly = true)
     public Pet findById(final Integer petId) {
-        return petRepository.findById(petId)
-            .orElseThrow(() -> new DataNotFoundException(PET_NOT_FOUND));
+        return petCache.get(petId, () -> requestCoalescer.execute("pet.findById", petId, () -> petRepository.findById(petId)
+            .orElseThrow(() -> new DataNotFoundException(PET_NOT_FOUND))));
     }
 
     /**
@@ -92,7 +100,9 @@ public class PetService {
         pet.setType(petType);
         pet.setOwner(owner);
 
-        return petRepository.save(pet);
+        final Pet saved = petRepository.save(pet);
+        eventPublisher.publishEvent(scoped(EntityChangedEvent.created(EntityType.PET, saved.getId()), saved));
+        return saved;
     }
 
     /**
@@ -112,7 +122,9 @@ public class PetService {
         pet.setBirthDate(request.getBirthDate());
         pet.setType(petType);
 
-        return petRepository.save(pet);
+        final Pet saved = petRepository.save(pet);
+        eventPublisher.publishEvent(scoped(EntityChangedEvent.updated(EntityType.PET, saved.getId()), saved));
+        return saved;
     }
 
     /**
@@ -133,7 +145,12 @@ public class PetService {
     @Transactional
     public void delete(final Integer petId) {
         final Pet pet = findById(petId);
+        eventPublisher.publishEvent(scoped(EntityChangedEvent.deleted(EntityType.PET, petId), pet));
         pet.getOwner().getPets().remove(pet);
         petRepository.delete(pet);
     }
+
+    private static EntityChangedEvent scoped(final EntityChangedEvent event, final Pet pet) {
+        return event.withOwner(pet.getOwner().getId());
+    }
 }
@@ -4,11 +4,15 @@ import dev.ilionx.workshop.api.pet.model.PetType;
 import dev.ilionx.workshop.api.pet.model.request.CreatePetTypeRequest;
 import dev.ilionx.workshop.api.pet.model.request.UpdatePetTypeRequest;
 import dev.ilionx.workshop.api.pet.repository.PetTypeRepository;
+import dev.ilionx.workshop.common.concurrency.RequestCoalescer;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+import dev.ilionx.workshop.common.event.EntityType;
 import io.github.jframe.exception.core.DataNotFoundException;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +26,8 @@ import static dev.ilionx.workshop.common.exception.ApiErrorCode.PET_TYPE_NOT_FOU
 public class PetTypeService {
 
     private final PetTypeRepository petTypeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RequestCoalescer requestCoalescer;
 
     /**
      * Retrieves all available pet types.
@@ -30,7 +36,7 @@ public class PetTypeService {
      */
     @Transactional(readOnly = true)
     public List<PetType> findAll() {
-        return petTypeRepository.findAll();
+        return requestCoalescer.execute("petType.findAll", petTypeRepository::findAll);
     }
 
     /**
@@ -41,8 +47,8 @@ public class PetTypeService {
      */
     @Transactional(readOnly = true)
     public PetType findById(final Integer id) {
-        return petTypeRepository.findById(id)
-            .orElseThrow(() -> new DataNotFoundException(PET_TYPE_NOT_FOUND));
+        return requestCoalescer.execute("petType.findById", id, () -> petTypeRepository.findById(id)
+            .orElseThrow(() -> new DataNotFoundException(PET_TYPE_NOT_FOUND)));
     }
 
     /**
@@ -55,7 +61,10 @@ public class PetTypeService {
     public PetType create(final CreatePetTypeRequest request) {
         final PetType petType = new PetType();
         petType.setName(request.getName());
-        return petTypeRepository.save(petType);
+
+        final PetType saved = petTypeRepository.save(petType);
+        eventPublisher.publishEvent(EntityChangedEvent.created(EntityType.PET_TYPE, saved.getId()));
+        return saved;
     }
 
     /**
@@ -69,7 +78,10 @@ public class PetTypeService {
     public PetType update(final Integer id, final UpdatePetTypeRequest request) {
         final PetType petType = findById(id);
         petType.setName(request.getName());
-        return petTypeRepository.save(petType);
+
+        final PetType saved = petTypeRepository.save(petType);
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.PET_TYPE, saved.getId()));
+        return saved;
     }
 
     /**
@@ -80,6 +92,7 @@ public class PetTypeService {
     @Transactional
     public void delete(final Integer id) {
         findById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(EntityType.PET_TYPE, id));
         petTypeRepository.deleteById(id);
     }
 }
@@ -0,0 +1,48 @@
+package dev.ilionx.workshop.api.sync.controller;
+
+import dev.ilionx.workshop.api.sync.model.SyncChanges;
+import dev.ilionx.workshop.api.sync.model.mapper.SyncMapper;
+import dev.ilionx.workshop.api.sync.model.response.SyncResponse;
+import dev.ilionx.workshop.api.sync.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import static dev.ilionx.workshop.api.Paths.CHANGES;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+/**
+ * REST controller for delta synchronisation of the main collections.
+ */
+@Tag(
+    name = "Sync",
+    description = "Delta sync endpoints"
+)
+@RestController
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+    private final SyncMapper syncMapper;
+
+    @ResponseStatus(OK)
+    @Operation(
+        summary = "Get changes",
+        description = "Returns the records created, modified or deleted since the given sync token, or all records without a token"
+    )
+    @GetMapping(
+        path = CHANGES,
+        produces = APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<SyncResponse> getChanges(@RequestParam(required = false) final String since) {
+        final SyncChanges changes = syncService.findChanges(since);
+        return ResponseEntity.status(OK).body(syncMapper.toResponse(changes));
+    }
+}
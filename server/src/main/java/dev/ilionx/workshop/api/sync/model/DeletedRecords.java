@@ -0,0 +1,32 @@
+package dev.ilionx.workshop.api.sync.model;
+
+import java.util.List;
+
+/**
+ * The IDs of the records deleted since a sync token, per collection.
+ *
+ * @param owners       the deleted owner IDs
+ * @param pets         the deleted pet IDs
+ * @param visits       the deleted visit IDs
+ * @param vaccinations the deleted vaccination IDs
+ * @param appointments the deleted appointment IDs
+ * @param vets         the deleted vet IDs
+ */
+public record DeletedRecords(
+    List<Integer> owners,
+    List<Integer> pets,
+    List<Integer> visits,
+    List<Integer> vaccinations,
+    List<Integer> appointments,
+    List<Integer> vets
+) {
+
+    /**
+     * Returns an instance without any deleted records, used for a full sync.
+     *
+     * @return the empty instance
+     */
+    public static DeletedRecords none() {
+        return new DeletedRecords(List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+    }
+}
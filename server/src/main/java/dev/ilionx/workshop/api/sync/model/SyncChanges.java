@@ -0,0 +1,36 @@
+package dev.ilionx.workshop.api.sync.model;
+
+import dev.ilionx.workshop.api.appointment.model.Appointment;
+import dev.ilionx.workshop.api.owner.model.Owner;
+import dev.ilionx.workshop.api.pet.model.Pet;
+import dev.ilionx.workshop.api.vaccination.model.Vaccination;
+import dev.ilionx.workshop.api.vet.model.Vet;
+import dev.ilionx.workshop.api.visit.model.Visit;
+
+import java.util.List;
+
+/**
+ * The records created, modified or deleted since a sync token, per collection.
+ *
+ * @param token        the token to pass on the next sync
+ * @param fullSync     whether all records are returned because no token was given
+ * @param owners       the created or modified owners
+ * @param pets         the created or modified pets
+ * @param visits       the created or modified visits
+ * @param vaccinations the created or modified vaccinations
+ * @param appointments the created or modified appointments
+ * @param vets         the created or modified vets
+ * @param deleted      the deleted records
+ */
+public record SyncChanges(
+    String token,
+    boolean fullSync,
+    List<Owner> owners,
+    List<Pet> pets,
+    List<Visit> visits,
+    List<Vaccination> vaccinations,
+    List<Appointment> appointments,
+    List<Vet> vets,
+    DeletedRecords deleted
+) {
+}
@@ -0,0 +1,43 @@
+package dev.ilionx.workshop.api.sync.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Opaque position in the change history handed to delta sync clients.
+ *
+ * <p>Clients pass the token of their previous sync back to receive only what changed since. The encoding is an
+ * implementation detail and may change without notice, which is why it is Base64 encoded.
+ *
+ * @param position the moment up to which the client has seen all changes
+ */
+public record SyncToken(Instant position) {
+
+    private static final String VERSION_PREFIX = "v1:";
+
+    /**
+     * Encodes this token for use in an API response.
+     *
+     * @return the opaque token
+     */
+    public String encode() {
+        final String raw = VERSION_PREFIX + position.toEpochMilli();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token received from a client.
+     *
+     * @param token the opaque token
+     * @return the decoded token
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static SyncToken decode(final String token) {
+        final String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        if (!raw.startsWith(VERSION_PREFIX)) {
+            throw new IllegalArgumentException("Unsupported sync token version");
+        }
+        return new SyncToken(Instant.ofEpochMilli(Long.parseLong(raw.substring(VERSION_PREFIX.length()))));
+    }
+}
@@ -0,0 +1,51 @@
+package dev.ilionx.workshop.api.sync.model;
+
+import dev.ilionx.workshop.common.event.EntityType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Entity recording that a record was deleted, so delta sync clients can remove it as well.
+ */
+@Entity
+@Table(name = "tombstones")
+@Getter
+@Setter
+@NoArgsConstructor
+public class Tombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(
+        name = "entity_type",
+        nullable = false
+    )
+    private EntityType entityType;
+
+    @Column(
+        name = "entity_id",
+        nullable = false
+    )
+    private Integer entityId;
+
+    @Column(
+        name = "deleted_at",
+        nullable = false
+    )
+    private Instant deletedAt;
+
+}
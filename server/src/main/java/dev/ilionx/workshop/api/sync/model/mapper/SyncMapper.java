@@ -0,0 +1,36 @@
+package dev.ilionx.workshop.api.sync.model.mapper;
+
+import dev.ilionx.workshop.api.appointment.model.mapper.AppointmentMapper;
+import dev.ilionx.workshop.api.owner.model.mapper.OwnerMapper;
+import dev.ilionx.workshop.api.pet.model.mapper.PetMapper;
+import dev.ilionx.workshop.api.sync.model.DeletedRecords;
+import dev.ilionx.workshop.api.sync.model.SyncChanges;
+import dev.ilionx.workshop.api.sync.model.response.DeletedRecordsResponse;
+import dev.ilionx.workshop.api.sync.model.response.SyncResponse;
+import dev.ilionx.workshop.api.vaccination.model.mapper.VaccinationMapper;
+import dev.ilionx.workshop.api.vet.model.mapper.VetMapper;
+import dev.ilionx.workshop.api.visit.model.mapper.VisitMapper;
+import io.github.jframe.util.mapper.config.SharedMapperConfig;
+
+import org.mapstruct.Mapper;
+
+/**
+ * MapStruct mapper for converting delta sync results to response DTOs.
+ */
+@Mapper(
+    config = SharedMapperConfig.class,
+    uses = {
+        OwnerMapper.class,
+        PetMapper.class,
+        VisitMapper.class,
+        VaccinationMapper.class,
+        AppointmentMapper.class,
+        VetMapper.class
+    }
+)
+public abstract class SyncMapper {
+
+    public abstract SyncResponse toResponse(SyncChanges changes);
+
+    public abstract DeletedRecordsResponse toDeletedResponse(DeletedRecords deleted);
+}
@@ -0,0 +1,37 @@
+package dev.ilionx.workshop.api.sync.model.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+
+/**
+ * Response DTO for the records deleted since a sync token.
+ */
+@Data
+@NoArgsConstructor
+@Accessors(chain = true)
+@Schema(description = "Deleted records per collection")
+public class DeletedRecordsResponse {
+
+    @Schema(description = "IDs of the deleted owners")
+    private List<Integer> owners;
+
+    @Schema(description = "IDs of the deleted pets")
+    private List<Integer> pets;
+
+    @Schema(description = "IDs of the deleted visits")
+    private List<Integer> visits;
+
+    @Schema(description = "IDs of the deleted vaccinations")
+    private List<Integer> vaccinations;
+
+    @Schema(description = "IDs of the deleted appointments")
+    private List<Integer> appointments;
+
+    @Schema(description = "IDs of the deleted vets")
+    private List<Integer> vets;
+
+}
@@ -0,0 +1,58 @@
+package dev.ilionx.workshop.api.sync.model.response;
+
+import dev.ilionx.workshop.api.appointment.model.response.AppointmentResponse;
+import dev.ilionx.workshop.api.owner.model.response.OwnerResponse;
+import dev.ilionx.workshop.api.pet.model.response.PetResponse;
+import dev.ilionx.workshop.api.vaccination.model.response.VaccinationResponse;
+import dev.ilionx.workshop.api.vet.model.response.VetResponse;
+import dev.ilionx.workshop.api.visit.model.response.VisitResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+
+/**
+ * Response DTO for a delta sync.
+ */
+@Data
+@NoArgsConstructor
+@Accessors(chain = true)
+@Schema(description = "Records changed since the given sync token")
+public class SyncResponse {
+
+    @Schema(
+        description = "Token to pass as 'since' on the next sync",
+        example = "djE6MTc2MDg2NzIwMDAwMA"
+    )
+    private String token;
+
+    @Schema(
+        description = "Whether all records are returned, in which case the client should replace its local copy",
+        example = "false"
+    )
+    private boolean fullSync;
+
+    @Schema(description = "Created or modified owners")
+    private List<OwnerResponse> owners;
+
+    @Schema(description = "Created or modified pets")
+    private List<PetResponse> pets;
+
+    @Schema(description = "Created or modified visits")
+    private List<VisitResponse> visits;
+
+    @Schema(description = "Created or modified vaccinations")
+    private List<VaccinationResponse> vaccinations;
+
+    @Schema(description = "Created or modified appointments")
+    private List<AppointmentResponse> appointments;
+
+    @Schema(description = "Created or modified vets")
+    private List<VetResponse> vets;
+
+    @Schema(description = "Deleted records")
+    private DeletedRecordsResponse deleted;
+
+}
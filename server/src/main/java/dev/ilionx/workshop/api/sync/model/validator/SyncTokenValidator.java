@@ -0,0 +1,59 @@
+package dev.ilionx.workshop.api.sync.model.validator;
+
+import dev.ilionx.workshop.api.sync.model.SyncToken;
+import dev.ilionx.workshop.common.config.properties.SyncProperties;
+import io.github.jframe.exception.core.ValidationException;
+import io.github.jframe.validation.ValidationResult;
+import io.github.jframe.validation.Validator;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+
+import org.springframework.stereotype.Component;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Validator for delta sync tokens.
+ */
+@Component
+@RequiredArgsConstructor
+public class SyncTokenValidator implements Validator<String> {
+
+    // Error messages
+    public static final String TOKEN_INVALID = "Sync token is invalid";
+    public static final String TOKEN_EXPIRED = "Sync token has expired, perform a full sync without a token";
+
+    // Fields
+    public static final String SINCE = "since";
+
+    private final SyncProperties syncProperties;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validate(final String token, final ValidationResult result) {
+        if (isNull(token)) {
+            return;
+        }
+
+        final Instant now = Instant.now();
+        result.rejectField(SINCE, decodePosition(token))
+            .whenNull(TOKEN_INVALID)
+            .orWhen(position -> position.isAfter(now), TOKEN_INVALID)
+            .orWhen(position -> position.isBefore(now.minus(syncProperties.getTombstoneRetention())), TOKEN_EXPIRED);
+
+        if (result.hasErrors()) {
+            throw new ValidationException(result);
+        }
+    }
+
+    private static Instant decodePosition(final String token) {
+        try {
+            return SyncToken.decode(token).position();
+        } catch (final IllegalArgumentException exception) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package dev.ilionx.workshop.api.sync.repository;
+
+import dev.ilionx.workshop.api.sync.model.Tombstone;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for Tombstone entity.
+ *
+ * <p>Deleting an owner, pet or vet also removes its dependent records, either through JPA cascading or through
+ * {@code ON DELETE CASCADE}. The {@code recordDependentsOf*} methods write the tombstones for those dependents and must
+ * run before the parent is deleted.
+ */
+@Repository
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+
+    /**
+     * Find all tombstones written after the given moment.
+     */
+    List<Tombstone> findByDeletedAtAfter(Instant since);
+
+    /**
+     * Record tombstones for the pets of an owner and everything that belongs to those pets.
+     */
+    @Modifying
+    @Query(
+        value = """
+            INSERT INTO tombstones (entity_type, entity_id, deleted_at)
+            SELECT 'PET', p.id, :deletedAt FROM pets p WHERE p.owner_id = :ownerId
+            UNION ALL
+            SELECT 'VISIT', v.id, :deletedAt FROM visits v JOIN pets p ON p.id = v.pet_id WHERE p.owner_id = :ownerId
+            UNION ALL
+            SELECT 'VACCINATION', v.id, :deletedAt FROM vaccinations v JOIN pets p ON p.id = v.pet_id WHERE p.owner_id = :ownerId
+            UNION ALL
+            SELECT 'APPOINTMENT', a.id, :deletedAt FROM appointments a JOIN pets p ON p.id = a.pet_id WHERE p.owner_id = :ownerId
+            """,
+        nativeQuery = true
+    )
+    int recordDependentsOfOwner(@Param("ownerId") Integer ownerId, @Param("deletedAt") Instant deletedAt);
+
+    /**
+     * Record tombstones for the visits, vaccinations and appointments of a pet.
+     */
+    @Modifying
+    @Query(
+        value = """
+            INSERT INTO tombstones (entity_type, entity_id, deleted_at)
+            SELECT 'VISIT', v.id, :deletedAt FROM visits v WHERE v.pet_id = :petId
+            UNION ALL
+            SELECT 'VACCINATION', v.id, :deletedAt FROM vaccinations v WHERE v.pet_id = :petId
+            UNION ALL
+            SELECT 'APPOINTMENT', a.id, :deletedAt FROM appointments a WHERE a.pet_id = :petId
+            """,
+        nativeQuery = true
+    )
+    int recordDependentsOfPet(@Param("petId") Integer petId, @Param("deletedAt") Instant deletedAt);
+
+    /**
+     * Record tombstones for the appointments of a vet.
+     */
+    @Modifying
+    @Query(
+        value = """
+            INSERT INTO tombstones (entity_type, entity_id, deleted_at)
+            SELECT 'APPOINTMENT', a.id, :deletedAt FROM appointments a WHERE a.vet_id = :vetId
+            """,
+        nativeQuery = true
+    )
+    int recordDependentsOfVet(@Param("vetId") Integer vetId, @Param("deletedAt") Instant deletedAt);
+
+    /**
+     * Delete all tombstones written before the given moment.
+     */
+    @Modifying
+    @Query("DELETE FROM Tombstone t WHERE t.deletedAt < :before")
+    int deleteByDeletedAtBefore(@Param("before") Instant before);
+
+}
@@ -0,0 +1,106 @@
+package dev.ilionx.workshop.api.sync.service;
+
+import dev.ilionx.workshop.api.appointment.repository.AppointmentRepository;
+import dev.ilionx.workshop.api.owner.repository.OwnerRepository;
+import dev.ilionx.workshop.api.pet.repository.PetRepository;
+import dev.ilionx.workshop.api.sync.model.DeletedRecords;
+import dev.ilionx.workshop.api.sync.model.SyncChanges;
+import dev.ilionx.workshop.api.sync.model.SyncToken;
+import dev.ilionx.workshop.api.sync.model.Tombstone;
+import dev.ilionx.workshop.api.sync.model.validator.SyncTokenValidator;
+import dev.ilionx.workshop.api.sync.repository.TombstoneRepository;
+import dev.ilionx.workshop.api.vaccination.repository.VaccinationRepository;
+import dev.ilionx.workshop.api.vet.repository.VetRepository;
+import dev.ilionx.workshop.api.visit.repository.VisitRepository;
+import dev.ilionx.workshop.common.config.properties.SyncProperties;
+import dev.ilionx.workshop.common.event.EntityType;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service providing delta sync of the owners, pets, visits, vaccinations, appointments and vets collections.
+ */
+@Service
+@RequiredArgsConstructor
+public class SyncService {
+
+    private final OwnerRepository ownerRepository;
+    private final PetRepository petRepository;
+    private final VisitRepository visitRepository;
+    private final VaccinationRepository vaccinationRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final VetRepository vetRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final SyncTokenValidator syncTokenValidator;
+    private final SyncProperties syncProperties;
+
+    /**
+     * Finds all records created, modified or deleted since the given token. Without a token every record is returned.
+     *
+     * <p>The returned token marks the moment this sync started. The next sync returns everything modified after that
+     * moment minus a safety lag, so a record committed by a transaction that was still running is never missed. Clients
+     * must therefore treat changes as idempotent upserts.
+     *
+     * @param since the token of the previous sync, or {@code null} for a full sync
+     * @return the changes and the token for the next sync
+     */
+    @Transactional(readOnly = true)
+    public SyncChanges findChanges(final String since) {
+        final Instant now = Instant.now();
+        if (since == null) {
+            return new SyncChanges(
+                new SyncToken(now).encode(),
+                true,
+                ownerRepository.findAll(),
+                petRepository.findAll(),
+                visitRepository.findAll(),
+                vaccinationRepository.findAll(),
+                appointmentRepository.findAll(),
+                vetRepository.findAll(),
+                DeletedRecords.none()
+            );
+        }
+
+        syncTokenValidator.validateAndThrow(since);
+        final Instant position = SyncToken.decode(since).position();
+        final Instant from = position.minus(syncProperties.getSafetyLag());
+        final SyncToken next = new SyncToken(now.isAfter(position) ? now : position);
+        return new SyncChanges(
+            next.encode(),
+            false,
+            ownerRepository.findByUpdatedAtAfter(from),
+            petRepository.findByUpdatedAtAfter(from),
+            visitRepository.findByUpdatedAtAfter(from),
+            vaccinationRepository.findByUpdatedAtAfter(from),
+            appointmentRepository.findByUpdatedAtAfter(from),
+            vetRepository.findByUpdatedAtAfter(from),
+            findDeletedSince(from)
+        );
+    }
+
+    private DeletedRecords findDeletedSince(final Instant from) {
+        final Map<EntityType, List<Integer>> deleted = tombstoneRepository.findByDeletedAtAfter(from).stream()
+            .collect(Collectors.groupingBy(
+                Tombstone::getEntityType,
+                () -> new EnumMap<>(EntityType.class),
+                Collectors.mapping(Tombstone::getEntityId, Collectors.toList())
+            ));
+
+        return new DeletedRecords(
+            deleted.getOrDefault(EntityType.OWNER, List.of()),
+            deleted.getOrDefault(EntityType.PET, List.of()),
+            deleted.getOrDefault(EntityType.VISIT, List.of()),
+            deleted.getOrDefault(EntityType.VACCINATION, List.of()),
+            deleted.getOrDefault(EntityType.APPOINTMENT, List.of()),
+            deleted.getOrDefault(EntityType.VET, List.of())
+        );
+    }
+}
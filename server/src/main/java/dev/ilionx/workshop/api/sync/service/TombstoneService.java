@@ -0,0 +1,82 @@
+package dev.ilionx.workshop.api.sync.service;
+
+import dev.ilionx.workshop.api.sync.model.Tombstone;
+import dev.ilionx.workshop.api.sync.repository.TombstoneRepository;
+import dev.ilionx.workshop.common.config.properties.SyncProperties;
+import dev.ilionx.workshop.common.event.ChangeType;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+import dev.ilionx.workshop.common.event.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service recording and pruning the tombstones of deleted records.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TombstoneService {
+
+    private static final Set<EntityType> SYNCED_TYPES = EnumSet.of(
+        EntityType.OWNER,
+        EntityType.PET,
+        EntityType.VISIT,
+        EntityType.VACCINATION,
+        EntityType.APPOINTMENT,
+        EntityType.VET
+    );
+
+    private final TombstoneRepository tombstoneRepository;
+    private final SyncProperties syncProperties;
+
+    /**
+     * Record a tombstone for a deleted record and its dependents. Runs inside the deleting transaction, so the
+     * tombstones are committed or rolled back together with the delete.
+     *
+     * @param event the change event
+     */
+    @EventListener
+    @Transactional
+    public void onEntityChanged(final EntityChangedEvent event) {
+        if (event.changeType() != ChangeType.DELETED || !SYNCED_TYPES.contains(event.entityType())) {
+            return;
+        }
+
+        final Instant deletedAt = Instant.now();
+        switch (event.entityType()) {
+            case OWNER -> tombstoneRepository.recordDependentsOfOwner(event.entityId(), deletedAt);
+            case PET -> tombstoneRepository.recordDependentsOfPet(event.entityId(), deletedAt);
+            case VET -> tombstoneRepository.recordDependentsOfVet(event.entityId(), deletedAt);
+            default -> {
+                // Visits, vaccinations and appointments have no dependents.
+            }
+        }
+
+        final Tombstone tombstone = new Tombstone();
+        tombstone.setEntityType(event.entityType());
+        tombstone.setEntityId(event.entityId());
+        tombstone.setDeletedAt(deletedAt);
+        tombstoneRepository.save(tombstone);
+    }
+
+    /**
+     * Remove tombstones that are older than the retention period.
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${sync.prune-interval:1h}")
+    public void pruneExpiredTombstones() {
+        final int pruned = tombstoneRepository.deleteByDeletedAtBefore(Instant.now().minus(syncProperties.getTombstoneRetention()));
+        if (pruned > 0) {
+            log.info("Pruned '{}' expired tombstones", pruned);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import dev.ilionx.workshop.api.vaccination.model.request.CreateVaccinationReques
 import dev.ilionx.workshop.api.vaccination.model.request.UpdateVaccinationRequest;
 import dev.ilionx.workshop.api.vaccination.model.response.VaccinationResponse;
 import dev.ilionx.workshop.api.vaccination.service.VaccinationService;
+import dev.ilionx.workshop.common.persistence.sql.QueryBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -48,6 +49,7 @@ public class VaccinationController {
         path = PET_VACCINATIONS,
         produces = APPLICATION_JSON_VALUE
     )
+    @QueryBudget(maxStatements = 11)
     public ResponseEntity<List<VaccinationResponse>> getVaccinationsByPet(
         @PathVariable final Integer ownerId,
         @PathVariable final Integer petId
@@ -0,0 +1,55 @@
+package dev.ilionx.workshop.api.vaccination.controller;
+
+import dev.ilionx.workshop.api.vaccination.model.DueVaccination;
+import dev.ilionx.workshop.api.vaccination.model.mapper.VaccinationMapper;
+import dev.ilionx.workshop.api.vaccination.model.response.DueVaccinationPageResponse;
+import dev.ilionx.workshop.api.vaccination.service.VaccinationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import static dev.ilionx.workshop.api.Paths.VACCINATIONS_DUE;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+/**
+ * REST controller for vaccination queries across all pets.
+ */
+@Tag(
+    name = "Vaccination",
+    description = "Vaccination management endpoints (global)"
+)
+@RestController
+@RequiredArgsConstructor
+public class VaccinationGlobalController {
+
+    private final VaccinationService vaccinationService;
+    private final VaccinationMapper vaccinationMapper;
+
+    @ResponseStatus(OK)
+    @Operation(
+        summary = "Get due vaccinations",
+        description = "Returns the vaccinations due within the next number of days, optionally filtered by pet type and owner city"
+    )
+    @GetMapping(
+        path = VACCINATIONS_DUE,
+        produces = APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<DueVaccinationPageResponse> getDueVaccinations(
+        @RequestParam(defaultValue = "30") final int days,
+        @RequestParam(required = false) final Integer petTypeId,
+        @RequestParam(required = false) final String city,
+        @RequestParam(defaultValue = "0") final int page,
+        @RequestParam(defaultValue = "100") final int size
+    ) {
+        final Slice<DueVaccination> dueVaccinations = vaccinationService.findDue(days, petTypeId, city, page, size);
+        return ResponseEntity.status(OK).body(vaccinationMapper.toDuePageResponse(dueVaccinations));
+    }
+}
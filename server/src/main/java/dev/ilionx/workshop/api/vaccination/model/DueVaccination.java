@@ -0,0 +1,31 @@
+package dev.ilionx.workshop.api.vaccination.model;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only projection of a vaccination that is due, flattened with the pet and owner details a clinic needs to follow up.
+ *
+ * @param id          the vaccination ID
+ * @param vaccineName the vaccine name
+ * @param nextDueDate the date the vaccination is due
+ * @param petId       the pet ID
+ * @param petName     the pet name
+ * @param petTypeName the pet type name
+ * @param ownerId     the owner ID
+ * @param ownerName   the owner's full name
+ * @param ownerCity   the owner's city
+ * @param telephone   the owner's telephone number
+ */
+public record DueVaccination(
+    Integer id,
+    String vaccineName,
+    LocalDate nextDueDate,
+    Integer petId,
+    String petName,
+    String petTypeName,
+    Integer ownerId,
+    String ownerName,
+    String ownerCity,
+    String telephone
+) {
+}
@@ -1,6 +1,7 @@
 package dev.ilionx.workshop.api.vaccination.model;
 
 import dev.ilionx.workshop.api.pet.model.Pet;
+import dev.ilionx.workshop.common.persistence.Auditable;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -26,7 +27,7 @@ import jakarta.validation.constraints.Past;
 @Getter
 @Setter
 @NoArgsConstructor
-public class Vaccination {
+public class Vaccination extends Auditable {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
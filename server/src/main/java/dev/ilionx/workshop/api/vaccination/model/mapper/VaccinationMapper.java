@@ -1,12 +1,16 @@
 package dev.ilionx.workshop.api.vaccination.model.mapper;
 
+import dev.ilionx.workshop.api.vaccination.model.DueVaccination;
 import dev.ilionx.workshop.api.vaccination.model.Vaccination;
+import dev.ilionx.workshop.api.vaccination.model.response.DueVaccinationPageResponse;
+import dev.ilionx.workshop.api.vaccination.model.response.DueVaccinationResponse;
 import dev.ilionx.workshop.api.vaccination.model.response.VaccinationResponse;
 
 import java.util.List;
 
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.springframework.data.domain.Slice;
 
 /**
  * Mapper for Vaccination entity to response DTO.
@@ -26,4 +30,16 @@ public interface VaccinationMapper {
 
     List<VaccinationResponse> toResponseList(List<Vaccination> vaccinations);
 
+    DueVaccinationResponse toDueResponse(DueVaccination dueVaccination);
+
+    List<DueVaccinationResponse> toDueResponseList(List<DueVaccination> dueVaccinations);
+
+    default DueVaccinationPageResponse toDuePageResponse(final Slice<DueVaccination> slice) {
+        return new DueVaccinationPageResponse()
+            .setContent(toDueResponseList(slice.getContent()))
+            .setPage(slice.getNumber())
+            .setSize(slice.getSize())
+            .setHasNext(slice.hasNext());
+    }
+
 }
@@ -0,0 +1,40 @@
+package dev.ilionx.workshop.api.vaccination.model.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+
+/**
+ * Response DTO containing a single page of due vaccinations.
+ */
+@Data
+@NoArgsConstructor
+@Accessors(chain = true)
+@Schema(description = "Page of vaccinations that are due")
+public class DueVaccinationPageResponse {
+
+    @Schema(description = "The due vaccinations on this page, ordered by due date")
+    private List<DueVaccinationResponse> content;
+
+    @Schema(
+        description = "Zero-based page number",
+        example = "0"
+    )
+    private int page;
+
+    @Schema(
+        description = "Requested page size",
+        example = "100"
+    )
+    private int size;
+
+    @Schema(
+        description = "Whether a next page is available",
+        example = "true"
+    )
+    private boolean hasNext;
+
+}
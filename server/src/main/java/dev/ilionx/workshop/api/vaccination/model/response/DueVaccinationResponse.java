@@ -0,0 +1,79 @@
+package dev.ilionx.workshop.api.vaccination.model.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+import java.time.LocalDate;
+
+/**
+ * Response DTO for a vaccination that is due.
+ */
+@Data
+@NoArgsConstructor
+@Accessors(chain = true)
+@Schema(description = "Vaccination that is due within the requested window")
+public class DueVaccinationResponse {
+
+    @Schema(
+        description = "Vaccination ID",
+        example = "1"
+    )
+    private Integer id;
+
+    @Schema(
+        description = "Name of the vaccine",
+        example = "Rabies"
+    )
+    private String vaccineName;
+
+    @Schema(
+        description = "Date the vaccination is due",
+        example = "2024-01-01"
+    )
+    private LocalDate nextDueDate;
+
+    @Schema(
+        description = "Pet ID",
+        example = "1"
+    )
+    private Integer petId;
+
+    @Schema(
+        description = "Pet name",
+        example = "Leo"
+    )
+    private String petName;
+
+    @Schema(
+        description = "Pet type name",
+        example = "Cat"
+    )
+    private String petTypeName;
+
+    @Schema(
+        description = "Owner ID",
+        example = "1"
+    )
+    private Integer ownerId;
+
+    @Schema(
+        description = "Owner's full name",
+        example = "George Franklin"
+    )
+    private String ownerName;
+
+    @Schema(
+        description = "Owner's city",
+        example = "Madison"
+    )
+    private String ownerCity;
+
+    @Schema(
+        description = "Owner's telephone number",
+        example = "6085551023"
+    )
+    private String telephone;
+
+}
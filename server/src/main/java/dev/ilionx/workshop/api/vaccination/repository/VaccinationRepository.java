@@ -1,10 +1,17 @@
 package dev.ilionx.workshop.api.vaccination.repository;
 
+import dev.ilionx.workshop.api.vaccination.model.DueVaccination;
 import dev.ilionx.workshop.api.vaccination.model.Vaccination;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -21,4 +28,48 @@ public interface VaccinationRepository extends JpaRepository<Vaccination, Intege
      */
     List<Vaccination> findByPetId(Integer petId);
 
+    /**
+     * Find the vaccinations that fall due within the given window, ordered by due date. The result is a projection, so
+     * the eager pet/owner graph is never loaded, and a {@link Slice} is returned so no count query is issued.
+     *
+     * @param from      the first day of the window (inclusive)
+     * @param until     the last day of the window (inclusive)
+     * @param petTypeId optional pet type filter
+     * @param city      optional owner city filter
+     * @param pageable  the page to fetch
+     * @return a slice of due vaccinations
+     */
+    @Query(
+        """
+            SELECT new dev.ilionx.workshop.api.vaccination.model.DueVaccination(
+                v.id, v.vaccineName, v.nextDueDate,
+                p.id, p.name, t.name,
+                o.id, CONCAT(o.firstName, ' ', o.lastName), o.city, o.telephone
+            )
+            FROM Vaccination v
+            JOIN v.pet p
+            JOIN p.type t
+            JOIN p.owner o
+            WHERE v.nextDueDate BETWEEN :from AND :until
+              AND (:petTypeId IS NULL OR t.id = :petTypeId)
+              AND (:city IS NULL OR o.city = :city)
+            ORDER BY v.nextDueDate, v.id
+            """
+    )
+    Slice<DueVaccination> findDue(
+        @Param("from") LocalDate from,
+        @Param("until") LocalDate until,
+        @Param("petTypeId") Integer petTypeId,
+        @Param("city") String city,
+        Pageable pageable
+    );
+
+    /**
+     * Finds all vaccinations created or modified after the given moment.
+     *
+     * @param since the moment to compare the last modification with
+     * @return a list of vaccinations modified after the moment
+     */
+    List<Vaccination> findByUpdatedAtAfter(Instant since);
+
 }
@@ -2,15 +2,22 @@ package dev.ilionx.workshop.api.vaccination.service;
 
 import dev.ilionx.workshop.api.pet.model.Pet;
 import dev.ilionx.workshop.api.pet.repository.PetRepository;
+import dev.ilionx.workshop.api.vaccination.model.DueVaccination;
 import dev.ilionx.workshop.api.vaccination.model.Vaccination;
 import dev.ilionx.workshop.api.vaccination.model.request.CreateVaccinationRequest;
 import dev.ilionx.workshop.api.vaccination.model.request.UpdateVaccinationRequest;
 import dev.ilionx.workshop.api.vaccination.repository.VaccinationRepository;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+import dev.ilionx.workshop.common.event.EntityType;
 import io.github.jframe.exception.core.DataNotFoundException;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,8 +31,15 @@ public class VaccinationService {
 
     private static final String PET_NOT_FOUND_MSG = "Pet not found with id: ";
 
+    /** The widest window, in days, the due-vaccinations query accepts. */
+    public static final int MAX_DUE_WINDOW_DAYS = 365;
+
+    /** The largest page the due-vaccinations query returns. */
+    public static final int MAX_DUE_PAGE_SIZE = 500;
+
     private final PetRepository petRepository;
     private final VaccinationRepository vaccinationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Find all vaccinations for a specific pet.
@@ -52,6 +66,28 @@ public class VaccinationService {
             .orElseThrow(() -> new DataNotFoundException("Vaccination not found with id: " + id));
     }
 
+    /**
+     * Find the vaccinations that fall due between today and the given number of days ahead.
+     *
+     * @param days      the size of the window in days, clamped to {@link #MAX_DUE_WINDOW_DAYS}
+     * @param petTypeId optional pet type filter
+     * @param city      optional owner city filter
+     * @param page      the zero-based page number
+     * @param size      the page size, clamped to {@link #MAX_DUE_PAGE_SIZE}
+     * @return a slice of due vaccinations ordered by due date
+     */
+    @Transactional(readOnly = true)
+    public Slice<DueVaccination> findDue(final int days,
+        final Integer petTypeId,
+        final String city,
+        final int page,
+        final int size) {
+        final LocalDate today = LocalDate.now();
+        final LocalDate until = today.plusDays(Math.clamp(days, 0, MAX_DUE_WINDOW_DAYS));
+        final PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.clamp(size, 1, MAX_DUE_PAGE_SIZE));
+        return vaccinationRepository.findDue(today, until, petTypeId, city, pageRequest);
+    }
+
     /**
      * Create a new vaccination.
      *
@@ -70,7 +106,9 @@ public class VaccinationService {
         vaccination.setNextDueDate(request.getNextDueDate());
         vaccination.setPet(pet);
 
-        return vaccinationRepository.save(vaccination);
+        final Vaccination saved = vaccinationRepository.save(vaccination);
+        eventPublisher.publishEvent(scoped(EntityChangedEvent.created(EntityType.VACCINATION, saved.getId()), saved));
+        return saved;
     }
 
     /**
@@ -88,7 +126,9 @@ public class VaccinationService {
         vaccination.setVaccinationDate(request.getVaccinationDate());
         vaccination.setNextDueDate(request.getNextDueDate());
 
-        return vaccinationRepository.save(vaccination);
+        final Vaccination saved = vaccinationRepository.save(vaccination);
+        eventPublisher.publishEvent(scoped(EntityChangedEvent.updated(EntityType.VACCINATION, saved.getId()), saved));
+        return saved;
     }
 
     /**
@@ -99,7 +139,12 @@ public class VaccinationService {
      */
     public void delete(final Integer id) {
         final Vaccination vaccination = findById(id);
+        eventPublisher.publishEvent(scoped(EntityChangedEvent.deleted(EntityType.VACCINATION, id), vaccination));
         vaccinationRepository.delete(vaccination);
     }
 
+    private static EntityChangedEvent scoped(final EntityChangedEvent event, final Vaccination vaccination) {
+        return event.withOwner(vaccination.getPet().getOwner().getId());
+    }
+
 }
@@ -6,6 +6,7 @@ import dev.ilionx.workshop.api.vet.model.request.CreateSpecialtyRequest;
 import dev.ilionx.workshop.api.vet.model.request.UpdateSpecialtyRequest;
 import dev.ilionx.workshop.api.vet.model.response.SpecialtyResponse;
 import dev.ilionx.workshop.api.vet.service.SpecialtyService;
+import dev.ilionx.workshop.common.persistence.sql.QueryBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -45,6 +46,7 @@ public class SpecialtyController {
         path = SPECIALTIES,
         produces = APPLICATION_JSON_VALUE
     )
+    @QueryBudget(maxStatements = 1)
     public ResponseEntity<List<SpecialtyResponse>> getAllSpecialties() {
         final List<Specialty> specialties = specialtyService.findAll();
         return ResponseEntity.status(OK).body(specialtyMapper.toResponseList(specialties));
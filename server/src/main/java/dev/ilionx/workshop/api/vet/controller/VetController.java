@@ -6,6 +6,7 @@ import dev.ilionx.workshop.api.vet.model.request.CreateVetRequest;
 import dev.ilionx.workshop.api.vet.model.request.UpdateVetRequest;
 import dev.ilionx.workshop.api.vet.model.response.VetResponse;
 import dev.ilionx.workshop.api.vet.service.VetService;
+import dev.ilionx.workshop.common.persistence.sql.QueryBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -45,6 +46,7 @@ public class VetController {
         path = VETS,
         produces = APPLICATION_JSON_VALUE
     )
+    @QueryBudget(maxStatements = 7)
     public ResponseEntity<List<VetResponse>> getAllVets() {
         final List<Vet> vets = vetService.findAll();
         return ResponseEntity.status(OK).body(vetMapper.toResponseList(vets));
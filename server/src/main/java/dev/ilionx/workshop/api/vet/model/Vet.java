@@ -1,5 +1,6 @@
 package dev.ilionx.workshop.api.vet.model;
 
+import dev.ilionx.workshop.common.persistence.Auditable;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -25,7 +26,7 @@ import jakarta.persistence.Table;
 @Getter
 @Setter
 @NoArgsConstructor
-public class Vet {
+public class Vet extends Auditable {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
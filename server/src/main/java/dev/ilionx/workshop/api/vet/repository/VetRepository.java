@@ -2,6 +2,9 @@ package dev.ilionx.workshop.api.vet.repository;
 
 import dev.ilionx.workshop.api.vet.model.Vet;
 
+import java.time.Instant;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,4 +13,12 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface VetRepository extends JpaRepository<Vet, Integer> {
+
+    /**
+     * Finds all vets created or modified after the given moment.
+     *
+     * @param since the moment to compare the last modification with
+     * @return a list of vets modified after the moment
+     */
+    List<Vet> findByUpdatedAtAfter(Instant since);
 }
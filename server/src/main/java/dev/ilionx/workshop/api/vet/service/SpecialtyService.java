@@ -4,11 +4,15 @@ import dev.ilionx.workshop.api.vet.model.Specialty;
 import dev.ilionx.workshop.api.vet.model.request.CreateSpecialtyRequest;
 import dev.ilionx.workshop.api.vet.model.request.UpdateSpecialtyRequest;
 import dev.ilionx.workshop.api.vet.repository.SpecialtyRepository;
+import dev.ilionx.workshop.common.concurrency.RequestCoalescer;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+import dev.ilionx.workshop.common.event.EntityType;
 import io.github.jframe.exception.core.DataNotFoundException;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +26,8 @@ import static dev.ilionx.workshop.common.exception.ApiErrorCode.SPECIALTY_NOT_FO
 public class SpecialtyService {
 
     private final SpecialtyRepository specialtyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RequestCoalescer requestCoalescer;
 
     /**
      * Retrieves all specialties.
@@ -30,7 +36,7 @@ public class SpecialtyService {
      */
     @Transactional(readOnly = true)
     public List<Specialty> findAll() {
-        return specialtyRepository.findAll();
+        return requestCoalescer.execute("specialty.findAll", specialtyRepository::findAll);
     }
 
     /**
@@ -41,8 +47,8 @@ public class SpecialtyService {
      */
     @Transactional(readOnly = true)
     public Specialty findById(final Integer id) {
-        return specialtyRepository.findById(id)
-            .orElseThrow(() -> new DataNotFoundException(SPECIALTY_NOT_FOUND));
+        return requestCoalescer.execute("specialty.findById", id, () -> specialtyRepository.findById(id)
+            .orElseThrow(() -> new DataNotFoundException(SPECIALTY_NOT_FOUND)));
     }
 
     /**
@@ -55,7 +61,10 @@ public class SpecialtyService {
     public Specialty create(final CreateSpecialtyRequest request) {
         final Specialty specialty = new Specialty();
         specialty.setName(request.getName());
-        return specialtyRepository.save(specialty);
+
+        final Specialty saved = specialtyRepository.save(specialty);
+        eventPublisher.publishEvent(EntityChangedEvent.created(EntityType.SPECIALTY, saved.getId()));
+        return saved;
     }
 
     /**
@@ -69,7 +78,10 @@ public class SpecialtyService {
     public Specialty update(final Integer id, final UpdateSpecialtyRequest request) {
         final Specialty specialty = findById(id);
         specialty.setName(request.getName());
-        return specialtyRepository.save(specialty);
+
+        final Specialty saved = specialtyRepository.save(specialty);
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.SPECIALTY, saved.getId()));
+        return saved;
     }
 
     /**
@@ -80,6 +92,7 @@ public class SpecialtyService {
     @Transactional
     public void delete(final Integer id) {
         findById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(EntityType.SPECIALTY, id));
         specialtyRepository.deleteById(id);
     }
 }
@@ -6,12 +6,18 @@ import dev.ilionx.workshop.api.vet.model.request.CreateVetRequest;
 import dev.ilionx.workshop.api.vet.model.request.UpdateVetRequest;
 import dev.ilionx.workshop.api.vet.repository.SpecialtyRepository;
 import dev.ilionx.workshop.api.vet.repository.VetRepository;
+import dev.ilionx.workshop.common.cache.EntityCache;
+import dev.ilionx.workshop.common.concurrency.RequestCoalescer;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+import dev.ilionx.workshop.common.event.EntityType;
 import io.github.jframe.exception.core.DataNotFoundException;
 import lombok.RequiredArgsConstructor;
 
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +32,9 @@ public class VetService {
 
     private final VetRepository vetRepository;
     private final SpecialtyRepository specialtyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RequestCoalescer requestCoalescer;
+    private final EntityCache<Integer, Vet> vetCache;
 
     /**
      * Retrieves all veterinarians.
@@ -34,7 +43,7 @@ public class VetService {
      */
     @Transactional(readOnly = true)
     public List<Vet> findAll() {
-        return vetRepository.findAll();
+        return requestCoalescer.execute("vet.findAll", vetRepository::findAll);
     }
 
     /**
@@ -45,8 +54,8 @@ public class VetService {
      */
     @Transactional(readOnly = true)
     public Vet findById(final Integer id) {
-        return vetRepository.findById(id)
-            .orElseThrow(() -> new DataNotFoundException(VET_NOT_FOUND));
+        return vetCache.get(id, () -> requestCoalescer.execute("vet.findById", id, () -> vetRepository.findById(id)
+            .orElseThrow(() -> new DataNotFoundException(VET_NOT_FOUND))));
     }
 
     /**
@@ -64,7 +73,9 @@ public class VetService {
         final List<Specialty> specialties = specialtyRepository.findAllById(request.getSpecialtyIds());
         vet.setSpecialties(new HashSet<>(specialties));
 
-        return vetRepository.save(vet);
+        final Vet saved = vetRepository.save(vet);
+        eventPublisher.publishEvent(EntityChangedEvent.created(EntityType.VET, saved.getId()).withVet(saved.getId()));
+        return saved;
     }
 
     /**
@@ -82,8 +93,12 @@ public class VetService {
 
         final List<Specialty> specialties = specialtyRepository.findAllById(request.getSpecialtyIds());
         vet.setSpecialties(new HashSet<>(specialties));
+        // A change to the specialties alone does not make the vet dirty, so touch it for the delta sync.
+        vet.setUpdatedAt(Instant.now());
 
-        return vetRepository.save(vet);
+        final Vet saved = vetRepository.save(vet);
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.VET, saved.getId()).withVet(saved.getId()));
+        return saved;
     }
 
     /**
@@ -94,6 +109,7 @@ public class VetService {
     @Transactional
     public void delete(final Integer id) {
         findById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(EntityType.VET, id).withVet(id));
         vetRepository.deleteById(id);
     }
 }
@@ -7,6 +7,7 @@ import dev.ilionx.workshop.api.visit.model.request.CreateVisitRequest;
 import dev.ilionx.workshop.api.visit.model.request.UpdateVisitRequest;
 import dev.ilionx.workshop.api.visit.model.response.VisitResponse;
 import dev.ilionx.workshop.api.visit.service.VisitService;
+import dev.ilionx.workshop.common.persistence.sql.QueryBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -48,6 +49,7 @@ public class VisitController {
         path = PET_VISITS,
         produces = APPLICATION_JSON_VALUE
     )
+    @QueryBudget(maxStatements = 11)
     public ResponseEntity<List<VisitResponse>> getVisitsByPet(
         @PathVariable final Integer ownerId,
         @PathVariable final Integer petId
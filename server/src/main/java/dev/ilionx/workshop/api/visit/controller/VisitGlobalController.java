@@ -6,6 +6,7 @@ import dev.ilionx.workshop.api.visit.model.request.CreateVisitRequest;
 import dev.ilionx.workshop.api.visit.model.request.UpdateVisitRequest;
 import dev.ilionx.workshop.api.visit.model.response.VisitResponse;
 import dev.ilionx.workshop.api.visit.service.VisitService;
+import dev.ilionx.workshop.common.persistence.sql.QueryBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -45,6 +46,7 @@ public class VisitGlobalController {
         path = VISITS,
         produces = APPLICATION_JSON_VALUE
     )
+    @QueryBudget(maxStatements = 10)
     public ResponseEntity<List<VisitResponse>> getAllVisits() {
         final List<Visit> visits = visitService.findAll();
         return ResponseEntity.status(OK).body(visitMapper.toResponseList(visits));
@@ -2,6 +2,7 @@ package dev.ilionx.workshop.api.visit.repository;
 
 import dev.ilionx.workshop.api.visit.model.Visit;
 
+import java.time.Instant;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -20,4 +21,12 @@ public interface VisitRepository extends JpaRepository<Visit, Integer> {
      * @return list of visits for the given pet
      */
     List<Visit> findByPetId(Integer petId);
+
+    /**
+     * Finds all visits created or modified after the given moment.
+     *
+     * @param since the moment to compare the last modification with
+     * @return a list of visits modified after the moment
+     */
+    List<Visit> findByUpdatedAtAfter(Instant since);
 }
@@ -6,11 +6,16 @@ import dev.ilionx.workshop.api.visit.model.Visit;
 import dev.ilionx.workshop.api.visit.model.request.CreateVisitRequest;
 import dev.ilionx.workshop.api.visit.model.request.UpdateVisitRequest;
 import dev.ilionx.workshop.api.visit.repository.VisitRepository;
+import dev.ilionx.workshop.common.cache.EntityCache;
+import dev.ilionx.workshop.common.concurrency.RequestCoalescer;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+import dev.ilionx.workshop.common.event.EntityType;
 import io.github.jframe.exception.core.DataNotFoundException;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +31,9 @@ public class VisitService {
 
     private final PetRepository petRepository;
     private final VisitRepository visitRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RequestCoalescer requestCoalescer;
+    private final EntityCache<Integer, Visit> visitCache;
 
     /**
      * Finds all visits for a specific pet.
@@ -57,7 +65,9 @@ public class VisitService {
         visit.setDescription(request.getDescription());
         visit.setPet(pet);
 
-        return visitRepository.save(visit);
+        final Visit saved = visitRepository.save(visit);
+        eventPublisher.publishEvent(scoped(EntityChangedEvent.created(EntityType.VISIT, saved.getId()), saved));
+        return saved;
     }
 
     /**
@@ -78,8 +88,8 @@ public class VisitService {
      */
     @Transactional(readOnly = true)
     public Visit findById(final Integer visitId) {
-        return visitRepository.findById(visitId)
-            .orElseThrow(() -> new DataNotFoundException(VISIT_NOT_FOUND));
+        return visitCache.get(visitId, () -> requestCoalescer.execute("visit.findById", visitId, () -> visitRepository.findById(visitId)
+            .orElseThrow(() -> new DataNotFoundException(VISIT_NOT_FOUND))));
     }
 
     /**
@@ -94,7 +104,10 @@ public class VisitService {
         final Visit visit = findById(visitId);
         visit.setDate(request.getDate());
         visit.setDescription(request.getDescription());
-        return visitRepository.save(visit);
+
+        final Visit saved = visitRepository.save(visit);
+        eventPublisher.publishEvent(scoped(EntityChangedEvent.updated(EntityType.VISIT, saved.getId()), saved));
+        return saved;
     }
 
     /**
@@ -105,7 +118,12 @@ public class VisitService {
     @Transactional
     public void delete(final Integer visitId) {
         final Visit visit = findById(visitId);
+        eventPublisher.publishEvent(scoped(EntityChangedEvent.deleted(EntityType.VISIT, visitId), visit));
         visit.getPet().getVisits().remove(visit);
         visitRepository.delete(visit);
     }
+
+    private static EntityChangedEvent scoped(final EntityChangedEvent event, final Visit visit) {
+        return event.withOwner(visit.getPet().getOwner().getId());
+    }
 }
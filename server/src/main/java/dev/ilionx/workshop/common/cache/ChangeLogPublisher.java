@@ -0,0 +1,51 @@
+package dev.ilionx.workshop.common.cache;
+
+import dev.ilionx.workshop.common.cache.model.ChangeLogEntry;
+import dev.ilionx.workshop.common.cache.repository.ChangeLogRepository;
+import dev.ilionx.workshop.common.config.properties.CacheSyncProperties;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Appends every change to the cache change log, so other nodes can invalidate their caches.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "cache-sync",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class ChangeLogPublisher {
+
+    private final ChangeLogRepository changeLogRepository;
+    private final CacheSyncProperties cacheSyncProperties;
+
+    /**
+     * Append a change to the change log. Runs inside the writing transaction, so the entry is committed or rolled back
+     * together with the change.
+     *
+     * @param event the change event
+     */
+    @EventListener
+    @Transactional
+    public void onEntityChanged(final EntityChangedEvent event) {
+        final ChangeLogEntry entry = new ChangeLogEntry();
+        entry.setEntityType(event.entityType());
+        entry.setEntityId(event.entityId());
+        entry.setChangeType(event.changeType());
+        entry.setOwnerId(event.ownerId());
+        entry.setVetId(event.vetId());
+        entry.setNodeId(cacheSyncProperties.getNodeId());
+        entry.setCreatedAt(Instant.now());
+        changeLogRepository.save(entry);
+    }
+}
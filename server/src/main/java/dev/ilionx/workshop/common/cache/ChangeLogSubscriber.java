@@ -0,0 +1,136 @@
+package dev.ilionx.workshop.common.cache;
+
+import dev.ilionx.workshop.common.cache.model.ChangeLogEntry;
+import dev.ilionx.workshop.common.cache.repository.ChangeLogRepository;
+import dev.ilionx.workshop.common.config.properties.CacheSyncProperties;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Tails the cache change log and invalidates the local caches for changes written by other nodes.
+ *
+ * <p>Each poll reads the entries above a watermark through the primary key index. IDs are assigned on insert but become
+ * visible on commit, so an ID skipped by the watermark may still appear when a slower transaction commits. Such gaps
+ * are looked up again on every poll until they show up or the grace period passes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "cache-sync",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class ChangeLogSubscriber {
+
+    private static final int MAX_GAPS = 10_000;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, Instant> gaps = new HashMap<>();
+    private long watermark = -1;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final EntityCacheInvalidator entityCacheInvalidator;
+    private final CacheSyncProperties cacheSyncProperties;
+
+    /**
+     * Start tailing from the current end of the change log; the caches are still empty.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        lock.lock();
+        try {
+            final Long maxId = changeLogRepository.findMaxId();
+            watermark = maxId == null ? 0 : maxId;
+            log.info("Tailing the cache change log from ID '{}' as node '{}'", watermark, cacheSyncProperties.getNodeId());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Apply the changes written by other nodes since the previous poll.
+     */
+    @Scheduled(fixedDelayString = "${cache-sync.poll-interval:1s}")
+    public void poll() {
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            if (watermark < 0) {
+                return;
+            }
+            final Instant now = Instant.now();
+            if (!gaps.isEmpty()) {
+                final List<ChangeLogEntry> filled = changeLogRepository.findByIdIn(List.copyOf(gaps.keySet()));
+                filled.forEach(entry -> gaps.remove(entry.getId()));
+                filled.forEach(this::apply);
+            }
+
+            List<ChangeLogEntry> entries;
+            do {
+                entries = changeLogRepository.findByIdGreaterThanOrderByIdAsc(watermark, Limit.of(cacheSyncProperties.getBatchSize()));
+                for (final ChangeLogEntry entry : entries) {
+                    recordGaps(entry.getId(), now);
+                    watermark = entry.getId();
+                    apply(entry);
+                }
+            } while (entries.size() == cacheSyncProperties.getBatchSize());
+
+            final Instant expired = now.minus(cacheSyncProperties.getGapGracePeriod());
+            gaps.values().removeIf(seenAt -> seenAt.isBefore(expired));
+        } catch (final RuntimeException exception) {
+            log.warn("Failed to poll the cache change log: {}", exception.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove change log entries that are older than the retention period.
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${cache-sync.prune-interval:10m}")
+    public void pruneExpiredEntries() {
+        final int pruned = changeLogRepository.deleteByCreatedAtBefore(Instant.now().minus(cacheSyncProperties.getRetention()));
+        if (pruned > 0) {
+            log.debug("Pruned '{}' expired cache change log entries", pruned);
+        }
+    }
+
+    private void recordGaps(final long id, final Instant now) {
+        for (long missing = watermark + 1; missing < id && gaps.size() < MAX_GAPS; missing++) {
+            gaps.put(missing, now);
+        }
+    }
+
+    private void apply(final ChangeLogEntry entry) {
+        if (cacheSyncProperties.getNodeId().equals(entry.getNodeId())) {
+            // Changes written by this node were already invalidated when they committed.
+            return;
+        }
+        entityCacheInvalidator.onEntityChanged(new EntityChangedEvent(
+            entry.getEntityType(),
+            entry.getEntityId(),
+            entry.getChangeType(),
+            entry.getOwnerId(),
+            entry.getVetId()
+        ));
+    }
+}
@@ -0,0 +1,174 @@
+package dev.ilionx.workshop.common.cache;
+
+import dev.ilionx.workshop.common.jfr.CacheAccessEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * A bounded read-through cache of entities, backed by Caffeine.
+ *
+ * <p>Caffeine admits and evicts entries with W-TinyLFU, so a burst of one-off reads does not push out the hot records.
+ * The cache is bounded by the estimated heap size of its entries and by a time to live.
+ *
+ * <p>Only reads inside a read-only transaction use the cache; every other read loads a managed entity from the
+ * database. Cached entities are detached and shared between requests, so they must be treated as read-only. A
+ * generation counter guards against a load that raced with an invalidation putting a stale entity back. Every read is
+ * recorded as a {@link CacheAccessEvent} when a JDK Flight Recorder recording enables it.
+ *
+ * @param <K> the type of the key
+ * @param <V> the type of the cached entity
+ */
+public class EntityCache<K, V> implements MeterBinder {
+
+    private final String name;
+    private final Cache<K, V> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Creates an entity cache.
+     *
+     * @param name             the name of the cache
+     * @param maximumWeight    the maximum estimated heap size of the entries in bytes
+     * @param expireAfterWrite how long an entry is kept after it was loaded
+     * @param weigher          estimates the heap size of an entry in bytes
+     */
+    public EntityCache(final String name,
+        final long maximumWeight,
+        final Duration expireAfterWrite,
+        final Weigher<? super K, ? super V> weigher) {
+        this.name = name;
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maximumWeight)
+            .weigher(weigher)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Returns the cached entity, or loads and caches it.
+     *
+     * @param key    the key
+     * @param loader loads the entity; may throw when the entity does not exist
+     * @return the entity
+     */
+    public V get(final K key, final Supplier<V> loader) {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return loader.get();
+        }
+
+        final CacheAccessEvent event = new CacheAccessEvent();
+        event.begin();
+        final V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            commit(event, true);
+            return cached;
+        }
+
+        final long loadGeneration = generation.get();
+        final V loaded = loader.get();
+        if (loaded != null) {
+            cache.put(key, loaded);
+            if (generation.get() != loadGeneration) {
+                // An invalidation ran while loading; the loaded entity may predate it.
+                cache.asMap().remove(key, loaded);
+            }
+        }
+        commit(event, false);
+        return loaded;
+    }
+
+    private void commit(final CacheAccessEvent event, final boolean hit) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setCache(name);
+            event.setHit(hit);
+            event.commit();
+        }
+    }
+
+    /**
+     * Removes the entry for a key.
+     *
+     * @param key the key
+     */
+    public void invalidate(final K key) {
+        generation.incrementAndGet();
+        cache.invalidate(key);
+    }
+
+    /**
+     * Removes every entry whose entity matches the predicate.
+     *
+     * @param predicate selects the entities to remove
+     */
+    public void invalidateIf(final Predicate<? super V> predicate) {
+        generation.incrementAndGet();
+        cache.asMap().values().removeIf(predicate);
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns the name of the cache.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return the statistics
+     */
+    public EntityCacheStatistics statistics() {
+        final CacheStats stats = cache.stats();
+        return new EntityCacheStatistics(
+            name,
+            cache.estimatedSize(),
+            stats.hitCount(),
+            stats.missCount(),
+            stats.hitRate(),
+            stats.evictionCount(),
+            estimatedHeapBytes(cache)
+        );
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+        Gauge.builder("cache.heap.estimated", cache, EntityCache::estimatedHeapBytes)
+            .description("The estimated heap size of the cached entities")
+            .tag("cache", name)
+            .baseUnit("bytes")
+            .register(registry);
+    }
+
+    private static long estimatedHeapBytes(final Cache<?, ?> cache) {
+        return cache.policy().eviction()
+            .map(eviction -> eviction.weightedSize().orElse(0L))
+            .orElse(0L);
+    }
+}
@@ -0,0 +1,34 @@
+package dev.ilionx.workshop.common.cache;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint exposing the hit ratio, evictions and estimated heap usage of every entity cache.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "entitycaches")
+public class EntityCacheEndpoint {
+
+    private final List<EntityCache<?, ?>> entityCaches;
+
+    /**
+     * Returns the statistics of every entity cache.
+     *
+     * @return the statistics, ordered by cache name
+     */
+    @ReadOperation
+    public List<EntityCacheStatistics> statistics() {
+        return entityCaches.stream()
+            .map(EntityCache::statistics)
+            .sorted(Comparator.comparing(EntityCacheStatistics::name))
+            .toList();
+    }
+}
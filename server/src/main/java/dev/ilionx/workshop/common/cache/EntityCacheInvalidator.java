@@ -0,0 +1,101 @@
+package dev.ilionx.workshop.common.cache;
+
+import dev.ilionx.workshop.api.owner.model.Owner;
+import dev.ilionx.workshop.api.pet.model.Pet;
+import dev.ilionx.workshop.api.vet.model.Vet;
+import dev.ilionx.workshop.api.visit.model.Visit;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Objects;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Invalidates the entity caches when a change is committed.
+ *
+ * <p>A cached entity holds its eagerly fetched associations, so a change invalidates every cached entity that can reach
+ * the changed record: an owner holds its pets and their visits, a pet holds its owner, type and visits, a visit holds
+ * its pet, and a vet holds its specialties. Records removed through cascading deletes are covered by the invalidation
+ * of their parent.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityCacheInvalidator {
+
+    private final EntityCache<Integer, Owner> ownerCache;
+    private final EntityCache<Integer, Pet> petCache;
+    private final EntityCache<Integer, Visit> visitCache;
+    private final EntityCache<Integer, Vet> vetCache;
+
+    /**
+     * Invalidate the cached entities affected by a committed change.
+     *
+     * @param event the change event
+     */
+    @TransactionalEventListener(
+        phase = TransactionPhase.AFTER_COMMIT,
+        fallbackExecution = true
+    )
+    public void onEntityChanged(final EntityChangedEvent event) {
+        final Integer id = event.entityId();
+        switch (event.entityType()) {
+            case OWNER -> invalidateOwner(id);
+            case PET -> {
+                petCache.invalidate(id);
+                ownerCache.invalidateIf(owner -> owner.getPets().stream().anyMatch(pet -> id.equals(pet.getId())));
+                invalidateOwner(event.ownerId());
+                visitCache.invalidateIf(visit -> isPet(visit.getPet(), id));
+            }
+            case VISIT -> {
+                visitCache.invalidate(id);
+                invalidateOwner(event.ownerId());
+            }
+            case PET_TYPE -> {
+                petCache.invalidateIf(pet -> hasType(pet, id));
+                ownerCache.invalidateIf(owner -> owner.getPets().stream().anyMatch(pet -> hasType(pet, id)));
+                visitCache.invalidateIf(visit -> hasType(visit.getPet(), id));
+            }
+            case VET -> vetCache.invalidate(id);
+            case SPECIALTY -> vetCache.invalidateIf(
+                vet -> vet.getSpecialties().stream().anyMatch(specialty -> id.equals(specialty.getId()))
+            );
+            default -> {
+                // Vaccinations and appointments are not reachable from a cached entity.
+            }
+        }
+    }
+
+    /**
+     * Invalidate every cache entry.
+     */
+    public void invalidateAll() {
+        ownerCache.invalidateAll();
+        petCache.invalidateAll();
+        visitCache.invalidateAll();
+        vetCache.invalidateAll();
+    }
+
+    private void invalidateOwner(final Integer ownerId) {
+        if (ownerId == null) {
+            return;
+        }
+        ownerCache.invalidate(ownerId);
+        petCache.invalidateIf(pet -> isOwner(pet.getOwner(), ownerId));
+        visitCache.invalidateIf(visit -> visit.getPet() != null && isOwner(visit.getPet().getOwner(), ownerId));
+    }
+
+    private static boolean isOwner(final Owner owner, final Integer ownerId) {
+        return owner != null && ownerId.equals(owner.getId());
+    }
+
+    private static boolean isPet(final Pet pet, final Integer petId) {
+        return pet != null && petId.equals(pet.getId());
+    }
+
+    private static boolean hasType(final Pet pet, final Integer petTypeId) {
+        return pet != null && pet.getType() != null && Objects.equals(petTypeId, pet.getType().getId());
+    }
+}
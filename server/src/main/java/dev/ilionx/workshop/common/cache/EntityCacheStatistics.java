@@ -0,0 +1,23 @@
+package dev.ilionx.workshop.common.cache;
+
+/**
+ * A snapshot of the statistics of an entity cache.
+ *
+ * @param name               the name of the cache
+ * @param size               the approximate number of entries
+ * @param hitCount           the number of reads answered from the cache
+ * @param missCount          the number of reads that loaded from the database
+ * @param hitRatio           the share of reads answered from the cache
+ * @param evictionCount      the number of entries evicted by the size or time bound
+ * @param estimatedHeapBytes the estimated heap size of the entries in bytes
+ */
+public record EntityCacheStatistics(
+    String name,
+    long size,
+    long hitCount,
+    long missCount,
+    double hitRatio,
+    long evictionCount,
+    long estimatedHeapBytes
+) {
+}
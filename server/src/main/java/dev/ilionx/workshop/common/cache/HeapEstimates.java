@@ -0,0 +1,30 @@
+package dev.ilionx.workshop.common.cache;
+
+/**
+ * Rough heap size estimates used to weigh cache entries. They only need to be proportional to the real size, so the
+ * size bound of a cache tracks how much memory it holds rather than how many entries.
+ */
+public final class HeapEstimates {
+
+    /** An entity instance with its header, auditing timestamps and Hibernate bookkeeping. */
+    public static final int ENTITY_BYTES = 128;
+
+    /** A collection instance with its backing array. */
+    public static final int COLLECTION_BYTES = 64;
+
+    private static final int STRING_BYTES = 40;
+
+    private HeapEstimates() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Estimates the heap size of a string, assuming compact Latin-1 storage.
+     *
+     * @param value the string, may be {@code null}
+     * @return the estimated size in bytes
+     */
+    public static int sizeOf(final String value) {
+        return value == null ? 0 : STRING_BYTES + value.length();
+    }
+}
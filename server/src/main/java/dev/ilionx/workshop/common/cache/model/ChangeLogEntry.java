@@ -0,0 +1,71 @@
+package dev.ilionx.workshop.common.cache.model;
+
+import dev.ilionx.workshop.common.event.ChangeType;
+import dev.ilionx.workshop.common.event.EntityType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Entity recording a committed change, so other nodes can invalidate their caches.
+ */
+@Entity
+@Table(name = "cache_change_log")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ChangeLogEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(
+        name = "entity_type",
+        nullable = false
+    )
+    private EntityType entityType;
+
+    @Column(
+        name = "entity_id",
+        nullable = false
+    )
+    private Integer entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(
+        name = "change_type",
+        nullable = false
+    )
+    private ChangeType changeType;
+
+    @Column(name = "owner_id")
+    private Integer ownerId;
+
+    @Column(name = "vet_id")
+    private Integer vetId;
+
+    @Column(
+        name = "node_id",
+        nullable = false
+    )
+    private String nodeId;
+
+    @Column(
+        name = "created_at",
+        nullable = false
+    )
+    private Instant createdAt;
+
+}
@@ -0,0 +1,44 @@
+package dev.ilionx.workshop.common.cache.repository;
+
+import dev.ilionx.workshop.common.cache.model.ChangeLogEntry;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for ChangeLogEntry entity.
+ */
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+    /**
+     * Find the entries written after the given ID, in ID order. Served by the primary key index.
+     */
+    List<ChangeLogEntry> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Find the entries with the given IDs.
+     */
+    List<ChangeLogEntry> findByIdIn(Collection<Long> ids);
+
+    /**
+     * Find the highest ID written so far, or {@code null} when the change log is empty.
+     */
+    @Query("SELECT MAX(e.id) FROM ChangeLogEntry e")
+    Long findMaxId();
+
+    /**
+     * Delete all entries written before the given moment.
+     */
+    @Modifying
+    @Query("DELETE FROM ChangeLogEntry e WHERE e.createdAt < :before")
+    int deleteByCreatedAtBefore(@Param("before") Instant before);
+}
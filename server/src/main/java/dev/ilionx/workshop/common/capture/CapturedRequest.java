@@ -0,0 +1,29 @@
+package dev.ilionx.workshop.common.capture;
+
+import java.util.Map;
+
+/**
+ * A captured request with its outcome, written as one line of a capture file.
+ *
+ * @param timestamp      the moment the request arrived, in milliseconds since the epoch
+ * @param method         the HTTP method
+ * @param path           the request path, without the context path
+ * @param query          the query string, or {@code null} when there is none
+ * @param route          the path pattern of the handler, or {@code null} when no handler matched
+ * @param headers        the captured request headers
+ * @param body           the request body, or {@code null} when there is none or it was too large to capture
+ * @param status         the response status
+ * @param durationMicros the time it took to handle the request, in microseconds
+ */
+public record CapturedRequest(
+    long timestamp,
+    String method,
+    String path,
+    String query,
+    String route,
+    Map<String, String> headers,
+    String body,
+    int status,
+    long durationMicros
+) {
+}
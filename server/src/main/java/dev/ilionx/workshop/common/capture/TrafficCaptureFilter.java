@@ -0,0 +1,124 @@
+package dev.ilionx.workshop.common.capture;
+
+import dev.ilionx.workshop.common.config.properties.TrafficCaptureProperties;
+import dev.ilionx.workshop.common.web.CachedBodyRequest;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static dev.ilionx.workshop.api.Paths.EVENTS;
+import static dev.ilionx.workshop.api.Paths.PUBLIC_ACTUATOR_PATH;
+import static dev.ilionx.workshop.common.idempotency.IdempotencyFilter.IDEMPOTENCY_KEY_HEADER;
+
+/**
+ * Filter capturing requests with their status and duration, to replay them against a test instance later.
+ *
+ * <p>The filter runs before every other filter, so the captured duration covers authentication and rate limiting, and
+ * rejected requests are captured with their status. Only the headers that change how a request is handled are kept;
+ * credentials are never captured, so the replay tool supplies its own. Event streams and actuator endpoints are not
+ * captured: they are held open or polled by infrastructure, and would skew a replay.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "traffic-capture",
+    name = "enabled",
+    havingValue = "true"
+)
+public class TrafficCaptureFilter extends OncePerRequestFilter {
+
+    private static final List<String> CAPTURED_HEADERS = List.of(
+        HttpHeaders.CONTENT_TYPE,
+        HttpHeaders.ACCEPT,
+        IDEMPOTENCY_KEY_HEADER
+    );
+
+    private final TrafficCaptureWriter trafficCaptureWriter;
+    private final TrafficCaptureProperties trafficCaptureProperties;
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        final String path = pathOf(request);
+        return path.startsWith(EVENTS)
+            || path.startsWith(PUBLIC_ACTUATOR_PATH)
+            || ThreadLocalRandom.current().nextDouble() >= trafficCaptureProperties.getSampleRate();
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request,
+        final HttpServletResponse response,
+        final FilterChain filterChain) throws ServletException, IOException {
+        final long timestamp = System.currentTimeMillis();
+        final long start = System.nanoTime();
+        String body = null;
+        HttpServletRequest capturedRequest = request;
+        final int maxBodySize = Math.toIntExact(trafficCaptureProperties.getMaxBodySize().toBytes());
+        if (hasBody(request) && request.getContentLengthLong() <= maxBodySize) {
+            // A chunked body has no content length, so never read more than one byte over the maximum.
+            final byte[] content = request.getInputStream().readNBytes(maxBodySize + 1);
+            if (content.length <= maxBodySize) {
+                capturedRequest = new CachedBodyRequest(request, content);
+                body = content.length > 0 ? new String(content, StandardCharsets.UTF_8) : null;
+            } else {
+                capturedRequest = new CachedBodyRequest(request, content, request.getInputStream());
+            }
+        }
+
+        try {
+            filterChain.doFilter(capturedRequest, response);
+        } finally {
+            trafficCaptureWriter.write(new CapturedRequest(
+                timestamp,
+                request.getMethod(),
+                pathOf(request),
+                request.getQueryString(),
+                (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE),
+                headersOf(request),
+                body,
+                response.getStatus(),
+                TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start)
+            ));
+        }
+    }
+
+    private static boolean hasBody(final HttpServletRequest request) {
+        return HttpMethod.POST.matches(request.getMethod())
+            || HttpMethod.PUT.matches(request.getMethod())
+            || HttpMethod.PATCH.matches(request.getMethod());
+    }
+
+    private static String pathOf(final HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static Map<String, String> headersOf(final HttpServletRequest request) {
+        final Map<String, String> headers = new LinkedHashMap<>();
+        for (final String name : CAPTURED_HEADERS) {
+            final String value = request.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,158 @@
+package dev.ilionx.workshop.common.capture;
+
+import dev.ilionx.workshop.common.config.properties.TrafficCaptureProperties;
+import dev.ilionx.workshop.common.io.RotatingNdjsonFile;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes captured requests as newline delimited JSON to rotating files.
+ *
+ * <p>Requests hand their record to a bounded queue, which a single virtual thread drains to the current file; when the
+ * queue is full the record is dropped, so a slow disk never slows the requests down. The files rotate as described by
+ * {@link RotatingNdjsonFile}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+    prefix = "traffic-capture",
+    name = "enabled",
+    havingValue = "true"
+)
+public class TrafficCaptureWriter {
+
+    static final String FILE_PREFIX = "traffic-";
+
+    private static final String METRIC_NAME = "capture.records";
+    private static final long POLL_INTERVAL_MILLIS = 200;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final TrafficCaptureProperties trafficCaptureProperties;
+    private final BlockingQueue<CapturedRequest> queue;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final RotatingNdjsonFile file;
+
+    private volatile boolean running = true;
+    private Thread worker;
+
+    /**
+     * Constructor.
+     *
+     * @param trafficCaptureProperties the traffic capture properties
+     * @param meterRegistry            the meter registry
+     */
+    public TrafficCaptureWriter(final TrafficCaptureProperties trafficCaptureProperties, final MeterRegistry meterRegistry) {
+        this.trafficCaptureProperties = trafficCaptureProperties;
+        this.queue = new ArrayBlockingQueue<>(trafficCaptureProperties.getQueueCapacity());
+        this.writtenCounter = Counter.builder(METRIC_NAME)
+            .description("The number of captured requests")
+            .tag("outcome", "written")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder(METRIC_NAME)
+            .description("The number of captured requests")
+            .tag("outcome", "dropped")
+            .register(meterRegistry);
+        this.file = new RotatingNdjsonFile(
+            trafficCaptureProperties.getDirectory(),
+            FILE_PREFIX,
+            trafficCaptureProperties.getMaxFileSize(),
+            trafficCaptureProperties.getMaxFiles()
+        );
+    }
+
+    /**
+     * Start writing the queued requests.
+     */
+    @PostConstruct
+    public void start() {
+        worker = Thread.ofVirtual()
+            .name("traffic-capture")
+            .start(this::drain);
+        log.info("Capturing traffic to '{}'", trafficCaptureProperties.getDirectory().toAbsolutePath());
+    }
+
+    /**
+     * Queue a captured request to be written; the request is dropped when the queue is full.
+     *
+     * @param capturedRequest the captured request
+     */
+    public void write(final CapturedRequest capturedRequest) {
+        if (!running || !queue.offer(capturedRequest)) {
+            droppedCounter.increment();
+        }
+    }
+
+    /**
+     * Write the queued requests and close the current file.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (worker == null) {
+            return;
+        }
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        try {
+            while (running || !queue.isEmpty()) {
+                final CapturedRequest capturedRequest = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (capturedRequest == null) {
+                    flush();
+                } else {
+                    append(capturedRequest);
+                }
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            close();
+        }
+    }
+
+    private void append(final CapturedRequest capturedRequest) {
+        try {
+            file.append(objectMapper.writeValueAsBytes(capturedRequest));
+            writtenCounter.increment();
+        } catch (final IOException | JacksonException exception) {
+            droppedCounter.increment();
+            log.warn("Failed to write a captured request: {}", exception.getMessage());
+        }
+    }
+
+    private void flush() {
+        try {
+            file.flush();
+        } catch (final IOException exception) {
+            log.warn("Failed to flush the capture file: {}", exception.getMessage());
+        }
+    }
+
+    private void close() {
+        try {
+            file.close();
+        } catch (final IOException exception) {
+            log.warn("Failed to close the capture file: {}", exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package dev.ilionx.workshop.common.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Single-flight coalescing of identical concurrent reads.
+ *
+ * <p>The first caller for an operation and key executes the read; callers arriving while it runs wait for the same
+ * future and share its result or exception. Nothing is kept once the read completes, so this is not a cache: a caller
+ * arriving after completion executes again.
+ *
+ * <p>Only reads inside a read-only transaction are coalesced. Everywhere else the caller needs an entity managed by its
+ * own persistence context, so the read executes directly. The shared entities are detached once the executing
+ * transaction ends and must be treated as read-only. Waiting is done on a {@link CompletableFuture} rather than a
+ * monitor, so waiting virtual threads unmount from their carrier.
+ */
+@Component
+public class RequestCoalescer {
+
+    private static final String METRIC_NAME = "coalescer.requests";
+
+    private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Creates the coalescer and registers its coalescing ratio gauge.
+     *
+     * @param meterRegistry the meter registry
+     */
+    public RequestCoalescer(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        final LongAdder executedReads = executed;
+        final LongAdder coalescedReads = coalesced;
+        Gauge.builder("coalescer.ratio", () -> ratio(executedReads, coalescedReads))
+            .description("Share of coalescable reads that were answered by an in-flight read")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Execute a read without arguments, or join the same read if it is already in flight.
+     *
+     * @param operation the name of the read operation
+     * @param read      the read to execute
+     * @param <T>       the type of the result
+     * @return the result of the read
+     */
+    public <T> T execute(final String operation, final Supplier<T> read) {
+        return execute(operation, null, read);
+    }
+
+    /**
+     * Execute a read, or join an identical read that is already in flight.
+     *
+     * @param operation the name of the read operation
+     * @param key       the arguments identifying the read
+     * @param read      the read to execute
+     * @param <T>       the type of the result
+     * @return the result of the read
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(final String operation, final Object key, final Supplier<T> read) {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            count(operation, "bypassed");
+            return read.get();
+        }
+
+        final Key inFlightKey = new Key(operation, key);
+        final CompletableFuture<Object> pending = new CompletableFuture<>();
+        final CompletableFuture<Object> existing = inFlight.putIfAbsent(inFlightKey, pending);
+        if (existing != null) {
+            coalesced.increment();
+            count(operation, "coalesced");
+            return (T) join(existing);
+        }
+
+        executed.increment();
+        count(operation, "executed");
+        try {
+            final T result = read.get();
+            pending.complete(result);
+            return result;
+        } catch (final RuntimeException | Error exception) {
+            pending.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            inFlight.remove(inFlightKey, pending);
+        }
+    }
+
+    /**
+     * Returns the share of coalescable reads that joined an in-flight read.
+     *
+     * @return the coalescing ratio between 0 and 1
+     */
+    public double coalescingRatio() {
+        return ratio(executed, coalesced);
+    }
+
+    private void count(final String operation, final String outcome) {
+        counters.computeIfAbsent(operation + '.' + outcome, ignored -> Counter.builder(METRIC_NAME)
+            .description("Reads passed through the request coalescer")
+            .tag("operation", operation)
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+        ).increment();
+    }
+
+    private static double ratio(final LongAdder executedReads, final LongAdder coalescedReads) {
+        final long joined = coalescedReads.sum();
+        final long total = joined + executedReads.sum();
+        return total == 0 ? 0.0 : (double) joined / total;
+    }
+
+    private static Object join(final CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (exception.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    /** Identifies a read by its operation and arguments. */
+    private record Key(String operation, Object arguments) {
+    }
+}
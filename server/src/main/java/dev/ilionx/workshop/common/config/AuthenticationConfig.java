@@ -0,0 +1,72 @@
+package dev.ilionx.workshop.common.config;
+
+import dev.ilionx.workshop.common.config.properties.AuthenticationCacheProperties;
+import dev.ilionx.workshop.common.security.authentication.CachingAuthenticationProvider;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+/**
+ * Authentication configuration for basic authentication.
+ *
+ * <p>The user is configured with the standard {@code spring.security.user} properties. Passwords are stored as a bcrypt
+ * hash, and successful authentications are cached so the hash is not verified on every request.
+ */
+@Slf4j
+@Configuration
+public class AuthenticationConfig {
+
+    /**
+     * Creates the password encoder. Stored passwords carry the id of their encoding, with bcrypt for new passwords.
+     *
+     * @return the password encoder
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    }
+
+    /**
+     * Creates the authentication provider for the configured user.
+     *
+     * @param passwordEncoder               the password encoder
+     * @param authenticationCacheProperties the authentication cache properties
+     * @param username                      the name of the user
+     * @param password                      the password of the user, either raw or already encoded with an id prefix
+     * @param roles                         the roles of the user
+     * @return the caching authentication provider
+     */
+    @Bean
+    public CachingAuthenticationProvider authenticationProvider(final PasswordEncoder passwordEncoder,
+        final AuthenticationCacheProperties authenticationCacheProperties,
+        @Value("${spring.security.user.name:user}") final String username,
+        @Value("${spring.security.user.password:}") final String password,
+        @Value("${spring.security.user.roles:}") final String[] roles) {
+        final DaoAuthenticationProvider delegate = new DaoAuthenticationProvider(new InMemoryUserDetailsManager(
+            User.withUsername(username)
+                .password(encode(passwordEncoder, password))
+                .roles(roles)
+                .build()
+        ));
+        delegate.setPasswordEncoder(passwordEncoder);
+        return new CachingAuthenticationProvider(delegate, authenticationCacheProperties);
+    }
+
+    private static String encode(final PasswordEncoder passwordEncoder, final String password) {
+        if (password.isBlank()) {
+            final String generated = UUID.randomUUID().toString();
+            log.warn("Using generated security password: {}", generated);
+            return passwordEncoder.encode(generated);
+        }
+        return password.startsWith("{") ? password : passwordEncoder.encode(password);
+    }
+}
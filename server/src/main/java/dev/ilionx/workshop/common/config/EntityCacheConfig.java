@@ -0,0 +1,117 @@
+package dev.ilionx.workshop.common.config;
+
+import dev.ilionx.workshop.api.owner.model.Owner;
+import dev.ilionx.workshop.api.pet.model.Pet;
+import dev.ilionx.workshop.api.vet.model.Specialty;
+import dev.ilionx.workshop.api.vet.model.Vet;
+import dev.ilionx.workshop.api.visit.model.Visit;
+import dev.ilionx.workshop.common.cache.EntityCache;
+import dev.ilionx.workshop.common.config.properties.EntityCacheProperties;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+import static dev.ilionx.workshop.common.cache.HeapEstimates.COLLECTION_BYTES;
+import static dev.ilionx.workshop.common.cache.HeapEstimates.ENTITY_BYTES;
+import static dev.ilionx.workshop.common.cache.HeapEstimates.sizeOf;
+
+/**
+ * Configuration of the entity caches used by the services for by-ID reads.
+ *
+ * <p>Every entity is weighed with the whole graph it keeps reachable, since the eagerly fetched associations are cached
+ * along with it.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class EntityCacheConfig {
+
+    private final EntityCacheProperties entityCacheProperties;
+
+    /**
+     * Creates the owner cache.
+     *
+     * @return the owner cache
+     */
+    @Bean
+    public EntityCache<Integer, Owner> ownerCache() {
+        return create("owners", (id, owner) -> weigh(owner));
+    }
+
+    /**
+     * Creates the pet cache.
+     *
+     * @return the pet cache
+     */
+    @Bean
+    public EntityCache<Integer, Pet> petCache() {
+        return create("pets", (id, pet) -> weigh(pet));
+    }
+
+    /**
+     * Creates the visit cache.
+     *
+     * @return the visit cache
+     */
+    @Bean
+    public EntityCache<Integer, Visit> visitCache() {
+        return create("visits", (id, visit) -> ENTITY_BYTES + sizeOf(visit.getDescription()) + weigh(visit.getPet()));
+    }
+
+    /**
+     * Creates the vet cache.
+     *
+     * @return the vet cache
+     */
+    @Bean
+    public EntityCache<Integer, Vet> vetCache() {
+        return create("vets", (id, vet) -> {
+            int weight = ENTITY_BYTES + COLLECTION_BYTES + sizeOf(vet.getFirstName()) + sizeOf(vet.getLastName());
+            for (final Specialty specialty : vet.getSpecialties()) {
+                weight += ENTITY_BYTES + sizeOf(specialty.getName());
+            }
+            return weight;
+        });
+    }
+
+    private <V> EntityCache<Integer, V> create(final String name, final Weigher<Integer, V> weigher) {
+        return new EntityCache<>(
+            name,
+            entityCacheProperties.getMaximumSize().toBytes(),
+            entityCacheProperties.getExpireAfterWrite(),
+            weigher
+        );
+    }
+
+    private static int weigh(final Pet pet) {
+        if (pet == null) {
+            return 0;
+        }
+        // A pet keeps its owner reachable, and the owner keeps all of its pets reachable.
+        return pet.getOwner() == null ? weighShallow(pet) : weigh(pet.getOwner());
+    }
+
+    private static int weigh(final Owner owner) {
+        int weight = ENTITY_BYTES + COLLECTION_BYTES
+            + sizeOf(owner.getFirstName())
+            + sizeOf(owner.getLastName())
+            + sizeOf(owner.getAddress())
+            + sizeOf(owner.getCity())
+            + sizeOf(owner.getTelephone())
+            + sizeOf(owner.getEmail());
+        for (final Pet pet : owner.getPets()) {
+            weight += weighShallow(pet);
+        }
+        return weight;
+    }
+
+    private static int weighShallow(final Pet pet) {
+        int weight = 2 * ENTITY_BYTES + COLLECTION_BYTES + sizeOf(pet.getName());
+        for (final Visit visit : pet.getVisits()) {
+            weight += ENTITY_BYTES + sizeOf(visit.getDescription());
+        }
+        return weight;
+    }
+}
@@ -0,0 +1,12 @@
+package dev.ilionx.workshop.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+/**
+ * Enables the auditing listener that maintains the created and updated timestamps of all entities.
+ */
+@Configuration
+@EnableJpaAuditing
+public class JpaAuditingConfig {
+}
@@ -0,0 +1,55 @@
+package dev.ilionx.workshop.common.config;
+
+import dev.ilionx.workshop.common.jfr.FlightRecorderMonitor;
+import dev.ilionx.workshop.common.metrics.ResourceSampleStream;
+import liquibase.integration.spring.SpringLiquibase;
+
+import java.util.Set;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * The configuration for lazy initialization, enabled by {@code spring.main.lazy-initialization} in the fast-startup
+ * profile.
+ *
+ * <p>Lazy beans are created on first use, which moves the cost of rarely used beans such as the OpenAPI document out of
+ * the startup. Scheduled methods are only registered once their bean exists, and the migrations must have run before
+ * the first request, so beans with scheduled methods and Liquibase are still created on startup. The same goes for
+ * background beans that nothing injects and that start their work on creation, such as the JFR streams.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    private static final Set<Class<?>> BACKGROUND_BEANS = Set.of(
+        SpringLiquibase.class,
+        ResourceSampleStream.class,
+        FlightRecorderMonitor.class
+    );
+
+    /**
+     * Keeps background beans eager when lazy initialization is enabled.
+     *
+     * @return the exclude filter
+     */
+    @Bean
+    static LazyInitializationExcludeFilter backgroundBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+            && (isBackgroundBean(beanType) || hasScheduledMethods(beanType));
+    }
+
+    private static boolean isBackgroundBean(final Class<?> beanType) {
+        return BACKGROUND_BEANS.stream().anyMatch(backgroundBean -> backgroundBean.isAssignableFrom(beanType));
+    }
+
+    private static boolean hasScheduledMethods(final Class<?> beanType) {
+        return !MethodIntrospector.selectMethods(
+            beanType,
+            (MethodIntrospector.MetadataLookup<Scheduled>) method -> AnnotatedElementUtils.findMergedAnnotation(method, Scheduled.class)
+        ).isEmpty();
+    }
+}
@@ -8,13 +8,21 @@ import io.swagger.v3.oas.models.servers.Server;
 
 import java.util.List;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
- * The configuration for the OpenAPI documentation.
+ * The configuration for the OpenAPI documentation, generated at runtime unless {@code springdoc.api-docs.enabled} is
+ * {@code false}; the production profile serves the document generated during the build instead.
  */
 @Configuration
+@ConditionalOnProperty(
+    prefix = "springdoc.api-docs",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
 public class OpenAPIConfig {
 
     /**
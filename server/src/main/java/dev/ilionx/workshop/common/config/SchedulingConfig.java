@@ -0,0 +1,12 @@
+package dev.ilionx.workshop.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables Spring's {@code @Scheduled} support for periodic background work.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
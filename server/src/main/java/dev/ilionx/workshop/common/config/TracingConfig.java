@@ -0,0 +1,25 @@
+package dev.ilionx.workshop.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+
+/**
+ * Propagates the current span, and the trace id in the logs, to the tasks handed to the application task executor.
+ *
+ * <p>Every request already runs on its own virtual thread, which holds the span for the whole request. Tasks handed off
+ * to another thread, such as asynchronous request processing, would start a new trace without this decorator.
+ */
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Captures the thread local context of the submitting thread and restores it in the task.
+     *
+     * @return the task decorator, applied by Spring Boot to the auto-configured executors
+     */
+    @Bean
+    public ContextPropagatingTaskDecorator contextPropagatingTaskDecorator() {
+        return new ContextPropagatingTaskDecorator();
+    }
+}
@@ -0,0 +1,31 @@
+package dev.ilionx.workshop.common.config;
+
+import dev.ilionx.workshop.common.metrics.RequestResourceInterceptor;
+import dev.ilionx.workshop.common.metrics.RequestSqlInterceptor;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import static dev.ilionx.workshop.api.Paths.BASE_PATH;
+import static dev.ilionx.workshop.api.Paths.WILDCARD_PART;
+
+/**
+ * Spring MVC configuration registering the application handler interceptors.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final RequestSqlInterceptor requestSqlInterceptor;
+    private final ObjectProvider<RequestResourceInterceptor> requestResourceInterceptor;
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(requestSqlInterceptor).addPathPatterns(BASE_PATH + WILDCARD_PART);
+        requestResourceInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor)
+            .addPathPatterns(BASE_PATH + WILDCARD_PART));
+    }
+}
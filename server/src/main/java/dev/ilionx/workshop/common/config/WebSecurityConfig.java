@@ -45,6 +45,7 @@ public class WebSecurityConfig {
 
         http.httpBasic(Customizer.withDefaults());
         http.authorizeHttpRequests(accessManagement -> {
+            accessManagement.requestMatchers(PUBLIC_FLIGHT_RECORDER_PATH + WILDCARD_PART).authenticated();
             accessManagement.requestMatchers(PUBLIC_ACTUATOR_PATH + WILDCARD_PART).permitAll();
             accessManagement.requestMatchers(PUBLIC_PATH + WILDCARD_PART).permitAll();
             accessManagement.requestMatchers(OPENAPI_PATH + WILDCARD_PART).permitAll();
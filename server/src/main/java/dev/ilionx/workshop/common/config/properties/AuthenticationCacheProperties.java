@@ -0,0 +1,33 @@
+package dev.ilionx.workshop.common.config.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Authentication cache related properties.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "security.authentication-cache")
+public class AuthenticationCacheProperties {
+
+    /**
+     * Whether successful authentications are cached, so repeated requests skip the password hash.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long a successful authentication is reused. Changes to a user take at most this long to apply.
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /**
+     * The maximum number of cached authentications.
+     */
+    private int maximumSize = 10_000;
+
+}
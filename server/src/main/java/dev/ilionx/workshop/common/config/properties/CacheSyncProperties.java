@@ -0,0 +1,55 @@
+package dev.ilionx.workshop.common.config.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cluster cache invalidation related properties.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "cache-sync")
+public class CacheSyncProperties {
+
+    /**
+     * Whether changes are written to the change log and the change log is tailed to invalidate the local caches.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The identifier of this node. Changes written by this node are already invalidated locally and are skipped.
+     */
+    private String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * How often the change log is polled for changes written by other nodes.
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * The maximum number of change log entries read per query.
+     */
+    private int batchSize = 500;
+
+    /**
+     * How long a missing change log ID is looked for again. IDs are assigned when a row is inserted but become visible
+     * when its transaction commits, so a slow transaction shows up as a gap that is filled later.
+     */
+    private Duration gapGracePeriod = Duration.ofSeconds(30);
+
+    /**
+     * How long change log entries are kept. Must exceed the gap grace period.
+     */
+    private Duration retention = Duration.ofHours(1);
+
+    /**
+     * How often expired change log entries are pruned.
+     */
+    private Duration pruneInterval = Duration.ofMinutes(10);
+
+}
@@ -0,0 +1,62 @@
+package dev.ilionx.workshop.common.config.properties;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Synthetic data generator related properties.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "data-generator")
+public class DataGeneratorProperties {
+
+    /**
+     * Whether the synthetic data is generated on startup.
+     */
+    private boolean enabled;
+
+    /**
+     * Whether the application exits once the data is generated, to run the generator as a command line tool.
+     */
+    private boolean exitOnCompletion;
+
+    /**
+     * The seed of the random generator; the same seed on the same database state generates the same rows.
+     */
+    private long seed = 42;
+
+    /**
+     * The number of owners to generate.
+     */
+    private int owners = 10_000;
+
+    /**
+     * The number of vets to generate.
+     */
+    private int vets = 50;
+
+    /**
+     * The share of the vet working day slots that is booked.
+     */
+    private double appointmentDensity = 0.6;
+
+    /**
+     * The number of days around the reference date for which appointments are generated, both back and ahead.
+     */
+    private int appointmentDays = 30;
+
+    /**
+     * The date the generated history runs up to; visits and vaccinations lie before it.
+     */
+    private LocalDate referenceDate = LocalDate.of(2026, 1, 1);
+
+    /**
+     * The number of rows per table in one JDBC batch; every batch is committed on its own.
+     */
+    private int batchSize = 5_000;
+}
@@ -0,0 +1,29 @@
+package dev.ilionx.workshop.common.config.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Entity cache related properties.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "entity-cache")
+public class EntityCacheProperties {
+
+    /**
+     * The maximum estimated heap size of the entries of each entity cache.
+     */
+    private DataSize maximumSize = DataSize.ofMegabytes(16);
+
+    /**
+     * How long a cached entity is kept after it was loaded. Bounds the staleness of changes that bypass the services.
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+}
@@ -0,0 +1,38 @@
+package dev.ilionx.workshop.common.config.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Server-sent change event stream related properties.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "events")
+public class EventStreamProperties {
+
+    /**
+     * The maximum number of undelivered events buffered per subscriber.
+     */
+    private int bufferSize = 256;
+
+    /**
+     * The number of consecutive events a subscriber may miss because its buffer is full before it is disconnected.
+     */
+    private int maxDroppedEvents = 64;
+
+    /**
+     * How long a subscriber may stay idle before a heartbeat comment is sent to keep the connection open.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * How long a single connection stays open before the client has to reconnect.
+     */
+    private Duration connectionTimeout = Duration.ofMinutes(30);
+
+}
@@ -0,0 +1,60 @@
+package dev.ilionx.workshop.common.config.properties;
+
+import lombok.Data;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * JDK Flight Recorder related properties.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "flight-recorder")
+public class FlightRecorderProperties {
+
+    /**
+     * Whether the calls of the services, repositories and validators are recorded as events.
+     */
+    private boolean eventsEnabled = true;
+
+    /**
+     * The directory the recordings started through the actuator endpoint are dumped to.
+     */
+    private Path directory = Path.of("recordings");
+
+    /**
+     * The predefined JFR configuration of a recording: {@code default} for continuous use, {@code profile} for more
+     * detail at a higher overhead.
+     */
+    private String settings = "profile";
+
+    /**
+     * How much of a running recording is kept; older events are discarded.
+     */
+    private Duration maxAge = Duration.ofMinutes(30);
+
+    /**
+     * The maximum size of a running recording; older events are discarded.
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(250);
+
+    /**
+     * Whether pinned virtual threads and long JDBC waits are streamed into metrics.
+     */
+    private boolean monitorEnabled = true;
+
+    /**
+     * How long a virtual thread may be pinned to its carrier before it is counted.
+     */
+    private Duration pinnedThreshold = Duration.ofMillis(20);
+
+    /**
+     * How long a wait for a connection or a statement may take before it is counted.
+     */
+    private Duration jdbcWaitThreshold = Duration.ofMillis(200);
+}
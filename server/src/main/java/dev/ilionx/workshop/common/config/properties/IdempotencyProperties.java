@@ -0,0 +1,48 @@
+package dev.ilionx.workshop.common.config.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Idempotency-Key related properties.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * Whether POST requests carrying an {@code Idempotency-Key} header are deduplicated.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long a stored response is replayed for retries with the same key.
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * How long a duplicate request waits for the original request to finish before it is rejected with a conflict.
+     */
+    private Duration inFlightTimeout = Duration.ofSeconds(30);
+
+    /**
+     * The maximum length of an idempotency key.
+     */
+    private int maxKeyLength = 255;
+
+    /**
+     * The maximum number of completed responses kept in memory. Older responses are still replayed from the database.
+     */
+    private int maxEntries = 10_000;
+
+    /**
+     * How often expired keys are removed from memory and the database.
+     */
+    private Duration cleanupInterval = Duration.ofMinutes(10);
+
+}
@@ -0,0 +1,33 @@
+package dev.ilionx.workshop.common.config.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Method timing related properties.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "method-metrics")
+public class MethodMetricsProperties {
+
+    /**
+     * Whether the controller, service and repository methods are timed. Read once at startup.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The number of significant decimal digits kept by the latency histograms.
+     */
+    private int percentilePrecision = 2;
+
+    /**
+     * How long a recorded latency counts towards the percentiles, so they describe recent traffic.
+     */
+    private Duration distributionExpiry = Duration.ofMinutes(2);
+
+}
@@ -0,0 +1,79 @@
+package dev.ilionx.workshop.common.config.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Rate limiting and concurrency limiting related properties.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * Whether requests are rate limited per client.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The sustained number of requests per second a single client may make.
+     */
+    private double requestsPerSecond = 50;
+
+    /**
+     * The number of requests a single client may make in a burst on top of the sustained rate.
+     */
+    private int burst = 100;
+
+    /**
+     * The maximum number of clients tracked at once. The least recently seen clients are forgotten first.
+     */
+    private int maxClients = 10_000;
+
+    /**
+     * How long an idle client is tracked before its bucket is forgotten.
+     */
+    private Duration clientIdleTimeout = Duration.ofMinutes(10);
+
+    /**
+     * Whether unauthenticated clients are identified by the address in the {@code X-Forwarded-For} header instead of the
+     * address of the connection. Only enable this behind a proxy that overwrites the header, clients can send any address.
+     */
+    private boolean trustForwardedAddress;
+
+    /**
+     * Whether the number of concurrent requests is limited adaptively.
+     */
+    private boolean concurrencyEnabled = true;
+
+    /**
+     * The concurrency limit the adaptive limiter starts with.
+     */
+    private int initialConcurrencyLimit = 50;
+
+    /**
+     * The lowest concurrency limit the adaptive limiter may shrink to.
+     */
+    private int minConcurrencyLimit = 10;
+
+    /**
+     * The highest concurrency limit the adaptive limiter may grow to.
+     */
+    private int maxConcurrencyLimit = 1000;
+
+    /**
+     * How much slower than the long-term latency a request may be before the limit shrinks, as a ratio.
+     */
+    private double latencyTolerance = 1.5;
+
+    /**
+     * The share of the concurrency limit available to low-priority requests. The remainder is reserved for writes.
+     */
+    private double lowPriorityShare = 0.8;
+
+}
@@ -0,0 +1,49 @@
+package dev.ilionx.workshop.common.config.properties;
+
+import lombok.Data;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Appointment reminder related properties.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "reminders")
+public class ReminderProperties {
+
+    /**
+     * Whether reminders are scheduled for upcoming appointments.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long before the scheduled date and time of an appointment its reminder is sent.
+     */
+    private Duration leadTime = Duration.ofHours(24);
+
+    /**
+     * The resolution of the timing wheel, reminders fire at most one tick late.
+     */
+    private Duration tickDuration = Duration.ofSeconds(1);
+
+    /**
+     * The number of buckets on every level of the timing wheel.
+     */
+    private int wheelSize = 512;
+
+    /**
+     * The sink reminders are delivered to, either {@code log} or {@code file}.
+     */
+    private String sink = "log";
+
+    /**
+     * The file reminders are appended to when the {@code file} sink is used.
+     */
+    private Path file = Path.of("reminders.log");
+
+}
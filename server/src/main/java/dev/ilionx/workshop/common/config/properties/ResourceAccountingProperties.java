@@ -0,0 +1,38 @@
+package dev.ilionx.workshop.common.config.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Per-request allocation and CPU accounting related properties.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "resource-accounting")
+public class ResourceAccountingProperties {
+
+    /**
+     * Whether the heap allocations and the CPU time of every request are accounted per controller method.
+     */
+    private boolean enabled;
+
+    /**
+     * The maximum rate of JFR allocation samples, for example {@code 1000/s}; a higher rate gives more precise
+     * accounting of short requests at a higher overhead.
+     */
+    private String allocationSampleRate = "1000/s";
+
+    /**
+     * The interval between two JFR execution samples of a running thread, each accounted as this much CPU time.
+     */
+    private Duration executionSamplePeriod = Duration.ofMillis(10);
+
+    /**
+     * How long after a request ended its samples are still accepted, since JFR delivers events in batches.
+     */
+    private Duration settleDelay = Duration.ofSeconds(5);
+}
@@ -0,0 +1,53 @@
+package dev.ilionx.workshop.common.config.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SQL monitoring related properties.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "sql-monitoring")
+public class SqlMonitoringProperties {
+
+    /**
+     * What happens when a request exceeds its SQL budget or repeats a statement: only log and count it, or fail it.
+     */
+    private ViolationAction violationAction = ViolationAction.LOG;
+
+    /**
+     * The maximum number of statements per request for controller methods without a {@code @QueryBudget}.
+     */
+    private int defaultMaxStatements = 100;
+
+    /**
+     * How often one statement shape may run per request before it is reported as an N+1 query.
+     */
+    private int repeatedStatementThreshold = 10;
+
+    /**
+     * How long one statement may run before it is reported as slow.
+     */
+    private Duration slowStatementThreshold = Duration.ofMillis(500);
+
+    /**
+     * The action taken when a request exceeds its SQL budget.
+     */
+    public enum ViolationAction {
+
+        /**
+         * Log a warning and count the violation.
+         */
+        LOG,
+
+        /**
+         * Fail the request, for use in tests.
+         */
+        FAIL
+    }
+}
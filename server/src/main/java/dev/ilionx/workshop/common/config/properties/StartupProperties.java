@@ -0,0 +1,20 @@
+package dev.ilionx.workshop.common.config.properties;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Startup related properties.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "startup")
+public class StartupProperties {
+
+    /**
+     * Whether Liquibase is skipped when the changelog is unchanged since the last migration of the database.
+     */
+    private boolean skipUnchangedMigrations;
+}
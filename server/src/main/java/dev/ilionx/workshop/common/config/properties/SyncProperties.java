@@ -0,0 +1,34 @@
+package dev.ilionx.workshop.common.config.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Delta sync related properties.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "sync")
+public class SyncProperties {
+
+    /**
+     * How far before the token position changes are returned again. Covers transactions that stamped their records
+     * before a sync started but committed after it, at the cost of occasionally returning a record twice.
+     */
+    private Duration safetyLag = Duration.ofSeconds(10);
+
+    /**
+     * How long tombstones of deleted records are kept. Tokens older than this are rejected and require a full sync.
+     */
+    private Duration tombstoneRetention = Duration.ofDays(30);
+
+    /**
+     * How often tombstones older than the retention period are pruned.
+     */
+    private Duration pruneInterval = Duration.ofHours(1);
+
+}
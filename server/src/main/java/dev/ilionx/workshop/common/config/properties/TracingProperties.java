@@ -0,0 +1,43 @@
+package dev.ilionx.workshop.common.config.properties;
+
+import lombok.Data;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Tracing related properties.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "tracing")
+public class TracingProperties {
+
+    /**
+     * Whether the calls of the controllers, services and repositories and the waits for a pooled connection get a span.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Whether the finished spans are written to files.
+     */
+    private boolean exportEnabled;
+
+    /**
+     * The directory the span files are written to.
+     */
+    private Path directory = Path.of("traces");
+
+    /**
+     * The size at which a span file is closed and a new one is started.
+     */
+    private DataSize maxFileSize = DataSize.ofMegabytes(64);
+
+    /**
+     * The number of span files kept; the oldest file is deleted when a new one would exceed it.
+     */
+    private int maxFiles = 20;
+}
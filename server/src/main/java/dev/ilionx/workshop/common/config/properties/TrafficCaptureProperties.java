@@ -0,0 +1,53 @@
+package dev.ilionx.workshop.common.config.properties;
+
+import lombok.Data;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Traffic capture related properties.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "traffic-capture")
+public class TrafficCaptureProperties {
+
+    /**
+     * Whether requests are captured to files for replay.
+     */
+    private boolean enabled;
+
+    /**
+     * The directory the capture files are written to.
+     */
+    private Path directory = Path.of("captures");
+
+    /**
+     * The size at which a capture file is closed and a new one is started.
+     */
+    private DataSize maxFileSize = DataSize.ofMegabytes(64);
+
+    /**
+     * The number of capture files kept; the oldest file is deleted when a new one would exceed it.
+     */
+    private int maxFiles = 20;
+
+    /**
+     * The largest request body that is captured; larger bodies are left out of the record.
+     */
+    private DataSize maxBodySize = DataSize.ofKilobytes(16);
+
+    /**
+     * The share of the requests that is captured, between 0 and 1.
+     */
+    private double sampleRate = 1.0;
+
+    /**
+     * The number of records waiting to be written above which new records are dropped instead of slowing requests down.
+     */
+    private int queueCapacity = 10_000;
+}
@@ -0,0 +1,37 @@
+package dev.ilionx.workshop.common.config.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Warm-up related properties.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "warm-up")
+public class WarmUpProperties {
+
+    /**
+     * Whether a synthetic workload runs on startup, before the application reports that it is ready for traffic.
+     */
+    private boolean enabled;
+
+    /**
+     * The longest the warm-up may take; the application reports ready once it has passed.
+     */
+    private Duration maxDuration = Duration.ofSeconds(30);
+
+    /**
+     * The number of workload iterations after which the warm-up stops.
+     */
+    private int maxIterations = 2_000;
+
+    /**
+     * The number of iterations that run in parallel, so several pooled connections are used.
+     */
+    private int concurrency = 4;
+}
@@ -0,0 +1,10 @@
+package dev.ilionx.workshop.common.event;
+
+/**
+ * The kind of change an {@link EntityChangedEvent} describes.
+ */
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,89 @@
+package dev.ilionx.workshop.common.event;
+
+/**
+ * Application event published by the services whenever an entity is created, updated or deleted.
+ *
+ * <p>The event is published inside the service transaction. Listeners that must only observe committed changes should
+ * use {@code @TransactionalEventListener}. Deletions are published before the entity is removed, so in-transaction
+ * listeners can still see the records that are deleted along with it.
+ *
+ * <p>The owner and vet IDs scope the change to the people it is relevant for, so subscribers can filter on them. Either
+ * may be {@code null} when the entity is not related to an owner or a vet.
+ *
+ * @param entityType the type of the changed entity
+ * @param entityId   the ID of the changed entity
+ * @param changeType the kind of change
+ * @param ownerId    the ID of the owner the changed entity belongs to, if any
+ * @param vetId      the ID of the vet the changed entity is assigned to, if any
+ */
+public record EntityChangedEvent(
+    EntityType entityType,
+    Integer entityId,
+    ChangeType changeType,
+    Integer ownerId,
+    Integer vetId
+) {
+
+    /**
+     * Creates an event for a newly created entity.
+     *
+     * @param entityType the type of the entity
+     * @param entityId   the ID of the entity
+     * @return the event
+     */
+    public static EntityChangedEvent created(final EntityType entityType, final Integer entityId) {
+        return new EntityChangedEvent(entityType, entityId, ChangeType.CREATED, null, null);
+    }
+
+    /**
+     * Creates an event for an updated entity.
+     *
+     * @param entityType the type of the entity
+     * @param entityId   the ID of the entity
+     * @return the event
+     */
+    public static EntityChangedEvent updated(final EntityType entityType, final Integer entityId) {
+        return new EntityChangedEvent(entityType, entityId, ChangeType.UPDATED, null, null);
+    }
+
+    /**
+     * Creates an event for a deleted entity.
+     *
+     * @param entityType the type of the entity
+     * @param entityId   the ID of the entity
+     * @return the event
+     */
+    public static EntityChangedEvent deleted(final EntityType entityType, final Integer entityId) {
+        return new EntityChangedEvent(entityType, entityId, ChangeType.DELETED, null, null);
+    }
+
+    /**
+     * Returns a copy of this event scoped to the given owner.
+     *
+     * @param owner the ID of the owner
+     * @return the scoped event
+     */
+    public EntityChangedEvent withOwner(final Integer owner) {
+        return new EntityChangedEvent(entityType, entityId, changeType, owner, vetId);
+    }
+
+    /**
+     * Returns a copy of this event scoped to the given vet.
+     *
+     * @param vet the ID of the vet
+     * @return the scoped event
+     */
+    public EntityChangedEvent withVet(final Integer vet) {
+        return new EntityChangedEvent(entityType, entityId, changeType, ownerId, vet);
+    }
+
+    /**
+     * Whether this event describes a change to the given entity type.
+     *
+     * @param type the entity type
+     * @return {@code true} when the event concerns the given type
+     */
+    public boolean concerns(final EntityType type) {
+        return entityType == type;
+    }
+}
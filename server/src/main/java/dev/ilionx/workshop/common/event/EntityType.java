@@ -0,0 +1,15 @@
+package dev.ilionx.workshop.common.event;
+
+/**
+ * The kinds of entities whose changes are published as {@link EntityChangedEvent}s.
+ */
+public enum EntityType {
+    OWNER,
+    PET,
+    VISIT,
+    VACCINATION,
+    APPOINTMENT,
+    VET,
+    PET_TYPE,
+    SPECIALTY
+}
@@ -0,0 +1,68 @@
+package dev.ilionx.workshop.common.generator;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Buffers the rows of one table in a JDBC batch.
+ */
+final class BatchWriter implements AutoCloseable {
+
+    private final String table;
+    private final PreparedStatement statement;
+    private int pending;
+    private long written;
+
+    BatchWriter(final Connection connection, final String table, final String... columns) throws SQLException {
+        this.table = table;
+        this.statement = connection.prepareStatement(
+            "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES (" + "?, ".repeat(columns.length - 1) + "?)"
+        );
+    }
+
+    /**
+     * Add a row to the batch.
+     *
+     * @param values the values of the row, in the order of the columns
+     * @throws SQLException if a value cannot be bound
+     */
+    void add(final Object... values) throws SQLException {
+        for (int index = 0; index < values.length; index++) {
+            statement.setObject(index + 1, values[index]);
+        }
+        statement.addBatch();
+        pending++;
+    }
+
+    /**
+     * Execute the pending rows.
+     *
+     * @throws SQLException if the batch fails
+     */
+    void flush() throws SQLException {
+        if (pending == 0) {
+            return;
+        }
+        statement.executeBatch();
+        written += pending;
+        pending = 0;
+    }
+
+    int getPending() {
+        return pending;
+    }
+
+    long getWritten() {
+        return written;
+    }
+
+    String getTable() {
+        return table;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        statement.close();
+    }
+}
@@ -0,0 +1,394 @@
+package dev.ilionx.workshop.common.generator;
+
+import dev.ilionx.workshop.api.appointment.model.AppointmentStatus;
+import dev.ilionx.workshop.common.config.properties.DataGeneratorProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import javax.sql.DataSource;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Generates a synthetic clinic population and bulk-loads it through JDBC batches.
+ *
+ * <p>All values are drawn from one seeded random generator in a fixed order, so the same seed generates the same rows
+ * on the same database state. The distributions follow a typical clinic: most owners have one or two pets, dogs and
+ * cats make up most of the pets, older pets have had more visits, dogs and cats are vaccinated on a schedule that some
+ * owners stop following, and the vets' working days are booked up to the configured density.
+ *
+ * <p>New rows get the IDs after the current maximum, so the generator can add to an existing database. The rows are
+ * written without going through the entities, so no change events are published for them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DataGenerator {
+
+    private static final double[] PETS_PER_OWNER_WEIGHTS = {0.05, 0.50, 0.25, 0.12, 0.05, 0.03};
+    private static final double[] SPECIALTIES_PER_VET_WEIGHTS = {0.40, 0.45, 0.15};
+    private static final double VACCINATION_COMPLIANCE = 0.8;
+    private static final int VISIT_HISTORY_YEARS = 5;
+    private static final int SLOTS_PER_DAY = 16;
+    private static final LocalTime FIRST_SLOT = LocalTime.of(9, 0);
+
+    private static final List<PetTypeProfile> PET_TYPES = List.of(
+        new PetTypeProfile("Dog", 0.45, 14, List.of(
+            new Vaccine("Rabies", 36),
+            new Vaccine("DHPP", 12),
+            new Vaccine("Leptospirosis", 12)
+        )),
+        new PetTypeProfile("Cat", 0.35, 15, List.of(
+            new Vaccine("Rabies", 36),
+            new Vaccine("FVRCP", 12),
+            new Vaccine("FeLV", 12)
+        )),
+        new PetTypeProfile("Bird", 0.07, 10, List.of()),
+        new PetTypeProfile("Hamster", 0.07, 3, List.of()),
+        new PetTypeProfile("Lizard", 0.03, 12, List.of()),
+        new PetTypeProfile("Snake", 0.03, 20, List.of())
+    );
+    private static final double[] PET_TYPE_WEIGHTS = PET_TYPES.stream().mapToDouble(PetTypeProfile::weight).toArray();
+
+    private static final List<String> SPECIALTIES = List.of("Radiology", "Surgery", "Dentistry");
+    private static final String[] FIRST_NAMES = {
+        "George", "Betty", "Eduardo", "Harold", "Peter", "Jean", "Jeff", "Maria", "David", "Carlos", "Emma", "Liam",
+        "Olivia", "Noah", "Sophie", "Lucas", "Julia", "Daan", "Anna", "Sem", "Tess", "Finn", "Lotte", "Milan"
+    };
+    private static final String[] LAST_NAMES = {
+        "Franklin", "Davis", "Rodriquez", "Black", "McTavish", "Coleman", "Escobito", "Schroeder", "Estaban", "Carter",
+        "Leary", "Douglas", "Ortega", "Stevens", "Jansen", "de Vries", "van Dijk", "Bakker", "Visser", "Smit", "Meijer",
+        "de Boer", "Mulder", "de Groot", "Bos", "Vos", "Peters", "Hendriks", "van Leeuwen", "Dekker"
+    };
+    private static final String[] STREETS = {
+        "W. Liberty St.", "E. Cora Ave.", "State St.", "Lake St.", "Ashley Blvd.", "Belle Ave.", "Main St.",
+        "Oak Ln.", "Maple Dr.", "Kerkstraat", "Dorpsstraat", "Stationsweg"
+    };
+    private static final String[] CITIES = {
+        "Madison", "Sun Prairie", "McFarland", "Windsor", "Monona", "Waunakee", "Utrecht", "Amersfoort", "Zwolle"
+    };
+    private static final String[] PET_NAMES = {
+        "Leo", "Basil", "Rosy", "Jewel", "Iggy", "George", "Samantha", "Max", "Lucky", "Mulligan", "Freddy", "Sly",
+        "Bella", "Luna", "Charlie", "Milo", "Daisy", "Rocky", "Coco", "Nala", "Pip", "Ziggy", "Olive", "Tommy"
+    };
+    private static final String[] VISIT_REASONS = {
+        "Annual checkup", "Vaccination", "Dental cleaning", "Limping", "Skin irritation", "Ear infection",
+        "Weight check", "Follow-up", "Neutering", "Upset stomach"
+    };
+    private static final String[] APPOINTMENT_REASONS = {"Checkup", "Vaccination", "Follow-up", "Dental care", "Surgery consult"};
+
+    private final DataSource dataSource;
+    private final DataGeneratorProperties properties;
+
+    /**
+     * Generate the configured population and insert it.
+     *
+     * @return the number of rows inserted per table and the time the generation took
+     */
+    public GeneratedData generate() {
+        final long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            final boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                final GeneratedData generated = generate(connection, start);
+                log.info(
+                    "Generated '{}' rows in '{}' ms: {}",
+                    generated.rows(),
+                    generated.elapsed().toMillis(),
+                    generated
+                );
+                return generated;
+            } catch (final SQLException | RuntimeException exception) {
+                connection.rollback();
+                throw exception;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (final SQLException exception) {
+            throw new IllegalStateException("Failed to generate the synthetic data", exception);
+        }
+    }
+
+    private GeneratedData generate(final Connection connection, final long start) throws SQLException {
+        final SplittableRandom random = new SplittableRandom(properties.getSeed());
+        final List<String> petTypeNames = PET_TYPES.stream().map(PetTypeProfile::name).toList();
+        final Map<String, Integer> petTypeIds = referenceIds(connection, "pet_types", petTypeNames);
+        final Map<String, Integer> specialtyIds = referenceIds(connection, "specialties", SPECIALTIES);
+
+        final int firstOwnerId = nextId(connection, "owners");
+        final int firstPetId = nextId(connection, "pets");
+        final int firstVetId = nextId(connection, "vets");
+        int visitId = nextId(connection, "visits");
+        int vaccinationId = nextId(connection, "vaccinations");
+        int appointmentId = nextId(connection, "appointments");
+        int petId = firstPetId;
+
+        try (BatchWriter owners = new BatchWriter(
+            connection, "owners", "id", "first_name", "last_name", "address", "city", "telephone", "email"
+        );
+            BatchWriter pets = new BatchWriter(connection, "pets", "id", "name", "birth_date", "type_id", "owner_id");
+            BatchWriter visits = new BatchWriter(connection, "visits", "id", "pet_id", "date", "description");
+            BatchWriter vaccinations = new BatchWriter(
+                connection, "vaccinations", "id", "pet_id", "vaccine_name", "vaccination_date", "next_due_date"
+            );
+            BatchWriter vets = new BatchWriter(connection, "vets", "id", "first_name", "last_name");
+            BatchWriter vetSpecialties = new BatchWriter(connection, "vet_specialties", "vet_id", "specialty_id");
+            BatchWriter appointments = new BatchWriter(
+                connection, "appointments", "id", "pet_id", "vet_id", "scheduled_date_time", "reason", "status"
+            )) {
+            final List<BatchWriter> writers = List.of(owners, vets, vetSpecialties, pets, visits, vaccinations, appointments);
+
+            for (int vetId = firstVetId; vetId < firstVetId + properties.getVets(); vetId++) {
+                vets.add(vetId, pick(random, FIRST_NAMES), pick(random, LAST_NAMES));
+                final List<String> specialties = new ArrayList<>(SPECIALTIES);
+                for (int count = weighted(random, SPECIALTIES_PER_VET_WEIGHTS); count > 0; count--) {
+                    vetSpecialties.add(vetId, specialtyIds.get(specialties.remove(random.nextInt(specialties.size()))));
+                }
+                flushWhenFull(connection, writers);
+            }
+
+            for (int ownerId = firstOwnerId; ownerId < firstOwnerId + properties.getOwners(); ownerId++) {
+                final String firstName = pick(random, FIRST_NAMES);
+                final String lastName = pick(random, LAST_NAMES);
+                owners.add(
+                    ownerId,
+                    firstName,
+                    lastName,
+                    (1 + random.nextInt(2_000)) + " " + pick(random, STREETS),
+                    pick(random, CITIES),
+                    String.valueOf(6_000_000_000L + random.nextLong(1_000_000_000L)),
+                    (firstName + "." + lastName).toLowerCase().replace(' ', '-') + ownerId + "@example.com"
+                );
+
+                for (int count = weighted(random, PETS_PER_OWNER_WEIGHTS); count > 0; count--, petId++) {
+                    final PetTypeProfile type = PET_TYPES.get(weighted(random, PET_TYPE_WEIGHTS));
+                    final LocalDate birthDate = properties.getReferenceDate().minusDays(1 + random.nextInt(type.lifespanYears() * 365));
+                    pets.add(petId, pick(random, PET_NAMES), birthDate, petTypeIds.get(type.name()), ownerId);
+                    visitId = addVisits(random, visits, visitId, petId, birthDate);
+                    vaccinationId = addVaccinations(random, vaccinations, vaccinationId, petId, birthDate, type);
+                }
+                flushWhenFull(connection, writers);
+            }
+
+            if (petId > firstPetId && properties.getVets() > 0) {
+                appointmentId = addAppointments(random, connection, writers, appointments, appointmentId, firstPetId, petId, firstVetId);
+            }
+            flush(connection, writers);
+
+            restartIdentity(connection, "owners", firstOwnerId + properties.getOwners());
+            restartIdentity(connection, "pets", petId);
+            restartIdentity(connection, "visits", visitId);
+            restartIdentity(connection, "vaccinations", vaccinationId);
+            restartIdentity(connection, "vets", firstVetId + properties.getVets());
+            restartIdentity(connection, "appointments", appointmentId);
+            connection.commit();
+
+            return new GeneratedData(
+                owners.getWritten(),
+                pets.getWritten(),
+                visits.getWritten(),
+                vaccinations.getWritten(),
+                vets.getWritten(),
+                appointments.getWritten(),
+                Duration.ofNanos(System.nanoTime() - start)
+            );
+        }
+    }
+
+    private int addVisits(final SplittableRandom random,
+        final BatchWriter visits,
+        final int firstVisitId,
+        final int petId,
+        final LocalDate birthDate) throws SQLException {
+        final LocalDate referenceDate = properties.getReferenceDate();
+        final LocalDate historyStart = birthDate.isAfter(referenceDate.minusYears(VISIT_HISTORY_YEARS))
+            ? birthDate
+            : referenceDate.minusYears(VISIT_HISTORY_YEARS);
+        final long historyDays = Math.max(1, ChronoUnit.DAYS.between(historyStart, referenceDate));
+        // Older pets have been seen more often; about one visit every two to three years of age.
+        final double meanVisits = 0.5 + 0.4 * birthDate.until(referenceDate).getYears();
+
+        int visitId = firstVisitId;
+        for (int count = poisson(random, meanVisits); count > 0; count--, visitId++) {
+            visits.add(visitId, petId, historyStart.plusDays(random.nextLong(historyDays)), pick(random, VISIT_REASONS));
+        }
+        return visitId;
+    }
+
+    private int addVaccinations(final SplittableRandom random,
+        final BatchWriter vaccinations,
+        final int firstVaccinationId,
+        final int petId,
+        final LocalDate birthDate,
+        final PetTypeProfile type) throws SQLException {
+        int vaccinationId = firstVaccinationId;
+        for (final Vaccine vaccine : type.vaccines()) {
+            // The first dose is given at twelve to sixteen weeks, and every booster is given when it is due until the
+            // owner stops following the schedule.
+            LocalDate date = birthDate.plusWeeks(12 + random.nextInt(5));
+            while (date.isBefore(properties.getReferenceDate())) {
+                final LocalDate nextDueDate = date.plusMonths(vaccine.intervalMonths());
+                vaccinations.add(vaccinationId++, petId, vaccine.name(), date, nextDueDate);
+                if (random.nextDouble() > VACCINATION_COMPLIANCE) {
+                    break;
+                }
+                date = nextDueDate.plusDays(random.nextInt(21));
+            }
+        }
+        return vaccinationId;
+    }
+
+    private int addAppointments(final SplittableRandom random,
+        final Connection connection,
+        final List<BatchWriter> writers,
+        final BatchWriter appointments,
+        final int firstAppointmentId,
+        final int firstPetId,
+        final int endPetId,
+        final int firstVetId) throws SQLException {
+        final LocalDate referenceDate = properties.getReferenceDate();
+        int appointmentId = firstAppointmentId;
+        for (int day = -properties.getAppointmentDays(); day < properties.getAppointmentDays(); day++) {
+            final LocalDate date = referenceDate.plusDays(day);
+            if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                continue;
+            }
+            for (int vetId = firstVetId; vetId < firstVetId + properties.getVets(); vetId++) {
+                for (int slot = 0; slot < SLOTS_PER_DAY; slot++) {
+                    if (random.nextDouble() >= properties.getAppointmentDensity()) {
+                        continue;
+                    }
+                    final LocalDateTime scheduledAt = LocalDateTime.of(date, FIRST_SLOT.plusMinutes(30L * slot));
+                    appointments.add(
+                        appointmentId++,
+                        firstPetId + random.nextInt(endPetId - firstPetId),
+                        vetId,
+                        scheduledAt,
+                        pick(random, APPOINTMENT_REASONS),
+                        appointmentStatus(random, day < 0).name()
+                    );
+                }
+                flushWhenFull(connection, writers);
+            }
+        }
+        return appointmentId;
+    }
+
+    private static AppointmentStatus appointmentStatus(final SplittableRandom random, final boolean past) {
+        final double draw = random.nextDouble();
+        if (past) {
+            return draw < 0.9 ? AppointmentStatus.COMPLETED : AppointmentStatus.CANCELLED;
+        }
+        if (draw < 0.7) {
+            return AppointmentStatus.SCHEDULED;
+        }
+        return draw < 0.95 ? AppointmentStatus.CONFIRMED : AppointmentStatus.CANCELLED;
+    }
+
+    private void flushWhenFull(final Connection connection, final List<BatchWriter> writers) throws SQLException {
+        for (final BatchWriter writer : writers) {
+            if (writer.getPending() >= properties.getBatchSize()) {
+                flush(connection, writers);
+                return;
+            }
+        }
+    }
+
+    private static void flush(final Connection connection, final List<BatchWriter> writers) throws SQLException {
+        // The writers are flushed parents first, so the foreign keys of every batch resolve.
+        for (final BatchWriter writer : writers) {
+            writer.flush();
+        }
+        connection.commit();
+    }
+
+    private static Map<String, Integer> referenceIds(final Connection connection,
+        final String table,
+        final List<String> names) throws SQLException {
+        final Map<String, Integer> ids = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery("SELECT id, name FROM " + table)) {
+            while (resultSet.next()) {
+                ids.put(resultSet.getString("name"), resultSet.getInt("id"));
+            }
+        }
+
+        int nextId = nextId(connection, table);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table + " (id, name) VALUES (?, ?)")) {
+            for (final String name : names) {
+                if (!ids.containsKey(name)) {
+                    insert.setInt(1, nextId);
+                    insert.setString(2, name);
+                    insert.executeUpdate();
+                    ids.put(name, nextId++);
+                }
+            }
+        }
+        restartIdentity(connection, table, nextId);
+        connection.commit();
+        return ids;
+    }
+
+    private static int nextId(final Connection connection, final String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table)) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    private static void restartIdentity(final Connection connection, final String table, final int nextId) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + nextId);
+        }
+    }
+
+    private static String pick(final SplittableRandom random, final String... values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static int weighted(final SplittableRandom random, final double... weights) {
+        double draw = random.nextDouble();
+        for (int index = 0; index < weights.length - 1; index++) {
+            draw -= weights[index];
+            if (draw < 0) {
+                return index;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static int poisson(final SplittableRandom random, final double mean) {
+        final double limit = Math.exp(-mean);
+        double product = random.nextDouble();
+        int count = 0;
+        while (product > limit) {
+            product *= random.nextDouble();
+            count++;
+        }
+        return count;
+    }
+
+    private record PetTypeProfile(String name, double weight, int lifespanYears, List<Vaccine> vaccines) {
+    }
+
+    private record Vaccine(String name, int intervalMonths) {
+    }
+}
@@ -0,0 +1,39 @@
+package dev.ilionx.workshop.common.generator;
+
+import dev.ilionx.workshop.common.config.properties.DataGeneratorProperties;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the data generator on startup, and exits afterwards when it is used as a command line tool.
+ *
+ * <p>Enable it with the {@code generate-data} profile, or on the command line with
+ * {@code --data-generator.enabled=true --data-generator.exit-on-completion=true --data-generator.owners=1000000}.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "data-generator",
+    name = "enabled",
+    havingValue = "true"
+)
+public class DataGeneratorRunner implements ApplicationRunner {
+
+    private final DataGenerator dataGenerator;
+    private final DataGeneratorProperties dataGeneratorProperties;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        dataGenerator.generate();
+        if (dataGeneratorProperties.isExitOnCompletion()) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package dev.ilionx.workshop.common.generator;
+
+import java.time.Duration;
+
+/**
+ * The number of rows a run of the data generator inserted.
+ *
+ * @param owners       the generated owners
+ * @param pets         the generated pets
+ * @param visits       the generated visits
+ * @param vaccinations the generated vaccinations
+ * @param vets         the generated vets
+ * @param appointments the generated appointments
+ * @param elapsed      how long the generation took
+ */
+public record GeneratedData(
+    long owners,
+    long pets,
+    long visits,
+    long vaccinations,
+    long vets,
+    long appointments,
+    Duration elapsed
+) {
+
+    /**
+     * Returns the total number of generated rows.
+     *
+     * @return the total number of rows
+     */
+    public long rows() {
+        return owners + pets + visits + vaccinations + vets + appointments;
+    }
+}
@@ -0,0 +1,145 @@
+package dev.ilionx.workshop.common.idempotency;
+
+import dev.ilionx.workshop.common.config.properties.IdempotencyProperties;
+import dev.ilionx.workshop.common.idempotency.IdempotencyStore.Claim;
+import dev.ilionx.workshop.common.idempotency.model.StoredResponse;
+import dev.ilionx.workshop.common.web.CachedBodyRequest;
+import dev.ilionx.workshop.common.web.ErrorResponseWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Filter making POST requests with an {@code Idempotency-Key} header safe to retry.
+ *
+ * <p>The key is scoped to the caller, the method and the path. The first request with a key executes and its response is
+ * stored; retries with the same key and body receive the stored response with an {@code Idempotent-Replayed} header.
+ * Retries arriving while the first request still runs wait for it instead of executing again. Reusing a key with a
+ * different body is rejected with {@code 422}, and a retry that cannot be answered within the in-flight timeout is
+ * rejected with {@code 409}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final String ANONYMOUS = "anonymous";
+
+    private final IdempotencyStore idempotencyStore;
+    private final IdempotencyProperties idempotencyProperties;
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return !idempotencyProperties.isEnabled()
+            || !HttpMethod.POST.matches(request.getMethod())
+            || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request,
+        final HttpServletResponse response,
+        final FilterChain filterChain) throws ServletException, IOException {
+        final String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > idempotencyProperties.getMaxKeyLength()) {
+            writeError(request, response, HttpStatus.BAD_REQUEST,
+                "The Idempotency-Key header must contain 1 to " + idempotencyProperties.getMaxKeyLength() + " characters.");
+            return;
+        }
+
+        final byte[] body = request.getInputStream().readAllBytes();
+        final String requestHash = sha256(body);
+        final String key = sha256(scope(request, idempotencyKey).getBytes(StandardCharsets.UTF_8));
+
+        switch (idempotencyStore.acquire(key)) {
+            case Claim.Completed(final StoredResponse stored) -> replay(request, response, stored, requestHash);
+            case Claim.InProgress() -> writeError(request, response, HttpStatus.CONFLICT,
+                "A request with this Idempotency-Key is still being processed.");
+            case Claim.Acquired() -> execute(new CachedBodyRequest(request, body), response, filterChain, key, requestHash);
+        }
+    }
+
+    private void execute(final HttpServletRequest request,
+        final HttpServletResponse response,
+        final FilterChain filterChain,
+        final String key,
+        final String requestHash) throws ServletException, IOException {
+        final ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, responseWrapper);
+        } catch (final ServletException | IOException | RuntimeException exception) {
+            idempotencyStore.release(key);
+            throw exception;
+        }
+
+        idempotencyStore.complete(key, new StoredResponse(
+            requestHash,
+            responseWrapper.getStatus(),
+            responseWrapper.getContentType(),
+            responseWrapper.getContentAsByteArray(),
+            Instant.now().plus(idempotencyProperties.getTtl())
+        ));
+        responseWrapper.copyBodyToResponse();
+    }
+
+    private static void replay(final HttpServletRequest request,
+        final HttpServletResponse response,
+        final StoredResponse stored,
+        final String requestHash) throws IOException {
+        if (!stored.requestHash().equals(requestHash)) {
+            writeError(request, response, HttpStatus.UNPROCESSABLE_CONTENT,
+                "The Idempotency-Key has already been used for a request with a different body.");
+            return;
+        }
+
+        response.setStatus(stored.status());
+        response.setHeader(IDEMPOTENT_REPLAYED_HEADER, Boolean.TRUE.toString());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.body() != null) {
+            response.setContentLength(stored.body().length);
+            response.getOutputStream().write(stored.body());
+        }
+    }
+
+    private static String scope(final HttpServletRequest request, final String idempotencyKey) {
+        final String caller = request.getRemoteUser() == null ? ANONYMOUS : request.getRemoteUser();
+        return String.join("\n", caller, request.getMethod(), request.getRequestURI(), idempotencyKey);
+    }
+
+    private static String sha256(final byte[] value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value));
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+
+    private static void writeError(final HttpServletRequest request,
+        final HttpServletResponse response,
+        final HttpStatus status,
+        final String message) throws IOException {
+        ErrorResponseWriter.write(request, response, status, message);
+        log.debug("Rejected idempotent request to '{}': {}", request.getRequestURI(), message);
+    }
+}
@@ -0,0 +1,198 @@
+package dev.ilionx.workshop.common.idempotency;
+
+import dev.ilionx.workshop.common.config.properties.IdempotencyProperties;
+import dev.ilionx.workshop.common.idempotency.model.IdempotencyRecord;
+import dev.ilionx.workshop.common.idempotency.model.StoredResponse;
+import dev.ilionx.workshop.common.idempotency.repository.IdempotencyRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Store of the responses to requests made with an idempotency key.
+ *
+ * <p>Every key maps to a future in memory. The first request for a key installs the future and executes; duplicates
+ * arriving while it runs wait on the same future and replay its response, so concurrent retries never execute twice.
+ * Completed responses are also written to the database, which answers retries after a restart, on another instance, or
+ * once the response has been evicted from memory. Server errors are not stored, so the client can retry them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    private final Map<String, CompletableFuture<StoredResponse>> entries = new ConcurrentHashMap<>();
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final IdempotencyProperties idempotencyProperties;
+
+    /**
+     * Claim a key, or wait for the response of the request that claimed it first.
+     *
+     * @param key the scoped idempotency key
+     * @return the outcome of the claim
+     */
+    public Claim acquire(final String key) {
+        final long deadline = System.nanoTime() + idempotencyProperties.getInFlightTimeout().toNanos();
+        while (true) {
+            final CompletableFuture<StoredResponse> pending = new CompletableFuture<>();
+            final CompletableFuture<StoredResponse> existing = entries.putIfAbsent(key, pending);
+            if (existing == null) {
+                return claimOrReplay(key, pending);
+            }
+            if (isExpired(existing, Instant.now())) {
+                entries.remove(key, existing);
+                continue;
+            }
+
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return new Claim.InProgress();
+            }
+            try {
+                final StoredResponse response = existing.get(remaining, TimeUnit.NANOSECONDS);
+                if (response != null) {
+                    return new Claim.Completed(response);
+                }
+                // The first request was released without a response; try to claim the key again.
+            } catch (final TimeoutException exception) {
+                return new Claim.InProgress();
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return new Claim.InProgress();
+            } catch (final ExecutionException exception) {
+                entries.remove(key, existing);
+            }
+        }
+    }
+
+    /**
+     * Store the response for a claimed key and hand it to the requests waiting for it. Server errors are released
+     * instead, so the next retry executes again.
+     *
+     * @param key      the scoped idempotency key
+     * @param response the response
+     */
+    public void complete(final String key, final StoredResponse response) {
+        if (response.status() >= 500) {
+            release(key);
+            return;
+        }
+
+        persist(key, response);
+        final CompletableFuture<StoredResponse> pending = entries.get(key);
+        if (pending == null) {
+            return;
+        }
+        pending.complete(response);
+        if (entries.size() > idempotencyProperties.getMaxEntries()) {
+            // Keep memory bounded; the database still answers later retries.
+            entries.remove(key, pending);
+        }
+    }
+
+    /**
+     * Release a claimed key without storing a response.
+     *
+     * @param key the scoped idempotency key
+     */
+    public void release(final String key) {
+        final CompletableFuture<StoredResponse> pending = entries.remove(key);
+        if (pending != null) {
+            pending.complete(null);
+        }
+    }
+
+    /**
+     * Remove expired keys from memory and the database.
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval:10m}")
+    public void removeExpiredKeys() {
+        final Instant now = Instant.now();
+        entries.entrySet().removeIf(entry -> isExpired(entry.getValue(), now));
+        final int removed = idempotencyRecordRepository.deleteByExpiresAtBefore(now);
+        if (removed > 0) {
+            log.info("Removed '{}' expired idempotency keys", removed);
+        }
+    }
+
+    private Claim claimOrReplay(final String key, final CompletableFuture<StoredResponse> pending) {
+        final Optional<StoredResponse> stored = idempotencyRecordRepository.findById(key)
+            .map(IdempotencyStore::toStoredResponse)
+            .filter(response -> !response.isExpired(Instant.now()));
+        if (stored.isEmpty()) {
+            return new Claim.Acquired();
+        }
+        pending.complete(stored.get());
+        return new Claim.Completed(stored.get());
+    }
+
+    private void persist(final String key, final StoredResponse response) {
+        final IdempotencyRecord idempotencyRecord = new IdempotencyRecord();
+        idempotencyRecord.setKey(key);
+        idempotencyRecord.setRequestHash(response.requestHash());
+        idempotencyRecord.setStatus(response.status());
+        idempotencyRecord.setContentType(response.contentType());
+        idempotencyRecord.setBody(response.body());
+        idempotencyRecord.setExpiresAt(response.expiresAt());
+        try {
+            idempotencyRecordRepository.save(idempotencyRecord);
+        } catch (final DataAccessException exception) {
+            log.warn("Failed to store the response for idempotency key '{}': {}", key, exception.getMessage());
+        }
+    }
+
+    private static boolean isExpired(final CompletableFuture<StoredResponse> entry, final Instant now) {
+        if (!entry.isDone() || entry.isCompletedExceptionally()) {
+            return false;
+        }
+        final StoredResponse response = entry.getNow(null);
+        return response != null && response.isExpired(now);
+    }
+
+    private static StoredResponse toStoredResponse(final IdempotencyRecord idempotencyRecord) {
+        return new StoredResponse(
+            idempotencyRecord.getRequestHash(),
+            idempotencyRecord.getStatus(),
+            idempotencyRecord.getContentType(),
+            idempotencyRecord.getBody(),
+            idempotencyRecord.getExpiresAt()
+        );
+    }
+
+    /**
+     * The outcome of claiming an idempotency key.
+     */
+    public sealed interface Claim {
+
+        /** The key was free; the caller executes the request and must complete or release the key. */
+        record Acquired() implements Claim {
+        }
+
+        /**
+         * A response is available for the key and must be replayed.
+         *
+         * @param response the stored response
+         */
+        record Completed(StoredResponse response) implements Claim {
+        }
+
+        /** Another request with the key did not finish within the in-flight timeout. */
+        record InProgress() implements Claim {
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package dev.ilionx.workshop.common.idempotency.model;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Entity storing the response of a request made with an idempotency key, so retries can be answered with it.
+ */
+@Entity
+@Table(name = "idempotency_keys")
+@Getter
+@Setter
+@NoArgsConstructor
+public class IdempotencyRecord {
+
+    @Id
+    @Column(
+        name = "idempotency_key",
+        length = 64
+    )
+    private String key;
+
+    @Column(
+        name = "request_hash",
+        nullable = false,
+        length = 64
+    )
+    private String requestHash;
+
+    @Column(
+        name = "status",
+        nullable = false
+    )
+    private Integer status;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "body")
+    private byte[] body;
+
+    @Column(
+        name = "expires_at",
+        nullable = false
+    )
+    private Instant expiresAt;
+
+}
@@ -0,0 +1,31 @@
+package dev.ilionx.workshop.common.idempotency.model;
+
+import java.time.Instant;
+
+/**
+ * The response of a request made with an idempotency key.
+ *
+ * @param requestHash the SHA-256 hash of the original request body
+ * @param status      the HTTP status code
+ * @param contentType the content type, if any
+ * @param body        the response body
+ * @param expiresAt   the moment after which the response is no longer replayed
+ */
+public record StoredResponse(
+    String requestHash,
+    int status,
+    String contentType,
+    byte[] body,
+    Instant expiresAt
+) {
+
+    /**
+     * Whether the response is no longer replayed at the given moment.
+     *
+     * @param now the current moment
+     * @return {@code true} when the response has expired
+     */
+    public boolean isExpired(final Instant now) {
+        return expiresAt.isBefore(now);
+    }
+}
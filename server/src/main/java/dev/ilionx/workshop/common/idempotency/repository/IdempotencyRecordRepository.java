@@ -0,0 +1,25 @@
+package dev.ilionx.workshop.common.idempotency.repository;
+
+import dev.ilionx.workshop.common.idempotency.model.IdempotencyRecord;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for IdempotencyRecord entity.
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * Delete all records that expired before the given moment.
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :before")
+    int deleteByExpiresAtBefore(@Param("before") Instant before);
+}
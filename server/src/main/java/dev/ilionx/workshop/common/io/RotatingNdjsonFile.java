@@ -0,0 +1,120 @@
+package dev.ilionx.workshop.common.io;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Appends newline delimited JSON lines to rotating files in a directory.
+ *
+ * <p>A file is closed once the next line would take it past the maximum file size, and the oldest files with the same
+ * prefix are deleted when there are more than the maximum number of files. File names consist of the prefix, the start
+ * of the application and a sequence number, so they sort in the order they were written. Not thread safe; callers
+ * append from a single thread or synchronize.
+ */
+public class RotatingNdjsonFile implements Closeable {
+
+    static final String FILE_SUFFIX = ".ndjson";
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss").withZone(ZoneOffset.UTC);
+
+    private final Path directory;
+    private final String prefix;
+    private final String filePrefix;
+    private final long maxFileSize;
+    private final int maxFiles;
+
+    private OutputStream output;
+    private long fileSize;
+    private int fileSequence;
+
+    /**
+     * Constructor.
+     *
+     * @param directory   the directory the files are written to
+     * @param prefix      the prefix of the file names
+     * @param maxFileSize the size at which a file is closed and a new one is started
+     * @param maxFiles    the number of files kept
+     */
+    public RotatingNdjsonFile(final Path directory, final String prefix, final DataSize maxFileSize, final int maxFiles) {
+        this.directory = directory;
+        this.prefix = prefix;
+        this.filePrefix = prefix + FILE_TIMESTAMP.format(Instant.now()) + '-';
+        this.maxFileSize = maxFileSize.toBytes();
+        this.maxFiles = maxFiles;
+    }
+
+    /**
+     * Append a line, starting a new file when it does not fit in the current one.
+     *
+     * @param line the JSON document, without a line separator
+     * @throws IOException if the line cannot be written
+     */
+    public void append(final byte[] line) throws IOException {
+        if (output == null || fileSize + line.length + 1 > maxFileSize) {
+            rotate();
+        }
+        output.write(line);
+        output.write('\n');
+        fileSize += line.length + 1;
+    }
+
+    /**
+     * Flush the buffered lines to the current file, if any.
+     *
+     * @throws IOException if the lines cannot be flushed
+     */
+    public void flush() throws IOException {
+        if (output != null) {
+            output.flush();
+        }
+    }
+
+    /**
+     * Close the current file, if any; the next line starts a new file.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (output == null) {
+            return;
+        }
+        try {
+            output.close();
+        } finally {
+            output = null;
+        }
+    }
+
+    private void rotate() throws IOException {
+        close();
+        Files.createDirectories(directory);
+        final Path file = directory.resolve(filePrefix + "%05d".formatted(fileSequence++) + FILE_SUFFIX);
+        output = new BufferedOutputStream(Files.newOutputStream(file));
+        fileSize = 0;
+        deleteOldestFiles();
+    }
+
+    private void deleteOldestFiles() throws IOException {
+        final List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, prefix + "*" + FILE_SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        files.sort(null);
+        for (int index = 0; index < files.size() - maxFiles; index++) {
+            Files.deleteIfExists(files.get(index));
+        }
+    }
+}
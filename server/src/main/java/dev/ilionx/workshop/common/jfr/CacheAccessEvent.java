@@ -0,0 +1,30 @@
+package dev.ilionx.workshop.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * A read from an entity cache; a miss includes loading the entity.
+ */
+@Setter
+@Name(CacheAccessEvent.NAME)
+@Label("Cache Access")
+@Description("A read from an entity cache; the duration of a miss includes loading the entity")
+@StackTrace(false)
+@Category({"Pet Store", "Caches"})
+public class CacheAccessEvent extends Event {
+
+    /** The name of the event type. */
+    public static final String NAME = "dev.ilionx.workshop.CacheAccess";
+
+    @Label("Cache")
+    private String cache;
+
+    @Label("Hit")
+    private boolean hit;
+}
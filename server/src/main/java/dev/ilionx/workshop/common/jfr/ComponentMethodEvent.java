@@ -0,0 +1,25 @@
+package dev.ilionx.workshop.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * A call of a method of an application component, recorded by JDK Flight Recorder.
+ */
+@Setter
+@StackTrace(false)
+@Category({"Pet Store", "Components"})
+public abstract class ComponentMethodEvent extends Event {
+
+    @Label("Component")
+    private String component;
+
+    @Label("Method")
+    private String method;
+
+    @Label("Exception")
+    private String exception;
+}
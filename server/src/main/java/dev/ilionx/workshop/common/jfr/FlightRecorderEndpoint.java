@@ -0,0 +1,147 @@
+package dev.ilionx.workshop.common.jfr;
+
+import dev.ilionx.workshop.common.config.properties.FlightRecorderProperties;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint that starts, dumps and stops a JDK Flight Recorder recording, so production can be profiled without
+ * attaching external tools.
+ *
+ * <p>{@code POST .../flightrecorder/start} starts a recording with the configured settings, which keeps the most recent
+ * events up to the configured age and size. {@code POST .../flightrecorder/dump} writes a snapshot of it to a file in
+ * the configured directory and keeps recording, and {@code POST .../flightrecorder/stop} writes it and stops. The
+ * recording includes the application events, such as the service calls and cache accesses. Requires authentication,
+ * see {@code WebSecurityConfig}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "flightrecorder")
+public class FlightRecorderEndpoint {
+
+    private static final String RECORDING_NAME = "actuator";
+    private static final String NOT_RECORDING = "NOT_RECORDING";
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss").withZone(ZoneOffset.UTC);
+
+    private final FlightRecorderProperties flightRecorderProperties;
+    private Recording recording;
+
+    /**
+     * Returns the state of the recording.
+     *
+     * @return the state
+     */
+    @ReadOperation
+    public synchronized RecordingStatus status() {
+        return statusOf(null);
+    }
+
+    /**
+     * Starts, dumps or stops the recording.
+     *
+     * @param action {@code start}, {@code dump} or {@code stop}
+     * @return the state of the recording, with the file it was written to when it was dumped or stopped
+     * @throws IOException    if the recording cannot be written
+     * @throws ParseException if the configured settings cannot be read
+     */
+    @WriteOperation
+    public synchronized RecordingStatus control(@Selector final String action) throws IOException, ParseException {
+        return switch (action) {
+            case "start" -> start();
+            case "dump" -> statusOf(dump());
+            case "stop" -> stop();
+            default -> throw new InvalidEndpointRequestException(
+                "Unknown action '" + action + "', expected start, dump or stop",
+                "Unknown action"
+            );
+        };
+    }
+
+    private RecordingStatus start() throws IOException, ParseException {
+        if (recording != null) {
+            return statusOf(null);
+        }
+        recording = new Recording(Configuration.getConfiguration(flightRecorderProperties.getSettings()));
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(flightRecorderProperties.getMaxAge());
+        recording.setMaxSize(flightRecorderProperties.getMaxSize().toBytes());
+        recording.start();
+        log.info("Started a flight recording with the '{}' settings", flightRecorderProperties.getSettings());
+        return statusOf(null);
+    }
+
+    private RecordingStatus stop() throws IOException {
+        final Path file = dump();
+        recording.close();
+        recording = null;
+        log.info("Stopped the flight recording");
+        return statusOf(file);
+    }
+
+    private Path dump() throws IOException {
+        if (recording == null) {
+            throw new InvalidEndpointRequestException("No flight recording is running, start one first", "Not recording");
+        }
+        final Path file = flightRecorderProperties.getDirectory()
+            .resolve("recording-" + FILE_TIMESTAMP.format(Instant.now()) + ".jfr")
+            .toAbsolutePath();
+        Files.createDirectories(file.getParent());
+        recording.dump(file);
+        log.info("Dumped the flight recording to '{}'", file);
+        return file;
+    }
+
+    private RecordingStatus statusOf(final Path file) {
+        if (recording == null) {
+            return new RecordingStatus(NOT_RECORDING, null, 0, file == null ? null : file.toString());
+        }
+        return new RecordingStatus(
+            recording.getState().name(),
+            recording.getStartTime(),
+            recording.getSize(),
+            file == null ? null : file.toString()
+        );
+    }
+
+    /**
+     * Closes a running recording on shutdown.
+     */
+    @PreDestroy
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    /**
+     * The state of the recording.
+     *
+     * @param state     the state of the recording, or {@code NOT_RECORDING}
+     * @param startTime when the recording started
+     * @param sizeBytes the size of the recorded data
+     * @param file      the file the recording was written to by this request
+     */
+    public record RecordingStatus(String state, Instant startTime, long sizeBytes, String file) {
+    }
+}
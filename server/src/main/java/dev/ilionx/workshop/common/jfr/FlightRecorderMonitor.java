@@ -0,0 +1,88 @@
+package dev.ilionx.workshop.common.jfr;
+
+import dev.ilionx.workshop.common.config.properties.FlightRecorderProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Streams the JFR events that point at a stalled request into metrics: virtual threads pinned to their carrier thread,
+ * and long waits for a JDBC connection or statement.
+ *
+ * <p>JFR only emits the events that last longer than the configured thresholds, so the stream stays quiet while the
+ * application is healthy. The pinned events carry a stack trace, so a recording shows where the pinning happens.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "flight-recorder",
+    name = "monitor-enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class FlightRecorderMonitor {
+
+    public static final String PINNED_METRIC = "jfr.virtual.threads.pinned";
+    public static final String JDBC_WAIT_METRIC = "jfr.jdbc.waits";
+
+    private static final String VIRTUAL_THREAD_PINNED = "jdk.VirtualThreadPinned";
+    private static final Duration MAX_AGE = Duration.ofMinutes(1);
+
+    private final MeterRegistry meterRegistry;
+    private final FlightRecorderProperties flightRecorderProperties;
+    private RecordingStream stream;
+
+    /**
+     * Start streaming the events.
+     */
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.setMaxAge(MAX_AGE);
+        stream.enable(VIRTUAL_THREAD_PINNED).withThreshold(flightRecorderProperties.getPinnedThreshold());
+        stream.enable(JdbcWaitEvent.NAME).withThreshold(flightRecorderProperties.getJdbcWaitThreshold());
+        stream.onEvent(VIRTUAL_THREAD_PINNED, this::pinned);
+        stream.onEvent(JdbcWaitEvent.NAME, this::jdbcWait);
+        stream.onError(error -> log.warn("Failed to process a JFR event: {}", error.getMessage()));
+        stream.startAsync();
+        log.info(
+            "Monitoring virtual threads pinned over {} and JDBC waits over {}",
+            flightRecorderProperties.getPinnedThreshold(),
+            flightRecorderProperties.getJdbcWaitThreshold()
+        );
+    }
+
+    /**
+     * Stop streaming the events.
+     */
+    @PreDestroy
+    public void stop() {
+        stream.close();
+    }
+
+    private void pinned(final RecordedEvent event) {
+        Timer.builder(PINNED_METRIC)
+            .description("Virtual threads pinned to their carrier thread for longer than the threshold")
+            .register(meterRegistry)
+            .record(event.getDuration());
+    }
+
+    private void jdbcWait(final RecordedEvent event) {
+        Timer.builder(JDBC_WAIT_METRIC)
+            .description("Waits for a JDBC connection or statement that took longer than the threshold")
+            .tag("type", event.getString("type"))
+            .register(meterRegistry)
+            .record(event.getDuration());
+    }
+}
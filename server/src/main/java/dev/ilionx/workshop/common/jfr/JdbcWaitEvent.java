@@ -0,0 +1,34 @@
+package dev.ilionx.workshop.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+/**
+ * A wait of the application for the database: for a pooled connection, or for a statement to execute.
+ */
+@Setter
+@Name(JdbcWaitEvent.NAME)
+@Label("JDBC Wait")
+@Description("A wait for a pooled connection or for a statement to execute")
+@Category({"Pet Store", "Database"})
+public class JdbcWaitEvent extends Event {
+
+    /** The name of the event type. */
+    public static final String NAME = "dev.ilionx.workshop.JdbcWait";
+
+    /** The type of a wait for a pooled connection. */
+    public static final String CONNECTION = "connection";
+
+    /** The type of a wait for a statement. */
+    public static final String STATEMENT = "statement";
+
+    @Label("Type")
+    private String type;
+
+    @Label("Statement")
+    private String statement;
+}
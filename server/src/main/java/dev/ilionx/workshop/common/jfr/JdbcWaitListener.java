@@ -0,0 +1,72 @@
+package dev.ilionx.workshop.common.jfr;
+
+import jdk.jfr.EventType;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import javax.sql.DataSource;
+
+/**
+ * Records a {@link JdbcWaitEvent} for every connection taken from the pool and every statement executed.
+ *
+ * <p>Nothing is recorded, and no event is allocated, unless a recording enables the event type.
+ */
+public class JdbcWaitListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final String GET_CONNECTION_METHOD = "getConnection";
+    private static final EventType EVENT_TYPE = EventType.getEventType(JdbcWaitEvent.class);
+    private static final ThreadLocal<JdbcWaitEvent> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public void beforeQuery(final ExecutionInfo executionInfo, final List<QueryInfo> queries) {
+        if (EVENT_TYPE.isEnabled()) {
+            final JdbcWaitEvent event = new JdbcWaitEvent();
+            event.setType(JdbcWaitEvent.STATEMENT);
+            event.setStatement(queries.isEmpty() ? null : queries.getFirst().getQuery());
+            begin(event);
+        }
+    }
+
+    @Override
+    public void afterQuery(final ExecutionInfo executionInfo, final List<QueryInfo> queries) {
+        commit();
+    }
+
+    @Override
+    public void beforeMethod(final MethodExecutionContext executionContext) {
+        if (EVENT_TYPE.isEnabled() && isGetConnection(executionContext)) {
+            final JdbcWaitEvent event = new JdbcWaitEvent();
+            event.setType(JdbcWaitEvent.CONNECTION);
+            begin(event);
+        }
+    }
+
+    @Override
+    public void afterMethod(final MethodExecutionContext executionContext) {
+        if (isGetConnection(executionContext)) {
+            commit();
+        }
+    }
+
+    private static boolean isGetConnection(final MethodExecutionContext executionContext) {
+        return executionContext.getTarget() instanceof DataSource
+            && GET_CONNECTION_METHOD.equals(executionContext.getMethod().getName());
+    }
+
+    private static void begin(final JdbcWaitEvent event) {
+        event.begin();
+        CURRENT.set(event);
+    }
+
+    private static void commit() {
+        final JdbcWaitEvent event = CURRENT.get();
+        if (event != null) {
+            CURRENT.remove();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package dev.ilionx.workshop.common.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A call of a repository method, the queries it runs and the mapping of their results.
+ */
+@Name(RepositoryQueryEvent.NAME)
+@Label("Repository Query")
+@Description("A call of a repository method, including its queries and the mapping of their results")
+public class RepositoryQueryEvent extends ComponentMethodEvent {
+
+    /** The name of the event type. */
+    public static final String NAME = "dev.ilionx.workshop.RepositoryQuery";
+}
@@ -0,0 +1,17 @@
+package dev.ilionx.workshop.common.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A call of a service method, including its transaction.
+ */
+@Name(ServiceMethodEvent.NAME)
+@Label("Service Method")
+@Description("A call of a service method, including its transaction")
+public class ServiceMethodEvent extends ComponentMethodEvent {
+
+    /** The name of the event type. */
+    public static final String NAME = "dev.ilionx.workshop.ServiceMethod";
+}
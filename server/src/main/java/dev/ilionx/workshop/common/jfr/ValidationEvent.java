@@ -0,0 +1,17 @@
+package dev.ilionx.workshop.common.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A validation of a request; a rejected request carries the exception it was rejected with.
+ */
+@Name(ValidationEvent.NAME)
+@Label("Validation")
+@Description("A validation of a request, with the exception of a rejected request")
+public class ValidationEvent extends ComponentMethodEvent {
+
+    /** The name of the event type. */
+    public static final String NAME = "dev.ilionx.workshop.Validation";
+}
@@ -0,0 +1,71 @@
+package dev.ilionx.workshop.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import lombok.Getter;
+import lombok.Setter;
+
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * Logs the request and response bodies of a sample of the requests only.
+ *
+ * <p>A turbo filter runs before the log event is created, so the bodies of the requests that are not sampled are
+ * never rendered. Whether a request is sampled is derived from its transaction id in the MDC, so the request and the
+ * response of a sampled request are both logged. Warnings and errors are always logged. Configured in
+ * {@code logback-spring.xml}.
+ */
+@Getter
+@Setter
+public class BodySamplingTurboFilter extends TurboFilter {
+
+    private static final int BUCKETS = 10_000;
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    /**
+     * The loggers the sampling applies to, by name prefix.
+     */
+    private String loggerPrefix = "io.github.jframe.logging";
+
+    /**
+     * The MDC key holding the id that identifies a request.
+     */
+    private String mdcKey = "tx_id";
+
+    /**
+     * The share of the requests whose bodies are logged, between {@code 0} and {@code 1}.
+     */
+    private double sampleRate = 1.0;
+
+    @Override
+    public FilterReply decide(final Marker marker,
+        final Logger logger,
+        final Level level,
+        final String format,
+        final Object[] params,
+        final Throwable throwable) {
+        if (!isStarted()
+            || sampleRate >= 1.0
+            || level == null
+            || level.isGreaterOrEqual(Level.WARN)
+            || !logger.getName().startsWith(loggerPrefix)
+            || isSampled(MDC.get(mdcKey))) {
+            return FilterReply.NEUTRAL;
+        }
+        if (format != null) {
+            LoggingStatistics.sampledOut();
+        }
+        return FilterReply.DENY;
+    }
+
+    boolean isSampled(final String requestId) {
+        if (requestId == null) {
+            return true;
+        }
+        // Spread the hash codes of similar ids before bucketing them.
+        return Math.floorMod(requestId.hashCode() * GOLDEN_RATIO, BUCKETS) < sampleRate * BUCKETS;
+    }
+}
@@ -0,0 +1,32 @@
+package dev.ilionx.workshop.common.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the {@link LoggingStatistics} as {@code logging.events}, tagged with what happened to the events.
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    private static final String METRIC_NAME = "logging.events";
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        register(registry, "appended", metrics -> LoggingStatistics.appendedCount());
+        register(registry, "dropped", metrics -> LoggingStatistics.droppedCount());
+        register(registry, "sampled-out", metrics -> LoggingStatistics.sampledOutCount());
+    }
+
+    private void register(final MeterRegistry registry, final String outcome, final ToDoubleFunction<LoggingMetrics> count) {
+        FunctionCounter.builder(METRIC_NAME, this, count)
+            .description("Log events by whether they were handed to the asynchronous appender, dropped or sampled out")
+            .tag("outcome", outcome)
+            .register(registry);
+    }
+}
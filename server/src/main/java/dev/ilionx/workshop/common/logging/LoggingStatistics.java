@@ -0,0 +1,62 @@
+package dev.ilionx.workshop.common.logging;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts what happens to log events between the logger and the console.
+ *
+ * <p>Logback is configured before the application context exists, so the filters and listeners it instantiates count
+ * into this class, and {@link LoggingMetrics} publishes the counts once the meter registry is available.
+ */
+public final class LoggingStatistics {
+
+    private static final LongAdder APPENDED = new LongAdder();
+    private static final LongAdder DROPPED = new LongAdder();
+    private static final LongAdder SAMPLED_OUT = new LongAdder();
+
+    private LoggingStatistics() {
+        // Static counters
+    }
+
+    /** Record an event that was handed to the ring buffer. */
+    static void appended() {
+        APPENDED.increment();
+    }
+
+    /** Record an event that was dropped because the ring buffer was full. */
+    static void dropped() {
+        DROPPED.increment();
+    }
+
+    /** Record a request or response log statement that was skipped by the body sampling. */
+    static void sampledOut() {
+        SAMPLED_OUT.increment();
+    }
+
+    /**
+     * Returns the number of events handed to the ring buffer.
+     *
+     * @return the number of events
+     */
+    public static long appendedCount() {
+        return APPENDED.sum();
+    }
+
+    /**
+     * Returns the number of events dropped because the ring buffer was full.
+     *
+     * @return the number of events
+     */
+    public static long droppedCount() {
+        return DROPPED.sum();
+    }
+
+    /**
+     * Returns the number of request and response log statements skipped by the body sampling.
+     *
+     * @return the number of statements
+     */
+    public static long sampledOutCount() {
+        return SAMPLED_OUT.sum();
+    }
+}
@@ -0,0 +1,25 @@
+package dev.ilionx.workshop.common.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import net.logstash.logback.appender.listener.AppenderListener;
+
+/**
+ * Counts the events the asynchronous appender accepts into its ring buffer, and the events it drops when the buffer is
+ * full.
+ *
+ * <p>The appender is configured with an append timeout of zero, so a full buffer drops the event instead of blocking
+ * the request thread until the console catches up. Registered as a listener in {@code logback-spring.xml}.
+ */
+public class RingBufferListener implements AppenderListener<ILoggingEvent> {
+
+    @Override
+    public void eventAppended(final Appender<ILoggingEvent> appender, final ILoggingEvent event, final long durationInNanos) {
+        LoggingStatistics.appended();
+    }
+
+    @Override
+    public void eventAppendFailed(final Appender<ILoggingEvent> appender, final ILoggingEvent event, final Throwable reason) {
+        LoggingStatistics.dropped();
+    }
+}
@@ -0,0 +1,62 @@
+package dev.ilionx.workshop.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Records how long after the start of the JVM the first request was answered.
+ *
+ * <p>Spring Boot reports when the application is ready in {@code application.ready.time}, but with lazy
+ * initialization part of the startup moves to the first request. The time to first request is therefore published as
+ * {@code application.first.request.time}, so both startup modes can be compared on the same metric. Every later request
+ * skips this filter.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class FirstRequestTimer extends OncePerRequestFilter {
+
+    private static final String METRIC_NAME = "application.first.request.time";
+
+    private final AtomicBoolean recorded = new AtomicBoolean();
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return recorded.get();
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request,
+        final HttpServletResponse response,
+        final FilterChain filterChain) throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (recorded.compareAndSet(false, true)) {
+                final long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+                TimeGauge.builder(METRIC_NAME, () -> uptime, TimeUnit.MILLISECONDS)
+                    .description("Time taken from the start of the JVM until the first request was answered")
+                    .register(meterRegistry);
+                log.info("Answered the first request '{}' ms after the JVM started", uptime);
+            }
+        }
+    }
+}
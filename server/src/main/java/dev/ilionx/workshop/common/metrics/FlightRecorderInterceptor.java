@@ -0,0 +1,80 @@
+package dev.ilionx.workshop.common.metrics;
+
+import dev.ilionx.workshop.common.jfr.ComponentMethodEvent;
+import dev.ilionx.workshop.common.jfr.RepositoryQueryEvent;
+import dev.ilionx.workshop.common.jfr.ServiceMethodEvent;
+import dev.ilionx.workshop.common.jfr.ValidationEvent;
+import jdk.jfr.EventType;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Records every call of a method of one component as a JDK Flight Recorder event.
+ *
+ * <p>Unless a recording enables the event type, a call costs one check and no event is allocated.
+ */
+final class FlightRecorderInterceptor implements MethodInterceptor {
+
+    private final String component;
+    private final EventType eventType;
+    private final Supplier<ComponentMethodEvent> eventFactory;
+
+    private FlightRecorderInterceptor(final String component,
+        final Class<? extends ComponentMethodEvent> eventClass,
+        final Supplier<ComponentMethodEvent> eventFactory) {
+        this.component = component;
+        this.eventType = EventType.getEventType(eventClass);
+        this.eventFactory = eventFactory;
+    }
+
+    /**
+     * Creates the interceptor for a component, if its layer has an event type.
+     *
+     * @param layer     the layer of the component
+     * @param component the name of the component
+     * @return the interceptor, or empty when the calls of the layer are not recorded
+     */
+    static Optional<FlightRecorderInterceptor> forLayer(final String layer, final String component) {
+        return switch (layer) {
+            case "service" -> of(component, ServiceMethodEvent.class, ServiceMethodEvent::new);
+            case "repository" -> of(component, RepositoryQueryEvent.class, RepositoryQueryEvent::new);
+            case "validator" -> of(component, ValidationEvent.class, ValidationEvent::new);
+            default -> Optional.empty();
+        };
+    }
+
+    private static Optional<FlightRecorderInterceptor> of(final String component,
+        final Class<? extends ComponentMethodEvent> eventClass,
+        final Supplier<ComponentMethodEvent> eventFactory) {
+        return Optional.of(new FlightRecorderInterceptor(component, eventClass, eventFactory));
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        final Method method = invocation.getMethod();
+        if (!eventType.isEnabled() || method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+
+        final ComponentMethodEvent event = eventFactory.get();
+        event.begin();
+        try {
+            return invocation.proceed();
+        } catch (final Throwable throwable) {
+            event.setException(throwable.getClass().getName());
+            throw throwable;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setComponent(component);
+                event.setMethod(method.getName());
+                event.commit();
+            }
+        }
+    }
+}
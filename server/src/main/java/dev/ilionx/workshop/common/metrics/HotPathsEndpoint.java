@@ -0,0 +1,112 @@
+package dev.ilionx.workshop.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import static dev.ilionx.workshop.common.metrics.MethodTimingInterceptor.DURATION_METRIC;
+import static dev.ilionx.workshop.common.metrics.MethodTimingInterceptor.LAYER_TAG;
+import static dev.ilionx.workshop.common.metrics.MethodTimingInterceptor.OPERATION_TAG;
+import static dev.ilionx.workshop.common.metrics.RequestSqlInterceptor.ROWS_METRIC;
+import static dev.ilionx.workshop.common.metrics.RequestSqlInterceptor.STATEMENTS_METRIC;
+
+/**
+ * Actuator endpoint ranking the timed operations by the total time spent in them and by their tail latency.
+ *
+ * <p>The ranking is computed from the existing timers when the endpoint is read, so it costs nothing in between.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "hotpaths")
+public class HotPathsEndpoint {
+
+    private static final int TOP = 20;
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Returns the hottest and the slowest operations.
+     *
+     * @return the operations with the most total time and with the highest 99th percentile latency
+     */
+    @ReadOperation
+    public HotPaths hotPaths() {
+        final List<OperationStatistics> operations = operations();
+        return new HotPaths(
+            top(operations, Comparator.comparingDouble(OperationStatistics::totalMillis)),
+            top(operations, Comparator.comparingDouble(OperationStatistics::p99Millis))
+        );
+    }
+
+    /**
+     * Returns the statistics of every timed operation, unranked.
+     *
+     * @return the statistics
+     */
+    List<OperationStatistics> operations() {
+        return meterRegistry.find(DURATION_METRIC).timers().stream()
+            .map(this::statisticsOf)
+            .toList();
+    }
+
+    private OperationStatistics statisticsOf(final Timer timer) {
+        final String operation = timer.getId().getTag(OPERATION_TAG);
+        final HistogramSnapshot snapshot = timer.takeSnapshot();
+        final DistributionSummary statements = summary(STATEMENTS_METRIC, operation);
+        final DistributionSummary rows = summary(ROWS_METRIC, operation);
+        return new OperationStatistics(
+            timer.getId().getTag(LAYER_TAG),
+            operation,
+            snapshot.count(),
+            snapshot.total(TimeUnit.MILLISECONDS),
+            snapshot.mean(TimeUnit.MILLISECONDS),
+            snapshot.max(TimeUnit.MILLISECONDS),
+            percentile(snapshot, 0.5),
+            percentile(snapshot, 0.99),
+            percentile(snapshot, 0.999),
+            statements == null ? null : statements.mean(),
+            rows == null ? null : rows.mean()
+        );
+    }
+
+    private DistributionSummary summary(final String name, final String operation) {
+        return meterRegistry.find(name).tag(OPERATION_TAG, operation).summary();
+    }
+
+    private static double percentile(final HistogramSnapshot snapshot, final double percentile) {
+        for (final ValueAtPercentile value : snapshot.percentileValues()) {
+            if (Double.compare(value.percentile(), percentile) == 0) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static List<OperationStatistics> top(final List<OperationStatistics> operations,
+        final Comparator<OperationStatistics> comparator) {
+        return operations.stream()
+            .sorted(comparator.reversed())
+            .limit(TOP)
+            .toList();
+    }
+
+    /**
+     * The ranked operations.
+     *
+     * @param hottest the operations with the most total time spent in them
+     * @param slowest the operations with the highest 99th percentile latency
+     */
+    public record HotPaths(List<OperationStatistics> hottest, List<OperationStatistics> slowest) {
+    }
+}
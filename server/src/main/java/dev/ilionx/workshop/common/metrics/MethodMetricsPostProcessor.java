@@ -0,0 +1,147 @@
+package dev.ilionx.workshop.common.metrics;
+
+import dev.ilionx.workshop.common.config.properties.MethodMetricsProperties;
+import io.github.jframe.validation.Validator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Tracer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Repository;
+import org.springframework.stereotype.Service;
+import org.springframework.util.function.SingletonSupplier;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Times and traces every method of the controllers, services and repositories in the API packages, and records the
+ * calls of the services, repositories and validators as JDK Flight Recorder events.
+ *
+ * <p>Beans that are already proxied, such as transactional services and repositories, get the interceptors as their
+ * outermost advice, so the measured latency includes transactions and caching. Other beans are wrapped in a new
+ * class-based proxy. The meter registry and the tracer are resolved on first use, so this post processor does not force
+ * early initialization of the metrics and tracing infrastructure.
+ */
+@Slf4j
+@Component
+public class MethodMetricsPostProcessor implements BeanPostProcessor {
+
+    private static final String API_PACKAGE = "dev.ilionx.workshop.api.";
+    private static final String VALIDATOR_LAYER = "validator";
+
+    private final boolean enabled;
+    private final boolean flightRecorderEventsEnabled;
+    private final boolean tracingEnabled;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<MethodMetricsProperties> methodMetricsProperties;
+    private final Supplier<Tracer> tracer;
+
+    /**
+     * Creates the post processor.
+     *
+     * @param environment             the environment, used to read whether timing, tracing and the events are enabled
+     * @param meterRegistry           the meter registry, resolved on first use
+     * @param methodMetricsProperties the method metrics properties, resolved on first use
+     * @param tracer                  the tracer, resolved on first use
+     */
+    public MethodMetricsPostProcessor(final Environment environment,
+        final ObjectProvider<MeterRegistry> meterRegistry,
+        final ObjectProvider<MethodMetricsProperties> methodMetricsProperties,
+        final ObjectProvider<Tracer> tracer) {
+        this.enabled = environment.getProperty("method-metrics.enabled", Boolean.class, true);
+        this.flightRecorderEventsEnabled = environment.getProperty("flight-recorder.events-enabled", Boolean.class, true);
+        this.tracingEnabled = environment.getProperty("tracing.enabled", Boolean.class, true);
+        this.meterRegistry = meterRegistry;
+        this.methodMetricsProperties = methodMetricsProperties;
+        this.tracer = SingletonSupplier.of(() -> tracer.getIfAvailable(() -> Tracer.NOOP));
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (!enabled && !flightRecorderEventsEnabled && !tracingEnabled) {
+            return bean;
+        }
+        return componentOf(bean)
+            .map(component -> instrument(bean, component))
+            .orElse(bean);
+    }
+
+    private Object instrument(final Object bean, final InstrumentedComponent component) {
+        final List<MethodInterceptor> interceptors = interceptorsOf(component);
+        if (interceptors.isEmpty()) {
+            return bean;
+        }
+        if (bean instanceof final Advised advised) {
+            if (advised.isFrozen()) {
+                log.debug("Not instrumenting '{}', its proxy is frozen", component.name());
+                return bean;
+            }
+            for (int index = 0; index < interceptors.size(); index++) {
+                advised.addAdvice(index, interceptors.get(index));
+            }
+            return bean;
+        }
+
+        final ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        interceptors.forEach(proxyFactory::addAdvice);
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+
+    private List<MethodInterceptor> interceptorsOf(final InstrumentedComponent component) {
+        final List<MethodInterceptor> interceptors = new ArrayList<>();
+        if (enabled && !VALIDATOR_LAYER.equals(component.layer())) {
+            interceptors.add(new MethodTimingInterceptor(component.layer(), component.name(), meterRegistry, methodMetricsProperties));
+        }
+        if (tracingEnabled && !VALIDATOR_LAYER.equals(component.layer())) {
+            interceptors.add(new TracingInterceptor(component.layer(), component.name(), tracer));
+        }
+        if (flightRecorderEventsEnabled) {
+            FlightRecorderInterceptor.forLayer(component.layer(), component.name()).ifPresent(interceptors::add);
+        }
+        return interceptors;
+    }
+
+    private static Optional<InstrumentedComponent> componentOf(final Object bean) {
+        // Spring Data repositories are proxies of an interface; their target class is the generic implementation.
+        final Optional<InstrumentedComponent> repository = Arrays.stream(bean.getClass().getInterfaces())
+            .filter(type -> type.getName().startsWith(API_PACKAGE))
+            .filter(type -> AnnotatedElementUtils.hasAnnotation(type, Repository.class))
+            .findFirst()
+            .map(type -> new InstrumentedComponent("repository", type.getSimpleName()));
+        if (repository.isPresent()) {
+            return repository;
+        }
+
+        final Class<?> targetClass = AopUtils.getTargetClass(bean);
+        if (!targetClass.getName().startsWith(API_PACKAGE)) {
+            return Optional.empty();
+        }
+        if (AnnotatedElementUtils.hasAnnotation(targetClass, RestController.class)) {
+            return Optional.of(new InstrumentedComponent("controller", targetClass.getSimpleName()));
+        }
+        if (AnnotatedElementUtils.hasAnnotation(targetClass, Service.class)) {
+            return Optional.of(new InstrumentedComponent("service", targetClass.getSimpleName()));
+        }
+        if (Validator.class.isAssignableFrom(targetClass)) {
+            return Optional.of(new InstrumentedComponent(VALIDATOR_LAYER, targetClass.getSimpleName()));
+        }
+        return Optional.empty();
+    }
+
+    private record InstrumentedComponent(String layer, String name) {
+    }
+}
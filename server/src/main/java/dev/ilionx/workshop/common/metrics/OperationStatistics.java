@@ -0,0 +1,31 @@
+package dev.ilionx.workshop.common.metrics;
+
+/**
+ * A snapshot of the latency of one operation, with the SQL it executes per request for controller operations.
+ *
+ * @param layer                the layer of the operation: controller, service or repository
+ * @param operation            the component and method name
+ * @param count                the number of calls since startup
+ * @param totalMillis          the total time spent in the operation since startup
+ * @param meanMillis           the mean latency
+ * @param maxMillis            the highest recent latency
+ * @param p50Millis            the recent median latency
+ * @param p99Millis            the recent 99th percentile latency
+ * @param p999Millis           the recent 99.9th percentile latency
+ * @param sqlStatementsPerCall the mean number of statements per request, or {@code null} for non-controller operations
+ * @param sqlRowsPerCall       the mean number of rows read per request, or {@code null} for non-controller operations
+ */
+public record OperationStatistics(
+    String layer,
+    String operation,
+    long count,
+    double totalMillis,
+    double meanMillis,
+    double maxMillis,
+    double p50Millis,
+    double p99Millis,
+    double p999Millis,
+    Double sqlStatementsPerCall,
+    Double sqlRowsPerCall
+) {
+}
@@ -0,0 +1,173 @@
+package dev.ilionx.workshop.common.metrics;
+
+import dev.ilionx.workshop.common.config.properties.ResourceAccountingProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static dev.ilionx.workshop.common.metrics.MethodTimingInterceptor.OPERATION_TAG;
+
+/**
+ * Accounts the heap allocations and the CPU time of every request to its controller method.
+ *
+ * <p>The allocation counters of {@code ThreadMXBean} belong to the carrier thread, so they do not follow a virtual
+ * thread that unmounts on blocking I/O and continues on another carrier. The accounting therefore uses the JFR samples
+ * fed by {@link ResourceSampleStream}: HotSpot attributes those to the mounted virtual thread, an allocation sample
+ * carries the bytes the thread allocated since the previous sample, and every execution sample of a running thread
+ * stands for one sample period of CPU time. Samples are matched to a request by the id of the thread that handled it,
+ * and a request is recorded in {@code operation.allocated.bytes} and {@code operation.cpu.time} once the samples of its
+ * lifetime have been delivered. The values of a single request are estimates; the distribution per operation is
+ * accurate.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "resource-accounting",
+    name = "enabled",
+    havingValue = "true"
+)
+public class RequestResourceAccounting {
+
+    static final String ALLOCATED_BYTES_METRIC = "operation.allocated.bytes";
+    static final String CPU_TIME_METRIC = "operation.cpu.time";
+
+    private final Map<Long, RequestSpan> spansByThread = new ConcurrentHashMap<>();
+    private final Queue<RequestSpan> endedSpans = new ConcurrentLinkedQueue<>();
+    private final Map<String, ResourceMeters> meters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final ResourceAccountingProperties resourceAccountingProperties;
+
+    /**
+     * Start accounting a request handled by the current thread.
+     *
+     * @param operation the controller method handling the request
+     */
+    public void begin(final String operation) {
+        final Thread thread = Thread.currentThread();
+        begin(thread.threadId(), thread.isVirtual(), operation, Instant.now());
+    }
+
+    /**
+     * Stop accounting the request handled by the current thread.
+     */
+    public void end() {
+        end(Thread.currentThread().threadId(), Instant.now());
+    }
+
+    void begin(final long threadId, final boolean virtual, final String operation, final Instant start) {
+        spansByThread.put(threadId, new RequestSpan(threadId, virtual, operation, start));
+    }
+
+    void end(final long threadId, final Instant end) {
+        final RequestSpan span = spansByThread.get(threadId);
+        if (span != null && span.end == null) {
+            span.end = end;
+            endedSpans.add(span);
+        }
+    }
+
+    /**
+     * Account an allocation sample.
+     *
+     * @param threadId the thread that allocated
+     * @param time     when the sample was taken
+     * @param bytes    the bytes the thread allocated since its previous sample
+     */
+    void allocated(final long threadId, final Instant time, final long bytes) {
+        final RequestSpan span = spanOf(threadId, time);
+        if (span != null) {
+            span.allocatedBytes += bytes;
+        }
+    }
+
+    /**
+     * Account an execution sample.
+     *
+     * @param threadId the thread that was running
+     * @param time     when the sample was taken
+     */
+    void executed(final long threadId, final Instant time) {
+        final RequestSpan span = spanOf(threadId, time);
+        if (span != null) {
+            span.executionSamples++;
+        }
+    }
+
+    /**
+     * Record the requests that ended long enough ago for all their samples to have been delivered.
+     *
+     * @param now the current time
+     */
+    void settle(final Instant now) {
+        final Instant settledBefore = now.minus(resourceAccountingProperties.getSettleDelay());
+        RequestSpan span;
+        while ((span = endedSpans.peek()) != null && span.end.isBefore(settledBefore)) {
+            endedSpans.poll();
+            spansByThread.remove(span.threadId, span);
+            final ResourceMeters operationMeters = meters.computeIfAbsent(span.operation, this::meters);
+            operationMeters.allocatedBytes().record(span.allocatedBytes);
+            operationMeters.cpuTime().record(resourceAccountingProperties.getExecutionSamplePeriod().multipliedBy(span.executionSamples));
+        }
+    }
+
+    private RequestSpan spanOf(final long threadId, final Instant time) {
+        final RequestSpan span = spansByThread.get(threadId);
+        if (span == null || span.virtual) {
+            // Virtual threads are never reused, so every sample of the thread belongs to its request.
+            return span;
+        }
+        // A pooled platform thread has handled other requests before and may be idle now.
+        final Instant end = span.end;
+        return time.isBefore(span.start) || end != null && time.isAfter(end) ? null : span;
+    }
+
+    private ResourceMeters meters(final String operation) {
+        return new ResourceMeters(
+            DistributionSummary.builder(ALLOCATED_BYTES_METRIC)
+                .description("The heap memory allocated per request, estimated from JFR allocation samples")
+                .baseUnit("bytes")
+                .tag(OPERATION_TAG, operation)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry),
+            Timer.builder(CPU_TIME_METRIC)
+                .description("The CPU time used per request, estimated from JFR execution samples")
+                .tag(OPERATION_TAG, operation)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+        );
+    }
+
+    /**
+     * The resources used by one request so far; the counters are only updated by the thread consuming the samples.
+     */
+    private static final class RequestSpan {
+
+        private final long threadId;
+        private final boolean virtual;
+        private final String operation;
+        private final Instant start;
+        private volatile Instant end;
+        private long allocatedBytes;
+        private long executionSamples;
+
+        private RequestSpan(final long threadId, final boolean virtual, final String operation, final Instant start) {
+            this.threadId = threadId;
+            this.virtual = virtual;
+            this.operation = operation;
+            this.start = start;
+        }
+    }
+
+    private record ResourceMeters(DistributionSummary allocatedBytes, Timer cpuTime) {
+    }
+}
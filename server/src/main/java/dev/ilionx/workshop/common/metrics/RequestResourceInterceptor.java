@@ -0,0 +1,54 @@
+package dev.ilionx.workshop.common.metrics;
+
+import lombok.RequiredArgsConstructor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import static dev.ilionx.workshop.common.metrics.RequestSqlInterceptor.operationOf;
+
+/**
+ * Marks the start and the end of every request handled by a controller method for the {@link RequestResourceAccounting}.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "resource-accounting",
+    name = "enabled",
+    havingValue = "true"
+)
+public class RequestResourceInterceptor implements AsyncHandlerInterceptor {
+
+    private final RequestResourceAccounting requestResourceAccounting;
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+        if (handler instanceof final HandlerMethod handlerMethod) {
+            requestResourceAccounting.begin(operationOf(handlerMethod));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(final HttpServletRequest request,
+        final HttpServletResponse response,
+        final Object handler) {
+        // The request continues on another thread; only the part on this thread is accounted.
+        requestResourceAccounting.end();
+    }
+
+    @Override
+    public void afterCompletion(final HttpServletRequest request,
+        final HttpServletResponse response,
+        final Object handler,
+        final Exception exception) {
+        if (handler instanceof HandlerMethod) {
+            requestResourceAccounting.end();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package dev.ilionx.workshop.common.metrics;
+
+import dev.ilionx.workshop.common.config.properties.SqlMonitoringProperties;
+import dev.ilionx.workshop.common.config.properties.SqlMonitoringProperties.ViolationAction;
+import dev.ilionx.workshop.common.persistence.sql.QueryBudget;
+import dev.ilionx.workshop.common.persistence.sql.SqlBudget;
+import dev.ilionx.workshop.common.persistence.sql.SqlStatistics;
+import dev.ilionx.workshop.common.persistence.sql.SqlStatistics.SlowStatement;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import static dev.ilionx.workshop.common.metrics.MethodTimingInterceptor.OPERATION_TAG;
+
+/**
+ * Records the statements executed and rows read by every request, per controller method, and reports requests that
+ * exceed their SQL budget, repeat a statement or run slow statements.
+ *
+ * <p>The budget of a request comes from the {@link QueryBudget} of its controller method, or the configured default.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestSqlInterceptor implements AsyncHandlerInterceptor {
+
+    static final String STATEMENTS_METRIC = "operation.sql.statements";
+    static final String ROWS_METRIC = "operation.sql.rows";
+    static final String VIOLATIONS_METRIC = "sql.budget.violations";
+    static final String SLOW_STATEMENTS_METRIC = "sql.slow.statements";
+
+    private final Map<String, SqlSummaries> summaries = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final SqlMonitoringProperties sqlMonitoringProperties;
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+        if (handler instanceof final HandlerMethod handlerMethod) {
+            SqlStatistics.start(budgetOf(handlerMethod));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(final HttpServletRequest request,
+        final HttpServletResponse response,
+        final Object handler) {
+        // The request continues on another thread; its statistics would be incomplete.
+        SqlStatistics.stop();
+    }
+
+    @Override
+    public void afterCompletion(final HttpServletRequest request,
+        final HttpServletResponse response,
+        final Object handler,
+        final Exception exception) {
+        final SqlStatistics statistics = SqlStatistics.stop();
+        if (statistics == null || !(handler instanceof final HandlerMethod handlerMethod)) {
+            return;
+        }
+        final String operation = operationOf(handlerMethod);
+        final SqlSummaries operationSummaries = summaries.computeIfAbsent(operation, this::summaries);
+        operationSummaries.statements().record(statistics.getStatements());
+        operationSummaries.rows().record(statistics.getRows());
+        reportViolations(operation, statistics);
+    }
+
+    private void reportViolations(final String operation, final SqlStatistics statistics) {
+        if (statistics.isOverBudget()) {
+            meterRegistry.counter(VIOLATIONS_METRIC, OPERATION_TAG, operation, "type", "statements").increment();
+            log.warn("{}", statistics.describeStatementsOverBudget());
+        }
+        statistics.getRepeatedStatements().forEach((shape, executions) -> {
+            meterRegistry.counter(VIOLATIONS_METRIC, OPERATION_TAG, operation, "type", "repeated").increment();
+            log.warn("{}", statistics.describeRepeatedStatement(shape, executions));
+        });
+        for (final SlowStatement slowStatement : statistics.getSlowStatements()) {
+            meterRegistry.counter(SLOW_STATEMENTS_METRIC, OPERATION_TAG, operation).increment();
+            log.warn("Request '{}' executed a slow SQL statement in {} ms: {}",
+                operation, slowStatement.elapsedMillis(), slowStatement.shape());
+        }
+    }
+
+    private SqlBudget budgetOf(final HandlerMethod handlerMethod) {
+        final QueryBudget queryBudget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+        final int maxStatements = queryBudget == null
+            ? sqlMonitoringProperties.getDefaultMaxStatements()
+            : queryBudget.maxStatements();
+        final int repeatedStatementThreshold = queryBudget == null || queryBudget.repeatedStatementThreshold() <= 0
+            ? sqlMonitoringProperties.getRepeatedStatementThreshold()
+            : queryBudget.repeatedStatementThreshold();
+        return new SqlBudget(
+            operationOf(handlerMethod),
+            maxStatements,
+            repeatedStatementThreshold,
+            sqlMonitoringProperties.getSlowStatementThreshold(),
+            sqlMonitoringProperties.getViolationAction() == ViolationAction.FAIL
+        );
+    }
+
+    /**
+     * Returns the operation name of a controller method, matching the operation tag of its latency timer.
+     *
+     * @param handlerMethod the controller method
+     * @return the operation name
+     */
+    static String operationOf(final HandlerMethod handlerMethod) {
+        return ClassUtils.getUserClass(handlerMethod.getBeanType()).getSimpleName() + "." + handlerMethod.getMethod().getName();
+    }
+
+    private SqlSummaries summaries(final String operation) {
+        return new SqlSummaries(
+            DistributionSummary.builder(STATEMENTS_METRIC)
+                .description("The number of SQL statements executed per request")
+                .tag(OPERATION_TAG, operation)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry),
+            DistributionSummary.builder(ROWS_METRIC)
+                .description("The number of rows read per request")
+                .tag(OPERATION_TAG, operation)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+        );
+    }
+
+    private record SqlSummaries(DistributionSummary statements, DistributionSummary rows) {
+    }
+}
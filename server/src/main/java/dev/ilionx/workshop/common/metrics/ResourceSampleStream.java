@@ -0,0 +1,76 @@
+package dev.ilionx.workshop.common.metrics;
+
+import dev.ilionx.workshop.common.config.properties.ResourceAccountingProperties;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Streams the JFR allocation and execution samples of the running JVM into the {@link RequestResourceAccounting}.
+ *
+ * <p>The stream keeps its events for a short time only, and settles the ended requests every time JFR flushes a batch
+ * of events, about once a second.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "resource-accounting",
+    name = "enabled",
+    havingValue = "true"
+)
+public class ResourceSampleStream {
+
+    private static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+    private static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+    private static final Duration MAX_AGE = Duration.ofMinutes(1);
+
+    private final RequestResourceAccounting requestResourceAccounting;
+    private final ResourceAccountingProperties resourceAccountingProperties;
+    private RecordingStream stream;
+
+    /**
+     * Start streaming the samples.
+     */
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.setMaxAge(MAX_AGE);
+        stream.enable(ALLOCATION_SAMPLE).with("throttle", resourceAccountingProperties.getAllocationSampleRate());
+        stream.enable(EXECUTION_SAMPLE).withPeriod(resourceAccountingProperties.getExecutionSamplePeriod());
+        stream.onEvent(ALLOCATION_SAMPLE, event -> requestResourceAccounting.allocated(
+            threadId(event.getThread()),
+            event.getStartTime(),
+            event.getLong("weight")
+        ));
+        stream.onEvent(EXECUTION_SAMPLE, event -> requestResourceAccounting.executed(
+            threadId(event.getThread("sampledThread")),
+            event.getStartTime()
+        ));
+        stream.onFlush(() -> requestResourceAccounting.settle(Instant.now()));
+        stream.onError(error -> log.warn("Failed to process a JFR sample: {}", error.getMessage()));
+        stream.startAsync();
+        log.info("Accounting the allocations and CPU time of every request from JFR samples");
+    }
+
+    /**
+     * Stop streaming the samples.
+     */
+    @PreDestroy
+    public void stop() {
+        stream.close();
+    }
+
+    private static long threadId(final RecordedThread thread) {
+        return thread == null ? -1 : thread.getJavaThreadId();
+    }
+}
@@ -0,0 +1,131 @@
+package dev.ilionx.workshop.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static dev.ilionx.workshop.common.metrics.MethodTimingInterceptor.OPERATION_TAG;
+import static dev.ilionx.workshop.common.metrics.RequestResourceAccounting.ALLOCATED_BYTES_METRIC;
+import static dev.ilionx.workshop.common.metrics.RequestResourceAccounting.CPU_TIME_METRIC;
+
+/**
+ * Actuator endpoint ranking the controller methods by the heap memory their requests allocate, the main source of
+ * garbage collection pressure.
+ *
+ * <p>The ranking is computed from the meters of the {@link RequestResourceAccounting} when the endpoint is read.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "topallocators")
+@ConditionalOnProperty(
+    prefix = "resource-accounting",
+    name = "enabled",
+    havingValue = "true"
+)
+public class TopAllocatorsEndpoint {
+
+    private static final int TOP = 20;
+    private static final double BYTES_PER_MEGABYTE = 1024.0 * 1024.0;
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Returns the operations allocating the most.
+     *
+     * @return the operations with the most allocated bytes in total and per request
+     */
+    @ReadOperation
+    public TopAllocators topAllocators() {
+        final List<AllocationStatistics> operations = operations();
+        return new TopAllocators(
+            top(operations, Comparator.comparingDouble(AllocationStatistics::totalAllocatedMegabytes)),
+            top(operations, Comparator.comparingDouble(AllocationStatistics::meanAllocatedBytes))
+        );
+    }
+
+    /**
+     * Returns the allocation statistics of every accounted operation, unranked.
+     *
+     * @return the statistics
+     */
+    List<AllocationStatistics> operations() {
+        return meterRegistry.find(ALLOCATED_BYTES_METRIC).summaries().stream()
+            .map(this::statisticsOf)
+            .toList();
+    }
+
+    private AllocationStatistics statisticsOf(final DistributionSummary allocatedBytes) {
+        final String operation = allocatedBytes.getId().getTag(OPERATION_TAG);
+        final HistogramSnapshot snapshot = allocatedBytes.takeSnapshot();
+        final Timer cpuTime = meterRegistry.find(CPU_TIME_METRIC).tag(OPERATION_TAG, operation).timer();
+        return new AllocationStatistics(
+            operation,
+            snapshot.count(),
+            snapshot.total() / BYTES_PER_MEGABYTE,
+            snapshot.mean(),
+            percentile(snapshot, 0.5),
+            percentile(snapshot, 0.99),
+            cpuTime == null ? null : cpuTime.mean(TimeUnit.MILLISECONDS)
+        );
+    }
+
+    private static double percentile(final HistogramSnapshot snapshot, final double percentile) {
+        for (final ValueAtPercentile value : snapshot.percentileValues()) {
+            if (Double.compare(value.percentile(), percentile) == 0) {
+                return value.value();
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static List<AllocationStatistics> top(final List<AllocationStatistics> operations,
+        final Comparator<AllocationStatistics> comparator) {
+        return operations.stream()
+            .sorted(comparator.reversed())
+            .limit(TOP)
+            .toList();
+    }
+
+    /**
+     * The allocations of one controller method.
+     *
+     * @param operation               the controller and method name
+     * @param count                   the number of accounted requests since startup
+     * @param totalAllocatedMegabytes the heap memory allocated by all accounted requests
+     * @param meanAllocatedBytes      the mean heap memory allocated per request
+     * @param p50AllocatedBytes       the recent median heap memory allocated per request
+     * @param p99AllocatedBytes       the recent 99th percentile heap memory allocated per request
+     * @param meanCpuMillis           the mean CPU time per request
+     */
+    public record AllocationStatistics(
+        String operation,
+        long count,
+        double totalAllocatedMegabytes,
+        double meanAllocatedBytes,
+        double p50AllocatedBytes,
+        double p99AllocatedBytes,
+        Double meanCpuMillis
+    ) {
+    }
+
+    /**
+     * The ranked operations.
+     *
+     * @param mostInTotal the operations that allocated the most since startup
+     * @param mostPerCall the operations that allocate the most per request
+     */
+    public record TopAllocators(List<AllocationStatistics> mostInTotal, List<AllocationStatistics> mostPerCall) {
+    }
+}
@@ -0,0 +1,56 @@
+package dev.ilionx.workshop.common.metrics;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Wraps every call of a method of one component in a span, a child of the span of the request.
+ *
+ * <p>Span names are built once per method name and kept. The span is the current span during the call, so the spans of
+ * the components it calls, and the trace id in the logs, belong to it.
+ */
+final class TracingInterceptor implements MethodInterceptor {
+
+    private final Map<String, String> spanNames = new ConcurrentHashMap<>();
+    private final String layer;
+    private final String component;
+    private final Supplier<Tracer> tracer;
+
+    TracingInterceptor(final String layer, final String component, final Supplier<Tracer> tracer) {
+        this.layer = layer;
+        this.component = component;
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        final Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+
+        final Tracer currentTracer = tracer.get();
+        final Span span = currentTracer.nextSpan()
+            .name(spanNames.computeIfAbsent(method.getName(), methodName -> component + "." + methodName))
+            .tag(MethodTimingInterceptor.LAYER_TAG, layer)
+            .start();
+        final Tracer.SpanInScope scope = currentTracer.withSpan(span);
+        try {
+            return invocation.proceed();
+        } catch (final Throwable throwable) {
+            span.error(throwable);
+            throw throwable;
+        } finally {
+            scope.close();
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package dev.ilionx.workshop.common.persistence;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import jakarta.persistence.Column;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.MappedSuperclass;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * Base class for entities that keep track of when they were created and last modified.
+ *
+ * <p>Both timestamps are maintained by Spring Data's {@link AuditingEntityListener}, see {@code JpaAuditingConfig}.
+ */
+@Getter
+@Setter
+@MappedSuperclass
+@EntityListeners(AuditingEntityListener.class)
+public abstract class Auditable {
+
+    @CreatedDate
+    @Column(
+        name = "created_at",
+        nullable = false,
+        updatable = false
+    )
+    private Instant createdAt;
+
+    @LastModifiedDate
+    @Column(
+        name = "updated_at",
+        nullable = false
+    )
+    private Instant updatedAt;
+
+}
@@ -0,0 +1,152 @@
+package dev.ilionx.workshop.common.persistence;
+
+import liquibase.integration.spring.SpringLiquibase;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Skips Liquibase when the changelog is unchanged since the database was last migrated.
+ *
+ * <p>Even when every change set has been applied, Liquibase resolves the {@code includeAll} directory, parses every
+ * change set, takes the change log lock and compares the checksums on every start. This post processor instead hashes
+ * the changelog directory and the active contexts, and compares the hash with the one stored after the last successful
+ * migration; when they match Liquibase does not run at all. Any change to a change set, or a database that was never
+ * migrated this way, runs Liquibase as usual. Databases dropped on startup always run it.
+ */
+@Slf4j
+@Component
+public class MigrationFingerprintPostProcessor implements BeanPostProcessor {
+
+    private static final String CLASSPATH_PREFIX = "classpath:";
+    private static final String SELECT_FINGERPRINT = "SELECT fingerprint FROM schema_fingerprint WHERE id = 1";
+    private static final String UPDATE_FINGERPRINT = "UPDATE schema_fingerprint SET fingerprint = ?, migrated_at = ? WHERE id = 1";
+    private static final String INSERT_FINGERPRINT = "INSERT INTO schema_fingerprint (id, fingerprint, migrated_at) VALUES (1, ?, ?)";
+
+    private final boolean enabled;
+    private final ResourcePatternResolver resourcePatternResolver = new PathMatchingResourcePatternResolver();
+    private final Map<String, String> pendingFingerprints = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the post processor.
+     *
+     * @param environment the environment, used to read whether unchanged migrations are skipped
+     */
+    public MigrationFingerprintPostProcessor(final Environment environment) {
+        this.enabled = environment.getProperty("startup.skip-unchanged-migrations", Boolean.class, false);
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(final Object bean, final String beanName) {
+        if (!enabled || !(bean instanceof final SpringLiquibase liquibase) || liquibase.isDropFirst()) {
+            return bean;
+        }
+
+        final String fingerprint;
+        try {
+            fingerprint = fingerprint(liquibase);
+        } catch (final IOException exception) {
+            log.warn("Failed to hash the Liquibase changelog, running the migrations: {}", exception.getMessage());
+            return bean;
+        }
+
+        if (fingerprint.equals(storedFingerprint(liquibase))) {
+            liquibase.setShouldRun(false);
+            log.info("Skipping Liquibase, the changelog is unchanged since the last migration");
+        } else {
+            pendingFingerprints.put(beanName, fingerprint);
+        }
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        final String fingerprint = pendingFingerprints.remove(beanName);
+        if (fingerprint != null && bean instanceof final SpringLiquibase liquibase) {
+            storeFingerprint(liquibase, fingerprint);
+        }
+        return bean;
+    }
+
+    private String fingerprint(final SpringLiquibase liquibase) throws IOException {
+        final String changeLog = liquibase.getChangeLog().replace(CLASSPATH_PREFIX, "");
+        final String directory = changeLog.substring(0, changeLog.lastIndexOf('/') + 1);
+        final List<Resource> resources = Arrays.stream(resourcePatternResolver.getResources("classpath*:" + directory + "**/*"))
+            .filter(Resource::isReadable)
+            .sorted(Comparator.comparing(resource -> relativePath(resource, directory)))
+            .toList();
+
+        final MessageDigest digest = sha256();
+        digest.update(String.valueOf(liquibase.getContexts()).getBytes(StandardCharsets.UTF_8));
+        for (final Resource resource : resources) {
+            digest.update(relativePath(resource, directory).getBytes(StandardCharsets.UTF_8));
+            try (InputStream content = resource.getInputStream()) {
+                digest.update(content.readAllBytes());
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String storedFingerprint(final SpringLiquibase liquibase) {
+        try {
+            return new JdbcTemplate(liquibase.getDataSource()).queryForList(SELECT_FINGERPRINT, String.class).stream()
+                .findFirst()
+                .orElse(null);
+        } catch (final DataAccessException exception) {
+            // The database has not been migrated yet.
+            return null;
+        }
+    }
+
+    private static void storeFingerprint(final SpringLiquibase liquibase, final String fingerprint) {
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(liquibase.getDataSource());
+        final OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        try {
+            if (jdbcTemplate.update(UPDATE_FINGERPRINT, fingerprint, now) == 0) {
+                jdbcTemplate.update(INSERT_FINGERPRINT, fingerprint, now);
+            }
+        } catch (final DataAccessException exception) {
+            log.warn("Failed to store the Liquibase changelog fingerprint: {}", exception.getMessage());
+        }
+    }
+
+    private static String relativePath(final Resource resource, final String directory) {
+        final String path = String.valueOf(resource.getFilename());
+        try {
+            final String url = resource.getURL().toString();
+            final int directoryIndex = url.lastIndexOf(directory);
+            return directoryIndex < 0 ? path : url.substring(directoryIndex);
+        } catch (final IOException exception) {
+            return path;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+}
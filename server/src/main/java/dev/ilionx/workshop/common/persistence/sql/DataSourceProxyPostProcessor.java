@@ -0,0 +1,60 @@
+package dev.ilionx.workshop.common.persistence.sql;
+
+import dev.ilionx.workshop.common.jfr.JdbcWaitListener;
+import dev.ilionx.workshop.common.tracing.ConnectionWaitTracingListener;
+import io.micrometer.tracing.Tracer;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * Wraps every data source in a datasource-proxy that feeds the statements and rows of a request into its
+ * {@link SqlStatistics}, records the waits for connections and statements as JDK Flight Recorder events, and traces the
+ * waits for a connection. The tracer is resolved on first use.
+ */
+@Component
+public class DataSourceProxyPostProcessor implements BeanPostProcessor {
+
+    private final boolean tracingEnabled;
+    private final Supplier<Tracer> tracer;
+
+    /**
+     * Creates the post processor.
+     *
+     * @param environment the environment, used to read whether tracing is enabled
+     * @param tracer      the tracer, resolved on first use
+     */
+    public DataSourceProxyPostProcessor(final Environment environment, final ObjectProvider<Tracer> tracer) {
+        this.tracingEnabled = environment.getProperty("tracing.enabled", Boolean.class, true);
+        this.tracer = SingletonSupplier.of(() -> tracer.getIfAvailable(() -> Tracer.NOOP));
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (!(bean instanceof final DataSource dataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        final SqlStatisticsListener listener = new SqlStatisticsListener();
+        final JdbcWaitListener jdbcWaitListener = new JdbcWaitListener();
+        final ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+            .name(beanName)
+            .listener(listener)
+            .methodListener(listener)
+            .listener(jdbcWaitListener)
+            .methodListener(jdbcWaitListener);
+        if (tracingEnabled) {
+            builder.methodListener(new ConnectionWaitTracingListener(tracer));
+        }
+        return builder
+            .proxyResultSet()
+            .build();
+    }
+}
@@ -0,0 +1,34 @@
+package dev.ilionx.workshop.common.persistence.sql;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the number of SQL statements a controller method may execute per request.
+ *
+ * <p>Requests over budget are logged and counted, or fail when violations are configured to fail, as in the tests.
+ * Controller methods without a budget get the configured default.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    /**
+     * The maximum number of statements per request.
+     *
+     * @return the maximum number of statements
+     */
+    int maxStatements();
+
+    /**
+     * How often one statement shape may run per request before it is reported as an N+1 query. Zero or less uses the
+     * configured default.
+     *
+     * @return the threshold for repeated statements
+     */
+    int repeatedStatementThreshold() default 0;
+}
@@ -0,0 +1,21 @@
+package dev.ilionx.workshop.common.persistence.sql;
+
+import java.io.Serial;
+
+/**
+ * Thrown when a request exceeds its SQL budget while violations are configured to fail.
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates the exception.
+     *
+     * @param message the description of the violation
+     */
+    public QueryBudgetExceededException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package dev.ilionx.workshop.common.persistence.sql;
+
+import java.time.Duration;
+
+/**
+ * The SQL a request may execute before it is reported.
+ *
+ * @param operation                  the name of the request operation
+ * @param maxStatements              the maximum number of statements
+ * @param repeatedStatementThreshold how often one statement shape may run before it is reported as an N+1 query
+ * @param slowStatementThreshold     how long one statement may run before it is reported as slow
+ * @param failOnViolation            whether exceeding the budget fails the request instead of only reporting it
+ */
+public record SqlBudget(
+    String operation,
+    int maxStatements,
+    int repeatedStatementThreshold,
+    Duration slowStatementThreshold,
+    boolean failOnViolation
+) {
+}
@@ -0,0 +1,31 @@
+package dev.ilionx.workshop.common.persistence.sql;
+
+import java.util.regex.Pattern;
+
+/**
+ * Reduces SQL statements to their shape, so statements differing only in their values are recognized as repeats.
+ */
+final class SqlShapes {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlShapes() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Returns the shape of a statement: literals and parameter lists of any length become a single parameter.
+     *
+     * @param sql the statement
+     * @return the shape
+     */
+    static String shapeOf(final String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMERIC_LITERAL.matcher(shape).replaceAll("?");
+        shape = PARAMETER_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,194 @@
+package dev.ilionx.workshop.common.persistence.sql;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The statements executed and rows read while handling one request, checked against the budget of the request.
+ *
+ * <p>The statistics of the current request are bound to the handling thread. JDBC calls made outside of a request,
+ * such as by scheduled jobs, are not recorded. Statements are grouped by their shape, so a statement that runs once per
+ * row of an earlier result is detected as an N+1 query.
+ */
+public final class SqlStatistics {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+    private static final int MAX_SLOW_STATEMENTS = 10;
+
+    private final SqlBudget budget;
+    private final Map<String, Integer> shapes = new HashMap<>();
+    private final List<SlowStatement> slowStatements = new ArrayList<>();
+
+    private int statements;
+    private long rows;
+    private long elapsedMillis;
+
+    private SqlStatistics(final SqlBudget budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Start recording for the current thread.
+     *
+     * @param budget the budget of the request
+     * @return the new statistics
+     */
+    public static SqlStatistics start(final SqlBudget budget) {
+        final SqlStatistics statistics = new SqlStatistics(budget);
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * Returns the statistics being recorded for the current thread.
+     *
+     * @return the statistics, or {@code null} when nothing is being recorded
+     */
+    public static SqlStatistics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Stop recording for the current thread.
+     *
+     * @return the recorded statistics, or {@code null} when nothing was being recorded
+     */
+    public static SqlStatistics stop() {
+        final SqlStatistics statistics = CURRENT.get();
+        CURRENT.remove();
+        return statistics;
+    }
+
+    /**
+     * Record an executed statement.
+     *
+     * @param sql                    the statement; for a batch, its first statement
+     * @param statementElapsedMillis the time the statement took
+     * @throws QueryBudgetExceededException if the statement exceeds the budget and violations fail the request
+     */
+    void recordStatement(final String sql, final long statementElapsedMillis) {
+        statements++;
+        elapsedMillis += statementElapsedMillis;
+        final String shape = SqlShapes.shapeOf(sql);
+        final int executions = shapes.merge(shape, 1, Integer::sum);
+        if (statementElapsedMillis >= budget.slowStatementThreshold().toMillis() && slowStatements.size() < MAX_SLOW_STATEMENTS) {
+            slowStatements.add(new SlowStatement(shape, statementElapsedMillis));
+        }
+
+        if (!budget.failOnViolation()) {
+            return;
+        }
+        if (statements > budget.maxStatements()) {
+            throw new QueryBudgetExceededException(describeStatementsOverBudget());
+        }
+        if (executions >= budget.repeatedStatementThreshold()) {
+            throw new QueryBudgetExceededException(describeRepeatedStatement(shape, executions));
+        }
+    }
+
+    void recordRow() {
+        rows++;
+    }
+
+    /**
+     * Returns whether more statements were executed than the budget allows.
+     *
+     * @return {@code true} when the budget was exceeded
+     */
+    public boolean isOverBudget() {
+        return statements > budget.maxStatements();
+    }
+
+    /**
+     * Returns the statement shapes that were executed at least as often as the repeated statement threshold.
+     *
+     * @return the repeated shapes with their number of executions
+     */
+    public Map<String, Integer> getRepeatedStatements() {
+        final Map<String, Integer> repeated = new HashMap<>();
+        shapes.forEach((shape, executions) -> {
+            if (executions >= budget.repeatedStatementThreshold()) {
+                repeated.put(shape, executions);
+            }
+        });
+        return repeated;
+    }
+
+    /**
+     * Returns the statements that took at least the slow statement threshold, at most ten.
+     *
+     * @return the slow statements
+     */
+    public List<SlowStatement> getSlowStatements() {
+        return List.copyOf(slowStatements);
+    }
+
+    /**
+     * Describe the number of statements against the budget.
+     *
+     * @return the description
+     */
+    public String describeStatementsOverBudget() {
+        return "Request '%s' executed %d SQL statements, exceeding its budget of %d".formatted(
+            budget.operation(), statements, budget.maxStatements());
+    }
+
+    /**
+     * Describe a statement shape that was repeated, which is likely an N+1 query.
+     *
+     * @param shape      the statement shape
+     * @param executions the number of executions
+     * @return the description
+     */
+    public String describeRepeatedStatement(final String shape, final int executions) {
+        return "Request '%s' executed the same SQL statement %d times, likely an N+1 query: %s".formatted(
+            budget.operation(), executions, shape);
+    }
+
+    /**
+     * Returns the budget of the request.
+     *
+     * @return the budget
+     */
+    public SqlBudget getBudget() {
+        return budget;
+    }
+
+    /**
+     * Returns the number of executed statements; a batch counts as one.
+     *
+     * @return the number of statements
+     */
+    public int getStatements() {
+        return statements;
+    }
+
+    /**
+     * Returns the number of rows read from result sets.
+     *
+     * @return the number of rows
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the total time spent executing statements.
+     *
+     * @return the elapsed time in milliseconds
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * A statement that took at least the slow statement threshold.
+     *
+     * @param shape         the statement shape
+     * @param elapsedMillis the time the statement took
+     */
+    public record SlowStatement(String shape, long elapsedMillis) {
+    }
+}
@@ -0,0 +1,50 @@
+package dev.ilionx.workshop.common.persistence.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * Records every statement and every row read into the {@link SqlStatistics} of the current request.
+ *
+ * <p>When the request exceeds its budget and violations fail the request, the exception is thrown from the JDBC call
+ * that exceeded it, so the failing statement shows up in the stack trace.
+ */
+public class SqlStatisticsListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final String NEXT_METHOD = "next";
+
+    @Override
+    public void beforeQuery(final ExecutionInfo executionInfo, final List<QueryInfo> queries) {
+        // Statements are recorded once they completed.
+    }
+
+    @Override
+    public void afterQuery(final ExecutionInfo executionInfo, final List<QueryInfo> queries) {
+        final SqlStatistics statistics = SqlStatistics.current();
+        if (statistics != null && !queries.isEmpty()) {
+            statistics.recordStatement(queries.getFirst().getQuery(), executionInfo.getElapsedTime());
+        }
+    }
+
+    @Override
+    public void beforeMethod(final MethodExecutionContext executionContext) {
+        // Rows are recorded once they were read.
+    }
+
+    @Override
+    public void afterMethod(final MethodExecutionContext executionContext) {
+        final SqlStatistics statistics = SqlStatistics.current();
+        if (statistics != null
+            && executionContext.getTarget() instanceof ResultSet
+            && NEXT_METHOD.equals(executionContext.getMethod().getName())
+            && Boolean.TRUE.equals(executionContext.getResult())) {
+            statistics.recordRow();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package dev.ilionx.workshop.common.ratelimit;
+
+import dev.ilionx.workshop.common.config.properties.RateLimitProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits the number of concurrent requests to a limit that adapts to the observed latency.
+ *
+ * <p>The limit follows a gradient algorithm: every completed request compares its latency with a long-term average.
+ * While requests are not slower than the average times the tolerance, the limit grows by the square root of itself;
+ * once they are, it shrinks in proportion to the slowdown, by at most half. Samples taken while less than half of the
+ * limit was in use carry no signal about the limit and only update the average.
+ *
+ * <p>Low-priority requests may use only a share of the limit, so they are rejected before writes are.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter implements MeterBinder {
+
+    private static final double LONG_WINDOW_SAMPLES = 600;
+    private static final double SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double DRIFT_RATIO = 2.0;
+    private static final double DRIFT_DECAY = 0.95;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final RateLimitProperties rateLimitProperties;
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRttNanos;
+
+    /**
+     * Creates the limiter with the initial concurrency limit.
+     *
+     * @param rateLimitProperties the rate limit properties
+     */
+    public AdaptiveConcurrencyLimiter(final RateLimitProperties rateLimitProperties) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.estimatedLimit = rateLimitProperties.getInitialConcurrencyLimit();
+        this.limit = rateLimitProperties.getInitialConcurrencyLimit();
+    }
+
+    /**
+     * Acquire a permit to execute a request.
+     *
+     * @param priority the priority of the request
+     * @return the permit, or empty when the request must be rejected
+     */
+    public Optional<Permit> tryAcquire(final RequestPriority priority) {
+        final int currentLimit = limit;
+        final int admitted = priority == RequestPriority.HIGH
+            ? currentLimit
+            : Math.max(1, (int) (currentLimit * rateLimitProperties.getLowPriorityShare()));
+        while (true) {
+            final int current = inFlight.get();
+            if (current >= admitted) {
+                return Optional.empty();
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return Optional.of(new Permit(System.nanoTime(), current + 1));
+            }
+        }
+    }
+
+    /**
+     * Returns the current concurrency limit.
+     *
+     * @return the limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns the number of requests currently holding a permit.
+     *
+     * @return the number of requests in flight
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("ratelimit.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+            .description("The adaptive limit on concurrent requests")
+            .register(registry);
+        Gauge.builder("ratelimit.concurrency.inflight", this, AdaptiveConcurrencyLimiter::getInFlight)
+            .description("The number of requests currently in flight")
+            .register(registry);
+    }
+
+    /**
+     * Update the limit with the latency of a completed request.
+     *
+     * @param rttNanos            the latency of the request in nanoseconds
+     * @param inFlightAtAdmission the number of requests in flight when the request was admitted
+     */
+    void onSample(final long rttNanos, final int inFlightAtAdmission) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            longRttNanos = longRttNanos == 0
+                ? rttNanos
+                : longRttNanos + (rttNanos - longRttNanos) / LONG_WINDOW_SAMPLES;
+            if (longRttNanos / rttNanos > DRIFT_RATIO) {
+                // Latency recovered well below the average; let the average catch up faster.
+                longRttNanos *= DRIFT_DECAY;
+            }
+            if (inFlightAtAdmission < estimatedLimit / 2) {
+                return;
+            }
+
+            final double gradient = Math.clamp(rateLimitProperties.getLatencyTolerance() * longRttNanos / rttNanos, MIN_GRADIENT, 1.0);
+            final double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            estimatedLimit = Math.clamp(
+                estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING,
+                rateLimitProperties.getMinConcurrencyLimit(),
+                rateLimitProperties.getMaxConcurrencyLimit()
+            );
+            limit = (int) estimatedLimit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * A permit to execute one request. Exactly one of {@link #complete()} and {@link #abandon()} must be called.
+     */
+    public final class Permit {
+
+        private final long startNanos;
+        private final int inFlightAtAdmission;
+
+        private Permit(final long startNanos, final int inFlightAtAdmission) {
+            this.startNanos = startNanos;
+            this.inFlightAtAdmission = inFlightAtAdmission;
+        }
+
+        /**
+         * Release the permit and sample the latency of the request.
+         */
+        public void complete() {
+            inFlight.decrementAndGet();
+            onSample(System.nanoTime() - startNanos, inFlightAtAdmission);
+        }
+
+        /**
+         * Release the permit without sampling, for requests that failed before producing a meaningful latency.
+         */
+        public void abandon() {
+            inFlight.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package dev.ilionx.workshop.common.ratelimit;
+
+import dev.ilionx.workshop.common.config.properties.RateLimitProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Per-client rate limiting with a {@link TokenBucket} for every client.
+ *
+ * <p>The buckets are kept in a bounded cache, so a flood of distinct clients cannot exhaust the heap. A client that is
+ * forgotten starts again with a full bucket.
+ */
+@Component
+public class ClientRateLimiter implements MeterBinder {
+
+    private final Cache<String, TokenBucket> buckets;
+    private final RateLimitProperties rateLimitProperties;
+
+    /**
+     * Creates the rate limiter.
+     *
+     * @param rateLimitProperties the rate limit properties
+     */
+    public ClientRateLimiter(final RateLimitProperties rateLimitProperties) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(rateLimitProperties.getMaxClients())
+            .expireAfterAccess(rateLimitProperties.getClientIdleTimeout())
+            .build();
+    }
+
+    /**
+     * Take a token from the bucket of a client.
+     *
+     * @param client the client identifier
+     * @return {@link Duration#ZERO} when the request is admitted, otherwise how long the client should wait
+     */
+    public Duration tryAcquire(final String client) {
+        final long now = System.nanoTime();
+        final TokenBucket bucket = buckets.get(client, key -> new TokenBucket(
+            rateLimitProperties.getRequestsPerSecond(),
+            rateLimitProperties.getBurst(),
+            now
+        ));
+        return Duration.ofNanos(bucket.tryAcquire(now));
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("ratelimit.clients", buckets, Cache::estimatedSize)
+            .description("The number of clients with a tracked token bucket")
+            .register(registry);
+        Gauge.builder("ratelimit.rate", rateLimitProperties, RateLimitProperties::getRequestsPerSecond)
+            .description("The sustained number of requests per second allowed per client")
+            .baseUnit("requests")
+            .register(registry);
+    }
+}
@@ -0,0 +1,145 @@
+package dev.ilionx.workshop.common.ratelimit;
+
+import dev.ilionx.workshop.common.config.properties.RateLimitProperties;
+import dev.ilionx.workshop.common.ratelimit.AdaptiveConcurrencyLimiter.Permit;
+import dev.ilionx.workshop.common.web.ErrorResponseWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletRequestWrapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import static dev.ilionx.workshop.api.Paths.EVENTS;
+import static dev.ilionx.workshop.api.Paths.PUBLIC_HEALTH_PATH;
+
+/**
+ * Filter protecting the API against clients sending more requests than it can serve.
+ *
+ * <p>Every client gets a token bucket; a client that exceeds it is rejected with {@code 429} and a {@code Retry-After}
+ * header. Admitted requests then need a permit from the adaptive concurrency limiter, which rejects reads before
+ * writes with {@code 503} once latency degrades. Clients are identified by their user name, or by their address when
+ * unauthenticated. That is the address of the connection, since the forwarded address is sent by the client and could
+ * be changed on every request to escape the limit; it is only used when a trusted proxy overwrites the header.
+ *
+ * <p>Health checks are never limited, so an overloaded instance is not taken out of rotation for being slow to answer
+ * them. Event streams are rate limited but hold no concurrency permit, since they stay open for as long as the client
+ * listens. The filter runs after authentication, to know the user, and before the other application filters, so a
+ * rejected request does no further work.
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10)
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String REJECTIONS_METRIC = "ratelimit.rejections";
+
+    private final ClientRateLimiter clientRateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final RateLimitProperties rateLimitProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return pathOf(request).startsWith(PUBLIC_HEALTH_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request,
+        final HttpServletResponse response,
+        final FilterChain filterChain) throws ServletException, IOException {
+        final RequestPriority priority = priorityOf(request);
+        if (rateLimitProperties.isEnabled()) {
+            final Duration wait = clientRateLimiter.tryAcquire(clientOf(request));
+            if (!wait.isZero()) {
+                reject(request, response, HttpStatus.TOO_MANY_REQUESTS, wait, priority, "rate",
+                    "Too many requests; retry after the period in the Retry-After header.");
+                return;
+            }
+        }
+
+        if (!rateLimitProperties.isConcurrencyEnabled() || pathOf(request).startsWith(EVENTS)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        final Optional<Permit> permit = concurrencyLimiter.tryAcquire(priority);
+        if (permit.isEmpty()) {
+            reject(request, response, HttpStatus.SERVICE_UNAVAILABLE, Duration.ofSeconds(1), priority, "concurrency",
+                "The service is overloaded; retry after the period in the Retry-After header.");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } catch (final ServletException | IOException | RuntimeException exception) {
+            permit.get().abandon();
+            throw exception;
+        }
+        permit.get().complete();
+    }
+
+    private void reject(final HttpServletRequest request,
+        final HttpServletResponse response,
+        final HttpStatus status,
+        final Duration retryAfter,
+        final RequestPriority priority,
+        final String reason,
+        final String message) throws IOException {
+        meterRegistry.counter(REJECTIONS_METRIC, "reason", reason, "priority", priority.name().toLowerCase(Locale.ROOT)).increment();
+        log.debug("Rejected request to '{}' by the {} limit", request.getRequestURI(), reason);
+
+        // Retry-After is in whole seconds; round up so a client never retries too early.
+        final long retryAfterSeconds = Math.max(1, retryAfter.plusNanos(999_999_999).toSeconds());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        ErrorResponseWriter.write(request, response, status, message);
+    }
+
+    private static RequestPriority priorityOf(final HttpServletRequest request) {
+        final String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) || HttpMethod.OPTIONS.matches(method)
+            ? RequestPriority.LOW
+            : RequestPriority.HIGH;
+    }
+
+    private static String pathOf(final HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private String clientOf(final HttpServletRequest request) {
+        if (request.getRemoteUser() != null) {
+            return "user:" + request.getRemoteUser();
+        }
+        return rateLimitProperties.isTrustForwardedAddress()
+            ? "address:" + request.getRemoteAddr()
+            : "address:" + connectionAddressOf(request);
+    }
+
+    /**
+     * Returns the address of the connection, which the forwarded header filter replaces by the address in the
+     * {@code X-Forwarded-For} header in the request it wraps.
+     */
+    private static String connectionAddressOf(final ServletRequest request) {
+        ServletRequest original = request;
+        while (original instanceof ServletRequestWrapper wrapper) {
+            original = wrapper.getRequest();
+        }
+        return original.getRemoteAddr();
+    }
+}
@@ -0,0 +1,17 @@
+package dev.ilionx.workshop.common.ratelimit;
+
+/**
+ * The priority of a request when the adaptive concurrency limit sheds load.
+ */
+public enum RequestPriority {
+
+    /**
+     * Requests that change data; they may use the whole concurrency limit.
+     */
+    HIGH,
+
+    /**
+     * Reads, which can be retried safely; they are shed first.
+     */
+    LOW
+}
@@ -0,0 +1,55 @@
+package dev.ilionx.workshop.common.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket.
+ *
+ * <p>The bucket is implemented as the generic cell rate algorithm: instead of a token count and a refill timestamp it
+ * keeps a single theoretical arrival time, which every admitted request pushes forward by one emission interval. A
+ * request is admitted while that time is no further ahead of now than the burst allows. The state fits in one
+ * {@link AtomicLong}, so admission is a single compare-and-set without locks.
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    /**
+     * Creates a full token bucket.
+     *
+     * @param tokensPerSecond the sustained refill rate
+     * @param capacity        the maximum number of tokens, which is the largest burst admitted at once
+     * @param nowNanos        the current time in nanoseconds, as returned by {@link System#nanoTime()}
+     */
+    public TokenBucket(final double tokensPerSecond, final int capacity, final long nowNanos) {
+        if (tokensPerSecond <= 0 || capacity < 1) {
+            throw new IllegalArgumentException("A token bucket needs a positive rate and a capacity of at least one");
+        }
+        this.emissionIntervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / tokensPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Take a token if one is available.
+     *
+     * @param nowNanos the current time in nanoseconds, as returned by {@link System#nanoTime()}
+     * @return {@code 0} when a token was taken, otherwise the number of nanoseconds until one is available
+     */
+    public long tryAcquire(final long nowNanos) {
+        while (true) {
+            final long current = theoreticalArrivalNanos.get();
+            final long arrival = current - nowNanos < 0 ? nowNanos : current;
+            final long waitNanos = arrival - nowNanos - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(current, arrival + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package dev.ilionx.workshop.common.security.authentication;
+
+import dev.ilionx.workshop.common.config.properties.AuthenticationCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Authentication provider that remembers successful username and password authentications for a short time.
+ *
+ * <p>Passwords are verified with a deliberately slow hash, which would otherwise be paid on every request made with
+ * basic authentication. The cache is keyed by an HMAC of the credentials under a random key generated per instance, so
+ * neither passwords nor unkeyed hashes of them are kept in memory, and the key never leaves the process. Only
+ * successful authentications are cached: wrong passwords always pay the full hash, so the cache does not make
+ * guessing cheaper.
+ */
+public class CachingAuthenticationProvider implements AuthenticationProvider, MeterBinder {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int KEY_BYTES = 32;
+
+    private final AuthenticationProvider delegate;
+    private final AuthenticationCacheProperties authenticationCacheProperties;
+    private final Cache<String, Authentication> authentications;
+    private final SecretKeySpec key;
+
+    /**
+     * Creates the provider with a new random HMAC key.
+     *
+     * @param delegate                      the provider verifying the credentials on a cache miss
+     * @param authenticationCacheProperties the authentication cache properties
+     */
+    public CachingAuthenticationProvider(final AuthenticationProvider delegate,
+        final AuthenticationCacheProperties authenticationCacheProperties) {
+        this.delegate = delegate;
+        this.authenticationCacheProperties = authenticationCacheProperties;
+        this.authentications = Caffeine.newBuilder()
+            .maximumSize(authenticationCacheProperties.getMaximumSize())
+            .expireAfterWrite(authenticationCacheProperties.getTtl())
+            .recordStats()
+            .build();
+        final byte[] keyBytes = new byte[KEY_BYTES];
+        new SecureRandom().nextBytes(keyBytes);
+        this.key = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+    }
+
+    @Override
+    public Authentication authenticate(final Authentication authentication) throws AuthenticationException {
+        if (!authenticationCacheProperties.isEnabled()
+            || !(authentication.getCredentials() instanceof final String password)) {
+            return delegate.authenticate(authentication);
+        }
+
+        final String cacheKey = hmac(authentication.getName(), password);
+        final Authentication cached = authentications.getIfPresent(cacheKey);
+        if (cached != null) {
+            return copyOf(cached, authentication);
+        }
+
+        final Authentication result = delegate.authenticate(authentication);
+        if (result != null && result.isAuthenticated()) {
+            authentications.put(cacheKey, copyOf(result, authentication));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(final Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+
+    /**
+     * Forget every cached authentication, for instance after a user or password change.
+     */
+    public void invalidateAll() {
+        authentications.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, authentications, "authentications");
+    }
+
+    /**
+     * Every request gets its own token, so request details and credential erasure do not leak between requests.
+     */
+    private static Authentication copyOf(final Authentication result, final Authentication request) {
+        final UsernamePasswordAuthenticationToken copy = UsernamePasswordAuthenticationToken.authenticated(
+            result.getPrincipal(),
+            null,
+            result.getAuthorities()
+        );
+        copy.setDetails(request.getDetails());
+        return copy;
+    }
+
+    private String hmac(final String username, final String password) {
+        try {
+            final Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return HexFormat.of().formatHex(mac.doFinal(password.getBytes(StandardCharsets.UTF_8)));
+        } catch (final GeneralSecurityException exception) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " is not available", exception);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package dev.ilionx.workshop.common.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+
+/**
+ * Wraps every wait for a connection from the pool in a span, a child of the current span.
+ *
+ * <p>Connections taken outside of a trace, such as by the pool itself or at startup, get no span.
+ */
+public class ConnectionWaitTracingListener implements MethodExecutionListener {
+
+    static final String SPAN_NAME = "jdbc connection wait";
+
+    private static final String GET_CONNECTION_METHOD = "getConnection";
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+
+    private final Supplier<Tracer> tracer;
+
+    /**
+     * Constructor.
+     *
+     * @param tracer the tracer, resolved on first use
+     */
+    public ConnectionWaitTracingListener(final Supplier<Tracer> tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public void beforeMethod(final MethodExecutionContext executionContext) {
+        if (!isGetConnection(executionContext)) {
+            return;
+        }
+        final Tracer currentTracer = tracer.get();
+        if (currentTracer.currentSpan() != null) {
+            CURRENT.set(currentTracer.nextSpan().name(SPAN_NAME).start());
+        }
+    }
+
+    @Override
+    public void afterMethod(final MethodExecutionContext executionContext) {
+        if (!isGetConnection(executionContext)) {
+            return;
+        }
+        final Span span = CURRENT.get();
+        if (span != null) {
+            CURRENT.remove();
+            if (executionContext.getThrown() != null) {
+                span.error(executionContext.getThrown());
+            }
+            span.end();
+        }
+    }
+
+    private static boolean isGetConnection(final MethodExecutionContext executionContext) {
+        return executionContext.getTarget() instanceof DataSource
+            && GET_CONNECTION_METHOD.equals(executionContext.getMethod().getName());
+    }
+}
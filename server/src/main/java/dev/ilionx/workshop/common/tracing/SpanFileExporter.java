@@ -0,0 +1,158 @@
+package dev.ilionx.workshop.common.tracing;
+
+import dev.ilionx.workshop.common.config.properties.TracingProperties;
+import dev.ilionx.workshop.common.io.RotatingNdjsonFile;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Writes the finished spans as newline delimited Zipkin v2 JSON to rotating files, so traces can be analysed offline
+ * without a collector. Every line is a single span, while the Zipkin API expects a JSON array of spans, so the lines are
+ * wrapped into an array before they are uploaded, e.g. with
+ * {@code jq -s . spans-*.ndjson | curl -H 'Content-Type: application/json' -d @- http://localhost:9411/api/v2/spans}.
+ *
+ * <p>The OpenTelemetry batch span processor hands the spans over in batches from its own thread, so requests never wait
+ * for the disk; when its queue is full it drops spans instead. The files rotate as described by
+ * {@link RotatingNdjsonFile}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+    prefix = "tracing",
+    name = "export-enabled",
+    havingValue = "true"
+)
+public class SpanFileExporter implements SpanExporter {
+
+    static final String FILE_PREFIX = "spans-";
+
+    private static final AttributeKey<String> SERVICE_NAME = AttributeKey.stringKey("service.name");
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final RotatingNdjsonFile file;
+
+    /**
+     * Constructor.
+     *
+     * @param tracingProperties the tracing properties
+     */
+    public SpanFileExporter(final TracingProperties tracingProperties) {
+        this.file = new RotatingNdjsonFile(
+            tracingProperties.getDirectory(),
+            FILE_PREFIX,
+            tracingProperties.getMaxFileSize(),
+            tracingProperties.getMaxFiles()
+        );
+        log.info("Exporting spans to '{}'", tracingProperties.getDirectory().toAbsolutePath());
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(final Collection<SpanData> spans) {
+        try {
+            for (final SpanData span : spans) {
+                file.append(objectMapper.writeValueAsBytes(zipkinSpanOf(span)));
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (final IOException | JacksonException exception) {
+            log.warn("Failed to write {} spans: {}", spans.size(), exception.getMessage());
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode flush() {
+        try {
+            file.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (final IOException exception) {
+            log.warn("Failed to flush the span file: {}", exception.getMessage());
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        try {
+            file.close();
+            return CompletableResultCode.ofSuccess();
+        } catch (final IOException exception) {
+            log.warn("Failed to close the span file: {}", exception.getMessage());
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    private static ZipkinSpan zipkinSpanOf(final SpanData span) {
+        final Map<String, String> tags = new LinkedHashMap<>();
+        span.getAttributes().forEach((key, value) -> tags.put(key.getKey(), String.valueOf(value)));
+        if (span.getStatus().getStatusCode() == StatusCode.ERROR) {
+            final String description = span.getStatus().getDescription();
+            tags.put("error", description.isEmpty() ? "true" : description);
+        }
+        return new ZipkinSpan(
+            span.getTraceId(),
+            span.getParentSpanContext().isValid() ? span.getParentSpanId() : null,
+            span.getSpanId(),
+            span.getKind() == SpanKind.INTERNAL ? null : span.getKind().name(),
+            span.getName(),
+            TimeUnit.NANOSECONDS.toMicros(span.getStartEpochNanos()),
+            Math.max(1, TimeUnit.NANOSECONDS.toMicros(span.getEndEpochNanos() - span.getStartEpochNanos())),
+            new ZipkinEndpoint(span.getResource().getAttribute(SERVICE_NAME)),
+            tags
+        );
+    }
+
+    /**
+     * A span in the Zipkin v2 format; timestamps and durations are in microseconds.
+     *
+     * @param traceId       the id of the trace
+     * @param parentId      the id of the parent span, or {@code null} for a root span
+     * @param id            the id of the span
+     * @param kind          the kind of the span, or {@code null} for an internal span
+     * @param name          the name of the span
+     * @param timestamp     the start of the span since the epoch
+     * @param duration      the duration of the span
+     * @param localEndpoint the service that recorded the span
+     * @param tags          the attributes of the span
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record ZipkinSpan(
+        String traceId,
+        String parentId,
+        String id,
+        String kind,
+        String name,
+        long timestamp,
+        long duration,
+        ZipkinEndpoint localEndpoint,
+        Map<String, String> tags
+    ) {
+    }
+
+    /**
+     * A service in the Zipkin v2 format.
+     *
+     * @param serviceName the name of the service
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record ZipkinEndpoint(String serviceName) {
+    }
+}
@@ -0,0 +1,97 @@
+package dev.ilionx.workshop.common.warmup;
+
+import dev.ilionx.workshop.common.config.properties.WarmUpProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+/**
+ * Runs the {@link WarmUpWorkload} on startup, so the JIT compiler, the connection pool and the Hibernate query plan
+ * cache are warm before the first request arrives.
+ *
+ * <p>Spring Boot only moves the readiness state to {@code ACCEPTING_TRAFFIC} once every application runner has
+ * returned, so the {@code readiness} health group reports {@code OUT_OF_SERVICE} for as long as the warm-up runs and an
+ * instance only receives traffic afterwards. The warm-up is bounded by a duration and a number of iterations, whichever
+ * is reached first, and runs the iterations in parallel on virtual threads. Every iteration runs in its own transaction
+ * that is rolled back. A failing iteration stops the warm-up, but never the application.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "warm-up",
+    name = "enabled",
+    havingValue = "true"
+)
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final String METRIC_NAME = "application.warm-up.time";
+
+    private final WarmUpWorkload warmUpWorkload;
+    private final WarmUpProperties warmUpProperties;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        final long startedAt = System.nanoTime();
+        final long deadline = startedAt + warmUpProperties.getMaxDuration().toNanos();
+        final AtomicInteger started = new AtomicInteger();
+        final AtomicInteger completed = new AtomicInteger();
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < Math.max(warmUpProperties.getConcurrency(), 1); worker++) {
+                executor.execute(() -> {
+                    while (failure.get() == null && System.nanoTime() < deadline) {
+                        final int iteration = started.getAndIncrement();
+                        if (iteration >= warmUpProperties.getMaxIterations()) {
+                            return;
+                        }
+                        try {
+                            runRolledBack(iteration);
+                            completed.incrementAndGet();
+                        } catch (final RuntimeException exception) {
+                            failure.compareAndSet(null, exception);
+                        }
+                    }
+                });
+            }
+        }
+
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        TimeGauge.builder(METRIC_NAME, () -> elapsedMillis, TimeUnit.MILLISECONDS)
+            .description("Time taken by the warm-up before the application reported ready")
+            .register(meterRegistry);
+        if (failure.get() != null) {
+            log.warn("Stopped the warm-up after '{}' iterations in '{}' ms, an iteration failed: {}",
+                completed.get(), elapsedMillis, failure.get().getMessage());
+        } else {
+            log.info("Warmed up with '{}' iterations in '{}' ms", completed.get(), elapsedMillis);
+        }
+    }
+
+    private void runRolledBack(final int iteration) {
+        final TransactionStatus transaction = transactionManager.getTransaction(TransactionDefinition.withDefaults());
+        try {
+            warmUpWorkload.run(iteration);
+        } finally {
+            transactionManager.rollback(transaction);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package dev.ilionx.workshop.common.warmup;
+
+import dev.ilionx.workshop.api.appointment.service.AppointmentService;
+import dev.ilionx.workshop.api.owner.model.Owner;
+import dev.ilionx.workshop.api.owner.model.request.CreateOwnerRequest;
+import dev.ilionx.workshop.api.owner.model.request.UpdateOwnerRequest;
+import dev.ilionx.workshop.api.owner.service.OwnerService;
+import dev.ilionx.workshop.api.pet.model.Pet;
+import dev.ilionx.workshop.api.pet.model.PetType;
+import dev.ilionx.workshop.api.pet.model.request.CreatePetRequest;
+import dev.ilionx.workshop.api.pet.model.request.CreatePetTypeRequest;
+import dev.ilionx.workshop.api.pet.service.PetService;
+import dev.ilionx.workshop.api.pet.service.PetTypeService;
+import dev.ilionx.workshop.api.vaccination.service.VaccinationService;
+import dev.ilionx.workshop.api.vet.service.VetService;
+import dev.ilionx.workshop.api.visit.model.request.CreateVisitRequest;
+import dev.ilionx.workshop.api.visit.service.VisitService;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * One iteration of the synthetic warm-up workload, following the clinic traffic mix through the service layer.
+ *
+ * <p>The iteration registers an owner with a pet and a visit, and then reads them back the way the clinic screens do.
+ * It therefore works on an empty database, and exercises the inserts and updates as well as the queries. The caller
+ * runs it in a transaction that is rolled back, so none of it is committed and no change events are broadcast.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "warm-up",
+    name = "enabled",
+    havingValue = "true"
+)
+public class WarmUpWorkload {
+
+    private static final String WARM_UP_NAME = "Warm-up";
+    private static final int DUE_WINDOW_DAYS = 30;
+    private static final int DUE_PAGE_SIZE = 50;
+
+    private final OwnerService ownerService;
+    private final PetService petService;
+    private final PetTypeService petTypeService;
+    private final VisitService visitService;
+    private final VaccinationService vaccinationService;
+    private final VetService vetService;
+    private final AppointmentService appointmentService;
+
+    /**
+     * Run one iteration.
+     *
+     * @param iteration the number of the iteration, used to vary the data
+     */
+    public void run(final int iteration) {
+        final Owner owner = ownerService.create(new CreateOwnerRequest()
+            .setFirstName(WARM_UP_NAME)
+            .setLastName(WARM_UP_NAME + iteration)
+            .setCity(WARM_UP_NAME)
+            .setTelephone("0000000000"));
+        ownerService.update(owner.getId(), new UpdateOwnerRequest()
+            .setFirstName(WARM_UP_NAME)
+            .setLastName(WARM_UP_NAME + iteration)
+            .setCity(WARM_UP_NAME)
+            .setTelephone("0000000001"));
+
+        final Pet pet = petService.create(owner.getId(), new CreatePetRequest()
+            .setName(WARM_UP_NAME)
+            .setBirthDate(LocalDate.now().minusYears(1 + iteration % 15))
+            .setTypeId(petType(iteration).getId()));
+        visitService.create(pet.getId(), new CreateVisitRequest()
+            .setDate(LocalDate.now())
+            .setDescription(WARM_UP_NAME));
+
+        ownerService.findById(owner.getId());
+        ownerService.findByLastName(owner.getLastName());
+        petService.findByOwnerId(owner.getId());
+        petService.findByIdAndOwnerId(pet.getId(), owner.getId());
+        visitService.findByPetId(pet.getId());
+        vaccinationService.findByPetId(pet.getId());
+        appointmentService.findByPetId(pet.getId());
+        vaccinationService.findDue(DUE_WINDOW_DAYS, null, null, 0, DUE_PAGE_SIZE);
+        vetService.findAll();
+    }
+
+    private PetType petType(final int iteration) {
+        final List<PetType> petTypes = petTypeService.findAll();
+        if (petTypes.isEmpty()) {
+            return petTypeService.create(new CreatePetTypeRequest().setName(WARM_UP_NAME));
+        }
+        return petTypes.get(iteration % petTypes.size());
+    }
+}
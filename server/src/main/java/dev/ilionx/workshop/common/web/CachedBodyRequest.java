@@ -0,0 +1,93 @@
+package dev.ilionx.workshop.common.web;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * Request wrapper that serves a body that has already been read, so a filter can use the body before the request is
+ * handled. When only the start of the body was read, the rest is read from the original request after it.
+ */
+public final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+    private final InputStream remainder;
+
+    /**
+     * Creates the wrapper.
+     *
+     * @param request the original request
+     * @param body    the body read from the original request
+     */
+    public CachedBodyRequest(final HttpServletRequest request, final byte[] body) {
+        this(request, body, null);
+    }
+
+    /**
+     * Creates the wrapper for a body of which only the start has been read.
+     *
+     * @param request   the original request
+     * @param start     the start of the body read from the original request
+     * @param remainder the stream the rest of the body is read from, or {@code null} when the body was read completely
+     */
+    public CachedBodyRequest(final HttpServletRequest request, final byte[] start, final InputStream remainder) {
+        super(request);
+        this.body = start;
+        this.remainder = remainder;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        final ByteArrayInputStream cached = new ByteArrayInputStream(body);
+        final InputStream input = remainder == null ? cached : new SequenceInputStream(cached, remainder);
+        return new ServletInputStream() {
+
+            private boolean finished;
+
+            @Override
+            public boolean isFinished() {
+                return remainder == null ? cached.available() == 0 : finished;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(final ReadListener readListener) {
+                throw new UnsupportedOperationException("Asynchronous reads are not supported for a cached body");
+            }
+
+            @Override
+            public int read() throws IOException {
+                final int read = input.read();
+                finished = read < 0;
+                return read;
+            }
+
+            @Override
+            public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+                final int read = input.read(buffer, offset, length);
+                finished = read < 0;
+                return read;
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        final String encoding = getCharacterEncoding();
+        final Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+}
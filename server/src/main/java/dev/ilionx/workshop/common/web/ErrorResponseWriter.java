@@ -0,0 +1,51 @@
+package dev.ilionx.workshop.common.web;
+
+import io.github.jframe.exception.resource.ErrorResponseResource;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+/**
+ * Writes error responses from servlet filters, which run outside of the controller exception handling.
+ */
+public final class ErrorResponseWriter {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private ErrorResponseWriter() {
+        // No-args constructor to prevent instantiation.
+    }
+
+    /**
+     * Write an error response in the same format as the controller error responses.
+     *
+     * @param request  the request
+     * @param response the response
+     * @param status   the status of the response
+     * @param message  the error message
+     * @throws IOException if the response cannot be written
+     */
+    public static void write(final HttpServletRequest request,
+        final HttpServletResponse response,
+        final HttpStatus status,
+        final String message) throws IOException {
+        final ErrorResponseResource errorResponseResource = new ErrorResponseResource(new ResponseStatusException(status, message));
+        errorResponseResource.setErrorMessage(message);
+        errorResponseResource.setStatusCode(status.value());
+        errorResponseResource.setStatusMessage(status.getReasonPhrase());
+        errorResponseResource.setMethod(request.getMethod());
+        errorResponseResource.setUri(request.getRequestURI());
+        errorResponseResource.setContentType(APPLICATION_JSON_VALUE);
+
+        response.setStatus(status.value());
+        response.setContentType(APPLICATION_JSON_VALUE);
+        response.getWriter().write(OBJECT_MAPPER.writeValueAsString(errorResponseResource));
+    }
+}
@@ -0,0 +1,132 @@
+package dev.ilionx.workshop.common.web;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import static dev.ilionx.workshop.api.Paths.PUBLIC_SWAGGER_PATH;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
+
+/**
+ * Serves the OpenAPI document generated during the build, in place of the springdoc runtime generator.
+ *
+ * <p>Active when {@code springdoc.api-docs.enabled} is {@code false}, as in the production profile. The build packages
+ * the document gzip compressed, and clients accepting gzip receive those bytes unchanged; other clients get a copy that
+ * is decompressed on the fly. Responses carry an entity tag of the compressed document, with a suffix for the gzip
+ * encoding, so clients and caches can revalidate either representation without downloading it again. The document
+ * only exists in the boot jar, so an application started from the build output answers {@code 404}.
+ */
+@Hidden
+@Slf4j
+@RestController
+@ConditionalOnProperty(
+    prefix = "springdoc.api-docs",
+    name = "enabled",
+    havingValue = "false"
+)
+public class StaticOpenApiController {
+
+    static final String DOCUMENT_LOCATION = "openapi/openapi.json.gz";
+
+    private static final String GZIP = "gzip";
+
+    private final byte[] compressedDocument;
+    private final String entityTag;
+    private final String gzipEntityTag;
+
+    /**
+     * Loads the compressed document from the classpath.
+     */
+    public StaticOpenApiController() {
+        this(new ClassPathResource(DOCUMENT_LOCATION));
+    }
+
+    StaticOpenApiController(final Resource document) {
+        if (document.exists()) {
+            try (InputStream in = document.getInputStream()) {
+                this.compressedDocument = in.readAllBytes();
+            } catch (final IOException exception) {
+                throw new UncheckedIOException("Unable to read the OpenAPI document " + document, exception);
+            }
+            final String hash = sha256(compressedDocument);
+            this.entityTag = '"' + hash + '"';
+            this.gzipEntityTag = '"' + hash + '-' + GZIP + '"';
+        } else {
+            log.warn("The OpenAPI document '{}' is not on the classpath; it is only packaged into the boot jar", DOCUMENT_LOCATION);
+            this.compressedDocument = null;
+            this.entityTag = null;
+            this.gzipEntityTag = null;
+        }
+    }
+
+    /**
+     * Returns the OpenAPI document.
+     *
+     * @param acceptEncoding the encodings the client accepts
+     * @param ifNoneMatch    the entity tag of the copy the client holds
+     * @return the document, or {@code 304} when the client holds the current copy
+     * @throws IOException if the document cannot be decompressed
+     */
+    @GetMapping(
+        path = PUBLIC_SWAGGER_PATH,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<byte[]> getOpenApiDocument(
+        @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding,
+        @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch
+    ) throws IOException {
+        if (compressedDocument == null) {
+            throw new ResponseStatusException(NOT_FOUND, "The OpenAPI document is not available.");
+        }
+
+        final boolean gzip = acceptEncoding != null && acceptEncoding.contains(GZIP);
+        final String representationTag = gzip ? gzipEntityTag : entityTag;
+        if (representationTag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(NOT_MODIFIED)
+                .eTag(representationTag)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .build();
+        }
+
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .eTag(representationTag)
+            .cacheControl(CacheControl.noCache())
+            .varyBy(HttpHeaders.ACCEPT_ENCODING)
+            .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(compressedDocument);
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressedDocument))) {
+            return response.body(in.readAllBytes());
+        }
+    }
+
+    private static String sha256(final byte[] value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value));
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+}
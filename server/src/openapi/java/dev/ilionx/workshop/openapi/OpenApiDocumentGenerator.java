@@ -0,0 +1,114 @@
+package dev.ilionx.workshop.openapi;
+
+import dev.ilionx.workshop.Application;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+/**
+ * Boots the application on an embedded port, downloads the OpenAPI document springdoc generates and writes it next to
+ * a gzip compressed copy, run by the build with {@code ./gradlew generateOpenApiDocs}.
+ *
+ * <p>The compressed copy is packaged into the boot jar and served as is by the production profile, which does not
+ * generate the document at runtime. The background jobs are disabled, since the application only runs long enough to
+ * answer one request. The servers of the document are replaced by the context path, since the application URL of the
+ * build is not the URL of the environment the document is served in.
+ */
+@Slf4j
+public final class OpenApiDocumentGenerator {
+
+    private static final String DOCUMENT_NAME = "openapi.json";
+    private static final String COMPRESSED_DOCUMENT_NAME = DOCUMENT_NAME + ".gz";
+
+    private OpenApiDocumentGenerator() {
+        // Main class
+    }
+
+    /**
+     * Generate the OpenAPI document.
+     *
+     * @param args the directory the documents are written to
+     * @throws Exception if the application fails to start or the documents cannot be written
+     */
+    public static void main(final String[] args) throws Exception {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Expected the output directory as the only argument");
+        }
+        final Path outputDir = Path.of(args[0]);
+        // Command line arguments, since they take precedence over application.yml.
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class).run(
+            "--spring.profiles.active=openapi",
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:openapi-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+            "--logging.level.root=WARN",
+            "--jframe.logging.disabled=true",
+            "--springdoc.api-docs.enabled=true",
+            "--springdoc.pre-loading-enabled=false",
+            "--reminders.enabled=false",
+            "--cache-sync.enabled=false",
+            "--rate-limit.enabled=false"
+        )) {
+            final Environment environment = context.getEnvironment();
+            final byte[] document = withRelativeServer(download(environment), environment);
+            Files.createDirectories(outputDir);
+            Files.write(outputDir.resolve(DOCUMENT_NAME), document);
+            final Path compressedDocument = outputDir.resolve(COMPRESSED_DOCUMENT_NAME);
+            try (OutputStream out = new BestCompressionGzipOutputStream(Files.newOutputStream(compressedDocument))) {
+                out.write(document);
+            }
+            log.info("Wrote the OpenAPI document of '{}' bytes to '{}'", document.length, outputDir);
+        }
+    }
+
+    private static byte[] download(final Environment environment) throws IOException, InterruptedException {
+        final URI uri = URI.create("http://localhost:"
+            + environment.getRequiredProperty("local.server.port")
+            + environment.getProperty("server.servlet.context-path", "")
+            + environment.getRequiredProperty("springdoc.api-docs.path"));
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            final HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(uri).build(), BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Fetching the OpenAPI document from " + uri + " returned " + response.statusCode());
+            }
+            return response.body();
+        }
+    }
+
+    /**
+     * Replaces the servers of the document by the context path, which Swagger UI resolves against the host that served
+     * the document.
+     */
+    private static byte[] withRelativeServer(final byte[] document, final Environment environment) {
+        final String contextPath = environment.getProperty("server.servlet.context-path", "");
+        final JsonMapper jsonMapper = JsonMapper.builder().build();
+        final ObjectNode root = (ObjectNode) jsonMapper.readTree(document);
+        root.putArray("servers").addObject().put("url", contextPath.isEmpty() ? "/" : contextPath);
+        return jsonMapper.writeValueAsBytes(root);
+    }
+
+    /** A gzip stream that trades compression time for size, since the document is compressed once per build. */
+    private static final class BestCompressionGzipOutputStream extends GZIPOutputStream {
+
+        private BestCompressionGzipOutputStream(final OutputStream out) throws IOException {
+            super(out);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package dev.ilionx.workshop.api.appointment.reminder;
+
+import dev.ilionx.workshop.api.appointment.model.Appointment;
+import dev.ilionx.workshop.api.appointment.model.AppointmentReminder;
+import dev.ilionx.workshop.api.appointment.repository.AppointmentRepository;
+import dev.ilionx.workshop.api.pet.model.Pet;
+import dev.ilionx.workshop.common.config.properties.ReminderProperties;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+import dev.ilionx.workshop.common.event.EntityType;
+import dev.ilionx.workshop.support.IntegrationTest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static dev.ilionx.workshop.api.Paths.PET_BY_ID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Integration Test - Appointment Reminder Scheduler")
+class AppointmentReminderSchedulerTest extends IntegrationTest {
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    private final List<AppointmentReminder> delivered = new CopyOnWriteArrayList<>();
+    private final List<AppointmentReminderScheduler> schedulers = new ArrayList<>();
+    private AppointmentReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = aScheduler();
+    }
+
+    @AfterEach
+    void tearDown() {
+        schedulers.forEach(AppointmentReminderScheduler::shutdown);
+    }
+
+    @Test
+    @DisplayName("Should deliver a reminder whose moment has passed right away")
+    void shouldDeliverAReminderWhoseMomentHasPassedRightAway() throws InterruptedException {
+        // Given: An upcoming appointment whose reminder moment has passed
+        final Appointment appointment = aSavedAppointment(aSavedPet(aSavedOwner()));
+
+        // When: Loading the upcoming reminders
+        scheduler.loadUpcomingReminders();
+
+        // Then: The reminder should be scheduled
+        assertThat(scheduler.pendingReminders(), is(equalTo(1)));
+
+        // And: Be delivered on the next ticks
+        awaitTrue(() -> {
+            scheduler.tick();
+            return !delivered.isEmpty();
+        });
+        assertThat(delivered.stream().map(AppointmentReminder::appointmentId).toList(), contains(appointment.getId()));
+    }
+
+    @Test
+    @DisplayName("Should not deliver the reminder of an appointment deleted with its pet")
+    void shouldNotDeliverTheReminderOfAnAppointmentDeletedWithItsPet() throws Exception {
+        // Given: A scheduled reminder for an upcoming appointment
+        final Pet pet = aSavedPet(aSavedOwner());
+        aSavedAppointment(pet);
+        scheduler.loadUpcomingReminders();
+        assertThat(scheduler.pendingReminders(), is(equalTo(1)));
+
+        // When: Deleting the pet, which deletes its appointments as well
+        mockMvc.perform(delete(PET_BY_ID, pet.getId()))
+            .andExpect(status().isNoContent());
+
+        // And: The reminder becomes due and the deliveries in progress finish
+        awaitTrue(() -> {
+            scheduler.tick();
+            return scheduler.pendingReminders() == 0;
+        });
+        scheduler.shutdown();
+
+        // Then: No reminder should be delivered
+        assertThat(delivered, is(empty()));
+    }
+
+    @Test
+    @DisplayName("Should not deliver a sent reminder again after a restart")
+    void shouldNotDeliverASentReminderAgainAfterARestart() throws InterruptedException {
+        // Given: A reminder that has been delivered
+        aSavedAppointment(aSavedPet(aSavedOwner()));
+        scheduler.loadUpcomingReminders();
+        awaitDelivered(scheduler, 1);
+
+        // When: The application restarts and loads the upcoming reminders again
+        final AppointmentReminderScheduler restarted = aScheduler();
+        restarted.loadUpcomingReminders();
+
+        // Then: The sent reminder should not be scheduled again
+        assertThat(restarted.pendingReminders(), is(equalTo(0)));
+    }
+
+    @Test
+    @DisplayName("Should deliver a reminder once when several nodes schedule it")
+    void shouldDeliverAReminderOnceWhenSeveralNodesScheduleIt() throws InterruptedException {
+        // Given: Two nodes that both scheduled the reminder of an upcoming appointment
+        aSavedAppointment(aSavedPet(aSavedOwner()));
+        final AppointmentReminderScheduler otherNode = aScheduler();
+        scheduler.loadUpcomingReminders();
+        otherNode.loadUpcomingReminders();
+
+        // When: The reminder becomes due on both nodes
+        awaitTrue(() -> {
+            scheduler.tick();
+            otherNode.tick();
+            return scheduler.pendingReminders() == 0 && otherNode.pendingReminders() == 0;
+        });
+        scheduler.shutdown();
+        otherNode.shutdown();
+
+        // Then: The reminder should be delivered once
+        assertThat(delivered, hasSize(1));
+    }
+
+    @Test
+    @DisplayName("Should not deliver a sent reminder again when the appointment changes without moving")
+    void shouldNotDeliverASentReminderAgainWhenTheAppointmentChangesWithoutMoving() throws InterruptedException {
+        // Given: A reminder that has been delivered
+        final Appointment appointment = aSavedAppointment(aSavedPet(aSavedOwner()));
+        scheduler.loadUpcomingReminders();
+        awaitDelivered(scheduler, 1);
+
+        // When: The reason of the appointment changes
+        appointment.setReason("Vaccination");
+        appointmentRepository.save(appointment);
+        scheduler.onAppointmentChanged(EntityChangedEvent.updated(EntityType.APPOINTMENT, appointment.getId()));
+
+        // Then: The reminder should not be scheduled again
+        assertThat(scheduler.pendingReminders(), is(equalTo(0)));
+    }
+
+    @Test
+    @DisplayName("Should deliver a sent reminder again when the appointment moves")
+    void shouldDeliverASentReminderAgainWhenTheAppointmentMoves() throws InterruptedException {
+        // Given: A reminder that has been delivered
+        final Appointment appointment = aSavedAppointment(aSavedPet(aSavedOwner()));
+        scheduler.loadUpcomingReminders();
+        awaitDelivered(scheduler, 1);
+
+        // When: The appointment moves to another date and time
+        appointment.setScheduledDateTime(appointment.getScheduledDateTime().plusHours(2));
+        appointmentRepository.save(appointment);
+        scheduler.onAppointmentChanged(EntityChangedEvent.updated(EntityType.APPOINTMENT, appointment.getId()));
+
+        // Then: The reminder should be delivered again for the new date and time
+        awaitDelivered(scheduler, 2);
+        assertThat(delivered.getLast().scheduledDateTime(), is(equalTo(appointment.getScheduledDateTime())));
+    }
+
+    /**
+     * Creates a scheduler with a lead time longer than a day, which makes the reminder of an appointment tomorrow due
+     * right away.
+     */
+    private AppointmentReminderScheduler aScheduler() {
+        final ReminderProperties reminderProperties = new ReminderProperties();
+        reminderProperties.setLeadTime(Duration.ofHours(48));
+        reminderProperties.setTickDuration(Duration.ofMillis(10));
+        final AppointmentReminderScheduler created =
+            new AppointmentReminderScheduler(appointmentRepository, delivered::add, reminderProperties);
+        schedulers.add(created);
+        return created;
+    }
+
+    private void awaitDelivered(final AppointmentReminderScheduler node, final int count) throws InterruptedException {
+        awaitTrue(() -> {
+            node.tick();
+            return delivered.size() >= count;
+        });
+    }
+
+    private Appointment aSavedAppointment(final Pet pet) {
+        final Appointment appointment = new Appointment();
+        appointment.setScheduledDateTime(LocalDateTime.now().plusDays(1).withNano(0));
+        appointment.setReason("Annual checkup");
+        appointment.setPet(pet);
+        appointment.setVet(vetRepository.findById(1).orElseThrow());
+        return appointmentRepository.save(appointment);
+    }
+
+    private static void awaitTrue(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition was not met within 10 seconds");
+            }
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package dev.ilionx.workshop.api.appointment.reminder;
+
+import dev.ilionx.workshop.support.UnitTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+@DisplayName("Unit Test - Hierarchical Timing Wheel")
+class HierarchicalTimingWheelTest extends UnitTest {
+
+    private static final long START = 1_000_000L;
+    private static final long TICK = 10L;
+    private static final int WHEEL_SIZE = 8;
+
+    private HierarchicalTimingWheel<String> wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HierarchicalTimingWheel<>(TICK, WHEEL_SIZE, START);
+    }
+
+    @Test
+    @DisplayName("Should fire timeout once its deadline is reached")
+    void shouldFireTimeoutOnceItsDeadlineIsReached() {
+        // Given: A timeout within the range of the first level
+        wheel.schedule("a", START + 35);
+
+        // When: Advancing to just before and to the deadline
+        final List<String> early = wheel.advanceTo(START + 29);
+        final List<String> due = wheel.advanceTo(START + 40);
+
+        // Then: The timeout fires only once its tick has passed
+        assertThat(early, is(empty()));
+        assertThat(due, contains("a"));
+        assertThat(wheel.size(), is(equalTo(0)));
+    }
+
+    @Test
+    @DisplayName("Should cascade timeouts from overflow levels")
+    void shouldCascadeTimeoutsFromOverflowLevels() {
+        // Given: Timeouts far beyond the range of the first two levels
+        final long deadline = START + TICK * WHEEL_SIZE * WHEEL_SIZE * 3 + 55;
+        wheel.schedule("far", deadline);
+        wheel.schedule("near", START + 15);
+
+        // When: Advancing tick by tick and recording when the far timeout fires
+        final List<String> fired = new ArrayList<>();
+        long farFiredAt = -1;
+        for (long now = START; now <= deadline + TICK; now += TICK) {
+            final List<String> expired = wheel.advanceTo(now);
+            if (expired.contains("far")) {
+                farFiredAt = now;
+            }
+            fired.addAll(expired);
+        }
+
+        // Then: Both timeouts fire in order and the far one fires no more than one tick late
+        assertThat(fired, contains("near", "far"));
+        assertThat(farFiredAt >= deadline, is(true));
+        assertThat(farFiredAt - deadline < TICK, is(true));
+    }
+
+    @Test
+    @DisplayName("Should not fire cancelled timeout")
+    void shouldNotFireCancelledTimeout() {
+        // Given: Two scheduled timeouts
+        final HierarchicalTimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", START + 20);
+        wheel.schedule("kept", START + 20);
+
+        // When: Cancelling one of them and advancing past the deadline
+        final boolean result = wheel.cancel(cancelled);
+        final List<String> expired = wheel.advanceTo(START + 100);
+
+        // Then: Only the remaining timeout fires and cancelling again has no effect
+        assertThat(result, is(true));
+        assertThat(expired, contains("kept"));
+        assertThat(wheel.cancel(cancelled), is(false));
+    }
+
+    @Test
+    @DisplayName("Should fire overdue timeout on next advance")
+    void shouldFireOverdueTimeoutOnNextAdvance() {
+        // Given: A timeout whose deadline has already passed
+        wheel.schedule("overdue", START - 500);
+
+        // When: Advancing without moving the clock
+        final List<String> expired = wheel.advanceTo(START);
+
+        // Then: The overdue timeout fires immediately
+        assertThat(expired, contains("overdue"));
+    }
+}
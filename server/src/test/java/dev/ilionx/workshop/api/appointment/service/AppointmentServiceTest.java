@@ -9,6 +9,8 @@ import dev.ilionx.workshop.api.pet.model.Pet;
 import dev.ilionx.workshop.api.pet.repository.PetRepository;
 import dev.ilionx.workshop.api.vet.model.Vet;
 import dev.ilionx.workshop.api.vet.repository.VetRepository;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+import dev.ilionx.workshop.common.event.EntityType;
 import dev.ilionx.workshop.support.UnitTest;
 import io.github.jframe.exception.core.DataNotFoundException;
 
@@ -20,6 +22,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
@@ -48,6 +51,7 @@ class AppointmentServiceTest extends UnitTest {
     private AppointmentRepository appointmentRepository;
     private PetRepository petRepository;
     private VetRepository vetRepository;
+    private ApplicationEventPublisher eventPublisher;
     private AppointmentService appointmentService;
 
     @BeforeEach
@@ -55,7 +59,8 @@ class AppointmentServiceTest extends UnitTest {
         appointmentRepository = mock(AppointmentRepository.class);
         petRepository = mock(PetRepository.class);
         vetRepository = mock(VetRepository.class);
-        appointmentService = new AppointmentService(appointmentRepository, petRepository, vetRepository);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        appointmentService = new AppointmentService(appointmentRepository, petRepository, vetRepository, eventPublisher);
     }
 
     @Test
@@ -214,6 +219,9 @@ class AppointmentServiceTest extends UnitTest {
         assertThat(createdAppointment, is(notNullValue()));
         assertThat(createdAppointment.getReason(), is(equalTo(VALID_REASON)));
         verify(appointmentRepository).save(any(Appointment.class));
+        verify(eventPublisher).publishEvent(
+            EntityChangedEvent.created(EntityType.APPOINTMENT, VALID_APPOINTMENT_ID).withOwner(1).withVet(VALID_VET_ID)
+        );
     }
 
     @Test
@@ -385,6 +393,9 @@ class AppointmentServiceTest extends UnitTest {
 
         // Then: Appointment should be deleted
         verify(appointmentRepository).delete(appointment);
+        verify(eventPublisher).publishEvent(
+            EntityChangedEvent.deleted(EntityType.APPOINTMENT, VALID_APPOINTMENT_ID).withOwner(1).withVet(VALID_VET_ID)
+        );
     }
 
     @Test
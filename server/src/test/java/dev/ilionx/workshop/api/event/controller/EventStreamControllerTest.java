@@ -0,0 +1,42 @@
+package dev.ilionx.workshop.api.event.controller;
+
+import dev.ilionx.workshop.api.event.service.ChangeEventBroadcaster;
+import dev.ilionx.workshop.support.IntegrationTest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static dev.ilionx.workshop.api.Paths.EVENTS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@DisplayName("Integration Test - Event Stream Controller")
+class EventStreamControllerTest extends IntegrationTest {
+
+    @Autowired
+    private ChangeEventBroadcaster changeEventBroadcaster;
+
+    @AfterEach
+    void closeSubscriptions() {
+        changeEventBroadcaster.shutdown();
+    }
+
+    // ========================= SUBSCRIBE =========================
+    @Test
+    @DisplayName("Should open an asynchronous stream when subscribing to changes")
+    void shouldOpenAnAsynchronousStreamWhenSubscribingToChanges() throws Exception {
+        // Given: No open subscriptions
+        final int subscribersBefore = changeEventBroadcaster.subscriberCount();
+
+        // When: Subscribing to the changes of a single vet
+        // Then: Should start an asynchronous response and register the subscriber
+        mockMvc.perform(get(EVENTS).param("vetId", "1"))
+            .andExpect(request().asyncStarted());
+        assertThat(changeEventBroadcaster.subscriberCount(), is(equalTo(subscribersBefore + 1)));
+    }
+}
@@ -0,0 +1,136 @@
+package dev.ilionx.workshop.api.event.service;
+
+import dev.ilionx.workshop.api.event.model.SubscriptionFilter;
+import dev.ilionx.workshop.api.event.model.mapper.ChangeEventMapper;
+import dev.ilionx.workshop.api.event.model.response.ChangeEventResponse;
+import dev.ilionx.workshop.common.config.properties.EventStreamProperties;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+import dev.ilionx.workshop.common.event.EntityType;
+import dev.ilionx.workshop.support.UnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+@DisplayName("Unit Test - Change Event Broadcaster")
+class ChangeEventBroadcasterTest extends UnitTest {
+
+    private static final Integer VET_ID = 1;
+    private static final Integer OTHER_VET_ID = 2;
+    private static final Integer OWNER_ID = 1;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EventStreamProperties eventStreamProperties;
+    private ChangeEventBroadcaster changeEventBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        eventStreamProperties = new EventStreamProperties();
+        eventStreamProperties.setHeartbeatInterval(Duration.ofMinutes(1));
+        changeEventBroadcaster = new ChangeEventBroadcaster(
+            Mappers.getMapper(ChangeEventMapper.class),
+            eventStreamProperties,
+            meterRegistry
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        changeEventBroadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should only deliver changes matching the subscription filter")
+    void shouldOnlyDeliverChangesMatchingTheSubscriptionFilter() throws Exception {
+        // Given: A subscriber interested in a single vet
+        final RecordingEmitter emitter = new RecordingEmitter(null);
+        changeEventBroadcaster.subscribe(new SubscriptionFilter(null, VET_ID), emitter);
+
+        // When: Changes for another vet, an unstreamed entity and the subscribed vet are committed
+        changeEventBroadcaster.onEntityChanged(appointmentChange(10, OTHER_VET_ID));
+        changeEventBroadcaster.onEntityChanged(EntityChangedEvent.updated(EntityType.OWNER, OWNER_ID).withOwner(OWNER_ID));
+        changeEventBroadcaster.onEntityChanged(appointmentChange(11, VET_ID));
+
+        // Then: Only the change for the subscribed vet is sent
+        final ChangeEventResponse response = emitter.next();
+        assertThat(response, is(notNullValue()));
+        assertThat(response.getEntityId(), is(equalTo(11)));
+        assertThat(response.getVetId(), is(equalTo(VET_ID)));
+        assertThat(emitter.sent.poll(100, TimeUnit.MILLISECONDS), is(nullValue()));
+    }
+
+    @Test
+    @DisplayName("Should disconnect slow consumer after too many dropped events")
+    void shouldDisconnectSlowConsumerAfterTooManyDroppedEvents() {
+        // Given: A subscriber with a tiny buffer that never finishes sending
+        eventStreamProperties.setBufferSize(1);
+        eventStreamProperties.setMaxDroppedEvents(2);
+        final CountDownLatch stuck = new CountDownLatch(1);
+        changeEventBroadcaster.subscribe(new SubscriptionFilter(null, null), new RecordingEmitter(stuck));
+
+        // When: More changes are committed than the subscriber can buffer
+        for (int id = 1; id <= 10; id++) {
+            changeEventBroadcaster.onEntityChanged(appointmentChange(id, VET_ID));
+        }
+
+        // Then: The subscriber is disconnected and the drops are counted
+        assertThat(changeEventBroadcaster.subscriberCount(), is(equalTo(0)));
+        assertThat(meterRegistry.counter("events.stream.dropped").count(), is(greaterThan(2.0)));
+        assertThat(meterRegistry.counter("events.stream.slow.consumers.disconnected").count(), is(equalTo(1.0)));
+        stuck.countDown();
+    }
+
+    private static EntityChangedEvent appointmentChange(final int appointmentId, final Integer vetId) {
+        return EntityChangedEvent.updated(EntityType.APPOINTMENT, appointmentId).withOwner(OWNER_ID).withVet(vetId);
+    }
+
+    /** Emitter recording the payloads sent to it, optionally blocking every send until released. */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<Object> sent = new LinkedBlockingQueue<>();
+        private final CountDownLatch release;
+
+        private RecordingEmitter(final CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(final SseEventBuilder builder) throws IOException {
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (final InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(exception);
+                }
+            }
+            builder.build().stream()
+                .map(DataWithMediaType::getData)
+                .filter(ChangeEventResponse.class::isInstance)
+                .forEach(sent::add);
+        }
+
+        private ChangeEventResponse next() throws InterruptedException {
+            return (ChangeEventResponse) sent.poll(5, TimeUnit.SECONDS);
+        }
+    }
+}
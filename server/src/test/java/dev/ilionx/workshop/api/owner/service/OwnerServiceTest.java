@@ -4,8 +4,12 @@ import dev.ilionx.workshop.api.owner.model.Owner;
 import dev.ilionx.workshop.api.owner.model.request.CreateOwnerRequest;
 import dev.ilionx.workshop.api.owner.model.request.UpdateOwnerRequest;
 import dev.ilionx.workshop.api.owner.repository.OwnerRepository;
+import dev.ilionx.workshop.common.concurrency.RequestCoalescer;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+import dev.ilionx.workshop.common.event.EntityType;
 import dev.ilionx.workshop.support.UnitTest;
 import io.github.jframe.exception.core.DataNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import java.util.Collections;
 import java.util.List;
@@ -14,6 +18,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
@@ -39,12 +44,14 @@ class OwnerServiceTest extends UnitTest {
     private static final Integer NON_EXISTENT_OWNER_ID = 999;
 
     private OwnerRepository ownerRepository;
+    private ApplicationEventPublisher eventPublisher;
     private OwnerService ownerService;
 
     @BeforeEach
     void setUp() {
         ownerRepository = mock(OwnerRepository.class);
-        ownerService = new OwnerService(ownerRepository);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        ownerService = new OwnerService(ownerRepository, eventPublisher, new RequestCoalescer(new SimpleMeterRegistry()), anEntityCache());
     }
 
     @Test
@@ -214,8 +221,9 @@ class OwnerServiceTest extends UnitTest {
         // When: Deleting the owner
         ownerService.delete(VALID_OWNER_ID);
 
-        // Then: The owner should be deleted from the repository
+        // Then: The owner should be deleted from the repository and the deletion published
         verify(ownerRepository).deleteById(VALID_OWNER_ID);
+        verify(eventPublisher).publishEvent(EntityChangedEvent.deleted(EntityType.OWNER, VALID_OWNER_ID).withOwner(VALID_OWNER_ID));
     }
 
     @Test
@@ -8,8 +8,12 @@ import dev.ilionx.workshop.api.pet.model.request.CreatePetRequest;
 import dev.ilionx.workshop.api.pet.model.request.UpdatePetRequest;
 import dev.ilionx.workshop.api.pet.repository.PetRepository;
 import dev.ilionx.workshop.api.pet.repository.PetTypeRepository;
+import dev.ilionx.workshop.common.concurrency.RequestCoalescer;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+import dev.ilionx.workshop.common.event.EntityType;
 import dev.ilionx.workshop.support.UnitTest;
 import io.github.jframe.exception.core.DataNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import java.time.LocalDate;
 import java.util.Collections;
@@ -19,6 +23,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
@@ -48,6 +53,7 @@ class PetServiceTest extends UnitTest {
     private PetRepository petRepository;
     private PetTypeRepository petTypeRepository;
     private OwnerRepository ownerRepository;
+    private ApplicationEventPublisher eventPublisher;
     private PetService petService;
 
     @BeforeEach
@@ -55,7 +61,15 @@ class PetServiceTest extends UnitTest {
         petRepository = mock(PetRepository.class);
         petTypeRepository = mock(PetTypeRepository.class);
         ownerRepository = mock(OwnerRepository.class);
-        petService = new PetService(petRepository, petTypeRepository, ownerRepository);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        petService = new PetService(
+            petRepository,
+            petTypeRepository,
+            ownerRepository,
+            eventPublisher,
+            new RequestCoalescer(new SimpleMeterRegistry()),
+            anEntityCache()
+        );
     }
 
     @Test
@@ -321,8 +335,9 @@ class PetServiceTest extends UnitTest {
         // When: Deleting the pet
         petService.delete(VALID_PET_ID);
 
-        // Then: The pet should be deleted from the repository
+        // Then: The pet should be deleted from the repository and the change published for its owner
         verify(petRepository).delete(existingPet);
+        verify(eventPublisher).publishEvent(EntityChangedEvent.deleted(EntityType.PET, VALID_PET_ID).withOwner(VALID_OWNER_ID));
     }
 
     @Test
@@ -4,8 +4,12 @@ import dev.ilionx.workshop.api.pet.model.PetType;
 import dev.ilionx.workshop.api.pet.model.request.CreatePetTypeRequest;
 import dev.ilionx.workshop.api.pet.model.request.UpdatePetTypeRequest;
 import dev.ilionx.workshop.api.pet.repository.PetTypeRepository;
+import dev.ilionx.workshop.common.concurrency.RequestCoalescer;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+import dev.ilionx.workshop.common.event.EntityType;
 import dev.ilionx.workshop.support.UnitTest;
 import io.github.jframe.exception.core.DataNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import java.util.Collections;
 import java.util.List;
@@ -14,6 +18,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
@@ -35,12 +40,14 @@ class PetTypeServiceTest extends UnitTest {
     private static final Integer NON_EXISTENT_PET_TYPE_ID = 999;
 
     private PetTypeRepository petTypeRepository;
+    private ApplicationEventPublisher eventPublisher;
     private PetTypeService petTypeService;
 
     @BeforeEach
     void setUp() {
         petTypeRepository = mock(PetTypeRepository.class);
-        petTypeService = new PetTypeService(petTypeRepository);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        petTypeService = new PetTypeService(petTypeRepository, eventPublisher, new RequestCoalescer(new SimpleMeterRegistry()));
     }
 
     @Test
@@ -179,8 +186,9 @@ class PetTypeServiceTest extends UnitTest {
         // When: Deleting the pet type
         petTypeService.delete(VALID_PET_TYPE_ID);
 
-        // Then: The pet type should be deleted from the repository
+        // Then: The pet type should be deleted from the repository and the deletion published
         verify(petTypeRepository).deleteById(VALID_PET_TYPE_ID);
+        verify(eventPublisher).publishEvent(EntityChangedEvent.deleted(EntityType.PET_TYPE, VALID_PET_TYPE_ID));
     }
 
     @Test
@@ -0,0 +1,94 @@
+package dev.ilionx.workshop.api.sync.controller;
+
+import dev.ilionx.workshop.api.owner.model.Owner;
+import dev.ilionx.workshop.api.pet.model.Pet;
+import dev.ilionx.workshop.api.sync.model.response.SyncResponse;
+import dev.ilionx.workshop.support.IntegrationTest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static dev.ilionx.workshop.api.Paths.CHANGES;
+import static dev.ilionx.workshop.api.Paths.OWNER_BY_ID;
+import static io.github.jframe.util.mapper.ObjectMappers.fromJson;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Integration Test - Sync Controller")
+class SyncControllerTest extends IntegrationTest {
+
+    // ========================= FULL SYNC =========================
+    @Test
+    @DisplayName("Should return all records and a token when no token is given")
+    void shouldReturnAllRecordsAndATokenWhenNoTokenIsGiven() throws Exception {
+        // Given: An owner with a pet exists in the database
+        final Owner owner = aSavedOwner();
+        aSavedPet(owner);
+
+        // When: Requesting the changes without a token
+        // Then: Should return 200 with every record and a token for the next sync
+        mockMvc.perform(get(CHANGES))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.token", is(notNullValue())))
+            .andExpect(jsonPath("$.fullSync", is(true)))
+            .andExpect(jsonPath("$.owners", hasSize(1)))
+            .andExpect(jsonPath("$.owners[0].id", is(equalTo(owner.getId()))))
+            .andExpect(jsonPath("$.pets", hasSize(1)))
+            .andExpect(jsonPath("$.vets", hasSize(greaterThanOrEqualTo(1))));
+    }
+
+    // ========================= DELTA SYNC =========================
+    @Test
+    @DisplayName("Should return tombstones for deleted records and their dependents")
+    void shouldReturnTombstonesForDeletedRecordsAndTheirDependents() throws Exception {
+        // Given: An owner with a pet that has been synced before
+        final Owner owner = aSavedOwner();
+        final Pet pet = aSavedPet(owner);
+        final String content = mockMvc.perform(get(CHANGES))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        final SyncResponse previousSync = fromJson(content, SyncResponse.class);
+
+        // When: Deleting the owner and requesting the changes since the previous sync
+        mockMvc.perform(delete(OWNER_BY_ID, owner.getId()))
+            .andExpect(status().isNoContent());
+
+        // Then: Should return 200 with tombstones for the owner and its pet
+        mockMvc.perform(get(CHANGES).param("since", previousSync.getToken()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.fullSync", is(false)))
+            .andExpect(jsonPath("$.owners", is(empty())))
+            .andExpect(jsonPath("$.deleted.owners", contains(owner.getId())))
+            .andExpect(jsonPath("$.deleted.pets", contains(pet.getId())));
+    }
+
+    @Test
+    @DisplayName("Should return modified records only when a token is given")
+    void shouldReturnModifiedRecordsOnlyWhenATokenIsGiven() throws Exception {
+        // Given: A full sync taken before an owner is created
+        final String content = mockMvc.perform(get(CHANGES))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        final SyncResponse previousSync = fromJson(content, SyncResponse.class);
+        final Owner owner = aSavedOwner();
+
+        // When: Requesting the changes since the full sync
+        // Then: Should return 200 with the new owner but not the unchanged seed vets
+        mockMvc.perform(get(CHANGES).param("since", previousSync.getToken()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.owners[*].id", hasItem(owner.getId())))
+            .andExpect(jsonPath("$.vets", is(empty())));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the token is invalid")
+    void shouldReturn400WhenTheTokenIsInvalid() throws Exception {
+        // When: Requesting the changes with a malformed token
+        // Then: Should return 400 Bad Request
+        mockMvc.perform(get(CHANGES).param("since", "not-a-token"))
+            .andExpect(status().isBadRequest());
+    }
+}
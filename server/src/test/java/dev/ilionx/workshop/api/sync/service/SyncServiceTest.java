@@ -0,0 +1,134 @@
+package dev.ilionx.workshop.api.sync.service;
+
+import dev.ilionx.workshop.api.appointment.repository.AppointmentRepository;
+import dev.ilionx.workshop.api.owner.model.Owner;
+import dev.ilionx.workshop.api.owner.repository.OwnerRepository;
+import dev.ilionx.workshop.api.pet.repository.PetRepository;
+import dev.ilionx.workshop.api.sync.model.SyncChanges;
+import dev.ilionx.workshop.api.sync.model.SyncToken;
+import dev.ilionx.workshop.api.sync.model.Tombstone;
+import dev.ilionx.workshop.api.sync.model.validator.SyncTokenValidator;
+import dev.ilionx.workshop.api.sync.repository.TombstoneRepository;
+import dev.ilionx.workshop.api.vaccination.repository.VaccinationRepository;
+import dev.ilionx.workshop.api.vet.repository.VetRepository;
+import dev.ilionx.workshop.api.visit.repository.VisitRepository;
+import dev.ilionx.workshop.common.config.properties.SyncProperties;
+import dev.ilionx.workshop.common.event.EntityType;
+import dev.ilionx.workshop.support.UnitTest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Unit Test - Sync Service")
+class SyncServiceTest extends UnitTest {
+
+    private static final Duration SAFETY_LAG = Duration.ofSeconds(10);
+
+    private OwnerRepository ownerRepository;
+    private PetRepository petRepository;
+    private VisitRepository visitRepository;
+    private VaccinationRepository vaccinationRepository;
+    private AppointmentRepository appointmentRepository;
+    private VetRepository vetRepository;
+    private TombstoneRepository tombstoneRepository;
+    private SyncTokenValidator syncTokenValidator;
+    private SyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        ownerRepository = mock(OwnerRepository.class);
+        petRepository = mock(PetRepository.class);
+        visitRepository = mock(VisitRepository.class);
+        vaccinationRepository = mock(VaccinationRepository.class);
+        appointmentRepository = mock(AppointmentRepository.class);
+        vetRepository = mock(VetRepository.class);
+        tombstoneRepository = mock(TombstoneRepository.class);
+        syncTokenValidator = mock(SyncTokenValidator.class);
+        final SyncProperties syncProperties = new SyncProperties();
+        syncProperties.setSafetyLag(SAFETY_LAG);
+        syncService = new SyncService(
+            ownerRepository,
+            petRepository,
+            visitRepository,
+            vaccinationRepository,
+            appointmentRepository,
+            vetRepository,
+            tombstoneRepository,
+            syncTokenValidator,
+            syncProperties
+        );
+    }
+
+    @Test
+    @DisplayName("Should return all records when no token is given")
+    void shouldReturnAllRecordsWhenNoTokenIsGiven() {
+        // Given: An owner exists in the repository
+        final Owner owner = aValidOwner();
+        given(ownerRepository.findAll()).willReturn(List.of(owner));
+
+        // When: Requesting the changes without a token
+        final Instant before = Instant.now();
+        final SyncChanges changes = syncService.findChanges(null);
+
+        // Then: All records are returned with a token marking the start of the sync
+        assertThat(changes.fullSync(), is(true));
+        assertThat(changes.owners(), contains(owner));
+        assertThat(changes.deleted().owners(), is(empty()));
+        assertThat(SyncToken.decode(changes.token()).position().toEpochMilli(), is(greaterThanOrEqualTo(before.toEpochMilli())));
+        verify(tombstoneRepository, never()).findByDeletedAtAfter(any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("Should return changes and tombstones since the token minus the safety lag")
+    void shouldReturnChangesAndTombstonesSinceTheTokenMinusTheSafetyLag() {
+        // Given: A token of a minute ago, a modified owner and tombstones for a pet and a visit
+        final Instant position = Instant.ofEpochMilli(Instant.now().minusSeconds(60).toEpochMilli());
+        final Instant from = position.minus(SAFETY_LAG);
+        final Owner owner = aValidOwner();
+        given(ownerRepository.findByUpdatedAtAfter(from)).willReturn(List.of(owner));
+        given(tombstoneRepository.findByDeletedAtAfter(from)).willReturn(List.of(
+            aTombstone(EntityType.PET, 7),
+            aTombstone(EntityType.VISIT, 8),
+            aTombstone(EntityType.PET, 9)
+        ));
+
+        // When: Requesting the changes since the token
+        final SyncChanges changes = syncService.findChanges(new SyncToken(position).encode());
+
+        // Then: Only the changes since the token are returned, grouped per collection
+        assertThat(changes.fullSync(), is(false));
+        assertThat(changes.owners(), contains(owner));
+        assertThat(changes.vets(), is(empty()));
+        assertThat(changes.deleted().pets(), contains(7, 9));
+        assertThat(changes.deleted().visits(), contains(8));
+        assertThat(changes.deleted().owners(), hasSize(0));
+        assertThat(SyncToken.decode(changes.token()).position().isAfter(position), is(equalTo(true)));
+        verify(ownerRepository, never()).findAll();
+    }
+
+    private static Tombstone aTombstone(final EntityType entityType, final Integer entityId) {
+        final Tombstone tombstone = new Tombstone();
+        tombstone.setEntityType(entityType);
+        tombstone.setEntityId(entityId);
+        tombstone.setDeletedAt(Instant.now());
+        return tombstone;
+    }
+}
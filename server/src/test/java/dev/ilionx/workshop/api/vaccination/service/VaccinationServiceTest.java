@@ -2,10 +2,13 @@ package dev.ilionx.workshop.api.vaccination.service;
 
 import dev.ilionx.workshop.api.pet.model.Pet;
 import dev.ilionx.workshop.api.pet.repository.PetRepository;
+import dev.ilionx.workshop.api.vaccination.model.DueVaccination;
 import dev.ilionx.workshop.api.vaccination.model.Vaccination;
 import dev.ilionx.workshop.api.vaccination.model.request.CreateVaccinationRequest;
 import dev.ilionx.workshop.api.vaccination.model.request.UpdateVaccinationRequest;
 import dev.ilionx.workshop.api.vaccination.repository.VaccinationRepository;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+import dev.ilionx.workshop.common.event.EntityType;
 import dev.ilionx.workshop.support.UnitTest;
 import io.github.jframe.exception.core.DataNotFoundException;
 
@@ -17,6 +20,11 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
@@ -26,6 +34,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -42,13 +51,15 @@ class VaccinationServiceTest extends UnitTest {
 
     private PetRepository petRepository;
     private VaccinationRepository vaccinationRepository;
+    private ApplicationEventPublisher eventPublisher;
     private VaccinationService vaccinationService;
 
     @BeforeEach
     void setUp() {
         petRepository = mock(PetRepository.class);
         vaccinationRepository = mock(VaccinationRepository.class);
-        vaccinationService = new VaccinationService(petRepository, vaccinationRepository);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        vaccinationService = new VaccinationService(petRepository, vaccinationRepository, eventPublisher);
     }
 
     @Test
@@ -219,8 +230,9 @@ class VaccinationServiceTest extends UnitTest {
         // When: Deleting the vaccination
         vaccinationService.delete(VALID_VACCINATION_ID);
 
-        // Then: Vaccination should be deleted
+        // Then: Vaccination should be deleted and the deletion published for its owner
         verify(vaccinationRepository).delete(vaccination);
+        verify(eventPublisher).publishEvent(EntityChangedEvent.deleted(EntityType.VACCINATION, VALID_VACCINATION_ID).withOwner(1));
     }
 
     @Test
@@ -236,6 +248,49 @@ class VaccinationServiceTest extends UnitTest {
         );
     }
 
+    @Test
+    @DisplayName("Should return due vaccinations within the requested window")
+    void shouldReturnDueVaccinationsWithinTheRequestedWindow() {
+        // Given: One vaccination is due within the next 30 days
+        final LocalDate today = LocalDate.now();
+        final DueVaccination dueVaccination = new DueVaccination(
+            VALID_VACCINATION_ID, VALID_VACCINE_NAME, today.plusDays(10),
+            VALID_PET_ID, "Leo", "Cat", 1, "George Franklin", "Madison", "6085551023"
+        );
+        given(vaccinationRepository.findDue(eq(today), eq(today.plusDays(30)), eq(1), eq("Madison"), any(Pageable.class)))
+            .willReturn(new SliceImpl<>(List.of(dueVaccination)));
+
+        // When: Finding due vaccinations for cats in Madison
+        final Slice<DueVaccination> actualDueVaccinations = vaccinationService.findDue(30, 1, "Madison", 0, 100);
+
+        // Then: The due vaccination should be returned
+        assertThat(actualDueVaccinations.getContent(), hasSize(1));
+        assertThat(actualDueVaccinations.getContent().get(0).vaccineName(), is(equalTo(VALID_VACCINE_NAME)));
+    }
+
+    @Test
+    @DisplayName("Should clamp the due window and page size to their maximums")
+    void shouldClampTheDueWindowAndPageSizeToTheirMaximums() {
+        // Given: A request for a window and page size beyond the supported maximum
+        final LocalDate today = LocalDate.now();
+        final ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        given(vaccinationRepository.findDue(any(), any(), any(), any(), any())).willReturn(new SliceImpl<>(List.of()));
+
+        // When: Finding due vaccinations
+        vaccinationService.findDue(10_000, null, null, -1, 10_000);
+
+        // Then: The repository should be queried with the clamped window and page
+        verify(vaccinationRepository).findDue(
+            eq(today),
+            eq(today.plusDays(VaccinationService.MAX_DUE_WINDOW_DAYS)),
+            eq(null),
+            eq(null),
+            pageableCaptor.capture()
+        );
+        assertThat(pageableCaptor.getValue().getPageNumber(), is(equalTo(0)));
+        assertThat(pageableCaptor.getValue().getPageSize(), is(equalTo(VaccinationService.MAX_DUE_PAGE_SIZE)));
+    }
+
     private Vaccination aValidVaccination() {
         final Vaccination vaccination = new Vaccination();
         vaccination.setId(VALID_VACCINATION_ID);
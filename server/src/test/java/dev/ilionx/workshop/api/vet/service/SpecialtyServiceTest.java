@@ -4,8 +4,12 @@ import dev.ilionx.workshop.api.vet.model.Specialty;
 import dev.ilionx.workshop.api.vet.model.request.CreateSpecialtyRequest;
 import dev.ilionx.workshop.api.vet.model.request.UpdateSpecialtyRequest;
 import dev.ilionx.workshop.api.vet.repository.SpecialtyRepository;
+import dev.ilionx.workshop.common.concurrency.RequestCoalescer;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+import dev.ilionx.workshop.common.event.EntityType;
 import dev.ilionx.workshop.support.UnitTest;
 import io.github.jframe.exception.core.DataNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import java.util.Collections;
 import java.util.List;
@@ -14,6 +18,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
@@ -35,12 +40,14 @@ class SpecialtyServiceTest extends UnitTest {
     private static final Integer NON_EXISTENT_SPECIALTY_ID = 999;
 
     private SpecialtyRepository specialtyRepository;
+    private ApplicationEventPublisher eventPublisher;
     private SpecialtyService specialtyService;
 
     @BeforeEach
     void setUp() {
         specialtyRepository = mock(SpecialtyRepository.class);
-        specialtyService = new SpecialtyService(specialtyRepository);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        specialtyService = new SpecialtyService(specialtyRepository, eventPublisher, new RequestCoalescer(new SimpleMeterRegistry()));
     }
 
     @Test
@@ -179,8 +186,9 @@ class SpecialtyServiceTest extends UnitTest {
         // When: Deleting the specialty
         specialtyService.delete(VALID_SPECIALTY_ID);
 
-        // Then: The specialty should be deleted from the repository
+        // Then: The specialty should be deleted from the repository and the deletion published
         verify(specialtyRepository).deleteById(VALID_SPECIALTY_ID);
+        verify(eventPublisher).publishEvent(EntityChangedEvent.deleted(EntityType.SPECIALTY, VALID_SPECIALTY_ID));
     }
 
     @Test
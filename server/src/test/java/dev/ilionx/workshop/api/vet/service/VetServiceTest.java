@@ -6,8 +6,12 @@ import dev.ilionx.workshop.api.vet.model.request.CreateVetRequest;
 import dev.ilionx.workshop.api.vet.model.request.UpdateVetRequest;
 import dev.ilionx.workshop.api.vet.repository.SpecialtyRepository;
 import dev.ilionx.workshop.api.vet.repository.VetRepository;
+import dev.ilionx.workshop.common.concurrency.RequestCoalescer;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+import dev.ilionx.workshop.common.event.EntityType;
 import dev.ilionx.workshop.support.UnitTest;
 import io.github.jframe.exception.core.DataNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import java.util.Collections;
 import java.util.List;
@@ -17,6 +21,7 @@ import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
@@ -42,6 +47,7 @@ class VetServiceTest extends UnitTest {
 
     private VetRepository vetRepository;
     private SpecialtyRepository specialtyRepository;
+    private ApplicationEventPublisher eventPublisher;
     private VetService vetService;
 
     private Vet vetWithoutSpecialties;
@@ -51,7 +57,14 @@ class VetServiceTest extends UnitTest {
     void setUp() {
         vetRepository = mock(VetRepository.class);
         specialtyRepository = mock(SpecialtyRepository.class);
-        vetService = new VetService(vetRepository, specialtyRepository);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        vetService = new VetService(
+            vetRepository,
+            specialtyRepository,
+            eventPublisher,
+            new RequestCoalescer(new SimpleMeterRegistry()),
+            anEntityCache()
+        );
 
         vetWithoutSpecialties = aValidVet();
 
@@ -263,9 +276,10 @@ class VetServiceTest extends UnitTest {
         // When: Deleting the vet
         vetService.delete(VALID_VET_ID);
 
-        // Then: The vet should be deleted from the repository
+        // Then: The vet should be deleted from the repository and the deletion published
         verify(vetRepository).findById(VALID_VET_ID);
         verify(vetRepository).deleteById(VALID_VET_ID);
+        verify(eventPublisher).publishEvent(EntityChangedEvent.deleted(EntityType.VET, VALID_VET_ID).withVet(VALID_VET_ID));
     }
 
     @Test
@@ -6,8 +6,12 @@ import dev.ilionx.workshop.api.visit.model.Visit;
 import dev.ilionx.workshop.api.visit.model.request.CreateVisitRequest;
 import dev.ilionx.workshop.api.visit.model.request.UpdateVisitRequest;
 import dev.ilionx.workshop.api.visit.repository.VisitRepository;
+import dev.ilionx.workshop.common.concurrency.RequestCoalescer;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+import dev.ilionx.workshop.common.event.EntityType;
 import dev.ilionx.workshop.support.UnitTest;
 import io.github.jframe.exception.core.DataNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import java.time.LocalDate;
 import java.util.Collections;
@@ -17,6 +21,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
@@ -42,13 +47,21 @@ class VisitServiceTest extends UnitTest {
 
     private PetRepository petRepository;
     private VisitRepository visitRepository;
+    private ApplicationEventPublisher eventPublisher;
     private VisitService visitService;
 
     @BeforeEach
     void setUp() {
         petRepository = mock(PetRepository.class);
         visitRepository = mock(VisitRepository.class);
-        visitService = new VisitService(petRepository, visitRepository);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        visitService = new VisitService(
+            petRepository,
+            visitRepository,
+            eventPublisher,
+            new RequestCoalescer(new SimpleMeterRegistry()),
+            anEntityCache()
+        );
     }
 
     @Test
@@ -264,8 +277,9 @@ class VisitServiceTest extends UnitTest {
         // When: Deleting the visit
         visitService.delete(VALID_VISIT_ID);
 
-        // Then: The visit should be deleted from the repository
+        // Then: The visit should be deleted from the repository and the change published for its owner
         verify(visitRepository).delete(existingVisit);
+        verify(eventPublisher).publishEvent(EntityChangedEvent.deleted(EntityType.VISIT, VALID_VISIT_ID).withOwner(1));
     }
 
     @Test
@@ -0,0 +1,135 @@
+package dev.ilionx.workshop.common.cache;
+
+import dev.ilionx.workshop.common.cache.model.ChangeLogEntry;
+import dev.ilionx.workshop.common.cache.repository.ChangeLogRepository;
+import dev.ilionx.workshop.common.config.properties.CacheSyncProperties;
+import dev.ilionx.workshop.common.event.ChangeType;
+import dev.ilionx.workshop.common.event.EntityChangedEvent;
+import dev.ilionx.workshop.common.event.EntityType;
+import dev.ilionx.workshop.support.UnitTest;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.data.domain.Limit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Unit Test - Change Log Subscriber")
+class ChangeLogSubscriberTest extends UnitTest {
+
+    private static final String NODE_ID = "node-a";
+    private static final String OTHER_NODE_ID = "node-b";
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+
+    @Mock
+    private EntityCacheInvalidator entityCacheInvalidator;
+
+    private ChangeLogSubscriber changeLogSubscriber;
+
+    @BeforeEach
+    void setUp() {
+        final CacheSyncProperties properties = new CacheSyncProperties();
+        properties.setNodeId(NODE_ID);
+        changeLogSubscriber = new ChangeLogSubscriber(changeLogRepository, entityCacheInvalidator, properties);
+    }
+
+    @Test
+    @DisplayName("Should invalidate the caches for changes written by other nodes")
+    void shouldInvalidateTheCachesForChangesWrittenByOtherNodes() {
+        // Given: A change log with one change by another node
+        when(changeLogRepository.findMaxId()).thenReturn(null);
+        when(changeLogRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class)))
+            .thenReturn(List.of(anEntry(1L, 7, OTHER_NODE_ID)));
+        changeLogSubscriber.start();
+
+        // When: Polling the change log
+        changeLogSubscriber.poll();
+
+        // Then: The caches should be invalidated for the changed owner
+        final ArgumentCaptor<EntityChangedEvent> event = ArgumentCaptor.forClass(EntityChangedEvent.class);
+        verify(entityCacheInvalidator).onEntityChanged(event.capture());
+        assertThat(event.getValue().entityType(), is(equalTo(EntityType.OWNER)));
+        assertThat(event.getValue().entityId(), is(equalTo(7)));
+    }
+
+    @Test
+    @DisplayName("Should skip changes written by this node")
+    void shouldSkipChangesWrittenByThisNode() {
+        // Given: A change log with one change by this node
+        when(changeLogRepository.findMaxId()).thenReturn(null);
+        when(changeLogRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class)))
+            .thenReturn(List.of(anEntry(1L, 7, NODE_ID)));
+        changeLogSubscriber.start();
+
+        // When: Polling the change log
+        changeLogSubscriber.poll();
+
+        // Then: The caches should not be invalidated again
+        verify(entityCacheInvalidator, never()).onEntityChanged(any());
+    }
+
+    @Test
+    @DisplayName("Should apply a change that commits after a later change was already read")
+    void shouldApplyAChangeThatCommitsAfterALaterChangeWasAlreadyRead() {
+        // Given: Change 2 is still uncommitted when changes 1 and 3 are read
+        when(changeLogRepository.findMaxId()).thenReturn(null);
+        when(changeLogRepository.findByIdGreaterThanOrderByIdAsc(any(), any(Limit.class)))
+            .thenReturn(List.of(anEntry(1L, 1, OTHER_NODE_ID), anEntry(3L, 3, OTHER_NODE_ID)))
+            .thenReturn(List.of());
+        changeLogSubscriber.start();
+        changeLogSubscriber.poll();
+
+        // When: Change 2 commits before the next poll
+        when(changeLogRepository.findByIdIn(anyCollection())).thenReturn(List.of(anEntry(2L, 2, OTHER_NODE_ID)));
+        changeLogSubscriber.poll();
+
+        // Then: All three changes should be applied and the gap should be looked up by its ID
+        final ArgumentCaptor<EntityChangedEvent> events = ArgumentCaptor.forClass(EntityChangedEvent.class);
+        verify(entityCacheInvalidator, times(3)).onEntityChanged(events.capture());
+        assertThat(events.getAllValues().stream().map(EntityChangedEvent::entityId).toList(), contains(1, 3, 2));
+        verify(changeLogRepository).findByIdIn(List.of(2L));
+        verify(changeLogRepository).findByIdGreaterThanOrderByIdAsc(eq(3L), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("Should not poll before the watermark is initialized")
+    void shouldNotPollBeforeTheWatermarkIsInitialized() {
+        // Given: The application is not ready yet
+
+        // When: Polling the change log
+        changeLogSubscriber.poll();
+
+        // Then: The change log should not be read
+        verify(changeLogRepository, never()).findByIdGreaterThanOrderByIdAsc(any(), any());
+    }
+
+    private static ChangeLogEntry anEntry(final Long id, final Integer ownerId, final String nodeId) {
+        final ChangeLogEntry entry = new ChangeLogEntry();
+        entry.setId(id);
+        entry.setEntityType(EntityType.OWNER);
+        entry.setEntityId(ownerId);
+        entry.setChangeType(ChangeType.UPDATED);
+        entry.setOwnerId(ownerId);
+        entry.setNodeId(nodeId);
+        entry.setCreatedAt(Instant.now());
+        return entry;
+    }
+}
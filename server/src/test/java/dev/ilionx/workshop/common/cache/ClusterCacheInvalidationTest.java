@@ -0,0 +1,139 @@
+package dev.ilionx.workshop.common.cache;
+
+import dev.ilionx.workshop.Application;
+import dev.ilionx.workshop.api.owner.model.Owner;
+import dev.ilionx.workshop.api.owner.model.request.CreateOwnerRequest;
+import dev.ilionx.workshop.api.owner.model.request.UpdateOwnerRequest;
+import dev.ilionx.workshop.api.owner.service.OwnerService;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.h2.tools.Server;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.ResolvableType;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Runs two application contexts against one H2 TCP server, as two nodes behind a load balancer would.
+ */
+@DisplayName("Integration Test - Cluster Cache Invalidation")
+class ClusterCacheInvalidationTest {
+
+    private static Server databaseServer;
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startCluster() throws SQLException {
+        databaseServer = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        final String url = "jdbc:h2:tcp://localhost:" + databaseServer.getPort() + "/mem:cluster;DB_CLOSE_DELAY=-1";
+        nodeA = startNode(url, "node-a");
+        nodeB = startNode(url, "node-b");
+    }
+
+    @AfterAll
+    static void stopCluster() {
+        nodeB.close();
+        nodeA.close();
+        databaseServer.stop();
+    }
+
+    @Test
+    @DisplayName("Should invalidate the cache of another node when an owner is updated")
+    void shouldInvalidateTheCacheOfAnotherNodeWhenAnOwnerIsUpdated() throws InterruptedException {
+        // Given: An owner created on node A and cached on node B
+        final OwnerService ownerServiceA = nodeA.getBean(OwnerService.class);
+        final OwnerService ownerServiceB = nodeB.getBean(OwnerService.class);
+        final Integer ownerId = ownerServiceA.create(aCreateOwnerRequest()).getId();
+        ownerServiceB.findById(ownerId);
+        assertThat(ownerServiceB.findById(ownerId).getFirstName(), is(equalTo("George")));
+        assertThat(ownerCache(nodeB).statistics().hitCount(), is(greaterThan(0L)));
+
+        // When: Updating the owner on node A
+        ownerServiceA.update(ownerId, anUpdateOwnerRequest());
+
+        // Then: Node B should evict its cached owner and read the update
+        awaitTrue(() -> "Betty".equals(ownerServiceB.findById(ownerId).getFirstName()));
+    }
+
+    @Test
+    @DisplayName("Should invalidate the cache of another node when an owner is deleted")
+    void shouldInvalidateTheCacheOfAnotherNodeWhenAnOwnerIsDeleted() throws InterruptedException {
+        // Given: An owner created on node A and cached on node B
+        final OwnerService ownerServiceA = nodeA.getBean(OwnerService.class);
+        final Integer ownerId = ownerServiceA.create(aCreateOwnerRequest()).getId();
+        nodeB.getBean(OwnerService.class).findById(ownerId);
+        final EntityCache<Integer, Owner> ownerCacheB = ownerCache(nodeB);
+        final long sizeBeforeDelete = ownerCacheB.statistics().size();
+
+        // When: Deleting the owner on node A
+        ownerServiceA.delete(ownerId);
+
+        // Then: Node B should evict its cached owner
+        awaitTrue(() -> ownerCacheB.statistics().size() < sizeBeforeDelete);
+    }
+
+    /**
+     * Starts a node on the shared database. The settings are command line arguments, since they take precedence over
+     * application.yml, whereas default properties would not.
+     */
+    private static ConfigurableApplicationContext startNode(final String url, final String nodeId) {
+        return new SpringApplicationBuilder(Application.class).run(
+            "--spring.profiles.active=test",
+            "--server.port=0",
+            "--spring.datasource.url=" + url,
+            "--spring.datasource.hikari.pool-name=" + nodeId,
+            "--spring.datasource.hikari.register-mbeans=false",
+            "--spring.jmx.enabled=false",
+            "--cache-sync.node-id=" + nodeId,
+            "--cache-sync.poll-interval=100ms"
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static EntityCache<Integer, Owner> ownerCache(final ConfigurableApplicationContext node) {
+        final ResolvableType type = ResolvableType.forClassWithGenerics(EntityCache.class, Integer.class, Owner.class);
+        return (EntityCache<Integer, Owner>) node.getBeanProvider(type).getObject();
+    }
+
+    private static void awaitTrue(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition was not met within 10 seconds");
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private static CreateOwnerRequest aCreateOwnerRequest() {
+        final CreateOwnerRequest request = new CreateOwnerRequest();
+        request.setFirstName("George");
+        request.setLastName("Franklin");
+        request.setAddress("110 W. Liberty St.");
+        request.setCity("Madison");
+        request.setTelephone("6085551023");
+        return request;
+    }
+
+    private static UpdateOwnerRequest anUpdateOwnerRequest() {
+        final UpdateOwnerRequest request = new UpdateOwnerRequest();
+        request.setFirstName("Betty");
+        request.setLastName("Davis");
+        request.setAddress("110 W. Liberty St.");
+        request.setCity("Madison");
+        request.setTelephone("6085551023");
+        return request;
+    }
+}
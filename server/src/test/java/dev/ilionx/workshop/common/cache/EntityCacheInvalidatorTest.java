@@ -0,0 +1,106 @@
+package dev.ilionx.workshop.common.cache;
+
+import dev.ilionx.workshop.api.owner.model.Owner;
+import dev.ilionx.workshop.api.pet.model.Pet;
+import dev.ilionx.workshop.support.IntegrationTest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import static dev.ilionx.workshop.api.Paths.OWNER_BY_ID;
+import static dev.ilionx.workshop.api.Paths.OWNER_PETS;
+import static dev.ilionx.workshop.api.Paths.OWNER_PET_BY_ID;
+import static dev.ilionx.workshop.api.Paths.PET_VISITS;
+import static dev.ilionx.workshop.api.Paths.PUBLIC_ACTUATOR_PATH;
+import static io.github.jframe.util.mapper.ObjectMappers.toJson;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Integration Test - Entity Cache Invalidator")
+class EntityCacheInvalidatorTest extends IntegrationTest {
+
+    private static final String ENTITY_CACHES_PATH = PUBLIC_ACTUATOR_PATH + "/entitycaches";
+
+    @Test
+    @DisplayName("Should return the updated owner after an update")
+    void shouldReturnTheUpdatedOwnerAfterAnUpdate() throws Exception {
+        // Given: An owner that has been read, and is therefore cached
+        final Owner owner = aSavedOwner();
+        mockMvc.perform(get(OWNER_BY_ID, owner.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.firstName", is(equalTo("George"))));
+
+        // When: Updating the owner
+        mockMvc.perform(put(OWNER_BY_ID, owner.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(anUpdateOwnerRequest())))
+            .andExpect(status().isOk());
+
+        // Then: Reading the owner again should return the update
+        mockMvc.perform(get(OWNER_BY_ID, owner.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.firstName", is(equalTo("Betty"))));
+    }
+
+    @Test
+    @DisplayName("Should return the new pet of a cached owner")
+    void shouldReturnTheNewPetOfACachedOwner() throws Exception {
+        // Given: An owner without pets that has been read, and is therefore cached
+        final Owner owner = aSavedOwner();
+        mockMvc.perform(get(OWNER_BY_ID, owner.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.pets", is(empty())));
+
+        // When: Adding a pet to the owner
+        mockMvc.perform(post(OWNER_PETS, owner.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(aCreatePetRequest())))
+            .andExpect(status().isCreated());
+
+        // Then: Reading the owner again should include the pet
+        mockMvc.perform(get(OWNER_BY_ID, owner.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.pets", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("Should return the new visit of a cached pet")
+    void shouldReturnTheNewVisitOfACachedPet() throws Exception {
+        // Given: A pet without visits that has been read, and is therefore cached
+        final Owner owner = aSavedOwner();
+        final Pet pet = aSavedPet(owner);
+        mockMvc.perform(get(OWNER_PET_BY_ID, owner.getId(), pet.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.visits", is(empty())));
+
+        // When: Adding a visit to the pet
+        mockMvc.perform(post(PET_VISITS, owner.getId(), pet.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(aCreateVisitRequest())))
+            .andExpect(status().isCreated());
+
+        // Then: Reading the pet again should include the visit
+        mockMvc.perform(get(OWNER_PET_BY_ID, owner.getId(), pet.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.visits", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("Should expose the cache statistics through actuator")
+    void shouldExposeTheCacheStatisticsThroughActuator() throws Exception {
+        // Given: An owner that has been read twice
+        final Owner owner = aSavedOwner();
+        mockMvc.perform(get(OWNER_BY_ID, owner.getId())).andExpect(status().isOk());
+        mockMvc.perform(get(OWNER_BY_ID, owner.getId())).andExpect(status().isOk());
+
+        // When: Requesting the cache statistics
+        // Then: Should return the statistics of every entity cache
+        mockMvc.perform(get(ENTITY_CACHES_PATH))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].name", containsInAnyOrder("owners", "pets", "visits", "vets")))
+            .andExpect(jsonPath("$[?(@.name == 'owners')].hitCount", contains(greaterThanOrEqualTo(1))));
+    }
+}
@@ -0,0 +1,112 @@
+package dev.ilionx.workshop.common.cache;
+
+import dev.ilionx.workshop.support.UnitTest;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+@DisplayName("Unit Test - Entity Cache")
+class EntityCacheTest extends UnitTest {
+
+    private static final Integer KEY = 1;
+    private static final String VALUE = "George";
+
+    private EntityCache<Integer, String> entityCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        entityCache = new EntityCache<>("names", 1024, Duration.ofMinutes(1), (key, value) -> value.length());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should load once and answer repeated reads from the cache")
+    void shouldLoadOnceAndAnswerRepeatedReadsFromTheCache() {
+        // Given: An empty cache
+
+        // When: Reading the same key twice in read-only transactions
+        final String first = readOnly(() -> entityCache.get(KEY, this::load));
+        final String second = readOnly(() -> entityCache.get(KEY, this::load));
+
+        // Then: The value should be loaded once and the second read counted as a hit
+        assertThat(first, is(equalTo(VALUE)));
+        assertThat(second, is(equalTo(VALUE)));
+        assertThat(loads.get(), is(equalTo(1)));
+
+        final EntityCacheStatistics statistics = entityCache.statistics();
+        assertThat(statistics.hitCount(), is(equalTo(1L)));
+        assertThat(statistics.missCount(), is(equalTo(1L)));
+        assertThat(statistics.hitRatio(), is(closeTo(0.5, 0.001)));
+        assertThat(statistics.estimatedHeapBytes(), is(equalTo((long) VALUE.length())));
+    }
+
+    @Test
+    @DisplayName("Should bypass the cache outside a read-only transaction")
+    void shouldBypassTheCacheOutsideAReadOnlyTransaction() {
+        // Given: A cached value
+        readOnly(() -> entityCache.get(KEY, this::load));
+
+        // When: Reading the key without a read-only transaction
+        entityCache.get(KEY, this::load);
+
+        // Then: The value should be loaded again
+        assertThat(loads.get(), is(equalTo(2)));
+    }
+
+    @Test
+    @DisplayName("Should reload an invalidated value")
+    void shouldReloadAnInvalidatedValue() {
+        // Given: A cached value
+        readOnly(() -> entityCache.get(KEY, this::load));
+
+        // When: Invalidating the value and reading it again
+        entityCache.invalidateIf(VALUE::equals);
+        readOnly(() -> entityCache.get(KEY, this::load));
+
+        // Then: The value should be loaded again
+        assertThat(loads.get(), is(equalTo(2)));
+    }
+
+    @Test
+    @DisplayName("Should not cache a value that was loaded while an invalidation ran")
+    void shouldNotCacheAValueThatWasLoadedWhileAnInvalidationRan() {
+        // Given: A load that races with an invalidation of the same key
+        final Supplier<String> racingLoad = () -> {
+            entityCache.invalidate(KEY);
+            return load();
+        };
+
+        // When: Reading the key with the racing load and then again
+        readOnly(() -> entityCache.get(KEY, racingLoad));
+        readOnly(() -> entityCache.get(KEY, this::load));
+
+        // Then: The possibly stale value should not have been cached
+        assertThat(loads.get(), is(equalTo(2)));
+    }
+
+    private String load() {
+        loads.incrementAndGet();
+        return VALUE;
+    }
+
+    private static <T> T readOnly(final Supplier<T> read) {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            return read.get();
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package dev.ilionx.workshop.common.capture;
+
+import dev.ilionx.workshop.common.config.properties.TrafficCaptureProperties;
+import dev.ilionx.workshop.support.UnitTest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import static dev.ilionx.workshop.api.Paths.OWNERS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Unit Test - Traffic Capture Filter")
+class TrafficCaptureFilterTest extends UnitTest {
+
+    private TrafficCaptureWriter trafficCaptureWriter;
+    private TrafficCaptureFilter trafficCaptureFilter;
+
+    @BeforeEach
+    void setUp() {
+        final TrafficCaptureProperties properties = new TrafficCaptureProperties();
+        properties.setMaxBodySize(DataSize.ofBytes(16));
+        trafficCaptureWriter = mock(TrafficCaptureWriter.class);
+        trafficCaptureFilter = new TrafficCaptureFilter(trafficCaptureWriter, properties);
+    }
+
+    @Test
+    @DisplayName("Should capture a chunked body within the maximum size")
+    void shouldCaptureAChunkedBodyWithinTheMaximumSize() throws Exception {
+        // Given: A chunked request with a small body
+        final String body = "{\"name\":\"Leo\"}";
+
+        // When: Filtering the request
+        final String handled = filter(aChunkedRequest(body));
+
+        // Then: The body should be handled and captured
+        assertThat(handled, is(equalTo(body)));
+        assertThat(captured().body(), is(equalTo(body)));
+    }
+
+    @Test
+    @DisplayName("Should pass a chunked body over the maximum size on without capturing it")
+    void shouldPassAChunkedBodyOverTheMaximumSizeOnWithoutCapturingIt() throws Exception {
+        // Given: A chunked request whose body is larger than the maximum size
+        final String body = "{\"description\":\"" + "x".repeat(1000) + "\"}";
+
+        // When: Filtering the request
+        final String handled = filter(aChunkedRequest(body));
+
+        // Then: The whole body should be handled, but not captured
+        assertThat(handled, is(equalTo(body)));
+        assertThat(captured().body(), is(nullValue()));
+    }
+
+    private String filter(final MockHttpServletRequest request) throws Exception {
+        final AtomicReference<String> handled = new AtomicReference<>();
+        trafficCaptureFilter.doFilter(request, new MockHttpServletResponse(), (filteredRequest, filteredResponse) ->
+            handled.set(new String(filteredRequest.getInputStream().readAllBytes(), StandardCharsets.UTF_8)));
+        return handled.get();
+    }
+
+    private CapturedRequest captured() {
+        final ArgumentCaptor<CapturedRequest> captor = ArgumentCaptor.forClass(CapturedRequest.class);
+        verify(trafficCaptureWriter).write(captor.capture());
+        return captor.getValue();
+    }
+
+    private static MockHttpServletRequest aChunkedRequest(final String body) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", OWNERS) {
+
+            @Override
+            public long getContentLengthLong() {
+                // A chunked request does not announce its length.
+                return -1;
+            }
+        };
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,141 @@
+package dev.ilionx.workshop.common.capture;
+
+import dev.ilionx.workshop.common.config.properties.TrafficCaptureProperties;
+import dev.ilionx.workshop.support.UnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+@DisplayName("Unit Test - Traffic Capture Writer")
+class TrafficCaptureWriterTest extends UnitTest {
+
+    @TempDir
+    Path directory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TrafficCaptureProperties trafficCaptureProperties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        trafficCaptureProperties = new TrafficCaptureProperties();
+        trafficCaptureProperties.setDirectory(directory);
+    }
+
+    @Test
+    @DisplayName("Should write every captured request as a line of JSON")
+    void shouldWriteEveryCapturedRequestAsALineOfJson() throws IOException {
+        // Given: A writer
+        final TrafficCaptureWriter writer = start();
+
+        // When: Writing two captured requests and shutting down
+        writer.write(aCapturedRequest(1));
+        writer.write(aCapturedRequest(2));
+        writer.shutdown();
+
+        // Then: Should write both requests to one file in order
+        final List<CapturedRequest> captured = readAll();
+        assertThat(captured, hasSize(2));
+        assertThat(captured.get(0), is(equalTo(aCapturedRequest(1))));
+        assertThat(captured.get(1), is(equalTo(aCapturedRequest(2))));
+        assertThat(captureFiles(), hasSize(1));
+        assertThat(meterRegistry.get("capture.records").tag("outcome", "written").counter().count(), is(equalTo(2.0)));
+    }
+
+    @Test
+    @DisplayName("Should rotate files and keep only the newest files")
+    void shouldRotateFilesAndKeepOnlyTheNewestFiles() throws IOException {
+        // Given: A writer whose files hold a few requests each, keeping three files
+        trafficCaptureProperties.setMaxFileSize(DataSize.ofBytes(600));
+        trafficCaptureProperties.setMaxFiles(3);
+        final TrafficCaptureWriter writer = start();
+
+        // When: Writing many more requests than three files hold
+        for (int index = 0; index < 100; index++) {
+            writer.write(aCapturedRequest(index));
+        }
+        writer.shutdown();
+
+        // Then: Should keep three files, none larger than the maximum size
+        final List<Path> files = captureFiles();
+        assertThat(files, hasSize(3));
+        for (final Path file : files) {
+            assertThat(Files.size(file) <= 600, is(true));
+        }
+
+        // And: The kept files hold the last requests
+        final List<CapturedRequest> captured = readAll();
+        assertThat(captured.getLast(), is(equalTo(aCapturedRequest(99))));
+    }
+
+    @Test
+    @DisplayName("Should drop requests when the queue is full")
+    void shouldDropRequestsWhenTheQueueIsFull() {
+        // Given: A writer with a small queue that is not drained yet
+        trafficCaptureProperties.setQueueCapacity(2);
+        final TrafficCaptureWriter writer = new TrafficCaptureWriter(trafficCaptureProperties, meterRegistry);
+
+        // When: Writing more requests than the queue holds
+        for (int index = 0; index < 5; index++) {
+            writer.write(aCapturedRequest(index));
+        }
+
+        // Then: Should count the dropped requests
+        assertThat(meterRegistry.get("capture.records").tag("outcome", "dropped").counter().count(), is(equalTo(3.0)));
+    }
+
+    private TrafficCaptureWriter start() {
+        final TrafficCaptureWriter writer = new TrafficCaptureWriter(trafficCaptureProperties, meterRegistry);
+        writer.start();
+        return writer;
+    }
+
+    private List<Path> captureFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private List<CapturedRequest> readAll() throws IOException {
+        final JsonMapper jsonMapper = JsonMapper.builder().build();
+        final List<CapturedRequest> captured = new ArrayList<>();
+        for (final Path file : captureFiles()) {
+            for (final String line : Files.readAllLines(file)) {
+                captured.add(jsonMapper.readValue(line, CapturedRequest.class));
+            }
+        }
+        return captured;
+    }
+
+    private static CapturedRequest aCapturedRequest(final int index) {
+        return new CapturedRequest(
+            1_700_000_000_000L + index,
+            "POST",
+            "/v1/owners",
+            null,
+            "/v1/owners",
+            Map.of("Content-Type", "application/json"),
+            "{\"firstName\":\"Owner " + index + "\"}",
+            201,
+            1_500
+        );
+    }
+}
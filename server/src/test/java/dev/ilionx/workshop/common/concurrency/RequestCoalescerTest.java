@@ -0,0 +1,146 @@
+package dev.ilionx.workshop.common.concurrency;
+
+import dev.ilionx.workshop.support.UnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Unit Test - Request Coalescer")
+class RequestCoalescerTest extends UnitTest {
+
+    private static final String OPERATION = "owner.findById";
+    private static final Integer KEY = 1;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestCoalescer requestCoalescer;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        requestCoalescer = new RequestCoalescer(meterRegistry);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("Should share one in-flight read between identical concurrent reads")
+    void shouldShareOneInFlightReadBetweenIdenticalConcurrentReads() throws Exception {
+        // Given: A read that blocks until released
+        final AtomicInteger executions = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Object result = new Object();
+        final Supplier<Object> read = () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return result;
+        };
+
+        // When: A second identical read arrives while the first is in flight
+        final Future<Object> first = executor.submit(() -> readOnly(() -> requestCoalescer.execute(OPERATION, KEY, read)));
+        assertThat(started.await(5, TimeUnit.SECONDS), is(true));
+        final Future<Object> second = executor.submit(() -> readOnly(() -> requestCoalescer.execute(OPERATION, KEY, read)));
+        awaitCoalesced();
+        release.countDown();
+
+        // Then: Both reads should receive the same result from a single execution
+        assertThat(first.get(5, TimeUnit.SECONDS), is(sameInstance(result)));
+        assertThat(second.get(5, TimeUnit.SECONDS), is(sameInstance(result)));
+        assertThat(executions.get(), is(equalTo(1)));
+        assertThat(requestCoalescer.coalescingRatio(), is(closeTo(0.5, 0.001)));
+    }
+
+    @Test
+    @DisplayName("Should propagate the exception of the in-flight read to coalesced reads")
+    void shouldPropagateTheExceptionOfTheInFlightReadToCoalescedReads() throws Exception {
+        // Given: A read that fails once released
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Supplier<Object> read = () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("not found");
+        };
+
+        // When: A second identical read arrives while the first is in flight
+        final Future<Object> first = executor.submit(() -> readOnly(() -> requestCoalescer.execute(OPERATION, KEY, read)));
+        assertThat(started.await(5, TimeUnit.SECONDS), is(true));
+        final Future<Object> second = executor.submit(() -> readOnly(() -> requestCoalescer.execute(OPERATION, KEY, read)));
+        awaitCoalesced();
+        release.countDown();
+
+        // Then: Both reads should fail with the original exception
+        final Exception firstFailure = assertThrows(Exception.class, () -> first.get(5, TimeUnit.SECONDS));
+        final Exception secondFailure = assertThrows(Exception.class, () -> second.get(5, TimeUnit.SECONDS));
+        assertThat(firstFailure.getCause() instanceof IllegalStateException, is(true));
+        assertThat(secondFailure.getCause(), is(sameInstance(firstFailure.getCause())));
+    }
+
+    @Test
+    @DisplayName("Should execute every read outside a read-only transaction")
+    void shouldExecuteEveryReadOutsideAReadOnlyTransaction() {
+        // Given: No read-only transaction is active
+        final AtomicInteger executions = new AtomicInteger();
+
+        // When: Reading twice
+        requestCoalescer.execute(OPERATION, KEY, executions::incrementAndGet);
+        requestCoalescer.execute(OPERATION, KEY, executions::incrementAndGet);
+
+        // Then: Both reads should execute and be counted as bypassed
+        assertThat(executions.get(), is(equalTo(2)));
+        assertThat(meterRegistry.get("coalescer.requests").tag("outcome", "bypassed").counter().count(), is(equalTo(2.0)));
+        assertThat(requestCoalescer.coalescingRatio(), is(equalTo(0.0)));
+    }
+
+    private void awaitCoalesced() throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.find("coalescer.requests").tag("outcome", "coalesced").counter() == null) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("The second read did not join the in-flight read");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static <T> T readOnly(final Supplier<T> read) {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            return read.get();
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
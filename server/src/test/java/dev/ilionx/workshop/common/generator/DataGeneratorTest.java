@@ -0,0 +1,143 @@
+package dev.ilionx.workshop.common.generator;
+
+import dev.ilionx.workshop.common.config.properties.DataGeneratorProperties;
+import dev.ilionx.workshop.support.UnitTest;
+import liquibase.integration.spring.SpringLiquibase;
+
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+
+@DisplayName("Unit Test - Data Generator")
+class DataGeneratorTest extends UnitTest {
+
+    private static final int OWNERS = 500;
+    private static final int VETS = 5;
+
+    private DataGeneratorProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DataGeneratorProperties();
+        properties.setOwners(OWNERS);
+        properties.setVets(VETS);
+        properties.setAppointmentDays(7);
+        properties.setBatchSize(100);
+    }
+
+    @Test
+    @DisplayName("Should generate the same rows for the same seed")
+    void shouldGenerateTheSameRowsForTheSameSeed() throws Exception {
+        // Given: Two empty databases
+        final JdbcTemplate first = new JdbcTemplate(anEmptyDatabase());
+        final JdbcTemplate second = new JdbcTemplate(anEmptyDatabase());
+
+        // When: Generating into both with the same seed
+        new DataGenerator(first.getDataSource(), properties).generate();
+        new DataGenerator(second.getDataSource(), properties).generate();
+
+        // Then: Both databases should hold the same rows
+        for (final String query : List.of(
+            "SELECT id, first_name, last_name, address, city, telephone, email FROM owners ORDER BY id",
+            "SELECT id, name, birth_date, type_id, owner_id FROM pets ORDER BY id",
+            "SELECT id, pet_id, date, description FROM visits ORDER BY id",
+            "SELECT id, pet_id, vaccine_name, vaccination_date, next_due_date FROM vaccinations ORDER BY id",
+            "SELECT id, pet_id, vet_id, scheduled_date_time, reason, status FROM appointments ORDER BY id"
+        )) {
+            assertThat(query, first.queryForList(query), is(equalTo(second.queryForList(query))));
+        }
+    }
+
+    @Test
+    @DisplayName("Should generate different rows for a different seed")
+    void shouldGenerateDifferentRowsForADifferentSeed() throws Exception {
+        // Given: Two empty databases
+        final JdbcTemplate first = new JdbcTemplate(anEmptyDatabase());
+        final JdbcTemplate second = new JdbcTemplate(anEmptyDatabase());
+
+        // When: Generating into both with a different seed
+        new DataGenerator(first.getDataSource(), properties).generate();
+        properties.setSeed(properties.getSeed() + 1);
+        new DataGenerator(second.getDataSource(), properties).generate();
+
+        // Then: The pets should differ
+        final String query = "SELECT id, name, birth_date, type_id, owner_id FROM pets ORDER BY id";
+        assertThat(first.queryForList(query), is(not(equalTo(second.queryForList(query)))));
+    }
+
+    @Test
+    @DisplayName("Should generate the configured population with realistic distributions")
+    void shouldGenerateTheConfiguredPopulationWithRealisticDistributions() throws Exception {
+        // Given: An empty database
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(anEmptyDatabase());
+
+        // When: Generating the data
+        final GeneratedData generated = new DataGenerator(jdbcTemplate.getDataSource(), properties).generate();
+
+        // Then: The owners and vets should match the configuration and the counts the database
+        assertThat(generated.owners(), is(equalTo((long) OWNERS)));
+        assertThat(generated.vets(), is(equalTo((long) VETS)));
+        assertThat(count(jdbcTemplate, "pets"), is(equalTo(generated.pets())));
+        assertThat(count(jdbcTemplate, "visits"), is(equalTo(generated.visits())));
+        assertThat(count(jdbcTemplate, "vaccinations"), is(equalTo(generated.vaccinations())));
+        assertThat(count(jdbcTemplate, "appointments"), is(equalTo(generated.appointments())));
+
+        // And: The distributions should be close to their expected means
+        final double petsPerOwner = (double) generated.pets() / generated.owners();
+        assertThat(petsPerOwner, is(both(greaterThan(1.5)).and(lessThan(1.95))));
+        final double slots = 10.0 * VETS * 16;
+        assertThat(generated.appointments() / slots, is(both(greaterThan(0.5)).and(lessThan(0.7))));
+        final Long vaccinatedPets = jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT pet_id) FROM vaccinations", Long.class);
+        assertThat(vaccinatedPets, is(both(greaterThan(0L)).and(lessThan(generated.pets()))));
+    }
+
+    @Test
+    @DisplayName("Should append to a database that already holds data")
+    void shouldAppendToADatabaseThatAlreadyHoldsData() throws Exception {
+        // Given: A database that was generated into before
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(anEmptyDatabase());
+        final GeneratedData first = new DataGenerator(jdbcTemplate.getDataSource(), properties).generate();
+
+        // When: Generating into it again
+        final GeneratedData second = new DataGenerator(jdbcTemplate.getDataSource(), properties).generate();
+
+        // Then: Both populations should be present and share the reference data
+        assertThat(count(jdbcTemplate, "owners"), is(equalTo(first.owners() + second.owners())));
+        assertThat(count(jdbcTemplate, "pets"), is(equalTo(first.pets() + second.pets())));
+        assertThat(count(jdbcTemplate, "pet_types"), is(equalTo(6L)));
+        assertThat(count(jdbcTemplate, "specialties"), is(equalTo(3L)));
+    }
+
+    private static long count(final JdbcTemplate jdbcTemplate, final String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private static DataSource anEmptyDatabase() throws Exception {
+        final JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+
+        final SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:db/changelog/db.changelog-master.yaml");
+        liquibase.setContexts("prd");
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+        return dataSource;
+    }
+}
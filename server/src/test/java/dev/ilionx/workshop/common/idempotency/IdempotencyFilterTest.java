@@ -0,0 +1,140 @@
+package dev.ilionx.workshop.common.idempotency;
+
+import dev.ilionx.workshop.api.owner.model.request.CreateOwnerRequest;
+import dev.ilionx.workshop.support.IntegrationTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static dev.ilionx.workshop.api.Paths.OWNERS;
+import static dev.ilionx.workshop.common.idempotency.IdempotencyFilter.IDEMPOTENCY_KEY_HEADER;
+import static dev.ilionx.workshop.common.idempotency.IdempotencyFilter.IDEMPOTENT_REPLAYED_HEADER;
+import static io.github.jframe.util.mapper.ObjectMappers.toJson;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Integration Test - Idempotency Filter")
+class IdempotencyFilterTest extends IntegrationTest {
+
+    private static final int CONCURRENT_RETRIES = 8;
+
+    // ========================= REPLAY =========================
+    @Test
+    @DisplayName("Should replay the stored response when a request is retried with the same key")
+    void shouldReplayTheStoredResponseWhenARequestIsRetriedWithTheSameKey() throws Exception {
+        // Given: An owner created with an idempotency key
+        final String key = UUID.randomUUID().toString();
+        final String original = createOwner(key, aCreateOwnerRequest())
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        // When: Retrying the request with the same key and body
+        // Then: Should replay the original response without creating a second owner
+        final String replayed = createOwner(key, aCreateOwnerRequest())
+            .andExpect(status().isCreated())
+            .andExpect(header().string(IDEMPOTENT_REPLAYED_HEADER, "true"))
+            .andReturn().getResponse().getContentAsString();
+
+        assertThat(replayed, is(equalTo(original)));
+        assertThat(ownerRepository.count(), is(equalTo(1L)));
+    }
+
+    @Test
+    @DisplayName("Should execute requests with different keys independently")
+    void shouldExecuteRequestsWithDifferentKeysIndependently() throws Exception {
+        // Given: An owner created with an idempotency key
+        createOwner(UUID.randomUUID().toString(), aCreateOwnerRequest())
+            .andExpect(status().isCreated());
+
+        // When: Creating the same owner with a different key
+        // Then: Should create a second owner
+        createOwner(UUID.randomUUID().toString(), aCreateOwnerRequest())
+            .andExpect(status().isCreated())
+            .andExpect(header().doesNotExist(IDEMPOTENT_REPLAYED_HEADER));
+
+        assertThat(ownerRepository.count(), is(equalTo(2L)));
+    }
+
+    // ========================= REJECTION =========================
+    @Test
+    @DisplayName("Should reject a key that is reused with a different body")
+    void shouldRejectAKeyThatIsReusedWithADifferentBody() throws Exception {
+        // Given: An owner created with an idempotency key
+        final String key = UUID.randomUUID().toString();
+        createOwner(key, aCreateOwnerRequest())
+            .andExpect(status().isCreated());
+
+        // When: Reusing the key for a different owner
+        final CreateOwnerRequest request = aCreateOwnerRequest();
+        request.setFirstName("Betty");
+
+        // Then: Should return 422 and not create a second owner
+        createOwner(key, request)
+            .andExpect(status().is(422));
+
+        assertThat(ownerRepository.count(), is(equalTo(1L)));
+    }
+
+    @Test
+    @DisplayName("Should reject a blank idempotency key")
+    void shouldRejectABlankIdempotencyKey() throws Exception {
+        // Given: A valid create owner request
+
+        // When: Creating an owner with a blank key
+        // Then: Should return 400
+        createOwner(" ", aCreateOwnerRequest())
+            .andExpect(status().isBadRequest());
+
+        assertThat(ownerRepository.count(), is(equalTo(0L)));
+    }
+
+    // ========================= COALESCING =========================
+    @Test
+    @DisplayName("Should execute concurrent retries with the same key only once")
+    void shouldExecuteConcurrentRetriesWithTheSameKeyOnlyOnce() throws Exception {
+        // Given: A number of clients retrying the same request at once
+        final String key = UUID.randomUUID().toString();
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<MockHttpServletResponse>> responses = new ArrayList<>();
+
+        // When: Sending the retries concurrently
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_RETRIES)) {
+            for (int i = 0; i < CONCURRENT_RETRIES; i++) {
+                responses.add(executor.submit(() -> {
+                    start.await();
+                    return createOwner(key, aCreateOwnerRequest()).andReturn().getResponse();
+                }));
+            }
+            start.countDown();
+        }
+
+        // Then: Every retry should receive the same response and only one owner should be created
+        final String body = responses.getFirst().get().getContentAsString();
+        for (final Future<MockHttpServletResponse> response : responses) {
+            assertThat(response.get().getStatus(), is(equalTo(201)));
+            assertThat(response.get().getContentAsString(), is(equalTo(body)));
+        }
+        assertThat(ownerRepository.count(), is(equalTo(1L)));
+    }
+
+    private ResultActions createOwner(final String key, final CreateOwnerRequest request) throws Exception {
+        return mockMvc.perform(post(OWNERS)
+            .header(IDEMPOTENCY_KEY_HEADER, key)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(toJson(request)));
+    }
+}
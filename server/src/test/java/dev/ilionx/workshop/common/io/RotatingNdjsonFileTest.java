@@ -0,0 +1,75 @@
+package dev.ilionx.workshop.common.io;
+
+import dev.ilionx.workshop.support.UnitTest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+@DisplayName("Unit Test - Rotating NDJSON File")
+class RotatingNdjsonFileTest extends UnitTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should start a new file when a line does not fit in the current one")
+    void shouldStartANewFileWhenALineDoesNotFitInTheCurrentOne() throws IOException {
+        // Given: Files that hold two lines each
+        try (RotatingNdjsonFile file = new RotatingNdjsonFile(directory, "test-", DataSize.ofBytes(24), 10)) {
+
+            // When: Appending three lines
+            file.append(line(1));
+            file.append(line(2));
+            file.append(line(3));
+        }
+
+        // Then: The lines should be split over two files in the order they were written
+        final List<Path> files = files("test-");
+        assertThat(files, hasSize(2));
+        assertThat(Files.readString(files.getFirst()), is(equalTo("{\"line\":1}\n{\"line\":2}\n")));
+        assertThat(Files.readString(files.getLast()), is(equalTo("{\"line\":3}\n")));
+    }
+
+    @Test
+    @DisplayName("Should only delete the oldest files with its own prefix")
+    void shouldOnlyDeleteTheOldestFilesWithItsOwnPrefix() throws IOException {
+        // Given: A file of another writer in the same directory
+        final Path otherFile = Files.writeString(directory.resolve("other-00000" + RotatingNdjsonFile.FILE_SUFFIX), "{}\n");
+
+        // When: Appending more lines than the kept files hold
+        try (RotatingNdjsonFile file = new RotatingNdjsonFile(directory, "test-", DataSize.ofBytes(24), 2)) {
+            for (int index = 0; index < 6; index++) {
+                file.append(line(index));
+            }
+        }
+
+        // Then: Should keep two files of its own and the file of the other writer
+        assertThat(files("test-"), hasSize(2));
+        assertThat(files("other-"), hasItem(otherFile));
+    }
+
+    private List<Path> files(final String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(prefix)).sorted().toList();
+        }
+    }
+
+    private static byte[] line(final int number) {
+        return ("{\"line\":" + number + "}").getBytes(StandardCharsets.UTF_8);
+    }
+}
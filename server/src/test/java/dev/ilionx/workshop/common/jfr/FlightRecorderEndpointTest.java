@@ -0,0 +1,105 @@
+package dev.ilionx.workshop.common.jfr;
+
+import dev.ilionx.workshop.common.config.properties.FlightRecorderProperties;
+import dev.ilionx.workshop.common.jfr.FlightRecorderEndpoint.RecordingStatus;
+import dev.ilionx.workshop.support.UnitTest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Unit Test - Flight Recorder Endpoint")
+class FlightRecorderEndpointTest extends UnitTest {
+
+    @TempDir
+    private Path directory;
+
+    private FlightRecorderEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        final FlightRecorderProperties properties = new FlightRecorderProperties();
+        properties.setDirectory(directory);
+        properties.setSettings("default");
+        endpoint = new FlightRecorderEndpoint(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        endpoint.close();
+    }
+
+    @Test
+    @DisplayName("Should start a recording")
+    void shouldStartARecording() throws Exception {
+        // When: Starting a recording
+        final RecordingStatus status = endpoint.control("start");
+
+        // Then: Should be recording
+        assertThat(status.state(), is(equalTo("RUNNING")));
+        assertThat(status.startTime(), is(notNullValue()));
+        assertThat(endpoint.status().state(), is(equalTo("RUNNING")));
+    }
+
+    @Test
+    @DisplayName("Should dump a running recording to a file and keep recording")
+    void shouldDumpARunningRecordingToAFileAndKeepRecording() throws Exception {
+        // Given: A running recording
+        endpoint.control("start");
+
+        // When: Dumping the recording
+        final RecordingStatus status = endpoint.control("dump");
+
+        // Then: Should write the recording to a file in the directory
+        assertThat(status.file(), startsWith(directory.toAbsolutePath().toString()));
+        assertThat(Files.size(Path.of(status.file())) > 0, is(true));
+
+        // And: Should keep recording
+        assertThat(status.state(), is(equalTo("RUNNING")));
+    }
+
+    @Test
+    @DisplayName("Should write the recording to a file when stopping it")
+    void shouldWriteTheRecordingToAFileWhenStoppingIt() throws Exception {
+        // Given: A running recording
+        endpoint.control("start");
+
+        // When: Stopping the recording
+        final RecordingStatus status = endpoint.control("stop");
+
+        // Then: Should write the recording to a file
+        assertThat(Files.exists(Path.of(status.file())), is(true));
+
+        // And: Should no longer be recording
+        assertThat(status.state(), is(equalTo("NOT_RECORDING")));
+        assertThat(status.startTime(), is(nullValue()));
+    }
+
+    @Test
+    @DisplayName("Should reject dumping when no recording is running")
+    void shouldRejectDumpingWhenNoRecordingIsRunning() {
+        // When / Then: Dumping without a recording should be rejected
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.control("dump"));
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown action")
+    void shouldRejectAnUnknownAction() {
+        // When / Then: An unknown action should be rejected
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.control("pause"));
+    }
+}
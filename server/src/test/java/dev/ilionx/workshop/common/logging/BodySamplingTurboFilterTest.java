@@ -0,0 +1,94 @@
+package dev.ilionx.workshop.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import dev.ilionx.workshop.support.UnitTest;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+@DisplayName("Unit Test - Body Sampling Turbo Filter")
+class BodySamplingTurboFilterTest extends UnitTest {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private final Logger bodyLogger = loggerContext.getLogger("io.github.jframe.logging.RequestLogger");
+    private final Logger otherLogger = loggerContext.getLogger("dev.ilionx.workshop.SomeService");
+
+    private BodySamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new BodySamplingTurboFilter();
+        filter.setSampleRate(0.1);
+        filter.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("Should sample about the configured share of the requests")
+    void shouldSampleAboutTheConfiguredShareOfTheRequests() {
+        // Given: A sample rate of 10%
+
+        // When: Deciding for 10,000 request ids
+        final long sampled = IntStream.range(0, 10_000)
+            .filter(index -> filter.isSampled("tx-" + index))
+            .count();
+
+        // Then: Should sample close to 1,000 of them
+        assertThat(sampled, is(allOf(greaterThan(800L), lessThan(1_200L))));
+    }
+
+    @Test
+    @DisplayName("Should make the same decision for every statement of a request")
+    void shouldMakeTheSameDecisionForEveryStatementOfARequest() {
+        // Given: A request that is not sampled
+        final String requestId = IntStream.range(0, 100)
+            .mapToObj(index -> "tx-" + index)
+            .filter(id -> !filter.isSampled(id))
+            .findFirst()
+            .orElseThrow();
+        MDC.put("tx_id", requestId);
+
+        // When: Logging the request and the response
+        final FilterReply request = filter.decide(null, bodyLogger, Level.DEBUG, "Request {}", null, null);
+        final FilterReply response = filter.decide(null, bodyLogger, Level.DEBUG, "Response {}", null, null);
+
+        // Then: Should skip both
+        assertThat(request, is(equalTo(FilterReply.DENY)));
+        assertThat(response, is(equalTo(FilterReply.DENY)));
+    }
+
+    @Test
+    @DisplayName("Should always log warnings and other loggers")
+    void shouldAlwaysLogWarningsAndOtherLoggers() {
+        // Given: Nothing sampled
+        filter.setSampleRate(0.0);
+        MDC.put("tx_id", "tx-1");
+
+        // When: Deciding for a warning of the body logger and a debug statement of another logger
+        final FilterReply warning = filter.decide(null, bodyLogger, Level.WARN, "Failed {}", null, null);
+        final FilterReply other = filter.decide(null, otherLogger, Level.DEBUG, "Loaded {}", null, null);
+
+        // Then: Should leave both to the configured levels
+        assertThat(warning, is(equalTo(FilterReply.NEUTRAL)));
+        assertThat(other, is(equalTo(FilterReply.NEUTRAL)));
+    }
+}
@@ -0,0 +1,90 @@
+package dev.ilionx.workshop.common.metrics;
+
+import dev.ilionx.workshop.api.owner.model.Owner;
+import dev.ilionx.workshop.common.metrics.HotPathsEndpoint.HotPaths;
+import dev.ilionx.workshop.support.IntegrationTest;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static dev.ilionx.workshop.api.Paths.OWNER_BY_ID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Integration Test - Hot Paths Endpoint")
+class HotPathsEndpointTest extends IntegrationTest {
+
+    @Autowired
+    private HotPathsEndpoint hotPathsEndpoint;
+
+    @Test
+    @DisplayName("Should time the controller, service and repository methods of a request")
+    void shouldTimeTheControllerServiceAndRepositoryMethodsOfARequest() throws Exception {
+        // Given: An existing owner
+        final Owner owner = aSavedOwner();
+
+        // When: Getting the owner by ID
+        mockMvc.perform(get(OWNER_BY_ID, owner.getId()))
+            .andExpect(status().isOk());
+
+        // Then: Every layer should have been timed
+        final OperationStatistics controller = find("OwnerController.getOwnerById").orElseThrow();
+        final OperationStatistics service = find("OwnerService.findById").orElseThrow();
+        final OperationStatistics repository = find("OwnerRepository.findById").orElseThrow();
+        assertThat(controller.layer(), is(equalTo("controller")));
+        assertThat(service.layer(), is(equalTo("service")));
+        assertThat(repository.layer(), is(equalTo("repository")));
+        assertThat(controller.count(), is(greaterThanOrEqualTo(1L)));
+    }
+
+    @Test
+    @DisplayName("Should rank the timed operations by total time")
+    void shouldRankTheTimedOperationsByTotalTime() throws Exception {
+        // Given: An existing owner that has been read
+        final Owner owner = aSavedOwner();
+        mockMvc.perform(get(OWNER_BY_ID, owner.getId()))
+            .andExpect(status().isOk());
+
+        // When: Reading the hot paths
+        final HotPaths hotPaths = hotPathsEndpoint.hotPaths();
+
+        // Then: The hottest operations should be ordered by descending total time
+        for (int i = 1; i < hotPaths.hottest().size(); i++) {
+            assertThat(hotPaths.hottest().get(i - 1).totalMillis(), is(greaterThanOrEqualTo(hotPaths.hottest().get(i).totalMillis())));
+        }
+    }
+
+    @Test
+    @DisplayName("Should record the SQL statements and rows of a request per controller operation")
+    void shouldRecordTheSqlStatementsAndRowsOfARequestPerControllerOperation() throws Exception {
+        // Given: An existing owner
+        final Owner owner = aSavedOwner();
+
+        // When: Getting the owner by ID
+        mockMvc.perform(get(OWNER_BY_ID, owner.getId()))
+            .andExpect(status().isOk());
+
+        // Then: The controller operation should report its SQL, and other layers should not
+        final OperationStatistics controller = find("OwnerController.getOwnerById").orElseThrow();
+        final OperationStatistics service = find("OwnerService.findById").orElseThrow();
+        assertThat(controller.sqlStatementsPerCall(), is(notNullValue()));
+        assertThat(controller.sqlStatementsPerCall(), is(greaterThanOrEqualTo(1.0)));
+        assertThat(controller.sqlRowsPerCall(), is(greaterThanOrEqualTo(1.0)));
+        assertThat(service.sqlStatementsPerCall(), is(nullValue()));
+    }
+
+    private Optional<OperationStatistics> find(final String operation) {
+        return hotPathsEndpoint.operations().stream()
+            .filter(statistics -> statistics.operation().equals(operation))
+            .findFirst();
+    }
+}
@@ -0,0 +1,116 @@
+package dev.ilionx.workshop.common.metrics;
+
+import dev.ilionx.workshop.common.config.properties.ResourceAccountingProperties;
+import dev.ilionx.workshop.support.UnitTest;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static dev.ilionx.workshop.common.metrics.MethodTimingInterceptor.OPERATION_TAG;
+import static dev.ilionx.workshop.common.metrics.RequestResourceAccounting.ALLOCATED_BYTES_METRIC;
+import static dev.ilionx.workshop.common.metrics.RequestResourceAccounting.CPU_TIME_METRIC;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+@DisplayName("Unit Test - Request Resource Accounting")
+class RequestResourceAccountingTest extends UnitTest {
+
+    private static final String OPERATION = "OwnerController.getAllOwners";
+    private static final Instant START = Instant.parse("2026-10-19T10:00:00Z");
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestResourceAccounting accounting;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        accounting = new RequestResourceAccounting(meterRegistry, new ResourceAccountingProperties());
+    }
+
+    @Test
+    @DisplayName("Should account the samples of a virtual thread to its request")
+    void shouldAccountTheSamplesOfAVirtualThreadToItsRequest() {
+        // Given: A request on a virtual thread with two allocation samples and three execution samples
+        accounting.begin(1, true, OPERATION, START);
+        accounting.allocated(1, START.plusMillis(1), 1_000);
+        accounting.executed(1, START.plusMillis(2));
+        accounting.end(1, START.plusMillis(3));
+        accounting.allocated(1, START.plusMillis(2), 500);
+        accounting.executed(1, START.plusMillis(2));
+        accounting.executed(1, START.plusMillis(3));
+
+        // When: Settling after the settle delay
+        accounting.settle(START.plusSeconds(10));
+
+        // Then: Should record the allocated bytes and the sampled CPU time
+        assertThat(allocatedBytes().count(), is(equalTo(1L)));
+        assertThat(allocatedBytes().totalAmount(), is(equalTo(1_500.0)));
+        assertThat(cpuTime().totalTime(TimeUnit.MILLISECONDS), is(equalTo(30.0)));
+    }
+
+    @Test
+    @DisplayName("Should wait for the settle delay before recording a request")
+    void shouldWaitForTheSettleDelayBeforeRecordingARequest() {
+        // Given: A request that just ended
+        accounting.begin(1, true, OPERATION, START);
+        accounting.end(1, START.plusMillis(3));
+
+        // When: Settling within the settle delay
+        accounting.settle(START.plusSeconds(1));
+
+        // Then: Should not record the request yet
+        assertThat(meterRegistry.find(ALLOCATED_BYTES_METRIC).summary(), is(nullValue()));
+    }
+
+    @Test
+    @DisplayName("Should only account the samples of a platform thread taken during the request")
+    void shouldOnlyAccountTheSamplesOfAPlatformThreadTakenDuringTheRequest() {
+        // Given: A request on a pooled platform thread
+        accounting.begin(7, false, OPERATION, START);
+        accounting.end(7, START.plusMillis(10));
+
+        // When: Accounting samples before, during and after the request, and settling
+        accounting.allocated(7, START.minusMillis(1), 100);
+        accounting.allocated(7, START.plusMillis(5), 2_000);
+        accounting.allocated(7, START.plusMillis(20), 300);
+        accounting.settle(START.plus(Duration.ofMinutes(1)));
+
+        // Then: Should only account the sample taken during the request
+        assertThat(allocatedBytes().totalAmount(), is(equalTo(2_000.0)));
+    }
+
+    @Test
+    @DisplayName("Should ignore the samples of threads without a request")
+    void shouldIgnoreTheSamplesOfThreadsWithoutARequest() {
+        // Given: A request on one thread
+        accounting.begin(1, true, OPERATION, START);
+        accounting.end(1, START.plusMillis(3));
+
+        // When: Accounting samples of another thread, and settling
+        accounting.allocated(2, START.plusMillis(1), 1_000);
+        accounting.executed(2, START.plusMillis(1));
+        accounting.settle(START.plusSeconds(10));
+
+        // Then: Should record the request without the samples of the other thread
+        assertThat(allocatedBytes().totalAmount(), is(equalTo(0.0)));
+        assertThat(cpuTime().totalTime(TimeUnit.MILLISECONDS), is(equalTo(0.0)));
+    }
+
+    private DistributionSummary allocatedBytes() {
+        return meterRegistry.get(ALLOCATED_BYTES_METRIC).tag(OPERATION_TAG, OPERATION).summary();
+    }
+
+    private Timer cpuTime() {
+        return meterRegistry.get(CPU_TIME_METRIC).tag(OPERATION_TAG, OPERATION).timer();
+    }
+}
@@ -0,0 +1,117 @@
+package dev.ilionx.workshop.common.persistence;
+
+import dev.ilionx.workshop.support.UnitTest;
+import liquibase.integration.spring.SpringLiquibase;
+
+import java.util.UUID;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+@DisplayName("Unit Test - Migration Fingerprint Post Processor")
+class MigrationFingerprintPostProcessorTest extends UnitTest {
+
+    private static final String CACHE_CHANGE_LOG_CHANGE_SET = "202610190004-PRD-add-cache-change-log-table-1";
+
+    private JdbcDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private MigrationFingerprintPostProcessor postProcessor;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        postProcessor = new MigrationFingerprintPostProcessor(
+            new MockEnvironment().withProperty("startup.skip-unchanged-migrations", "true")
+        );
+    }
+
+    @Test
+    @DisplayName("Should store the fingerprint after migrating a new database")
+    void shouldStoreTheFingerprintAfterMigratingANewDatabase() throws Exception {
+        // When: Starting on an empty database
+        start("prd");
+
+        // Then: Should migrate the database and store the fingerprint
+        assertThat(tableExists("CACHE_CHANGE_LOG"), is(true));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM schema_fingerprint", Long.class), is(equalTo(1L)));
+    }
+
+    @Test
+    @DisplayName("Should skip Liquibase when the changelog is unchanged")
+    void shouldSkipLiquibaseWhenTheChangelogIsUnchanged() throws Exception {
+        // Given: A migrated database that lost a change set
+        start("prd");
+        forgetCacheChangeLogChangeSet();
+
+        // When: Starting again with the same changelog
+        start("prd");
+
+        // Then: Liquibase should not have run
+        assertThat(tableExists("CACHE_CHANGE_LOG"), is(false));
+    }
+
+    @Test
+    @DisplayName("Should run Liquibase when the contexts changed")
+    void shouldRunLiquibaseWhenTheContextsChanged() throws Exception {
+        // Given: A migrated database that lost a change set
+        start("prd");
+        forgetCacheChangeLogChangeSet();
+
+        // When: Starting again with different contexts
+        start("prd,benchmark");
+
+        // Then: Liquibase should have run
+        assertThat(tableExists("CACHE_CHANGE_LOG"), is(true));
+    }
+
+    @Test
+    @DisplayName("Should run Liquibase when skipping is disabled")
+    void shouldRunLiquibaseWhenSkippingIsDisabled() throws Exception {
+        // Given: A migrated database that lost a change set
+        start("prd");
+        forgetCacheChangeLogChangeSet();
+
+        // When: Starting again with skipping disabled
+        postProcessor = new MigrationFingerprintPostProcessor(new MockEnvironment());
+        start("prd");
+
+        // Then: Liquibase should have run
+        assertThat(tableExists("CACHE_CHANGE_LOG"), is(true));
+    }
+
+    private void start(final String contexts) throws Exception {
+        final SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:db/changelog/db.changelog-master.yaml");
+        liquibase.setContexts(contexts);
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        postProcessor.postProcessBeforeInitialization(liquibase, "liquibase");
+        liquibase.afterPropertiesSet();
+        postProcessor.postProcessAfterInitialization(liquibase, "liquibase");
+    }
+
+    private void forgetCacheChangeLogChangeSet() {
+        jdbcTemplate.update("DELETE FROM DATABASECHANGELOG WHERE ID = ?", CACHE_CHANGE_LOG_CHANGE_SET);
+        jdbcTemplate.execute("DROP TABLE cache_change_log");
+    }
+
+    private boolean tableExists(final String table) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = ?",
+            Long.class,
+            table
+        ) > 0;
+    }
+}
@@ -0,0 +1,203 @@
+package dev.ilionx.workshop.common.persistence.sql;
+
+import dev.ilionx.workshop.api.appointment.model.Appointment;
+import dev.ilionx.workshop.api.appointment.repository.AppointmentRepository;
+import dev.ilionx.workshop.api.owner.model.Owner;
+import dev.ilionx.workshop.api.pet.model.Pet;
+import dev.ilionx.workshop.api.vaccination.model.Vaccination;
+import dev.ilionx.workshop.api.vaccination.repository.VaccinationRepository;
+import dev.ilionx.workshop.support.IntegrationTest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import jakarta.servlet.ServletException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import static dev.ilionx.workshop.api.Paths.APPOINTMENTS;
+import static dev.ilionx.workshop.api.Paths.OWNERS;
+import static dev.ilionx.workshop.api.Paths.OWNER_BY_ID;
+import static dev.ilionx.workshop.api.Paths.OWNER_PETS;
+import static dev.ilionx.workshop.api.Paths.PETS;
+import static dev.ilionx.workshop.api.Paths.PET_TYPES;
+import static dev.ilionx.workshop.api.Paths.PET_VACCINATIONS;
+import static dev.ilionx.workshop.api.Paths.PET_VISITS;
+import static dev.ilionx.workshop.api.Paths.SPECIALTIES;
+import static dev.ilionx.workshop.api.Paths.VETS;
+import static dev.ilionx.workshop.api.Paths.VISITS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Checks the SQL budgets of the controller methods. The budgets of the list endpoints are the statements they execute
+ * for the data of {@link #shouldKeepEveryListEndpointWithinItsBudget()}: two owners, each with a pet that has a visit,
+ * a vaccination and an appointment. Every row beyond that costs the list endpoints over an eager collection statements
+ * of their own, which the budget fails in the tests and reports in production.
+ */
+@DisplayName("Integration Test - Query Budget")
+class QueryBudgetTest extends IntegrationTest {
+
+    private static final String API_PACKAGE = "dev.ilionx.workshop.api.";
+    private static final int OWNER_COUNT = 10;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private VaccinationRepository vaccinationRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Test
+    @DisplayName("Should fail a request that loads an eager collection once per row")
+    void shouldFailARequestThatLoadsAnEagerCollectionOncePerRow() throws Exception {
+        // Given: More owners than the budget of the owner list allows for their eagerly fetched pets
+        for (int i = 0; i < OWNER_COUNT; i++) {
+            aSavedOwner();
+        }
+        final double violationsBefore = statementViolations("OwnerController.getAllOwners");
+
+        // When: Listing all owners
+        final int status = statusOf(get(OWNERS));
+
+        // Then: The request should fail and the statements over budget should be counted
+        assertThat(status, is(equalTo(HttpStatus.INTERNAL_SERVER_ERROR.value())));
+        assertThat(statementViolations("OwnerController.getAllOwners"), is(greaterThan(violationsBefore)));
+    }
+
+    @Test
+    @DisplayName("Should not fail a request within its budget")
+    void shouldNotFailARequestWithinItsBudget() throws Exception {
+        // Given: A single owner
+        final Owner owner = aSavedOwner();
+
+        // When: Getting the owner by ID
+        final int status = statusOf(get(OWNER_BY_ID, owner.getId()));
+
+        // Then: The request should succeed
+        assertThat(status, is(equalTo(HttpStatus.OK.value())));
+    }
+
+    @Test
+    @DisplayName("Should keep every list endpoint within its budget")
+    void shouldKeepEveryListEndpointWithinItsBudget() throws Exception {
+        // Given: Two owners, each with a pet that has a visit, a vaccination and an appointment
+        final Pet pet = aPetWithHistory();
+        aPetWithHistory();
+        final Integer ownerId = pet.getOwner().getId();
+
+        final Map<String, RequestBuilder> requests = new LinkedHashMap<>();
+        requests.put("OwnerController.getAllOwners", get(OWNERS));
+        requests.put("OwnerController.getAllOwners by last name", get(OWNERS).param("lastName", pet.getOwner().getLastName()));
+        requests.put("PetController.getPetsByOwner", get(OWNER_PETS, ownerId));
+        requests.put("PetGlobalController.getAllPets", get(PETS));
+        requests.put("PetTypeController.getAllPetTypes", get(PET_TYPES));
+        requests.put("VisitController.getVisitsByPet", get(PET_VISITS, ownerId, pet.getId()));
+        requests.put("VisitGlobalController.getAllVisits", get(VISITS));
+        requests.put("VaccinationController.getVaccinationsByPet", get(PET_VACCINATIONS, ownerId, pet.getId()));
+        requests.put("AppointmentController.getAllAppointments", get(APPOINTMENTS));
+        requests.put("AppointmentController.getAllAppointments by vet", get(APPOINTMENTS).param("vetId", "1"));
+        requests.put("VetController.getAllVets", get(VETS));
+        requests.put("SpecialtyController.getAllSpecialties", get(SPECIALTIES));
+
+        // When: Requesting every list endpoint
+        final Map<String, Integer> failed = new LinkedHashMap<>();
+        for (final Map.Entry<String, RequestBuilder> request : requests.entrySet()) {
+            final int status = statusOf(request.getValue());
+            if (status != HttpStatus.OK.value()) {
+                failed.put(request.getKey(), status);
+            }
+        }
+
+        // Then: Every request should succeed, which it only does within its budget
+        assertThat(failed.toString(), failed.keySet(), is(empty()));
+    }
+
+    @Test
+    @DisplayName("Should declare a budget on every list endpoint")
+    void shouldDeclareABudgetOnEveryListEndpoint() {
+        // Given: The controller methods of the API
+        final RequestMappingHandlerMapping handlerMapping =
+            applicationContext.getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+
+        // When: Listing the list endpoints without a budget
+        final Collection<String> withoutBudget = new TreeSet<>();
+        for (final Map.Entry<RequestMappingInfo, HandlerMethod> entry : handlerMapping.getHandlerMethods().entrySet()) {
+            final HandlerMethod handlerMethod = entry.getValue();
+            if (isListEndpoint(entry.getKey(), handlerMethod) && !handlerMethod.hasMethodAnnotation(QueryBudget.class)) {
+                withoutBudget.add(handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName());
+            }
+        }
+
+        // Then: Every list endpoint should declare its budget
+        assertThat(withoutBudget, is(empty()));
+    }
+
+    /**
+     * A budget violation fails the request with a 500, or propagates from MockMvc when no exception handler maps it.
+     */
+    private int statusOf(final RequestBuilder request) throws Exception {
+        try {
+            return mockMvc.perform(request).andReturn().getResponse().getStatus();
+        } catch (final ServletException exception) {
+            assertThat(NestedExceptionUtils.getMostSpecificCause(exception), is(instanceOf(QueryBudgetExceededException.class)));
+            return HttpStatus.INTERNAL_SERVER_ERROR.value();
+        }
+    }
+
+    private double statementViolations(final String operation) {
+        return meterRegistry.find("sql.budget.violations").tag("type", "statements").tag("operation", operation).counters().stream()
+            .mapToDouble(Counter::count)
+            .sum();
+    }
+
+    private Pet aPetWithHistory() {
+        final Pet pet = aSavedPet(aSavedOwner());
+        aSavedVisit(pet);
+
+        final Vaccination vaccination = new Vaccination();
+        vaccination.setVaccineName("Rabies");
+        vaccination.setVaccinationDate(LocalDate.now().minusYears(1));
+        vaccination.setNextDueDate(LocalDate.now().plusDays(7));
+        vaccination.setPet(pet);
+        vaccinationRepository.save(vaccination);
+
+        final Appointment appointment = new Appointment();
+        appointment.setScheduledDateTime(LocalDateTime.now().plusDays(1));
+        appointment.setReason("Annual checkup");
+        appointment.setPet(pet);
+        appointment.setVet(vetRepository.findById(1).orElseThrow());
+        appointmentRepository.save(appointment);
+        return pet;
+    }
+
+    private static boolean isListEndpoint(final RequestMappingInfo mapping, final HandlerMethod handlerMethod) {
+        final Class<?> body = ResolvableType.forMethodReturnType(handlerMethod.getMethod()).getGeneric(0).toClass();
+        return handlerMethod.getBeanType().getName().startsWith(API_PACKAGE)
+            && mapping.getMethodsCondition().getMethods().contains(RequestMethod.GET)
+            && List.class.isAssignableFrom(body);
+    }
+}
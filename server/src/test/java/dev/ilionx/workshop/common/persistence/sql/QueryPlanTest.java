@@ -0,0 +1,322 @@
+package dev.ilionx.workshop.common.persistence.sql;
+
+import dev.ilionx.workshop.api.appointment.model.Appointment;
+import dev.ilionx.workshop.api.appointment.model.AppointmentStatus;
+import dev.ilionx.workshop.api.appointment.repository.AppointmentRepository;
+import dev.ilionx.workshop.api.owner.model.Owner;
+import dev.ilionx.workshop.api.pet.model.Pet;
+import dev.ilionx.workshop.api.vaccination.model.Vaccination;
+import dev.ilionx.workshop.api.vaccination.repository.VaccinationRepository;
+import dev.ilionx.workshop.api.vet.model.Vet;
+import dev.ilionx.workshop.support.IntegrationTest;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * Runs every query method of the API repositories, explains the statements they execute with H2's {@code EXPLAIN}, and
+ * fails when a statement reads a table with a full table scan instead of an index. The inherited {@code findAll}
+ * methods are table scans by design and are not covered, and neither are scans of the small reference tables. The
+ * query indexes, which do not back a foreign key, are compared against the plan without them to show they are chosen.
+ */
+@DisplayName("Integration Test - Query Plans")
+class QueryPlanTest extends IntegrationTest {
+
+    private static final String API_PACKAGE = "dev.ilionx.workshop.api.";
+    private static final Pattern TABLE_SCAN = Pattern.compile("PUBLIC\\.(\\w+)\\.tableScan");
+    private static final Set<String> REFERENCE_TABLES = Set.of("PET_TYPES", "SPECIALTIES");
+    private static final Map<String, QueryIndex> QUERY_INDEXES = Map.of(
+        "OwnerRepository.findByLastName", new QueryIndex("OWNERS", "IDX_OWNERS_LAST_NAME"),
+        "AppointmentRepository.findUpcomingReminders", new QueryIndex("APPOINTMENTS", "IDX_APPOINTMENTS_SCHEDULED_DATE_TIME")
+    );
+    private static final Set<AppointmentStatus> ACTIVE_STATUSES = EnumSet.of(AppointmentStatus.SCHEDULED, AppointmentStatus.CONFIRMED);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private VaccinationRepository vaccinationRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Map<String, Runnable> queries;
+
+    @BeforeEach
+    void setUp() {
+        final Owner owner = aSavedOwner();
+        final Pet pet = aSavedPet(owner);
+        aSavedVisit(pet);
+        aSavedVaccination(pet);
+        final Vet vet = vetRepository.findById(1).orElseThrow();
+        final Appointment appointment = aSavedAppointment(pet, vet);
+        final Instant since = Instant.now().minusSeconds(60);
+
+        queries = new LinkedHashMap<>();
+        queries.put("OwnerRepository.findByLastName", () -> ownerRepository.findByLastName(owner.getLastName()));
+        queries.put("OwnerRepository.findByUpdatedAtAfter", () -> ownerRepository.findByUpdatedAtAfter(since));
+        queries.put("PetRepository.findByOwnerId", () -> petRepository.findByOwnerId(owner.getId()));
+        queries.put("PetRepository.findByUpdatedAtAfter", () -> petRepository.findByUpdatedAtAfter(since));
+        queries.put("VisitRepository.findByPetId", () -> visitRepository.findByPetId(pet.getId()));
+        queries.put("VisitRepository.findByUpdatedAtAfter", () -> visitRepository.findByUpdatedAtAfter(since));
+        queries.put("VaccinationRepository.findByPetId", () -> vaccinationRepository.findByPetId(pet.getId()));
+        queries.put("VaccinationRepository.findDue", () -> vaccinationRepository.findDue(
+            LocalDate.now(),
+            LocalDate.now().plusDays(30),
+            null,
+            null,
+            PageRequest.of(0, 50)
+        ));
+        queries.put("VaccinationRepository.findByUpdatedAtAfter", () -> vaccinationRepository.findByUpdatedAtAfter(since));
+        queries.put("AppointmentRepository.findByPetId", () -> appointmentRepository.findByPetId(pet.getId()));
+        queries.put("AppointmentRepository.findByVetId", () -> appointmentRepository.findByVetId(vet.getId()));
+        queries.put("AppointmentRepository.findUpcomingReminders", () -> appointmentRepository.findUpcomingReminders(
+            ACTIVE_STATUSES,
+            LocalDateTime.now()
+        ));
+        queries.put("AppointmentRepository.findReminder", () -> appointmentRepository.findReminder(
+            appointment.getId(),
+            ACTIVE_STATUSES
+        ));
+        queries.put("AppointmentRepository.claimReminder", () -> appointmentRepository.claimReminder(
+            appointment.getId(),
+            appointment.getScheduledDateTime(),
+            ACTIVE_STATUSES
+        ));
+        queries.put("AppointmentRepository.findByUpdatedAtAfter", () -> appointmentRepository.findByUpdatedAtAfter(since));
+        queries.put("VetRepository.findByUpdatedAtAfter", () -> vetRepository.findByUpdatedAtAfter(since));
+        queries.put("TombstoneRepository.findByDeletedAtAfter", () -> tombstoneRepository.findByDeletedAtAfter(since));
+        queries.put("TombstoneRepository.recordDependentsOfOwner", () -> tombstoneRepository.recordDependentsOfOwner(
+            owner.getId(),
+            Instant.now()
+        ));
+        queries.put("TombstoneRepository.recordDependentsOfPet", () -> tombstoneRepository.recordDependentsOfPet(
+            pet.getId(),
+            Instant.now()
+        ));
+        queries.put("TombstoneRepository.recordDependentsOfVet", () -> tombstoneRepository.recordDependentsOfVet(
+            vet.getId(),
+            Instant.now()
+        ));
+        queries.put("TombstoneRepository.deleteByDeletedAtBefore", () -> tombstoneRepository.deleteByDeletedAtBefore(since));
+    }
+
+    @Test
+    @DisplayName("Should cover every query method of the API repositories")
+    void shouldCoverEveryQueryMethodOfTheApiRepositories() {
+        // When: Listing the query methods declared by the API repositories
+        final Set<String> declared = declaredQueryMethods();
+
+        // Then: Every query method should have a query in this test
+        assertThat(declared, is(not(empty())));
+        assertThat(new TreeSet<>(queries.keySet()), is(equalTo(declared)));
+    }
+
+    @Test
+    @DisplayName("Should read every table of a repository query through an index")
+    void shouldReadEveryTableOfARepositoryQueryThroughAnIndex() throws Exception {
+        // Given: The statements executed by every repository query
+        final Map<String, List<CapturedStatement>> statements = new LinkedHashMap<>();
+        queries.forEach((name, query) -> statements.put(name, capture(query)));
+
+        // When: Explaining every statement
+        final List<String> tableScans = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            for (final Map.Entry<String, List<CapturedStatement>> entry : statements.entrySet()) {
+                for (final CapturedStatement statement : entry.getValue()) {
+                    final String plan = explain(connection, statement);
+                    if (scansATable(plan)) {
+                        tableScans.add(entry.getKey() + ":\n" + plan);
+                    }
+                }
+            }
+        }
+
+        // Then: No statement should scan a table
+        assertThat(String.join("\n\n", tableScans), tableScans, is(empty()));
+    }
+
+    @Test
+    @DisplayName("Should choose the query indexes over the plan without them")
+    void shouldChooseTheQueryIndexesOverThePlanWithoutThem() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            for (final Map.Entry<String, QueryIndex> entry : QUERY_INDEXES.entrySet()) {
+                // Given: The statement of the query an index was added for
+                final QueryIndex index = entry.getValue();
+                final CapturedStatement statement = capture(queries.get(entry.getKey())).getFirst();
+
+                // When: Explaining it with all indexes, and with all indexes of the table but the query index
+                final String plan = explain(connection, statement);
+                final String baseline = explain(connection, withoutIndex(connection, statement, index));
+
+                // Then: The plan should read the table through the query index
+                assertThat(entry.getKey() + ":\n" + plan, plan, containsString("PUBLIC." + index.name()));
+
+                // And: H2 should fall back to another access path without it
+                assertThat(entry.getKey() + ":\n" + baseline, baseline, not(containsString("PUBLIC." + index.name())));
+            }
+        }
+    }
+
+    /**
+     * Runs a query in a transaction that is rolled back, and captures the statements it executed on this thread.
+     */
+    private List<CapturedStatement> capture(final Runnable query) {
+        final Thread thread = Thread.currentThread();
+        final List<CapturedStatement> captured = new ArrayList<>();
+        final QueryExecutionListener listener = new QueryExecutionListener() {
+            @Override
+            public void beforeQuery(final ExecutionInfo executionInfo, final List<QueryInfo> queryInfos) {
+                // Statements are captured once they completed.
+            }
+
+            @Override
+            public void afterQuery(final ExecutionInfo executionInfo, final List<QueryInfo> queryInfos) {
+                if (Thread.currentThread() != thread) {
+                    return;
+                }
+                for (final QueryInfo queryInfo : queryInfos) {
+                    final List<ParameterSetOperation> parameters = queryInfo.getParametersList().isEmpty()
+                        ? List.of()
+                        : queryInfo.getParametersList().getFirst();
+                    captured.add(new CapturedStatement(queryInfo.getQuery(), List.copyOf(parameters)));
+                }
+            }
+        };
+
+        final ProxyDataSource proxyDataSource = (ProxyDataSource) dataSource;
+        proxyDataSource.getProxyConfig().getQueryListener().addListener(listener);
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                query.run();
+                status.setRollbackOnly();
+            });
+        } finally {
+            proxyDataSource.getProxyConfig().getQueryListener().removeListener(listener);
+        }
+        return captured;
+    }
+
+    private static boolean scansATable(final String plan) {
+        return TABLE_SCAN.matcher(plan).results()
+            .map(result -> result.group(1))
+            .anyMatch(table -> !REFERENCE_TABLES.contains(table));
+    }
+
+    private static String explain(final Connection connection, final CapturedStatement statement) throws Exception {
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+            for (final ParameterSetOperation parameter : statement.parameters()) {
+                parameter.getMethod().invoke(explain, parameter.getArgs());
+            }
+            try (ResultSet resultSet = explain.executeQuery()) {
+                return resultSet.next() ? resultSet.getString(1) : "";
+            }
+        } catch (final SQLException exception) {
+            throw new IllegalStateException("Failed to explain '" + statement.sql() + "'", exception);
+        }
+    }
+
+    /**
+     * Rewrites a statement to let H2 choose from every index of the table except the given one, with a
+     * {@code USE INDEX} hint on each reference to the table.
+     */
+    private static CapturedStatement withoutIndex(
+        final Connection connection,
+        final CapturedStatement statement,
+        final QueryIndex index
+    ) throws SQLException {
+        final List<String> otherIndexes = new ArrayList<>();
+        try (PreparedStatement indexes = connection.prepareStatement(
+            "SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_NAME = ? AND INDEX_NAME <> ?"
+        )) {
+            indexes.setString(1, index.table());
+            indexes.setString(2, index.name());
+            try (ResultSet resultSet = indexes.executeQuery()) {
+                while (resultSet.next()) {
+                    otherIndexes.add('"' + resultSet.getString(1) + '"');
+                }
+            }
+        }
+        final Pattern tableReference = Pattern.compile("(?i)\\b(from|join)\\s+" + index.table() + "\\s+(\\w+)");
+        final String sql = tableReference.matcher(statement.sql())
+            .replaceAll("$1 " + index.table() + " $2 USE INDEX (" + String.join(", ", otherIndexes) + ")");
+        return new CapturedStatement(sql, statement.parameters());
+    }
+
+    private Set<String> declaredQueryMethods() {
+        final Set<String> declared = new TreeSet<>();
+        for (final Object repository : applicationContext.getBeansOfType(Repository.class).values()) {
+            Arrays.stream(repository.getClass().getInterfaces())
+                .filter(type -> type.getName().startsWith(API_PACKAGE))
+                .forEach(type -> Arrays.stream(type.getDeclaredMethods())
+                    .filter(method -> !method.isDefault() && !method.isSynthetic())
+                    .map(Method::getName)
+                    .forEach(name -> declared.add(type.getSimpleName() + "." + name)));
+        }
+        return declared;
+    }
+
+    private void aSavedVaccination(final Pet pet) {
+        final Vaccination vaccination = new Vaccination();
+        vaccination.setVaccineName("Rabies");
+        vaccination.setVaccinationDate(LocalDate.now().minusYears(1));
+        vaccination.setNextDueDate(LocalDate.now().plusDays(7));
+        vaccination.setPet(pet);
+        vaccinationRepository.save(vaccination);
+    }
+
+    private Appointment aSavedAppointment(final Pet pet, final Vet vet) {
+        final Appointment appointment = new Appointment();
+        appointment.setScheduledDateTime(LocalDateTime.now().plusDays(1));
+        appointment.setReason("Annual checkup");
+        appointment.setPet(pet);
+        appointment.setVet(vet);
+        return appointmentRepository.save(appointment);
+    }
+
+    private record CapturedStatement(String sql, List<ParameterSetOperation> parameters) {
+    }
+
+    private record QueryIndex(String table, String name) {
+    }
+}
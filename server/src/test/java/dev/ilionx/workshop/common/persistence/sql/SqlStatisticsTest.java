@@ -0,0 +1,126 @@
+package dev.ilionx.workshop.common.persistence.sql;
+
+import dev.ilionx.workshop.support.UnitTest;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Unit Test - SQL Statistics")
+class SqlStatisticsTest extends UnitTest {
+
+    private static final String OPERATION = "OwnerController.getOwners";
+    private static final String SELECT_PETS = "select p.id, p.name from pets p where p.owner_id = ?";
+
+    @AfterEach
+    void tearDown() {
+        SqlStatistics.stop();
+    }
+
+    @Test
+    @DisplayName("Should detect a statement repeated with different values as an N+1 query")
+    void shouldDetectAStatementRepeatedWithDifferentValuesAsAnNPlusOneQuery() {
+        // Given: Statistics that only log violations
+        final SqlStatistics statistics = SqlStatistics.start(aBudget(100, 3, false));
+
+        // When: Selecting pets per owner with literal values
+        statistics.recordStatement("select * from pets where owner_id = 1", 0);
+        statistics.recordStatement("select * from pets where owner_id = 2", 0);
+        statistics.recordStatement("select   * from pets where owner_id = 3", 0);
+
+        // Then: The statements should be grouped as one repeated shape
+        assertThat(statistics.getRepeatedStatements(), hasEntry("select * from pets where owner_id = ?", 3));
+        assertThat(statistics.isOverBudget(), is(false));
+    }
+
+    @Test
+    @DisplayName("Should group parameter lists of different lengths as one shape")
+    void shouldGroupParameterListsOfDifferentLengthsAsOneShape() {
+        // Given: Statistics that only log violations
+        final SqlStatistics statistics = SqlStatistics.start(aBudget(100, 2, false));
+
+        // When: Selecting by parameter lists of different lengths
+        statistics.recordStatement("select * from visits where pet_id in (?, ?)", 0);
+        statistics.recordStatement("select * from visits where pet_id in (?,?,?)", 0);
+
+        // Then: Both statements should have the same shape
+        assertThat(statistics.getRepeatedStatements(), hasEntry("select * from visits where pet_id in (?)", 2));
+    }
+
+    @Test
+    @DisplayName("Should report but not fail a request over budget when violations are logged")
+    void shouldReportButNotFailARequestOverBudgetWhenViolationsAreLogged() {
+        // Given: A budget of one statement that only logs violations
+        final SqlStatistics statistics = SqlStatistics.start(aBudget(1, 10, false));
+
+        // When: Executing two statements
+        statistics.recordStatement(SELECT_PETS, 0);
+        statistics.recordStatement("select o.id from owners o", 0);
+
+        // Then: The request should be reported as over budget
+        assertThat(statistics.isOverBudget(), is(true));
+        assertThat(statistics.getStatements(), is(equalTo(2)));
+        assertThat(statistics.describeStatementsOverBudget(), containsString("executed 2 SQL statements, exceeding its budget of 1"));
+    }
+
+    @Test
+    @DisplayName("Should fail the statement that exceeds the budget when violations fail")
+    void shouldFailTheStatementThatExceedsTheBudgetWhenViolationsFail() {
+        // Given: A budget of one statement that fails violations
+        final SqlStatistics statistics = SqlStatistics.start(aBudget(1, 10, true));
+        statistics.recordStatement(SELECT_PETS, 0);
+
+        // When: Executing a second statement
+        final QueryBudgetExceededException exception = assertThrows(QueryBudgetExceededException.class,
+            () -> statistics.recordStatement("select o.id from owners o", 0));
+
+        // Then: The exception should name the request and the budget
+        assertThat(exception.getMessage(), containsString(OPERATION));
+        assertThat(exception.getMessage(), containsString("budget of 1"));
+    }
+
+    @Test
+    @DisplayName("Should fail a repeated statement when violations fail")
+    void shouldFailARepeatedStatementWhenViolationsFail() {
+        // Given: A repeated statement threshold of two that fails violations
+        final SqlStatistics statistics = SqlStatistics.start(aBudget(100, 2, true));
+        statistics.recordStatement(SELECT_PETS, 0);
+
+        // When: Executing the same statement again
+        final QueryBudgetExceededException exception = assertThrows(QueryBudgetExceededException.class,
+            () -> statistics.recordStatement(SELECT_PETS, 0));
+
+        // Then: The exception should report the N+1 query
+        assertThat(exception.getMessage(), containsString("N+1"));
+    }
+
+    @Test
+    @DisplayName("Should record statements that reach the slow statement threshold")
+    void shouldRecordStatementsThatReachTheSlowStatementThreshold() {
+        // Given: Statistics with a slow statement threshold of 100 milliseconds
+        final SqlStatistics statistics = SqlStatistics.start(aBudget(100, 10, false));
+
+        // When: Executing a fast and a slow statement
+        statistics.recordStatement(SELECT_PETS, 5);
+        statistics.recordStatement("select o.id from owners o", 250);
+
+        // Then: Only the slow statement should be recorded
+        assertThat(statistics.getSlowStatements(), hasSize(1));
+        assertThat(statistics.getSlowStatements().getFirst().elapsedMillis(), is(equalTo(250L)));
+        assertThat(statistics.getElapsedMillis(), is(equalTo(255L)));
+    }
+
+    private static SqlBudget aBudget(final int maxStatements, final int repeatedStatementThreshold, final boolean failOnViolation) {
+        return new SqlBudget(OPERATION, maxStatements, repeatedStatementThreshold, Duration.ofMillis(100), failOnViolation);
+    }
+}
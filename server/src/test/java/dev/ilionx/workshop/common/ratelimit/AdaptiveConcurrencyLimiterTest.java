@@ -0,0 +1,105 @@
+package dev.ilionx.workshop.common.ratelimit;
+
+import dev.ilionx.workshop.common.config.properties.RateLimitProperties;
+import dev.ilionx.workshop.common.ratelimit.AdaptiveConcurrencyLimiter.Permit;
+import dev.ilionx.workshop.support.UnitTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+@DisplayName("Unit Test - Adaptive Concurrency Limiter")
+class AdaptiveConcurrencyLimiterTest extends UnitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        final RateLimitProperties properties = new RateLimitProperties();
+        properties.setInitialConcurrencyLimit(10);
+        properties.setMinConcurrencyLimit(2);
+        properties.setMaxConcurrencyLimit(100);
+        properties.setLowPriorityShare(0.5);
+        limiter = new AdaptiveConcurrencyLimiter(properties);
+    }
+
+    @Test
+    @DisplayName("Should reject low-priority requests before high-priority requests")
+    void shouldRejectLowPriorityRequestsBeforeHighPriorityRequests() {
+        // Given: Half of the limit is in use by low-priority requests
+        final List<Permit> permits = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            permits.add(limiter.tryAcquire(RequestPriority.LOW).orElseThrow());
+        }
+
+        // When: Acquiring another low-priority and a high-priority permit
+        final boolean lowAdmitted = limiter.tryAcquire(RequestPriority.LOW).isPresent();
+        final boolean highAdmitted = limiter.tryAcquire(RequestPriority.HIGH).isPresent();
+
+        // Then: Only the high-priority request should be admitted
+        assertThat(lowAdmitted, is(false));
+        assertThat(highAdmitted, is(true));
+        assertThat(limiter.getInFlight(), is(equalTo(6)));
+        permits.forEach(Permit::abandon);
+        assertThat(limiter.getInFlight(), is(equalTo(1)));
+    }
+
+    @Test
+    @DisplayName("Should grow the limit while latency is stable under load")
+    void shouldGrowTheLimitWhileLatencyIsStableUnderLoad() {
+        // Given: The initial limit of ten
+
+        // When: Completing requests at a stable latency with the limit in use
+        for (int i = 0; i < 20; i++) {
+            limiter.onSample(FAST, limiter.getLimit());
+        }
+
+        // Then: The limit should have grown
+        assertThat(limiter.getLimit(), is(greaterThan(10)));
+    }
+
+    @Test
+    @DisplayName("Should shrink the limit when latency degrades")
+    void shouldShrinkTheLimitWhenLatencyDegrades() {
+        // Given: A long-term latency established at a fast rate
+        for (int i = 0; i < 20; i++) {
+            limiter.onSample(FAST, limiter.getLimit());
+        }
+        final int limitBeforeSlowdown = limiter.getLimit();
+
+        // When: Completing requests ten times slower
+        for (int i = 0; i < 10; i++) {
+            limiter.onSample(SLOW, limiter.getLimit());
+        }
+
+        // Then: The limit should have shrunk
+        assertThat(limiter.getLimit(), is(lessThan(limitBeforeSlowdown)));
+    }
+
+    @Test
+    @DisplayName("Should not grow the limit when most of it is unused")
+    void shouldNotGrowTheLimitWhenMostOfItIsUnused() {
+        // Given: The initial limit of ten
+
+        // When: Completing requests with only one request in flight
+        for (int i = 0; i < 20; i++) {
+            limiter.onSample(FAST, 1);
+        }
+
+        // Then: The limit should be unchanged
+        assertThat(limiter.getLimit(), is(equalTo(10)));
+    }
+}
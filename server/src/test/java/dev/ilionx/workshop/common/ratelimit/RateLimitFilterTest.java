@@ -0,0 +1,197 @@
+package dev.ilionx.workshop.common.ratelimit;
+
+import dev.ilionx.workshop.common.config.properties.RateLimitProperties;
+import dev.ilionx.workshop.support.UnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.filter.ForwardedHeaderFilter;
+
+import static dev.ilionx.workshop.api.Paths.EVENTS;
+import static dev.ilionx.workshop.api.Paths.OWNERS;
+import static dev.ilionx.workshop.api.Paths.PUBLIC_HEALTH_PATH;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+@DisplayName("Unit Test - Rate Limit Filter")
+class RateLimitFilterTest extends UnitTest {
+
+    private RateLimitProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setRequestsPerSecond(1);
+        properties.setBurst(1);
+        properties.setInitialConcurrencyLimit(1);
+        properties.setMinConcurrencyLimit(1);
+        properties.setLowPriorityShare(1.0);
+        meterRegistry = new SimpleMeterRegistry();
+        concurrencyLimiter = new AdaptiveConcurrencyLimiter(properties);
+        rateLimitFilter = new RateLimitFilter(new ClientRateLimiter(properties), concurrencyLimiter, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should reject a client that exceeds its rate with a Retry-After header")
+    void shouldRejectAClientThatExceedsItsRateWithARetryAfterHeader() throws Exception {
+        // Given: A client that has used its only token
+        final MockHttpServletResponse first = filter(aRequest("GET", OWNERS));
+
+        // When: The client sends another request
+        final MockHttpServletResponse second = filter(aRequest("GET", OWNERS));
+
+        // Then: The second request should be rejected and counted
+        assertThat(first.getStatus(), is(equalTo(HttpStatus.OK.value())));
+        assertThat(second.getStatus(), is(equalTo(HttpStatus.TOO_MANY_REQUESTS.value())));
+        assertThat(second.getHeader(HttpHeaders.RETRY_AFTER), is(equalTo("1")));
+        assertThat(meterRegistry.get("ratelimit.rejections").tag("reason", "rate").counter().count(), is(equalTo(1.0)));
+    }
+
+    @Test
+    @DisplayName("Should keep separate token buckets per client")
+    void shouldKeepSeparateTokenBucketsPerClient() throws Exception {
+        // Given: A client that has used its only token
+        filter(aRequest("GET", OWNERS));
+
+        // When: Another client sends a request
+        final MockHttpServletRequest request = aRequest("GET", OWNERS);
+        request.setRemoteAddr("10.0.0.2");
+        final MockHttpServletResponse response = filter(request);
+
+        // Then: The request should be admitted
+        assertThat(response.getStatus(), is(equalTo(HttpStatus.OK.value())));
+    }
+
+    @Test
+    @DisplayName("Should keep limiting a client that sends a different forwarded address on every request")
+    void shouldKeepLimitingAClientThatSendsADifferentForwardedAddressOnEveryRequest() throws Exception {
+        // Given: A client that has used its only token, claiming to forward for one address
+        final MockHttpServletRequest first = aRequest("GET", OWNERS);
+        first.addHeader("X-Forwarded-For", "203.0.113.1");
+        filterForwarded(first);
+
+        // When: The client sends another request, claiming to forward for another address
+        final MockHttpServletRequest second = aRequest("GET", OWNERS);
+        second.addHeader("X-Forwarded-For", "203.0.113.2");
+        final MockHttpServletResponse response = filterForwarded(second);
+
+        // Then: The request should be rejected, since the client is identified by the address of its connection
+        assertThat(response.getStatus(), is(equalTo(HttpStatus.TOO_MANY_REQUESTS.value())));
+    }
+
+    @Test
+    @DisplayName("Should identify clients by the forwarded address when it is trusted")
+    void shouldIdentifyClientsByTheForwardedAddressWhenItIsTrusted() throws Exception {
+        // Given: A proxy that overwrites the forwarded address, and a client behind it that has used its only token
+        properties.setTrustForwardedAddress(true);
+        final MockHttpServletRequest first = aRequest("GET", OWNERS);
+        first.addHeader("X-Forwarded-For", "203.0.113.1");
+        filterForwarded(first);
+
+        // When: Another client sends a request through the same proxy
+        final MockHttpServletRequest second = aRequest("GET", OWNERS);
+        second.addHeader("X-Forwarded-For", "203.0.113.2");
+        final MockHttpServletResponse response = filterForwarded(second);
+
+        // Then: The request should be admitted
+        assertThat(response.getStatus(), is(equalTo(HttpStatus.OK.value())));
+    }
+
+    @Test
+    @DisplayName("Should reject requests above the concurrency limit with a service unavailable status")
+    void shouldRejectRequestsAboveTheConcurrencyLimitWithAServiceUnavailableStatus() throws Exception {
+        // Given: The only concurrency permit is taken
+        concurrencyLimiter.tryAcquire(RequestPriority.HIGH).orElseThrow();
+
+        // When: A request arrives
+        final MockHttpServletResponse response = filter(aRequest("POST", OWNERS));
+
+        // Then: The request should be shed
+        assertThat(response.getStatus(), is(equalTo(HttpStatus.SERVICE_UNAVAILABLE.value())));
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER), is(notNullValue()));
+        assertThat(meterRegistry.get("ratelimit.rejections").tag("reason", "concurrency").counter().count(), is(equalTo(1.0)));
+    }
+
+    @Test
+    @DisplayName("Should never limit the health endpoint")
+    void shouldNeverLimitTheHealthEndpoint() throws Exception {
+        // Given: The rate and concurrency limits are exhausted
+        filter(aRequest("GET", OWNERS));
+        concurrencyLimiter.tryAcquire(RequestPriority.HIGH).orElseThrow();
+
+        // When: Checking the health repeatedly
+        final MockHttpServletResponse first = filter(aRequest("GET", PUBLIC_HEALTH_PATH));
+        final MockHttpServletResponse second = filter(aRequest("GET", PUBLIC_HEALTH_PATH));
+
+        // Then: Every health check should be answered
+        assertThat(first.getStatus(), is(equalTo(HttpStatus.OK.value())));
+        assertThat(second.getStatus(), is(equalTo(HttpStatus.OK.value())));
+    }
+
+    @Test
+    @DisplayName("Should never limit the health endpoint under a context path")
+    void shouldNeverLimitTheHealthEndpointUnderAContextPath() throws Exception {
+        // Given: The rate and concurrency limits are exhausted
+        filter(aRequestUnderContextPath("GET", OWNERS));
+        concurrencyLimiter.tryAcquire(RequestPriority.HIGH).orElseThrow();
+
+        // When: Checking the health under the context path
+        final MockHttpServletResponse response = filter(aRequestUnderContextPath("GET", PUBLIC_HEALTH_PATH));
+
+        // Then: The health check should be answered
+        assertThat(response.getStatus(), is(equalTo(HttpStatus.OK.value())));
+    }
+
+    @Test
+    @DisplayName("Should not hold a concurrency permit for an event stream under a context path")
+    void shouldNotHoldAConcurrencyPermitForAnEventStreamUnderAContextPath() throws Exception {
+        // Given: The only concurrency permit is taken
+        concurrencyLimiter.tryAcquire(RequestPriority.HIGH).orElseThrow();
+
+        // When: Opening an event stream under the context path
+        final MockHttpServletResponse response = filter(aRequestUnderContextPath("GET", EVENTS));
+
+        // Then: The stream should be admitted without a permit
+        assertThat(response.getStatus(), is(equalTo(HttpStatus.OK.value())));
+    }
+
+    private MockHttpServletResponse filter(final MockHttpServletRequest request) throws Exception {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    /**
+     * Filters a request after the forwarded header filter, as with {@code server.forward-headers-strategy: framework}.
+     */
+    private MockHttpServletResponse filterForwarded(final MockHttpServletRequest request) throws Exception {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        new ForwardedHeaderFilter().doFilter(request, response, (forwardedRequest, forwardedResponse) ->
+            rateLimitFilter.doFilter(forwardedRequest, forwardedResponse, new MockFilterChain()));
+        return response;
+    }
+
+    private static MockHttpServletRequest aRequestUnderContextPath(final String method, final String path) {
+        final MockHttpServletRequest request = aRequest(method, "/api" + path);
+        request.setContextPath("/api");
+        return request;
+    }
+
+    private static MockHttpServletRequest aRequest(final String method, final String uri) {
+        final MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr("10.0.0.1");
+        return request;
+    }
+}
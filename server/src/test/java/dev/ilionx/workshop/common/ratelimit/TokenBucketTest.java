@@ -0,0 +1,70 @@
+package dev.ilionx.workshop.common.ratelimit;
+
+import dev.ilionx.workshop.support.UnitTest;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+@DisplayName("Unit Test - Token Bucket")
+class TokenBucketTest extends UnitTest {
+
+    private static final long START = 1_000_000_000L;
+    private static final long EMISSION_INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    @DisplayName("Should admit a burst up to the capacity and reject the next request")
+    void shouldAdmitABurstUpToTheCapacityAndRejectTheNextRequest() {
+        // Given: A full bucket of three tokens refilling at ten tokens per second
+        final TokenBucket bucket = new TokenBucket(10, 3, START);
+
+        // When: Taking four tokens at once
+        final long first = bucket.tryAcquire(START);
+        final long second = bucket.tryAcquire(START);
+        final long third = bucket.tryAcquire(START);
+        final long fourth = bucket.tryAcquire(START);
+
+        // Then: The burst should be admitted and the fourth request should wait one refill interval
+        assertThat(first, is(equalTo(0L)));
+        assertThat(second, is(equalTo(0L)));
+        assertThat(third, is(equalTo(0L)));
+        assertThat(fourth, is(equalTo(EMISSION_INTERVAL)));
+    }
+
+    @Test
+    @DisplayName("Should admit a request again once a token has been refilled")
+    void shouldAdmitARequestAgainOnceATokenHasBeenRefilled() {
+        // Given: An empty bucket refilling at ten tokens per second
+        final TokenBucket bucket = new TokenBucket(10, 1, START);
+        bucket.tryAcquire(START);
+
+        // When: Taking a token before and after the refill interval
+        final long early = bucket.tryAcquire(START + EMISSION_INTERVAL / 2);
+        final long refilled = bucket.tryAcquire(START + EMISSION_INTERVAL);
+
+        // Then: Only the request after the refill should be admitted
+        assertThat(early, is(equalTo(EMISSION_INTERVAL / 2)));
+        assertThat(refilled, is(equalTo(0L)));
+    }
+
+    @Test
+    @DisplayName("Should not accumulate more tokens than the capacity while idle")
+    void shouldNotAccumulateMoreTokensThanTheCapacityWhileIdle() {
+        // Given: A bucket of two tokens that has been idle for a minute
+        final TokenBucket bucket = new TokenBucket(10, 2, START);
+        final long later = START + TimeUnit.MINUTES.toNanos(1);
+
+        // When: Taking three tokens at once
+        bucket.tryAcquire(later);
+        bucket.tryAcquire(later);
+        final long third = bucket.tryAcquire(later);
+
+        // Then: The third request should be rejected
+        assertThat(third, is(equalTo(EMISSION_INTERVAL)));
+    }
+}
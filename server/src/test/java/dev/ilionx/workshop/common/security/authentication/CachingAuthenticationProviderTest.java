@@ -0,0 +1,114 @@
+package dev.ilionx.workshop.common.security.authentication;
+
+import dev.ilionx.workshop.common.config.properties.AuthenticationCacheProperties;
+import dev.ilionx.workshop.support.UnitTest;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Unit Test - Caching Authentication Provider")
+class CachingAuthenticationProviderTest extends UnitTest {
+
+    private static final String USERNAME = "user";
+    private static final String PASSWORD = "password";
+
+    @Mock
+    private AuthenticationProvider delegate;
+
+    private AuthenticationCacheProperties properties;
+    private CachingAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AuthenticationCacheProperties();
+        provider = new CachingAuthenticationProvider(delegate, properties);
+    }
+
+    @Test
+    @DisplayName("Should verify the credentials only once for repeated authentications")
+    void shouldVerifyTheCredentialsOnlyOnceForRepeatedAuthentications() {
+        // Given: A delegate accepting the credentials
+        when(delegate.authenticate(any())).thenReturn(anAuthenticatedToken());
+
+        // When: Authenticating twice with the same credentials
+        provider.authenticate(aLoginRequest(PASSWORD));
+        final Authentication result = provider.authenticate(aLoginRequest(PASSWORD));
+
+        // Then: The delegate should be called once and the cached result should be authenticated
+        verify(delegate, times(1)).authenticate(any());
+        assertThat(result.isAuthenticated(), is(true));
+        assertThat(result.getName(), is(equalTo(USERNAME)));
+        assertThat(result.getCredentials(), is(nullValue()));
+    }
+
+    @Test
+    @DisplayName("Should verify a different password for a cached user")
+    void shouldVerifyADifferentPasswordForACachedUser() {
+        // Given: A cached authentication for the correct password
+        when(delegate.authenticate(any())).thenReturn(anAuthenticatedToken());
+        provider.authenticate(aLoginRequest(PASSWORD));
+
+        // When: Authenticating with a wrong password
+        when(delegate.authenticate(any())).thenThrow(new BadCredentialsException("Bad credentials"));
+
+        // Then: The wrong password should be verified and rejected
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(aLoginRequest("wrong")));
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    @DisplayName("Should not cache failed authentications")
+    void shouldNotCacheFailedAuthentications() {
+        // Given: A delegate rejecting the credentials
+        when(delegate.authenticate(any())).thenThrow(new BadCredentialsException("Bad credentials"));
+
+        // When: Authenticating twice with the same wrong credentials
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(aLoginRequest("wrong")));
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(aLoginRequest("wrong")));
+
+        // Then: Both attempts should be verified
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    @DisplayName("Should verify every authentication when the cache is disabled")
+    void shouldVerifyEveryAuthenticationWhenTheCacheIsDisabled() {
+        // Given: A disabled cache
+        properties.setEnabled(false);
+        when(delegate.authenticate(any())).thenReturn(anAuthenticatedToken());
+
+        // When: Authenticating twice with the same credentials
+        provider.authenticate(aLoginRequest(PASSWORD));
+        provider.authenticate(aLoginRequest(PASSWORD));
+
+        // Then: Both attempts should be verified
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    private static Authentication aLoginRequest(final String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(USERNAME, password);
+    }
+
+    private static Authentication anAuthenticatedToken() {
+        return UsernamePasswordAuthenticationToken.authenticated(USERNAME, PASSWORD, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+}
@@ -0,0 +1,163 @@
+package dev.ilionx.workshop.common.tracing;
+
+import dev.ilionx.workshop.common.config.properties.TracingProperties;
+import dev.ilionx.workshop.common.tracing.SpanFileExporter.ZipkinSpan;
+import dev.ilionx.workshop.support.UnitTest;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+@DisplayName("Unit Test - Span File Exporter")
+class SpanFileExporterTest extends UnitTest {
+
+    private static final String SERVICE_NAME = "ilionx-pet-store";
+
+    @TempDir
+    Path directory;
+
+    private TracingProperties tracingProperties;
+    private SdkTracerProvider tracerProvider;
+
+    @BeforeEach
+    void setUp() {
+        tracingProperties = new TracingProperties();
+        tracingProperties.setDirectory(directory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (tracerProvider != null) {
+            tracerProvider.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should write every span as a line of Zipkin JSON")
+    void shouldWriteEverySpanAsALineOfZipkinJson() throws IOException {
+        // Given: A request span with a child span of a service
+        final Tracer tracer = start();
+        final Span request = tracer.spanBuilder("http get /v1/owners").setSpanKind(SpanKind.SERVER).startSpan();
+        final Span service = tracer.spanBuilder("OwnerService.findAll")
+            .setParent(Context.current().with(request))
+            .setAttribute("layer", "service")
+            .startSpan();
+
+        // When: Ending both spans and shutting down
+        service.end();
+        request.end();
+        tracerProvider.shutdown();
+
+        // Then: Should write both spans in the order they ended
+        final List<ZipkinSpan> spans = readAll();
+        assertThat(spans, hasSize(2));
+        final ZipkinSpan serviceSpan = spans.get(0);
+        final ZipkinSpan requestSpan = spans.get(1);
+
+        // And: The service span is a child of the request span in the same trace
+        assertThat(serviceSpan.name(), is(equalTo("OwnerService.findAll")));
+        assertThat(serviceSpan.traceId(), is(equalTo(requestSpan.traceId())));
+        assertThat(serviceSpan.parentId(), is(equalTo(requestSpan.id())));
+        assertThat(serviceSpan.kind(), is(nullValue()));
+        assertThat(serviceSpan.tags(), hasEntry("layer", "service"));
+        assertThat(serviceSpan.localEndpoint().serviceName(), is(equalTo(SERVICE_NAME)));
+
+        // And: The request span is a server span without a parent
+        assertThat(requestSpan.parentId(), is(nullValue()));
+        assertThat(requestSpan.kind(), is(equalTo("SERVER")));
+    }
+
+    @Test
+    @DisplayName("Should tag a failed span as an error")
+    void shouldTagAFailedSpanAsAnError() throws IOException {
+        // Given: A span that failed
+        final Tracer tracer = start();
+        final Span span = tracer.spanBuilder("OwnerService.findById").startSpan();
+        span.setStatus(StatusCode.ERROR, "Owner not found");
+
+        // When: Ending the span and shutting down
+        span.end();
+        tracerProvider.shutdown();
+
+        // Then: Should tag the span with the error
+        assertThat(readAll().getFirst().tags(), hasEntry("error", "Owner not found"));
+    }
+
+    @Test
+    @DisplayName("Should rotate files and keep only the newest files")
+    void shouldRotateFilesAndKeepOnlyTheNewestFiles() throws IOException {
+        // Given: An exporter whose files hold a few spans each, keeping two files
+        tracingProperties.setMaxFileSize(DataSize.ofBytes(600));
+        tracingProperties.setMaxFiles(2);
+        final Tracer tracer = start();
+
+        // When: Ending many more spans than two files hold and shutting down
+        for (int index = 0; index < 50; index++) {
+            tracer.spanBuilder("span-" + index).startSpan().end();
+        }
+        tracerProvider.shutdown();
+
+        // Then: Should keep two files, none larger than the maximum size
+        final List<Path> files = spanFiles();
+        assertThat(files, hasSize(2));
+        for (final Path file : files) {
+            assertThat(Files.size(file) <= 600, is(true));
+        }
+
+        // And: The kept files hold the last spans
+        assertThat(readAll().getLast().name(), is(equalTo("span-49")));
+    }
+
+    private Tracer start() {
+        tracerProvider = SdkTracerProvider.builder()
+            .setResource(Resource.create(Attributes.of(AttributeKey.stringKey("service.name"), SERVICE_NAME)))
+            .addSpanProcessor(SimpleSpanProcessor.create(new SpanFileExporter(tracingProperties)))
+            .build();
+        return tracerProvider.get("test");
+    }
+
+    private List<Path> spanFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private List<ZipkinSpan> readAll() throws IOException {
+        final JsonMapper jsonMapper = JsonMapper.builder().build();
+        final List<ZipkinSpan> spans = new ArrayList<>();
+        for (final Path file : spanFiles()) {
+            for (final String line : Files.readAllLines(file)) {
+                spans.add(jsonMapper.readValue(line, ZipkinSpan.class));
+            }
+        }
+        return spans;
+    }
+}
@@ -0,0 +1,99 @@
+package dev.ilionx.workshop.common.warmup;
+
+import dev.ilionx.workshop.common.config.properties.WarmUpProperties;
+import dev.ilionx.workshop.support.UnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Unit Test - Warm-up Runner")
+class WarmUpRunnerTest extends UnitTest {
+
+    @Mock
+    private WarmUpWorkload warmUpWorkload;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WarmUpProperties warmUpProperties;
+    private WarmUpRunner warmUpRunner;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        warmUpProperties = new WarmUpProperties();
+        warmUpRunner = new WarmUpRunner(warmUpWorkload, warmUpProperties, transactionManager, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should run the maximum number of iterations and roll every one back")
+    void shouldRunTheMaximumNumberOfIterationsAndRollEveryOneBack() {
+        // Given: A warm-up of 25 iterations on 4 workers, with plenty of time
+        warmUpProperties.setMaxIterations(25);
+        warmUpProperties.setConcurrency(4);
+        warmUpProperties.setMaxDuration(Duration.ofMinutes(1));
+        when(transactionManager.getTransaction(any(TransactionDefinition.class))).thenReturn(new SimpleTransactionStatus());
+
+        // When: Running the warm-up
+        warmUpRunner.run(null);
+
+        // Then: Should run 25 iterations, each rolled back and none committed
+        verify(warmUpWorkload, times(25)).run(anyInt());
+        verify(transactionManager, times(25)).rollback(any());
+        verify(transactionManager, never()).commit(any());
+
+        // And: Should publish how long the warm-up took
+        assertThat(meterRegistry.find("application.warm-up.time").timeGauge(), notNullValue());
+    }
+
+    @Test
+    @DisplayName("Should stop the warm-up when an iteration fails, without failing the application")
+    void shouldStopTheWarmUpWhenAnIterationFails() {
+        // Given: A single worker whose workload fails
+        warmUpProperties.setMaxIterations(25);
+        warmUpProperties.setConcurrency(1);
+        warmUpProperties.setMaxDuration(Duration.ofMinutes(1));
+        when(transactionManager.getTransaction(any(TransactionDefinition.class))).thenReturn(new SimpleTransactionStatus());
+        doThrow(new IllegalStateException("Database unavailable")).when(warmUpWorkload).run(anyInt());
+
+        // When: Running the warm-up
+        warmUpRunner.run(null);
+
+        // Then: Should stop after the failed iteration, and still roll it back
+        verify(warmUpWorkload, times(1)).run(anyInt());
+        verify(transactionManager, times(1)).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Should not run any iteration once the maximum duration has passed")
+    void shouldNotRunAnyIterationOnceTheMaximumDurationHasPassed() {
+        // Given: A warm-up without any time
+        warmUpProperties.setMaxDuration(Duration.ZERO);
+
+        // When: Running the warm-up
+        warmUpRunner.run(null);
+
+        // Then: Should not run the workload
+        verify(warmUpWorkload, never()).run(anyInt());
+        verify(transactionManager, never()).getTransaction(any());
+    }
+}
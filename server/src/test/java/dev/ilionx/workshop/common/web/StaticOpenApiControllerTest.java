@@ -0,0 +1,114 @@
+package dev.ilionx.workshop.common.web;
+
+import dev.ilionx.workshop.support.UnitTest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Unit Test - Static OpenAPI Controller")
+class StaticOpenApiControllerTest extends UnitTest {
+
+    private static final String DOCUMENT = "{\"openapi\":\"3.1.0\"}";
+
+    private byte[] compressedDocument;
+    private StaticOpenApiController controller;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(DOCUMENT.getBytes(StandardCharsets.UTF_8));
+        }
+        compressedDocument = out.toByteArray();
+        controller = new StaticOpenApiController(new ByteArrayResource(compressedDocument));
+    }
+
+    @Test
+    @DisplayName("Should serve the compressed document to clients accepting gzip")
+    void shouldServeTheCompressedDocumentToClientsAcceptingGzip() throws IOException {
+        // When: Requesting the document with gzip support
+        final ResponseEntity<byte[]> response = controller.getOpenApiDocument("gzip, deflate", null);
+
+        // Then: Should return the packaged bytes as is
+        assertThat(response.getStatusCode(), is(equalTo(HttpStatus.OK)));
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING), is(equalTo("gzip")));
+        assertThat(response.getBody(), is(equalTo(compressedDocument)));
+        assertThat(response.getHeaders().getETag(), is(notNullValue()));
+    }
+
+    @Test
+    @DisplayName("Should decompress the document for clients without gzip support")
+    void shouldDecompressTheDocumentForClientsWithoutGzipSupport() throws IOException {
+        // When: Requesting the document without gzip support
+        final ResponseEntity<byte[]> response = controller.getOpenApiDocument(null, null);
+
+        // Then: Should return the plain document
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING), is(nullValue()));
+        assertThat(new String(response.getBody(), StandardCharsets.UTF_8), is(equalTo(DOCUMENT)));
+    }
+
+    @Test
+    @DisplayName("Should answer not modified when the client holds the current document")
+    void shouldAnswerNotModifiedWhenTheClientHoldsTheCurrentDocument() throws IOException {
+        // Given: The entity tag of the current document
+        final String entityTag = controller.getOpenApiDocument("gzip", null).getHeaders().getETag();
+
+        // When: Revalidating with that entity tag
+        final ResponseEntity<byte[]> response = controller.getOpenApiDocument("gzip", entityTag);
+
+        // Then: Should answer without a body
+        assertThat(response.getStatusCode(), is(equalTo(HttpStatus.NOT_MODIFIED)));
+        assertThat(response.getBody(), is(nullValue()));
+    }
+
+    @Test
+    @DisplayName("Should tag the compressed and the plain document differently")
+    void shouldTagTheCompressedAndThePlainDocumentDifferently() throws IOException {
+        // Given: The entity tag of the compressed document
+        final String gzipEntityTag = controller.getOpenApiDocument("gzip", null).getHeaders().getETag();
+
+        // When: Revalidating that entity tag without gzip support
+        final ResponseEntity<byte[]> response = controller.getOpenApiDocument(null, gzipEntityTag);
+
+        // Then: Should return the plain document with its own entity tag
+        assertThat(response.getStatusCode(), is(equalTo(HttpStatus.OK)));
+        assertThat(response.getHeaders().getETag(), is(not(equalTo(gzipEntityTag))));
+        assertThat(new String(response.getBody(), StandardCharsets.UTF_8), is(equalTo(DOCUMENT)));
+    }
+
+    @Test
+    @DisplayName("Should answer not found when the document was not packaged")
+    void shouldAnswerNotFoundWhenTheDocumentWasNotPackaged() {
+        // Given: A controller without a packaged document
+        final StaticOpenApiController withoutDocument = new StaticOpenApiController(new ClassPathResource("openapi/missing.json.gz"));
+
+        // When: Requesting the document
+        final ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> withoutDocument.getOpenApiDocument("gzip", null)
+        );
+
+        // Then: Should answer not found
+        assertThat(exception.getStatusCode(), is(equalTo(HttpStatus.NOT_FOUND)));
+    }
+}
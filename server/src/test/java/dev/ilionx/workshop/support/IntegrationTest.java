@@ -67,6 +67,9 @@ public abstract class IntegrationTest extends WebMvcConfigurator {
         specialtyRepository.findAll().stream()
             .filter(specialty -> specialty.getId() > 3)
             .forEach(specialty -> specialtyRepository.deleteById(specialty.getId()));
+        tombstoneRepository.deleteAll();
+        idempotencyRecordRepository.deleteAll();
+        entityCacheInvalidator.invalidateAll();
     }
 
     // ========================= PERSISTENCE FACTORIES =========================
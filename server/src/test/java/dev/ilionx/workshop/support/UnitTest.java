@@ -6,7 +6,9 @@ import dev.ilionx.workshop.api.pet.model.PetType;
 import dev.ilionx.workshop.api.vet.model.Specialty;
 import dev.ilionx.workshop.api.vet.model.Vet;
 import dev.ilionx.workshop.api.visit.model.Visit;
+import dev.ilionx.workshop.common.cache.EntityCache;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.HashSet;
 
@@ -68,4 +70,8 @@ public abstract class UnitTest {
         specialty.setName("Radiology");
         return specialty;
     }
+
+    protected static <V> EntityCache<Integer, V> anEntityCache() {
+        return new EntityCache<>("test", 1024 * 1024, Duration.ofMinutes(1), (id, value) -> 1);
+    }
 }
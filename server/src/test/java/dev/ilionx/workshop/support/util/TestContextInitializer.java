@@ -4,9 +4,12 @@ import dev.ilionx.workshop.Application;
 import dev.ilionx.workshop.api.owner.repository.OwnerRepository;
 import dev.ilionx.workshop.api.pet.repository.PetRepository;
 import dev.ilionx.workshop.api.pet.repository.PetTypeRepository;
+import dev.ilionx.workshop.api.sync.repository.TombstoneRepository;
 import dev.ilionx.workshop.api.vet.repository.SpecialtyRepository;
 import dev.ilionx.workshop.api.vet.repository.VetRepository;
 import dev.ilionx.workshop.api.visit.repository.VisitRepository;
+import dev.ilionx.workshop.common.cache.EntityCacheInvalidator;
+import dev.ilionx.workshop.common.idempotency.repository.IdempotencyRecordRepository;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -44,4 +47,14 @@ public class TestContextInitializer {
 
     @Autowired
     protected VisitRepository visitRepository;
+
+    @Autowired
+    protected TombstoneRepository tombstoneRepository;
+
+    @Autowired
+    protected IdempotencyRecordRepository idempotencyRecordRepository;
+
+    // ========================= CACHES =========================
+    @Autowired
+    protected EntityCacheInvalidator entityCacheInvalidator;
 }
@@ -1,5 +1,8 @@
 package dev.ilionx.workshop.support.util;
 
+import dev.ilionx.workshop.common.idempotency.IdempotencyFilter;
+import dev.ilionx.workshop.common.ratelimit.RateLimitFilter;
+
 import java.nio.charset.StandardCharsets;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +23,8 @@ public class WebMvcConfigurator extends TestContextInitializer {
         return MockMvcBuilders
             .webAppContextSetup(applicationContext)
             .addFilter(new CharacterEncodingFilter(StandardCharsets.UTF_8.name(), true))
+            .addFilter(applicationContext.getBean(RateLimitFilter.class))
+            .addFilter(applicationContext.getBean(IdempotencyFilter.class))
             .build();
     }
 }